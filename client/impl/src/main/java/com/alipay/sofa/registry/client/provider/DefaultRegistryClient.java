@@ -43,6 +43,7 @@ import com.alipay.sofa.registry.client.remoting.ClientConnection;
 import com.alipay.sofa.registry.client.remoting.ClientConnectionCloseEventProcessor;
 import com.alipay.sofa.registry.client.remoting.ClientConnectionOpenEventProcessor;
 import com.alipay.sofa.registry.client.remoting.ReceivedConfigDataProcessor;
+import com.alipay.sofa.registry.client.remoting.ReceivedDataListProcessor;
 import com.alipay.sofa.registry.client.remoting.ReceivedDataProcessor;
 import com.alipay.sofa.registry.client.remoting.ServerManager;
 import com.alipay.sofa.registry.client.task.ObserverHandler;
@@ -52,6 +53,7 @@ import com.alipay.sofa.registry.client.task.WorkerThread;
 import com.alipay.sofa.registry.client.util.StringUtils;
 import com.alipay.sofa.registry.core.model.ReceivedConfigData;
 import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.ReceivedDataList;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
@@ -184,12 +186,24 @@ public class DefaultRegistryClient implements RegistryClient {
         // init user processor
         List<UserProcessor> userProcessorList = new ArrayList<UserProcessor>();
         if (null == userProcessorMap) {
-            userProcessorList.add(new ReceivedDataProcessor(registerCache, observerHandler));
+            ReceivedDataProcessor receivedDataProcessor = new ReceivedDataProcessor(registerCache,
+                observerHandler);
+            userProcessorList.add(receivedDataProcessor);
+            userProcessorList.add(new ReceivedDataListProcessor(receivedDataProcessor));
             userProcessorList.add(new ReceivedConfigDataProcessor(registerCache, observerHandler));
         } else {
             UserProcessor userProcessor = userProcessorMap.get(ReceivedData.class);
+            // received data of multi push frame is handled by the configured processor too
+            UserProcessor<ReceivedData> receivedDataProcessor;
             if (null == userProcessor) {
-                userProcessorList.add(new ReceivedDataProcessor(registerCache, observerHandler));
+                receivedDataProcessor = new ReceivedDataProcessor(registerCache, observerHandler);
+                userProcessorList.add(receivedDataProcessor);
+            } else {
+                receivedDataProcessor = (UserProcessor<ReceivedData>) userProcessor;
+            }
+            userProcessor = userProcessorMap.get(ReceivedDataList.class);
+            if (null == userProcessor) {
+                userProcessorList.add(new ReceivedDataListProcessor(receivedDataProcessor));
             }
             userProcessor = userProcessorMap.get(ReceivedConfigData.class);
             if (null == userProcessor) {
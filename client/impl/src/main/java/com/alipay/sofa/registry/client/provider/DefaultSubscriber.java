@@ -27,6 +27,7 @@ import com.alipay.sofa.registry.client.task.TaskEvent;
 import com.alipay.sofa.registry.client.task.Worker;
 import com.alipay.sofa.registry.client.util.CommonUtils;
 import com.alipay.sofa.registry.client.util.StringUtils;
+import com.alipay.sofa.registry.core.constants.AttributeConstants;
 import com.alipay.sofa.registry.core.constants.EventTypeConstants;
 import com.alipay.sofa.registry.core.model.DataBox;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
@@ -202,6 +203,8 @@ public class DefaultSubscriber extends AbstractInternalRegister implements Subsc
             register.setVersion(this.getPubVersion().get());
             register.setTimestamp(this.getTimestamp());
             register.setScope(registration.getScopeEnum().name());
+            register.getAttributes().put(AttributeConstants.SUPPORT_MULTI_PUSH,
+                String.valueOf(true));
 
             // auth signature
             setAuthSignature(register);
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.client.remoting;
+
+import com.alipay.remoting.AsyncContext;
+import com.alipay.remoting.BizContext;
+import com.alipay.remoting.rpc.protocol.AsyncUserProcessor;
+import com.alipay.remoting.rpc.protocol.UserProcessor;
+import com.alipay.sofa.registry.client.log.LoggerFactory;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.ReceivedDataList;
+import com.alipay.sofa.registry.core.model.ReceivedDataListResult;
+import com.alipay.sofa.registry.core.model.Result;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The type Received data list processor, handle every received data of the frame
+ * by the configured received data processor and ack them one by one.
+ * Both sync and async received data processor are supported, the frame is acked
+ * after every received data of it is acked.
+ *
+ * @author zhuoyu.sjw
+ * @version $Id : ReceivedDataListProcessor.java, v 0.1 2026-10-19 11:30 zhuoyu.sjw Exp $$
+ */
+public class ReceivedDataListProcessor extends AsyncUserProcessor<ReceivedDataList> {
+    private static final Logger         LOGGER = LoggerFactory
+                                                   .getLogger(ReceivedDataListProcessor.class);
+
+    private UserProcessor<ReceivedData> receivedDataProcessor;
+
+    /**
+     * Instantiates a new Received data list processor.
+     *
+     * @param receivedDataProcessor the received data processor
+     */
+    public ReceivedDataListProcessor(UserProcessor<ReceivedData> receivedDataProcessor) {
+        this.receivedDataProcessor = receivedDataProcessor;
+    }
+
+    /**
+     * Handle request.
+     *
+     * @param bizCtx the biz ctx
+     * @param asyncCtx the async ctx
+     * @param request the request
+     */
+    @Override
+    public void handleRequest(BizContext bizCtx, AsyncContext asyncCtx, ReceivedDataList request) {
+        if (null == request || null == request.getReceivedDatas()
+            || request.getReceivedDatas().isEmpty()) {
+            asyncCtx.sendResponse(buildResult(new ArrayList<Result>()));
+            return;
+        }
+
+        List<ReceivedData> receivedDatas = request.getReceivedDatas();
+        ListResponse response = new ListResponse(asyncCtx, receivedDatas.size());
+        for (int i = 0; i < receivedDatas.size(); i++) {
+            ItemContext itemCtx = new ItemContext(response, i);
+            ReceivedData receivedData = receivedDatas.get(i);
+            try {
+                if (receivedDataProcessor instanceof AsyncUserProcessor) {
+                    receivedDataProcessor.handleRequest(bizCtx, itemCtx, receivedData);
+                } else {
+                    itemCtx.sendResponse(receivedDataProcessor.handleRequest(bizCtx, receivedData));
+                }
+            } catch (Exception e) {
+                LOGGER.error("[received] handle received data of list error, dataId: {}",
+                    receivedData == null ? null : receivedData.getDataId(), e);
+                Result itemResult = new Result();
+                itemResult.setSuccess(false);
+                itemResult.setMessage(e.getMessage());
+                itemCtx.sendResponse(itemResult);
+            }
+        }
+    }
+
+    /**
+     * Interest string.
+     *
+     * @return the string
+     */
+    @Override
+    public String interest() {
+        return ReceivedDataList.class.getName();
+    }
+
+    private static ReceivedDataListResult buildResult(List<Result> results) {
+        ReceivedDataListResult result = new ReceivedDataListResult();
+        result.setSuccess(true);
+        result.setResults(results);
+        return result;
+    }
+
+    /**
+     * collect item results, send the frame response when all of them arrived
+     */
+    private static final class ListResponse {
+        private final AsyncContext  asyncCtx;
+        private final Result[]      results;
+        private final AtomicInteger remaining;
+
+        ListResponse(AsyncContext asyncCtx, int size) {
+            this.asyncCtx = asyncCtx;
+            this.results = new Result[size];
+            this.remaining = new AtomicInteger(size);
+        }
+
+        void complete(int index, Object response) {
+            Result itemResult;
+            if (response instanceof Result) {
+                itemResult = (Result) response;
+            } else {
+                itemResult = new Result();
+                itemResult.setSuccess(true);
+            }
+            results[index] = itemResult;
+            if (remaining.decrementAndGet() == 0) {
+                asyncCtx.sendResponse(buildResult(new ArrayList<Result>(Arrays.asList(results))));
+            }
+        }
+    }
+
+    /**
+     * async context of one received data, only the first response counts
+     */
+    private static final class ItemContext implements AsyncContext {
+        private final ListResponse  response;
+        private final int           index;
+        private final AtomicBoolean sent = new AtomicBoolean(false);
+
+        ItemContext(ListResponse response, int index) {
+            this.response = response;
+            this.index = index;
+        }
+
+        @Override
+        public void sendResponse(Object responseObject) {
+            if (sent.compareAndSet(false, true)) {
+                response.complete(index, responseObject);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.client.remoting;
+
+import com.alipay.remoting.AsyncContext;
+import com.alipay.remoting.BizContext;
+import com.alipay.remoting.rpc.protocol.AsyncUserProcessor;
+import com.alipay.remoting.rpc.protocol.SyncUserProcessor;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.ReceivedDataList;
+import com.alipay.sofa.registry.core.model.ReceivedDataListResult;
+import com.alipay.sofa.registry.core.model.Result;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author zhuoyu.sjw
+ * @version $Id: ReceivedDataListProcessorTest.java, v 0.1 2026-10-19 12:10 zhuoyu.sjw Exp $$
+ */
+public class ReceivedDataListProcessorTest {
+
+    @Test
+    public void handleRequest() {
+        ReceivedDataListProcessor processor = new ReceivedDataListProcessor(
+            new SyncUserProcessor<ReceivedData>() {
+                @Override
+                public Object handleRequest(BizContext bizCtx, ReceivedData request) {
+                    if ("error".equals(request.getDataId())) {
+                        throw new RuntimeException("error");
+                    }
+                    Result result = new Result();
+                    result.setSuccess(!"fail".equals(request.getDataId()));
+                    return result;
+                }
+
+                @Override
+                public String interest() {
+                    return ReceivedData.class.getName();
+                }
+            });
+
+        ReceivedDataListResult result = handle(processor, null);
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertTrue(result.getResults().isEmpty());
+
+        result = handle(processor,
+            new ReceivedDataList(Arrays.asList(newData("ok"), newData("fail"), newData("error"))));
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(3, result.getResults().size());
+        Assert.assertTrue(result.getResults().get(0).isSuccess());
+        Assert.assertFalse(result.getResults().get(1).isSuccess());
+        Assert.assertFalse(result.getResults().get(2).isSuccess());
+        Assert.assertEquals("error", result.getResults().get(2).getMessage());
+    }
+
+    @Test
+    public void handleRequestByAsyncProcessor() {
+        final List<AsyncContext> pending = new ArrayList<AsyncContext>();
+        final List<String> handled = new ArrayList<String>();
+        ReceivedDataListProcessor processor = new ReceivedDataListProcessor(
+            new AsyncUserProcessor<ReceivedData>() {
+                @Override
+                public void handleRequest(BizContext bizCtx, AsyncContext asyncCtx,
+                                          ReceivedData request) {
+                    handled.add(request.getDataId());
+                    pending.add(asyncCtx);
+                }
+
+                @Override
+                public String interest() {
+                    return ReceivedData.class.getName();
+                }
+            });
+
+        final AtomicReference<Object> response = new AtomicReference<Object>();
+        processor.handleRequest(null, new AsyncContext() {
+            @Override
+            public void sendResponse(Object responseObject) {
+                Assert.assertTrue(response.compareAndSet(null, responseObject));
+            }
+        }, new ReceivedDataList(Arrays.asList(newData("a"), newData("b"))));
+
+        // every item goes to the configured processor, frame is acked after all items
+        Assert.assertEquals(Arrays.asList("a", "b"), handled);
+        Assert.assertNull(response.get());
+
+        Result fail = new Result();
+        fail.setSuccess(false);
+        pending.get(1).sendResponse(fail);
+        Assert.assertNull(response.get());
+        pending.get(0).sendResponse(null);
+        // duplicated response is ignored
+        pending.get(0).sendResponse(fail);
+
+        ReceivedDataListResult result = (ReceivedDataListResult) response.get();
+        Assert.assertTrue(result.isSuccess());
+        Assert.assertEquals(2, result.getResults().size());
+        Assert.assertTrue(result.getResults().get(0).isSuccess());
+        Assert.assertFalse(result.getResults().get(1).isSuccess());
+    }
+
+    @Test
+    public void interest() {
+        ReceivedDataListProcessor processor = new ReceivedDataListProcessor(null);
+        Assert.assertEquals(ReceivedDataList.class.getName(), processor.interest());
+    }
+
+    private static ReceivedData newData(String dataId) {
+        ReceivedData receivedData = new ReceivedData();
+        receivedData.setDataId(dataId);
+        return receivedData;
+    }
+
+    private static ReceivedDataListResult handle(ReceivedDataListProcessor processor,
+                                                 ReceivedDataList request) {
+        final AtomicReference<Object> response = new AtomicReference<Object>();
+        processor.handleRequest(null, new AsyncContext() {
+            @Override
+            public void sendResponse(Object responseObject) {
+                response.set(responseObject);
+            }
+        }, request);
+        return (ReceivedDataListResult) response.get();
+    }
+}
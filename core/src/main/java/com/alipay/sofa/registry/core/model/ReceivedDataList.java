@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.core.model;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Several received data of one client pushed in one frame.
+ *
+ * @author zhuoyu.sjw
+ * @version $Id: ReceivedDataList.java, v 0.1 2026-10-19 11:20 zhuoyu.sjw Exp $$
+ */
+public class ReceivedDataList implements Serializable {
+
+    private static final long  serialVersionUID = 2497361386546718312L;
+
+    private List<ReceivedData> receivedDatas;
+
+    /**
+     * Instantiates a new Received data list.
+     */
+    public ReceivedDataList() {
+    }
+
+    /**
+     * Instantiates a new Received data list.
+     *
+     * @param receivedDatas the received datas
+     */
+    public ReceivedDataList(List<ReceivedData> receivedDatas) {
+        this.receivedDatas = receivedDatas;
+    }
+
+    /**
+     * Getter method for property <tt>receivedDatas</tt>.
+     *
+     * @return property value of receivedDatas
+     */
+    public List<ReceivedData> getReceivedDatas() {
+        return receivedDatas;
+    }
+
+    /**
+     * Setter method for property <tt>receivedDatas</tt>.
+     *
+     * @param receivedDatas value to be assigned to property receivedDatas
+     */
+    public void setReceivedDatas(List<ReceivedData> receivedDatas) {
+        this.receivedDatas = receivedDatas;
+    }
+
+    /**
+     * To string string.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+        return "ReceivedDataList{" + "receivedDatas=" + receivedDatas + '}';
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model;
+
+import java.util.List;
+
+/**
+ * result of batch request, results are in the same order as items of request
+ *
+ * @author shangyu.wh
+ * @version $Id: BatchCommonResponse.java, v 0.1 2026-10-19 14:12 shangyu.wh Exp $
+ */
+public class BatchCommonResponse extends CommonResponse {
+
+    private static final long    serialVersionUID = 4213350813647192283L;
+
+    private List<CommonResponse> results;
+
+    /**
+     * constructor
+     */
+    public BatchCommonResponse() {
+    }
+
+    /**
+     * constructor
+     * @param results
+     */
+    public BatchCommonResponse(List<CommonResponse> results) {
+        super(true, "");
+        this.results = results;
+    }
+
+    /**
+     * Getter method for property <tt>results</tt>.
+     *
+     * @return property value of results
+     */
+    public List<CommonResponse> getResults() {
+        return results;
+    }
+
+    /**
+     * Setter method for property <tt>results</tt>.
+     *
+     * @param results  value to be assigned to property results
+     */
+    public void setResults(List<CommonResponse> results) {
+        this.results = results;
+    }
+}
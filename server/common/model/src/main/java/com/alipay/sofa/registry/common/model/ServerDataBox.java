@@ -125,6 +125,21 @@ public class ServerDataBox implements Serializable {
         return this;
     }
 
+    /**
+     * change bytes to object, bytes are dropped after deserialized
+     *
+     * @return ServerDataBox server data box
+     * @throws IOException the io exception
+     * @throws ClassNotFoundException the class not found exception
+     */
+    public ServerDataBox bytes2object() throws IOException, ClassNotFoundException {
+        if (isInBytes()) {
+            extract();
+            bytes = null;
+        }
+        return this;
+    }
+
     public static byte[] getBytes(Object object) {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
         ObjectOutputStream javaos = null;
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.dataserver;
+
+import com.alipay.sofa.registry.common.model.store.Publisher;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * request to register publish data of same data node in one batch,
+ * every publisher gets its own result in BatchPublishDataResponse
+ *
+ * @author shangyu.wh
+ * @version $Id: BatchPublishDataRequest.java, v 0.1 2026-10-19 14:10 shangyu.wh Exp $
+ */
+public class BatchPublishDataRequest implements Serializable {
+
+    private static final long serialVersionUID = -3174569021836718562L;
+
+    private List<Publisher>   publishers;
+
+    private String            sessionServerProcessId;
+
+    /**
+     * Getter method for property <tt>publishers</tt>.
+     *
+     * @return property value of publishers
+     */
+    public List<Publisher> getPublishers() {
+        return publishers;
+    }
+
+    /**
+     * Setter method for property <tt>publishers</tt>.
+     *
+     * @param publishers  value to be assigned to property publishers
+     */
+    public void setPublishers(List<Publisher> publishers) {
+        this.publishers = publishers;
+    }
+
+    /**
+     * Getter method for property <tt>sessionServerProcessId</tt>.
+     *
+     * @return property value of sessionServerProcessId
+     */
+    public String getSessionServerProcessId() {
+        return sessionServerProcessId;
+    }
+
+    /**
+     * Setter method for property <tt>sessionServerProcessId</tt>.
+     *
+     * @param sessionServerProcessId  value to be assigned to property sessionServerProcessId
+     */
+    public void setSessionServerProcessId(String sessionServerProcessId) {
+        this.sessionServerProcessId = sessionServerProcessId;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[BatchPublishDataRequest] sessionServerProcessId=")
+            .append(sessionServerProcessId);
+        sb.append(", size=").append(publishers == null ? 0 : publishers.size());
+        return sb.toString();
+    }
+}
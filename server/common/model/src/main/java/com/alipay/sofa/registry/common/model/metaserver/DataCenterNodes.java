@@ -49,6 +49,15 @@ public class DataCenterNodes<T extends Node> implements Serializable {
         this.dataCenterId = dataCenterId;
     }
 
+    /**
+     * Getter method for property <tt>nodeType</tt>.
+     *
+     * @return property value of nodeType
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
     /**
      * Getter method for property <tt>version</tt>.
      *
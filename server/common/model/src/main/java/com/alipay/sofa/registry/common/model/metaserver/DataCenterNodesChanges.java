@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.metaserver;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * node list of a dataCenter changed after revision of watch request.
+ * revisions are counted by the meta server answering, epoch identifies that counting,
+ * so changes are only applied on node list got from same epoch and base revision.
+ * if full is true, changedNodes are all nodes of dataCenter.
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterNodesChanges.java, v 0.1 2026-10-19 20:10 shangyu.wh Exp $
+ */
+public class DataCenterNodesChanges<T extends Node> implements Serializable {
+
+    private final NodeType                nodeType;
+
+    private final String                  dataCenterId;
+
+    private final String                  epoch;
+
+    private final long                    baseRevision;
+
+    private final long                    revision;
+
+    private final boolean                 full;
+
+    /**
+     * node list version of dataCenter
+     */
+    private Long                          version;
+
+    private Map<String /*ipAddress*/, T> changedNodes;
+
+    private Set<String /*ipAddress*/>    removedNodes;
+
+    /**
+     * constructor
+     * @param nodeType
+     * @param dataCenterId
+     * @param epoch
+     * @param baseRevision revision of request
+     * @param revision revision to watch from next time
+     * @param full
+     */
+    public DataCenterNodesChanges(NodeType nodeType, String dataCenterId, String epoch,
+                                  long baseRevision, long revision, boolean full) {
+        this.nodeType = nodeType;
+        this.dataCenterId = dataCenterId;
+        this.epoch = epoch;
+        this.baseRevision = baseRevision;
+        this.revision = revision;
+        this.full = full;
+    }
+
+    /**
+     * node list not changed since revision of request
+     * @return
+     */
+    public boolean isEmpty() {
+        return !full && baseRevision == revision;
+    }
+
+    /**
+     * Getter method for property <tt>nodeType</tt>.
+     *
+     * @return property value of nodeType
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenterId</tt>.
+     *
+     * @return property value of dataCenterId
+     */
+    public String getDataCenterId() {
+        return dataCenterId;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>baseRevision</tt>.
+     *
+     * @return property value of baseRevision
+     */
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>full</tt>.
+     *
+     * @return property value of full
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Setter method for property <tt>version</tt>.
+     *
+     * @param version  value to be assigned to property version
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Getter method for property <tt>changedNodes</tt>.
+     *
+     * @return property value of changedNodes
+     */
+    public Map<String, T> getChangedNodes() {
+        return changedNodes;
+    }
+
+    /**
+     * Setter method for property <tt>changedNodes</tt>.
+     *
+     * @param changedNodes  value to be assigned to property changedNodes
+     */
+    public void setChangedNodes(Map<String, T> changedNodes) {
+        this.changedNodes = changedNodes;
+    }
+
+    /**
+     * Getter method for property <tt>removedNodes</tt>.
+     *
+     * @return property value of removedNodes
+     */
+    public Set<String> getRemovedNodes() {
+        return removedNodes;
+    }
+
+    /**
+     * Setter method for property <tt>removedNodes</tt>.
+     *
+     * @param removedNodes  value to be assigned to property removedNodes
+     */
+    public void setRemovedNodes(Set<String> removedNodes) {
+        this.removedNodes = removedNodes;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DataCenterNodesChanges{");
+        sb.append("nodeType=").append(nodeType);
+        sb.append(", dataCenterId='").append(dataCenterId).append('\'');
+        sb.append(", epoch='").append(epoch).append('\'');
+        sb.append(", baseRevision=").append(baseRevision);
+        sb.append(", revision=").append(revision);
+        sb.append(", full=").append(full);
+        sb.append(", version=").append(version);
+        sb.append(", changedNodes=").append(changedNodes == null ? null : changedNodes.keySet());
+        sb.append(", removedNodes=").append(removedNodes);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.metaserver;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+
+import java.io.Serializable;
+
+/**
+ * sync status of node list of other dataCenter watched by local meta leader,
+ * kept by raft so new leader resumes watch from epoch and revision got by former leader.
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterSyncStatus.java, v 0.1 2026-10-19 20:10 shangyu.wh Exp $
+ */
+public class DataCenterSyncStatus implements Serializable {
+
+    private final String   dataCenter;
+
+    private final NodeType nodeType;
+
+    private final String   epoch;
+
+    private final long     revision;
+
+    /**
+     * node list version applied locally
+     */
+    private final Long     version;
+
+    private final int      nodeCount;
+
+    /**
+     * last time node list confirmed with meta server of dataCenter
+     */
+    private final long     syncTimestamp;
+
+    /**
+     * constructor
+     * @param dataCenter
+     * @param nodeType
+     * @param epoch
+     * @param revision
+     * @param version
+     * @param nodeCount
+     * @param syncTimestamp
+     */
+    public DataCenterSyncStatus(String dataCenter, NodeType nodeType, String epoch, long revision,
+                                Long version, int nodeCount, long syncTimestamp) {
+        this.dataCenter = dataCenter;
+        this.nodeType = nodeType;
+        this.epoch = epoch;
+        this.revision = revision;
+        this.version = version;
+        this.nodeCount = nodeCount;
+        this.syncTimestamp = syncTimestamp;
+    }
+
+    /**
+     * key of status
+     * @param dataCenter
+     * @param nodeType
+     * @return
+     */
+    public static String key(String dataCenter, NodeType nodeType) {
+        return dataCenter + "#" + nodeType;
+    }
+
+    /**
+     * millis since node list confirmed last time
+     * @return
+     */
+    public long getStalenessMillis() {
+        return Math.max(0, System.currentTimeMillis() - syncTimestamp);
+    }
+
+    /**
+     * Getter method for property <tt>dataCenter</tt>.
+     *
+     * @return property value of dataCenter
+     */
+    public String getDataCenter() {
+        return dataCenter;
+    }
+
+    /**
+     * Getter method for property <tt>nodeType</tt>.
+     *
+     * @return property value of nodeType
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Getter method for property <tt>nodeCount</tt>.
+     *
+     * @return property value of nodeCount
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Getter method for property <tt>syncTimestamp</tt>.
+     *
+     * @return property value of syncTimestamp
+     */
+    public long getSyncTimestamp() {
+        return syncTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DataCenterSyncStatus{");
+        sb.append("dataCenter='").append(dataCenter).append('\'');
+        sb.append(", nodeType=").append(nodeType);
+        sb.append(", epoch='").append(epoch).append('\'');
+        sb.append(", revision=").append(revision);
+        sb.append(", version=").append(version);
+        sb.append(", nodeCount=").append(nodeCount);
+        sb.append(", syncTimestamp=").append(syncTimestamp);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -18,9 +18,12 @@ package com.alipay.sofa.registry.common.model.metaserver;
 
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -40,6 +43,15 @@ public class NodeChangeResult<T extends Node> implements Serializable {
     /** local dataCenter id */
     private String                                                       localDataCenter;
 
+    /** revision of node list on meta leader, null if meta not support delta */
+    private Long                                                         revision;
+
+    /** not null only for delta, nodes contain added and changed nodes since base revision */
+    private Long                                                         baseRevision;
+
+    /** nodes removed since base revision, only for delta */
+    private Map<String/*dataCenter*/, Set<String /*ipAddress*/>>       removedNodes;
+
     /**
      * constructor
      * @param nodeType
@@ -129,6 +141,103 @@ public class NodeChangeResult<T extends Node> implements Serializable {
         this.dataCenterListVersions = dataCenterListVersions;
     }
 
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public Long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Setter method for property <tt>revision</tt>.
+     *
+     * @param revision  value to be assigned to property revision
+     */
+    public void setRevision(Long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * Getter method for property <tt>baseRevision</tt>.
+     *
+     * @return property value of baseRevision
+     */
+    public Long getBaseRevision() {
+        return baseRevision;
+    }
+
+    /**
+     * Setter method for property <tt>baseRevision</tt>.
+     *
+     * @param baseRevision  value to be assigned to property baseRevision
+     */
+    public void setBaseRevision(Long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+
+    /**
+     * Getter method for property <tt>removedNodes</tt>.
+     *
+     * @return property value of removedNodes
+     */
+    public Map<String, Set<String>> getRemovedNodes() {
+        return removedNodes;
+    }
+
+    /**
+     * Setter method for property <tt>removedNodes</tt>.
+     *
+     * @param removedNodes  value to be assigned to property removedNodes
+     */
+    public void setRemovedNodes(Map<String, Set<String>> removedNodes) {
+        this.removedNodes = removedNodes;
+    }
+
+    /**
+     * whether nodes only contain changes since base revision
+     *
+     * @return
+     */
+    @JsonIgnore
+    public boolean isDelta() {
+        return baseRevision != null;
+    }
+
+    /**
+     * apply delta to node list of base revision,
+     * dataCenters not contained in delta nodes have been removed since base revision
+     *
+     * @param baseNodes node list of base revision
+     * @return node list of this revision
+     */
+    public Map<String, Map<String, T>> applyTo(Map<String, Map<String, T>> baseNodes) {
+        if (!isDelta()) {
+            return nodes;
+        }
+        Map<String, Map<String, T>> ret = new ConcurrentHashMap<>();
+        if (nodes == null) {
+            return ret;
+        }
+        nodes.forEach((dataCenter, changedNodes) -> {
+            Map<String, T> dataCenterNodes = new ConcurrentHashMap<>();
+            Map<String, T> baseDataCenterNodes = baseNodes == null ? null : baseNodes.get(dataCenter);
+            if (baseDataCenterNodes != null) {
+                dataCenterNodes.putAll(baseDataCenterNodes);
+            }
+            Set<String> removedIps = removedNodes == null ? null : removedNodes.get(dataCenter);
+            if (removedIps != null) {
+                removedIps.forEach(dataCenterNodes::remove);
+            }
+            if (changedNodes != null) {
+                dataCenterNodes.putAll(changedNodes);
+            }
+            ret.put(dataCenter, dataCenterNodes);
+        });
+        return ret;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("NodeChangeResult{");
@@ -137,6 +246,9 @@ public class NodeChangeResult<T extends Node> implements Serializable {
         sb.append(", version=").append(version);
         sb.append(", dataCenterListVersions=").append(dataCenterListVersions);
         sb.append(", localDataCenter='").append(localDataCenter).append('\'');
+        sb.append(", revision=").append(revision);
+        sb.append(", baseRevision=").append(baseRevision);
+        sb.append(", removedNodes=").append(removedNodes);
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.metaserver;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * ProvideData changed after revision of watch request.
+ * if full is true, changedData are all existing ProvideData and any other ProvideData held by receiver has been removed.
+ * revision is comparable only within its epoch.
+ *
+ * @author shangyu.wh
+ * @version $Id: ProvideDataChanges.java, v 0.1 2026-10-19 18:30 shangyu.wh Exp $
+ */
+public class ProvideDataChanges implements Serializable {
+
+    private final String            epoch;
+
+    private final long              revision;
+
+    private final boolean           full;
+
+    private final List<ProvideData> changedData;
+
+    private final List<String>      removedDataInfoIds;
+
+    /**
+     * constructor
+     * @param epoch epoch to watch with next time
+     * @param revision revision to watch from next time
+     * @param full
+     * @param changedData
+     * @param removedDataInfoIds
+     */
+    public ProvideDataChanges(String epoch, long revision, boolean full,
+                              List<ProvideData> changedData, List<String> removedDataInfoIds) {
+        this.epoch = epoch;
+        this.revision = revision;
+        this.full = full;
+        this.changedData = changedData;
+        this.removedDataInfoIds = removedDataInfoIds;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>full</tt>.
+     *
+     * @return property value of full
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Getter method for property <tt>changedData</tt>.
+     *
+     * @return property value of changedData
+     */
+    public List<ProvideData> getChangedData() {
+        return changedData;
+    }
+
+    /**
+     * Getter method for property <tt>removedDataInfoIds</tt>.
+     *
+     * @return property value of removedDataInfoIds
+     */
+    public List<String> getRemovedDataInfoIds() {
+        return removedDataInfoIds;
+    }
+
+    /**
+     * no ProvideData changed
+     * @return
+     */
+    public boolean isEmpty() {
+        return !full && changedData.isEmpty() && removedDataInfoIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ProvideDataChanges{");
+        sb.append("epoch='").append(epoch).append('\'');
+        sb.append(", revision=").append(revision);
+        sb.append(", full=").append(full);
+        sb.append(", changedData=").append(changedData);
+        sb.append(", removedDataInfoIds=").append(removedDataInfoIds);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.metaserver;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+
+import java.io.Serializable;
+
+/**
+ * watch node list of other dataCenter changed after revision, sent by meta leader to meta server of that dataCenter.
+ * request is held until node list changed or timeout.
+ *
+ * @author shangyu.wh
+ * @version $Id: WatchDataCenterNodesRequest.java, v 0.1 2026-10-19 20:10 shangyu.wh Exp $
+ */
+public class WatchDataCenterNodesRequest implements Serializable {
+
+    private final NodeType nodeType;
+
+    private final String   epoch;
+
+    private final long     revision;
+
+    private final long     timeoutMillis;
+
+    /**
+     * constructor
+     * @param nodeType
+     * @param epoch epoch got last time, null if nothing got
+     * @param revision revision got last time
+     * @param timeoutMillis
+     */
+    public WatchDataCenterNodesRequest(NodeType nodeType, String epoch, long revision,
+                                       long timeoutMillis) {
+        this.nodeType = nodeType;
+        this.epoch = epoch;
+        this.revision = revision;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Getter method for property <tt>nodeType</tt>.
+     *
+     * @return property value of nodeType
+     */
+    public NodeType getNodeType() {
+        return nodeType;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>timeoutMillis</tt>.
+     *
+     * @return property value of timeoutMillis
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("WatchDataCenterNodesRequest{");
+        sb.append("nodeType=").append(nodeType);
+        sb.append(", epoch='").append(epoch).append('\'');
+        sb.append(", revision=").append(revision);
+        sb.append(", timeoutMillis=").append(timeoutMillis);
+        sb.append('}');
+        return sb.toString();
+    }
+}
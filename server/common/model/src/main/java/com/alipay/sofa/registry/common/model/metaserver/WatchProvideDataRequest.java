@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.metaserver;
+
+import java.io.Serializable;
+
+/**
+ * watch ProvideData changed after revision, meta server holds the request until
+ * any ProvideData changed or timeout
+ *
+ * @author shangyu.wh
+ * @version $Id: WatchProvideDataRequest.java, v 0.1 2026-10-19 18:30 shangyu.wh Exp $
+ */
+public class WatchProvideDataRequest implements Serializable {
+
+    private final String dataInfoIdPrefix;
+
+    private final String epoch;
+
+    private final long   revision;
+
+    private final long   timeoutMillis;
+
+    /**
+     * constructor
+     * @param dataInfoIdPrefix null for all ProvideData
+     * @param epoch epoch got last time, null if nothing got
+     * @param revision revision got last time, 0 if nothing got
+     * @param timeoutMillis
+     */
+    public WatchProvideDataRequest(String dataInfoIdPrefix, String epoch, long revision,
+                                   long timeoutMillis) {
+        this.dataInfoIdPrefix = dataInfoIdPrefix;
+        this.epoch = epoch;
+        this.revision = revision;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Getter method for property <tt>dataInfoIdPrefix</tt>.
+     *
+     * @return property value of dataInfoIdPrefix
+     */
+    public String getDataInfoIdPrefix() {
+        return dataInfoIdPrefix;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>timeoutMillis</tt>.
+     *
+     * @return property value of timeoutMillis
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("WatchProvideDataRequest{");
+        sb.append("dataInfoIdPrefix='").append(dataInfoIdPrefix).append('\'');
+        sb.append(", epoch='").append(epoch).append('\'');
+        sb.append(", revision=").append(revision);
+        sb.append(", timeoutMillis=").append(timeoutMillis);
+        sb.append('}');
+        return sb.toString();
+    }
+}
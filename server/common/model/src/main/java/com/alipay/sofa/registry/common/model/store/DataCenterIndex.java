@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.common.model.store;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * intern dataCenter names into small dense index, so per subscriber state can be kept in array
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterIndex.java, v 0.1 2026-10-19 10:12 shangyu.wh Exp $
+ */
+public class DataCenterIndex {
+
+    private static volatile DataCenterIndex instance;
+
+    /**
+     * get DataCenterIndex instance
+     * @return
+     */
+    public static DataCenterIndex getInstance() {
+        if (instance == null) {
+            synchronized (DataCenterIndex.class) {
+                if (instance == null) {
+                    instance = new DataCenterIndex();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private final ConcurrentHashMap<String/*dataCenter*/, Integer> indexes     = new ConcurrentHashMap<>();
+
+    private volatile String[]                                       dataCenters = new String[0];
+
+    /**
+     * get index of dataCenter, assign next index if absent
+     * @param dataCenter
+     * @return
+     */
+    public int getIndex(String dataCenter) {
+        Integer index = indexes.get(dataCenter);
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            index = indexes.get(dataCenter);
+            if (index == null) {
+                String[] current = dataCenters;
+                index = current.length;
+                String[] update = Arrays.copyOf(current, index + 1);
+                update[index] = dataCenter;
+                dataCenters = update;
+                indexes.put(dataCenter, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * get dataCenter by index
+     * @param index
+     * @return null if index not assigned
+     */
+    public String getDataCenter(int index) {
+        String[] current = dataCenters;
+        return index >= 0 && index < current.length ? current[index] : null;
+    }
+}
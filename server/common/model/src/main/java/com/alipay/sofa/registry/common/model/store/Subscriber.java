@@ -20,8 +20,11 @@ import com.alipay.sofa.registry.common.model.ElementType;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  *
@@ -31,16 +34,27 @@ import java.util.concurrent.ConcurrentHashMap;
 public class Subscriber extends BaseInfo {
 
     /** UID */
-    private static final long                serialVersionUID = 98433360274932292L;
+    private static final long                                            serialVersionUID      = 98433360274932292L;
+    /** version slot not pushed yet */
+    private static final long                                            NO_PUSH_VERSION       = Long.MIN_VALUE;
+
+    private static final long[]                                          EMPTY_VERSIONS        = new long[0];
+
+    private static final AtomicReferenceFieldUpdater<Subscriber, long[]> PUSH_VERSIONS_UPDATER = AtomicReferenceFieldUpdater
+                                                                                                   .newUpdater(
+                                                                                                       Subscriber.class,
+                                                                                                       long[].class,
+                                                                                                       "lastPushVersions");
     /** */
-    private ScopeEnum                        scope;
+    private ScopeEnum                                                    scope;
     /** */
-    private ElementType                      elementType;
+    private ElementType                                                  elementType;
 
     /**
-     * all dataCenter push dataInfo version
+     * all dataCenter push dataInfo version, indexed by DataCenterIndex,
+     * copy on write and swap by cas, avoid one map per subscriber
      */
-    private Map<String/*dataCenter*/, Long> lastPushVersions = new ConcurrentHashMap<>();
+    private transient volatile long[]                                    lastPushVersions      = EMPTY_VERSIONS;
 
     /**
      * Getter method for property <tt>scope</tt>.
@@ -71,8 +85,9 @@ public class Subscriber extends BaseInfo {
      */
     public boolean checkVersion(String dataCenter, Long version) {
 
-        Long oldVersion = lastPushVersions.get(dataCenter);
-        if (oldVersion == null) {
+        long oldVersion = getPushVersion(lastPushVersions,
+            DataCenterIndex.getInstance().getIndex(dataCenter));
+        if (oldVersion == NO_PUSH_VERSION) {
             return version != null;
         } else {
             if (version != null) {
@@ -89,23 +104,38 @@ public class Subscriber extends BaseInfo {
      */
     public void checkAndUpdateVersion(String dataCenter, Long version) {
 
+        int index = DataCenterIndex.getInstance().getIndex(dataCenter);
+        long newVersion = version;
         while (true) {
-            Long oldVersion = lastPushVersions.putIfAbsent(dataCenter, version);
-            // Add firstly
-            if (oldVersion == null) {
+            long[] versions = lastPushVersions;
+            long oldVersion = getPushVersion(versions, index);
+            if (oldVersion != NO_PUSH_VERSION && newVersion <= oldVersion) {
+                break;
+            }
+            long[] update = copyVersions(versions, index);
+            update[index] = newVersion;
+            if (PUSH_VERSIONS_UPDATER.compareAndSet(this, versions, update)) {
                 break;
-            } else {
-                if (version > oldVersion) {
-                    if (lastPushVersions.replace(dataCenter, oldVersion, version)) {
-                        break;
-                    }
-                } else {
-                    break;
-                }
             }
         }
     }
 
+    private static long getPushVersion(long[] versions, int index) {
+        if (versions == null || index >= versions.length) {
+            return NO_PUSH_VERSION;
+        }
+        return versions[index];
+    }
+
+    private static long[] copyVersions(long[] versions, int index) {
+        long[] current = versions == null ? EMPTY_VERSIONS : versions;
+        long[] update = Arrays.copyOf(current, Math.max(current.length, index + 1));
+        if (update.length > current.length) {
+            Arrays.fill(update, current.length, update.length, NO_PUSH_VERSION);
+        }
+        return update;
+    }
+
     /**
      * Setter method for property <tt>elementType</tt>.
      *
@@ -126,17 +156,27 @@ public class Subscriber extends BaseInfo {
         final StringBuilder sb = new StringBuilder("scope=");
         sb.append(scope).append(",");
         sb.append("elementType=").append(elementType).append(",");
-        sb.append("lastPushVersion=").append(lastPushVersions);
+        sb.append("lastPushVersion=").append(getLastPushVersions());
         return sb.toString();
     }
 
     /**
      * Getter method for property <tt>lastPushVersions</tt>.
      *
-     * @return property value of lastPushVersions
+     * @return snapshot of push versions keyed by dataCenter
      */
     public Map<String, Long> getLastPushVersions() {
-        return lastPushVersions;
+        long[] versions = lastPushVersions;
+        Map<String, Long> result = new HashMap<>();
+        if (versions == null) {
+            return result;
+        }
+        for (int i = 0; i < versions.length; i++) {
+            if (versions[i] != NO_PUSH_VERSION) {
+                result.put(DataCenterIndex.getInstance().getDataCenter(i), versions[i]);
+            }
+        }
+        return result;
     }
 
     /**
@@ -145,7 +185,18 @@ public class Subscriber extends BaseInfo {
      * @param lastPushVersions  value to be assigned to property lastPushVersions
      */
     public void setLastPushVersions(Map<String, Long> lastPushVersions) {
-        this.lastPushVersions = lastPushVersions;
+        long[] versions = EMPTY_VERSIONS;
+        if (lastPushVersions != null) {
+            for (Entry<String, Long> entry : lastPushVersions.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                int index = DataCenterIndex.getInstance().getIndex(entry.getKey());
+                versions = copyVersions(versions, index);
+                versions[index] = entry.getValue();
+            }
+        }
+        this.lastPushVersions = versions;
     }
 
     /**
@@ -156,7 +207,7 @@ public class Subscriber extends BaseInfo {
         final StringBuilder sb = new StringBuilder("Subscriber{");
         sb.append("scope=").append(scope);
         sb.append(", elementType=").append(elementType);
-        sb.append(", lastPushVersions=").append(lastPushVersions);
+        sb.append(", lastPushVersions=").append(getLastPushVersions());
         sb.append(", super=").append(super.toString());
         sb.append('}');
         return sb.toString();
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * format metrics of registry in prometheus text exposition format,
+ * timers are exported as summary in seconds and histograms as summary,
+ * sum of summary is estimated by mean of the sampled values.
+ *
+ * @author shangyu.wh
+ * @version $Id: PrometheusFormatter.java, v 0.1 2026-10-19 17:20 shangyu.wh Exp $
+ */
+public class PrometheusFormatter {
+
+    public static final String    CONTENT_TYPE      = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES         = new double[] { 0.5, 0.75, 0.95, 0.99, 0.999 };
+
+    private static final double   SECONDS_PER_NANOS = 1.0 / TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * format all metrics of registry
+     *
+     * @param registry
+     * @return
+     */
+    public static String format(MetricRegistry registry) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+            Object value = entry.getValue().getValue();
+            if (value instanceof Number) {
+                writeSimple(sb, sanitize(entry.getKey()), "gauge", ((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                writeSimple(sb, sanitize(entry.getKey()), "gauge", (Boolean) value ? 1 : 0);
+            }
+        }
+        for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+            writeSimple(sb, sanitize(entry.getKey()) + "_total", "counter", entry.getValue()
+                .getCount());
+        }
+        for (Map.Entry<String, Meter> entry : registry.getMeters().entrySet()) {
+            writeSimple(sb, sanitize(entry.getKey()) + "_total", "counter", entry.getValue()
+                .getCount());
+        }
+        for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            writeSummary(sb, sanitize(entry.getKey()), histogram.getSnapshot(),
+                histogram.getCount(), 1);
+        }
+        for (Map.Entry<String, Timer> entry : registry.getTimers().entrySet()) {
+            Timer timer = entry.getValue();
+            writeSummary(sb, sanitize(entry.getKey()) + "_seconds", timer.getSnapshot(),
+                timer.getCount(), SECONDS_PER_NANOS);
+        }
+        return sb.toString();
+    }
+
+    private static void writeSimple(StringBuilder sb, String name, String type, double value) {
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        sb.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void writeSummary(StringBuilder sb, String name, Snapshot snapshot, long count,
+                                     double factor) {
+        sb.append("# TYPE ").append(name).append(" summary\n");
+        for (double quantile : QUANTILES) {
+            sb.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                .append(snapshot.getValue(quantile) * factor).append('\n');
+        }
+        sb.append(name).append("_count ").append(count).append('\n');
+        sb.append(name).append("_sum ").append(snapshot.getMean() * count * factor).append('\n');
+    }
+
+    /**
+     * metric name may only contain [a-zA-Z0-9_:] and must not start with digit
+     *
+     * @param name
+     * @return
+     */
+    static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 1);
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            sb.append('_');
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '_' || c == ':') {
+                sb.append(c);
+            } else {
+                sb.append('_');
+            }
+        }
+        return sb.toString();
+    }
+}
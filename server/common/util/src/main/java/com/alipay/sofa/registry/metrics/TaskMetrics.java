@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.metrics;
 
+import com.alipay.sofa.registry.task.batcher.AcceptorExecutor;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 
@@ -70,4 +71,23 @@ public class TaskMetrics {
                 (Gauge<Long>) executor::getTaskCount);
 
     }
+
+    public void registerTaskDispatcher(String dispatcherName, AcceptorExecutor acceptorExecutor) {
+        String prefix = MetricRegistry.name("TaskDispatcher", dispatcherName);
+
+        metrics.register(MetricRegistry.name(prefix, "pending"),
+                (Gauge<Integer>) acceptorExecutor::getPendingTaskSize);
+
+        metrics.register(MetricRegistry.name(prefix, "accepted"),
+                (Gauge<Long>) () -> acceptorExecutor.getAcceptedTasks().get());
+
+        metrics.register(MetricRegistry.name(prefix, "replayed"),
+                (Gauge<Long>) () -> acceptorExecutor.getReplayedTasks().get());
+
+        metrics.register(MetricRegistry.name(prefix, "expired"),
+                (Gauge<Long>) () -> acceptorExecutor.getExpiredTasks().get());
+
+        metrics.register(MetricRegistry.name(prefix, "overflow"),
+                (Gauge<Long>) () -> acceptorExecutor.getQueueOverflows().get());
+    }
 }
\ No newline at end of file
@@ -84,6 +84,8 @@ public class AcceptorExecutor<ID, T> {
 
     private final TrafficShaper                          trafficShaper;
 
+    private final TaskProcessor<T>                       taskProcessor;
+
     private AtomicLong                                   acceptedTasks     = new AtomicLong();
 
     private AtomicLong                                   replayedTasks     = new AtomicLong();
@@ -95,10 +97,11 @@ public class AcceptorExecutor<ID, T> {
     private AtomicLong                                   queueOverflows    = new AtomicLong();
 
     AcceptorExecutor(String id, int maxBufferSize, long congestionRetryDelayMs,
-                     long networkFailureRetryMs) {
+                     long networkFailureRetryMs, TaskProcessor<T> taskProcessor) {
         this.name = "TaskAcceptor-" + id;
         this.maxBufferSize = maxBufferSize;
         this.trafficShaper = new TrafficShaper(congestionRetryDelayMs, networkFailureRetryMs);
+        this.taskProcessor = taskProcessor;
 
         ThreadGroup threadGroup = new ThreadGroup("serverTaskExecutors");
         this.acceptorThread = new Thread(threadGroup, new AcceptorRunner(), "TaskAcceptor-" + id);
@@ -200,8 +203,10 @@ public class AcceptorExecutor<ID, T> {
                 //expiryTime < 0 means task no expired
                 if (taskHolder.getExpiryTime() > 0 && taskHolder.getExpiryTime() <= now) {
                     expiredTasks.incrementAndGet();
+                    dropTask(taskHolder);
                 } else if (pendingTasks.containsKey(id)) {
                     overriddenTasks.incrementAndGet();
+                    dropTask(taskHolder);
                 } else {
                     pendingTasks.put(id, taskHolder);
                     processingOrder.addFirst(id);
@@ -213,7 +218,10 @@ public class AcceptorExecutor<ID, T> {
                         "Now pending task full,it will clear reprocessQueue in to add new task,reprocessQueue size={},queueOverflows={},name={}",
                         reprocessQueue.size(), queueOverflows, name);
                 queueOverflows.addAndGet(reprocessQueue.size());
-                reprocessQueue.clear();
+                TaskHolder<ID, T> taskHolder;
+                while ((taskHolder = reprocessQueue.poll()) != null) {
+                    dropTask(taskHolder);
+                }
             }
         }
 
@@ -223,7 +231,7 @@ public class AcceptorExecutor<ID, T> {
                     .error(
                         "Now pending task full,it will remove first one to add task={},queueOverflows={},name={}",
                         taskHolder.getId(), queueOverflows, name);
-                pendingTasks.remove(processingOrder.poll());
+                dropTask(pendingTasks.remove(processingOrder.poll()));
                 queueOverflows.incrementAndGet();
             }
             TaskHolder<ID, T> previousTask = pendingTasks.put(taskHolder.getId(), taskHolder);
@@ -231,6 +239,20 @@ public class AcceptorExecutor<ID, T> {
                 processingOrder.add(taskHolder.getId());
             } else {
                 overriddenTasks.incrementAndGet();
+                if (previousTask.getTask() != taskHolder.getTask()) {
+                    dropTask(previousTask);
+                }
+            }
+        }
+
+        private void dropTask(TaskHolder<ID, T> taskHolder) {
+            if (taskHolder == null || taskProcessor == null) {
+                return;
+            }
+            try {
+                taskProcessor.onDropped(taskHolder.getTask());
+            } catch (Throwable e) {
+                LOGGER.error("Drop task error,task=" + taskHolder.getId() + ",name=" + name, e);
             }
         }
 
@@ -247,6 +269,7 @@ public class AcceptorExecutor<ID, T> {
                             return;
                         }
                         expiredTasks.incrementAndGet();
+                        dropTask(holder);
                     }
                     workSemaphore.release();
                 }
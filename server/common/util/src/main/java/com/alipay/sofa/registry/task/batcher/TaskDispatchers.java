@@ -16,6 +16,8 @@
  */
 package com.alipay.sofa.registry.task.batcher;
 
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -48,8 +50,9 @@ public class TaskDispatchers {
                 k->{
 
                     final AcceptorExecutor<ID, T> acceptorExecutor = new AcceptorExecutor<ID, T>(
-                            name, 1000, 1000, 100
+                            name, 1000, 1000, 100, taskProcessor
                     );
+                    TaskMetrics.getInstance().registerTaskDispatcher(name, acceptorExecutor);
                     final TaskExecutors<ID, T> taskExecutor = TaskExecutors.createTaskExecutors(name, 20, taskProcessor,
                             acceptorExecutor);
 
@@ -106,8 +109,9 @@ public class TaskDispatchers {
         return taskDispatcherMap.computeIfAbsent(id,k->{
 
             final AcceptorExecutor<ID, T> acceptorExecutor = new AcceptorExecutor<ID, T>(
-                    id, maxBufferSize, congestionRetryDelayMs, networkFailureRetryMs
+                    id, maxBufferSize, congestionRetryDelayMs, networkFailureRetryMs, taskProcessor
             );
+            TaskMetrics.getInstance().registerTaskDispatcher(id, acceptorExecutor);
             final TaskExecutors<ID, T> taskExecutor = TaskExecutors.createTaskExecutors(id, workerCount, taskProcessor,
                     acceptorExecutor);
 
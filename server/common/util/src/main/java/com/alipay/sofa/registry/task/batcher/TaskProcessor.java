@@ -51,4 +51,11 @@ public interface TaskProcessor<T> {
      * error is transient).
      */
     ProcessingResult process(List<T> tasks);
+
+    /**
+     * Called by the acceptor when a task is discarded without being processed: evicted by buffer overflow,
+     * expired, or overridden by a newer task with the same id.
+     */
+    default void onDropped(T task) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * order independent checksum of registrations grouped by dataInfoId, maintained on every add and remove.
+ * 64-bit hashes of registrations are summed, so the checksum of one dataInfoId on a data node
+ * equals the sum of the checksums of the same dataInfoId on all session nodes.
+ *
+ * @author xuanbei
+ * @since 2026/10/19
+ */
+public class RollingChecksum {
+    private static final long      FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long      FNV_PRIME  = 0x100000001b3L;
+
+    private final Map<String, Sum> sums       = new HashMap<>();
+
+    private long                   checksum;
+
+    private long                   dataInfoIdChecksum;
+
+    private long                   size;
+
+    /**
+     * 64-bit hash of one registration
+     *
+     * @param registerId
+     * @param version
+     * @return
+     */
+    public static long hash(String registerId, Long version) {
+        return hash(registerId + '#' + version);
+    }
+
+    /**
+     * 64-bit hash of string, FNV-1a of utf-8 bytes with murmur3 finalizer
+     *
+     * @param value
+     * @return
+     */
+    public static long hash(String value) {
+        long h = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public synchronized void add(String dataInfoId, long hash) {
+        Sum sum = sums.get(dataInfoId);
+        if (sum == null) {
+            sum = new Sum();
+            sums.put(dataInfoId, sum);
+            dataInfoIdChecksum += hash(dataInfoId);
+        }
+        sum.checksum += hash;
+        sum.count++;
+        checksum += hash;
+        size++;
+    }
+
+    public synchronized void remove(String dataInfoId, long hash) {
+        Sum sum = sums.get(dataInfoId);
+        if (sum == null) {
+            return;
+        }
+        sum.checksum -= hash;
+        checksum -= hash;
+        size--;
+        if (--sum.count == 0) {
+            sums.remove(dataInfoId);
+            dataInfoIdChecksum -= hash(dataInfoId);
+        }
+    }
+
+    /**
+     * checksum of all registrations
+     *
+     * @return
+     */
+    public synchronized long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * checksum of registrations of one dataInfoId, 0 if none
+     *
+     * @param dataInfoId
+     * @return
+     */
+    public synchronized long getChecksum(String dataInfoId) {
+        Sum sum = sums.get(dataInfoId);
+        return sum == null ? 0 : sum.checksum;
+    }
+
+    /**
+     * checksum of dataInfoIds having registrations
+     *
+     * @return
+     */
+    public synchronized long getDataInfoIdChecksum() {
+        return dataInfoIdChecksum;
+    }
+
+    /**
+     * checksum breakdown by dataInfoId
+     *
+     * @return copy of checksums
+     */
+    public synchronized Map<String, Long> getChecksums() {
+        Map<String, Long> checksums = new HashMap<>(sums.size());
+        sums.forEach((dataInfoId, sum) -> checksums.put(dataInfoId, sum.checksum));
+        return checksums;
+    }
+
+    /**
+     * count of registrations
+     *
+     * @return
+     */
+    public synchronized long size() {
+        return size;
+    }
+
+    private static final class Sum {
+        private long checksum;
+        private int  count;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author shangyu.wh
+ * @version $Id: PrometheusFormatterTest.java, v 0.1 2026-10-19 17:40 shangyu.wh Exp $
+ */
+public class PrometheusFormatterTest {
+    @Test
+    public void testFormat() {
+        MetricRegistry registry = new MetricRegistry();
+        registry.counter("Push.retry").inc(3);
+        registry.register("Push-Executor.queue", (Gauge<Integer>) () -> 7);
+        registry.register("Push.text", (Gauge<String>) () -> "ignored");
+        registry.timer("Push.latency").update(20, TimeUnit.MILLISECONDS);
+        registry.histogram("Publish.size").update(10);
+
+        String text = PrometheusFormatter.format(registry);
+        Assert.assertTrue(text.contains("# TYPE Push_retry_total counter\nPush_retry_total 3.0\n"));
+        Assert.assertTrue(text.contains("Push_Executor_queue 7.0\n"));
+        Assert.assertFalse(text.contains("Push_text"));
+        Assert.assertTrue(text.contains("# TYPE Push_latency_seconds summary\n"));
+        Assert.assertTrue(text.contains("Push_latency_seconds{quantile=\"0.99\"} 0.02\n"));
+        Assert.assertTrue(text.contains("Push_latency_seconds_count 1\n"));
+        Assert.assertTrue(text.contains("Publish_size{quantile=\"0.5\"} 10.0\n"));
+    }
+
+    @Test
+    public void testSanitize() {
+        Assert.assertEquals("TaskDispatcher_DATA_CHANGE_replayed",
+            PrometheusFormatter.sanitize("TaskDispatcher.DATA-CHANGE.replayed"));
+        Assert.assertEquals("_1a", PrometheusFormatter.sanitize("1a"));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author xuanbei
+ * @since 2026/10/19
+ */
+public class RollingChecksumTest {
+    @Test
+    public void testOrderIndependent() {
+        RollingChecksum checksum1 = new RollingChecksum();
+        checksum1.add("dataInfoId1", RollingChecksum.hash("registerId1", 1L));
+        checksum1.add("dataInfoId1", RollingChecksum.hash("registerId2", 1L));
+        checksum1.add("dataInfoId2", RollingChecksum.hash("registerId3", 2L));
+
+        RollingChecksum checksum2 = new RollingChecksum();
+        checksum2.add("dataInfoId2", RollingChecksum.hash("registerId3", 2L));
+        checksum2.add("dataInfoId1", RollingChecksum.hash("registerId4", 1L));
+        checksum2.add("dataInfoId1", RollingChecksum.hash("registerId2", 1L));
+        checksum2.add("dataInfoId1", RollingChecksum.hash("registerId1", 1L));
+        checksum2.remove("dataInfoId1", RollingChecksum.hash("registerId4", 1L));
+
+        Assert.assertEquals(checksum1.getChecksum(), checksum2.getChecksum());
+        Assert.assertEquals(checksum1.getDataInfoIdChecksum(), checksum2.getDataInfoIdChecksum());
+        Assert.assertEquals(checksum1.getChecksums(), checksum2.getChecksums());
+        Assert.assertEquals(3, checksum2.size());
+
+        checksum2.remove("dataInfoId2", RollingChecksum.hash("registerId3", 2L));
+        Assert.assertEquals(0, checksum2.getChecksum("dataInfoId2"));
+        Assert.assertFalse(checksum2.getChecksums().containsKey("dataInfoId2"));
+        Assert
+            .assertNotEquals(checksum1.getDataInfoIdChecksum(), checksum2.getDataInfoIdChecksum());
+    }
+
+    @Test
+    public void testAdditive() {
+        RollingChecksum session1 = new RollingChecksum();
+        session1.add("dataInfoId", RollingChecksum.hash("registerId1", 1L));
+        RollingChecksum session2 = new RollingChecksum();
+        session2.add("dataInfoId", RollingChecksum.hash("registerId2", 3L));
+        RollingChecksum data = new RollingChecksum();
+        data.add("dataInfoId", RollingChecksum.hash("registerId2", 3L));
+        data.add("dataInfoId", RollingChecksum.hash("registerId1", 1L));
+
+        Assert.assertEquals(data.getChecksum("dataInfoId"), session1.getChecksum("dataInfoId")
+                                                            + session2.getChecksum("dataInfoId"));
+        Assert.assertNotEquals(RollingChecksum.hash("registerId1", 1L),
+            RollingChecksum.hash("registerId1", 2L));
+    }
+}
@@ -64,6 +64,7 @@ import com.alipay.sofa.registry.server.data.remoting.sessionserver.SessionServer
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.disconnect.DisconnectEventHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.forward.ForwardService;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.forward.ForwardServiceImpl;
+import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.BatchPublishDataHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.ClientOffHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.DataServerConnectionHandler;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.GetDataHandler;
@@ -73,6 +74,7 @@ import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.Sessi
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.handler.UnPublishDataHandler;
 import com.alipay.sofa.registry.server.data.resource.DataDigestResource;
 import com.alipay.sofa.registry.server.data.resource.HealthResource;
+import com.alipay.sofa.registry.server.data.resource.MetricsResource;
 import com.alipay.sofa.registry.util.PropertySplitter;
 import org.glassfish.jersey.jackson.JacksonFeature;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -180,6 +182,7 @@ public class DataServerBeanConfiguration {
             list.add(clientOffHandler());
             list.add(getDataVersionsHandler());
             list.add(publishDataProcessor(dataServerBootstrapConfig));
+            list.add(batchPublishDataProcessor(dataServerBootstrapConfig));
             list.add(sessionServerRegisterHandler());
             list.add(unPublishDataHandler());
             list.add(dataServerConnectionHandler());
@@ -245,6 +248,11 @@ public class DataServerBeanConfiguration {
             return new PublishDataHandler(dataServerBootstrapConfig);
         }
 
+        @Bean
+        public AbstractServerHandler batchPublishDataProcessor(DataServerConfig dataServerBootstrapConfig) {
+            return new BatchPublishDataHandler(dataServerBootstrapConfig);
+        }
+
         @Bean
         public AbstractServerHandler sessionServerRegisterHandler() {
             return new SessionServerRegisterHandler();
@@ -448,5 +456,10 @@ public class DataServerBeanConfiguration {
         public DataDigestResource dataDigestResource() {
             return new DataDigestResource();
         }
+
+        @Bean
+        public MetricsResource metricsResource() {
+            return new MetricsResource();
+        }
     }
 }
\ No newline at end of file
@@ -67,16 +67,30 @@ public class DataChangeEventCenter {
      */
     public void onChange(Publisher publisher, String dataCenter) {
         int idx = hash(publisher.getDataInfoId());
+        dataChangeEventQueues[idx].onChange(createEvent(publisher, dataCenter));
+    }
+
+    /**
+     * receive changed publisher of a batch, item by item so every publisher knows whether it is accepted
+     *
+     * @param publisher
+     * @param dataCenter
+     * @return false if the queue of publisher is full
+     */
+    public boolean offer(Publisher publisher, String dataCenter) {
+        int idx = hash(publisher.getDataInfoId());
+        return dataChangeEventQueues[idx].offer(createEvent(publisher, dataCenter));
+    }
+
+    private DataChangeEvent createEvent(Publisher publisher, String dataCenter) {
         Datum datum = new Datum(publisher, dataCenter);
         if (publisher instanceof UnPublisher) {
             datum.setContainsUnPub(true);
         }
         if (publisher.getPublishType() != PublishType.TEMPORARY) {
-            dataChangeEventQueues[idx].onChange(new DataChangeEvent(DataChangeTypeEnum.MERGE,
-                DataSourceTypeEnum.PUB, datum));
+            return new DataChangeEvent(DataChangeTypeEnum.MERGE, DataSourceTypeEnum.PUB, datum);
         } else {
-            dataChangeEventQueues[idx].onChange(new DataChangeEvent(DataChangeTypeEnum.MERGE,
-                DataSourceTypeEnum.PUB_TEMP, datum));
+            return new DataChangeEvent(DataChangeTypeEnum.MERGE, DataSourceTypeEnum.PUB_TEMP, datum);
         }
     }
 
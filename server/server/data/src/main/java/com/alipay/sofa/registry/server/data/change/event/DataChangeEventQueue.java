@@ -107,6 +107,16 @@ public class DataChangeEventQueue {
         eventQueue.add(event);
     }
 
+    /**
+     * receive event when data changed, without throwing when queue is full
+     *
+     * @param event
+     * @return false if queue is full
+     */
+    public boolean offer(IDataChangeEvent event) {
+        return eventQueue.offer(event);
+    }
+
     /**
      *
      * @return
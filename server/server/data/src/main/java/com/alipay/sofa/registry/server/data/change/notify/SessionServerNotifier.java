@@ -22,6 +22,7 @@ import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
 import com.alipay.sofa.registry.remoting.CallbackHandler;
 import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.Server;
@@ -32,6 +33,9 @@ import com.alipay.sofa.registry.server.data.change.DataSourceTypeEnum;
 import com.alipay.sofa.registry.server.data.remoting.sessionserver.SessionServerConnectionFactory;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer.TaskFailedCallback;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -48,11 +52,19 @@ import java.util.concurrent.TimeUnit;
  */
 public class SessionServerNotifier implements IDataChangeNotifier {
 
-    private static final Logger            LOGGER = LoggerFactory
-                                                      .getLogger(SessionServerNotifier.class);
+    private static final Logger            LOGGER        = LoggerFactory
+                                                             .getLogger(SessionServerNotifier.class);
+
+    public static final String             METRIC_PREFIX = "DataChangeNotify";
 
     private AsyncHashedWheelTimer          asyncHashedWheelTimer;
 
+    private final Timer                    notifyTimer;
+
+    private final Counter                  retryCounter;
+
+    private final Counter                  failCounter;
+
     @Autowired
     private DataServerConfig               dataServerBootstrapConfig;
 
@@ -79,6 +91,11 @@ public class SessionServerNotifier implements IDataChangeNotifier {
                     LOGGER.error("executionFailed: " + e.getMessage(), e);
                 }
             });
+
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.notifyTimer = metricRegistry.timer(MetricRegistry.name(METRIC_PREFIX, "latency"));
+        this.retryCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "retry"));
+        this.failCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "fail"));
     }
 
     @Override
@@ -115,6 +132,7 @@ public class SessionServerNotifier implements IDataChangeNotifier {
                 return;
             }
             Server sessionServer = boltExchange.getServer(dataServerBootstrapConfig.getPort());
+            notifyCallback.startNanos = System.nanoTime();
             sessionServer.sendCallback(sessionServer.getChannel(connection.getRemoteAddress()),
                 request, notifyCallback, dataServerBootstrapConfig.getRpcTimeout());
         } catch (Exception e) {
@@ -134,6 +152,7 @@ public class SessionServerNotifier implements IDataChangeNotifier {
         notifyCallback.retryTimes++;
 
         if (notifyCallback.retryTimes <= dataServerBootstrapConfig.getNotifySessionRetryTimes()) {
+            retryCounter.inc();
             this.asyncHashedWheelTimer.newTimeout(timeout -> {
                 if (LOGGER.isInfoEnabled()) {
                     LOGGER.info(String.format("retrying notify sessionserver(%s), retryTimes=%s, request=%s",
@@ -152,6 +171,7 @@ public class SessionServerNotifier implements IDataChangeNotifier {
                 }
             }, getDelayTimeForRetry(notifyCallback.retryTimes), TimeUnit.MILLISECONDS);
         } else {
+            failCounter.inc();
             LOGGER.error(
                     String.format("retryTimes have exceeded! stop retry! retryTimes=%s, sessionServer(%s), request=%s",
                             notifyCallback.retryTimes, connection.getRemoteAddress(), request));
@@ -170,6 +190,7 @@ public class SessionServerNotifier implements IDataChangeNotifier {
     private class NotifyCallback implements CallbackHandler {
 
         private int               retryTimes = 0;
+        private long              startNanos;
         private Connection        connection;
         private DataChangeRequest request;
 
@@ -181,7 +202,9 @@ public class SessionServerNotifier implements IDataChangeNotifier {
         @Override
         public void onCallback(Channel channel, Object message) {
             CommonResponse result = (CommonResponse) message;
-            if (result != null && !result.isSuccess()) {
+            if (result == null || result.isSuccess()) {
+                notifyTimer.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            } else {
                 LOGGER
                     .error(String
                         .format(
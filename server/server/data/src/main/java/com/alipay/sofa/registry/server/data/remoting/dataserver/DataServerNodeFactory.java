@@ -17,6 +17,8 @@
 package com.alipay.sofa.registry.server.data.remoting.dataserver;
 
 import com.alipay.remoting.Connection;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.consistency.hash.ConsistentHash;
 import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
 import com.alipay.sofa.registry.server.data.node.DataServerNode;
@@ -54,6 +56,16 @@ public class DataServerNodeFactory {
     private static AtomicBoolean                                     init                = new AtomicBoolean(
                                                                                              false);
 
+    /**
+     * dataserver list of all datacenters pushed by meta, base of delta node change
+     */
+    private static Map<String, Map<String, DataNode>>                pushedNodes         = new ConcurrentHashMap<>();
+
+    /**
+     * revision of pushedNodes
+     */
+    private static Long                                              pushedRevision;
+
     /**
      * add a dataserver to cache
      *
@@ -207,6 +219,28 @@ public class DataServerNodeFactory {
         return null;
     }
 
+    /**
+     * apply dataserver list change pushed by meta, delta is applied to list of its base revision
+     *
+     * @param nodeChangeResult
+     * @return dataserver list of all datacenters, null if delta base revision not match
+     */
+    public static synchronized Map<String, Map<String, DataNode>> applyNodeChange(NodeChangeResult<DataNode> nodeChangeResult) {
+        if (nodeChangeResult.isDelta()
+            && !nodeChangeResult.getBaseRevision().equals(pushedRevision)) {
+            return null;
+        }
+        Map<String, Map<String, DataNode>> nodes = nodeChangeResult.applyTo(pushedNodes);
+        Map<String, Map<String, DataNode>> copy = new ConcurrentHashMap<>();
+        if (nodes != null) {
+            //returned map may be changed by event handler, keep a copy as base of next delta
+            nodes.forEach((dataCenter, dataNodes) -> copy.put(dataCenter, new ConcurrentHashMap<>(dataNodes)));
+        }
+        pushedNodes = copy;
+        pushedRevision = nodeChangeResult.getRevision();
+        return nodes == null ? new ConcurrentHashMap<>() : nodes;
+    }
+
     /**
      * get all datacenters
      *
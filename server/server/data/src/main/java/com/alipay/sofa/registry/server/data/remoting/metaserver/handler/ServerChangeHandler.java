@@ -17,8 +17,10 @@
 package com.alipay.sofa.registry.server.data.remoting.metaserver.handler;
 
 import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.GenericResponse;
 import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
 import com.alipay.sofa.registry.common.model.metaserver.MetaNode;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.remoting.Channel;
@@ -27,6 +29,7 @@ import com.alipay.sofa.registry.server.data.event.DataServerChangeEvent;
 import com.alipay.sofa.registry.server.data.event.EventCenter;
 import com.alipay.sofa.registry.server.data.event.MetaServerChangeEvent;
 import com.alipay.sofa.registry.server.data.executor.ExecutorFactory;
+import com.alipay.sofa.registry.server.data.remoting.dataserver.DataServerNodeFactory;
 import com.alipay.sofa.registry.server.data.remoting.handler.AbstractClientHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -54,11 +57,22 @@ public class ServerChangeHandler extends AbstractClientHandler<NodeChangeResult>
 
     @Override
     public Object doHandle(Channel channel, NodeChangeResult request) {
+        if (request.getNodeType() == NodeType.DATA) {
+            //apply delta in order of receiving, event is still handled async
+            Map<String, Map<String, DataNode>> nodes = DataServerNodeFactory.applyNodeChange(request);
+            if (nodes == null) {
+                return new GenericResponse<Long>().fillFailed("Node change base revision "
+                        + request.getBaseRevision() + " not match!");
+            }
+            ExecutorFactory.getCommonExecutor().execute(() -> eventCenter.post(
+                    new DataServerChangeEvent(nodes, request.getDataCenterListVersions())));
+            if (request.getRevision() != null) {
+                return new GenericResponse<Long>().fillSucceed(request.getRevision());
+            }
+            return CommonResponse.buildSuccessResponse();
+        }
         ExecutorFactory.getCommonExecutor().execute(() -> {
-            if (request.getNodeType() == NodeType.DATA) {
-                eventCenter.post(new DataServerChangeEvent(request.getNodes(),
-                        request.getDataCenterListVersions()));
-            } else if (request.getNodeType() == NodeType.META) {
+            if (request.getNodeType() == NodeType.META) {
                 Map<String, Map<String, MetaNode>> metaNodesMap = request.getNodes();
                 if (metaNodesMap != null && !metaNodesMap.isEmpty()) {
                     Map<String, MetaNode> metaNodeMap = metaNodesMap.get(dataServerConfig.getLocalDataCenter());
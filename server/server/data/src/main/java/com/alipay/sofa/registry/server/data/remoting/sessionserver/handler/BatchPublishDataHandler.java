@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.data.remoting.sessionserver.handler;
+
+import com.alipay.sofa.registry.common.model.BatchCommonResponse;
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.PublishType;
+import com.alipay.sofa.registry.common.model.dataserver.BatchPublishDataRequest;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.data.bootstrap.DataServerConfig;
+import com.alipay.sofa.registry.server.data.change.event.DataChangeEventCenter;
+import com.alipay.sofa.registry.server.data.remoting.handler.AbstractServerHandler;
+import com.alipay.sofa.registry.server.data.remoting.sessionserver.SessionServerConnectionFactory;
+import com.alipay.sofa.registry.server.data.remoting.sessionserver.forward.ForwardService;
+import com.alipay.sofa.registry.server.data.util.ThreadPoolExecutorDataServer;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.alipay.sofa.registry.util.ParaCheckUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * processor to publish data of a batch, publishers are put into DataChangeEventQueue one by one
+ * and every publisher gets the result of its own enqueue
+ *
+ * @author shangyu.wh
+ * @version $Id: BatchPublishDataHandler.java, v 0.1 2026-10-19 14:20 shangyu.wh Exp $
+ */
+public class BatchPublishDataHandler extends AbstractServerHandler<BatchPublishDataRequest> {
+
+    /** LOGGER */
+    private static final Logger            LOGGER = LoggerFactory
+                                                      .getLogger(BatchPublishDataHandler.class);
+
+    @Autowired
+    private ForwardService                 forwardService;
+
+    @Autowired
+    private SessionServerConnectionFactory sessionServerConnectionFactory;
+
+    @Autowired
+    private DataChangeEventCenter          dataChangeEventCenter;
+
+    @Autowired
+    private DataServerConfig               dataServerConfig;
+
+    private ThreadPoolExecutor             publishExecutor;
+
+    public BatchPublishDataHandler(DataServerConfig dataServerConfig) {
+
+        publishExecutor = new ThreadPoolExecutorDataServer("BatchPublishProcessorExecutor",
+            dataServerConfig.getPublishExecutorMinPoolSize(),
+            dataServerConfig.getPublishExecutorMaxPoolSize(),
+            dataServerConfig.getNotifyDataSyncExecutorKeepAliveTime(), TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(dataServerConfig.getPublishExecutorQueueSize()),
+            new NamedThreadFactory("DataServer-BatchPublishProcessorExecutor-executor", true));
+    }
+
+    @Override
+    public void checkParam(BatchPublishDataRequest request) throws RuntimeException {
+        ParaCheckUtil.checkNotEmpty(request.getPublishers(), "BatchPublishDataRequest.publishers");
+    }
+
+    @Override
+    public Object doHandle(Channel channel, BatchPublishDataRequest request) {
+        List<Publisher> publishers = request.getPublishers();
+        List<CommonResponse> results = new ArrayList<>(publishers.size());
+        for (Publisher item : publishers) {
+            try {
+                PublishDataHandler.checkPublisher(item);
+            } catch (RuntimeException e) {
+                LOGGER.error("Batch publish item illegal, request: {}", request, e);
+                results.add(CommonResponse.buildFailedResponse(e.getMessage()));
+                continue;
+            }
+            Publisher publisher = Publisher.processPublisher(item);
+            if (forwardService.needForward(publisher.getDataInfoId())) {
+                LOGGER.warn("[forward] Batch publish item refused, dataInfoId: {}",
+                    publisher.getDataInfoId());
+                results.add(CommonResponse
+                    .buildFailedResponse("Request refused, Server status is not working"));
+                continue;
+            }
+            //result of every publisher follows its own enqueue, a full queue only fails this one
+            if (!dataChangeEventCenter.offer(publisher, dataServerConfig.getLocalDataCenter())) {
+                LOGGER.error(
+                    "Batch publish item refused, data change queue is full, dataInfoId: {}",
+                    publisher.getDataInfoId());
+                results.add(CommonResponse
+                    .buildFailedResponse("Request refused, data change queue is full"));
+                continue;
+            }
+            if (publisher.getPublishType() != PublishType.TEMPORARY) {
+                sessionServerConnectionFactory.registerClient(request.getSessionServerProcessId(),
+                    publisher.getSourceAddress().getAddressString());
+            }
+            results.add(CommonResponse.buildSuccessResponse());
+        }
+
+        return new BatchCommonResponse(results);
+    }
+
+    @Override
+    public CommonResponse buildFailedResponse(String msg) {
+        return new CommonResponse(false, msg);
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    public Class interest() {
+        return BatchPublishDataRequest.class;
+    }
+
+    @Override
+    protected Node.NodeType getConnectNodeType() {
+        return Node.NodeType.DATA;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return publishExecutor;
+    }
+}
@@ -77,7 +77,16 @@ public class PublishDataHandler extends AbstractServerHandler<PublishDataRequest
 
     @Override
     public void checkParam(PublishDataRequest request) throws RuntimeException {
-        Publisher publisher = request.getPublisher();
+        checkPublisher(request.getPublisher());
+    }
+
+    /**
+     * check publisher of publish request
+     *
+     * @param publisher
+     * @throws RuntimeException
+     */
+    static void checkPublisher(Publisher publisher) throws RuntimeException {
         ParaCheckUtil.checkNotNull(publisher, "PublishDataRequest.publisher");
         ParaCheckUtil.checkNotBlank(publisher.getDataId(), "publisher.dataId");
         ParaCheckUtil.checkNotBlank(publisher.getInstanceId(), "publisher.instanceId");
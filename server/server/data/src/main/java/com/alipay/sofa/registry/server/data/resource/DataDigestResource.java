@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.common.model.store.DataInfo;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.net.NetUtil;
 import com.alipay.sofa.registry.server.data.cache.DatumCache;
+import com.alipay.sofa.registry.util.RollingChecksum;
 
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
@@ -62,6 +63,35 @@ public class DataDigestResource {
         return retList;
     }
 
+    /**
+     * checksum of publishers by dataCenter, equals to the sum of checksums of all sessions
+     */
+    @GET
+    @Path("datum/checksum")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Long> getDatumChecksum(@QueryParam("dataId") String dataId,
+                                              @QueryParam("group") String group,
+                                              @QueryParam("instanceId") String instanceId) {
+        Map<String, Long> ret = new HashMap<>();
+        if (!isBlank(dataId) && !isBlank(instanceId) && !isBlank(group)) {
+            String dataInfoId = DataInfo.toDataInfoId(dataId, instanceId, group);
+            Map<String, Datum> datumMap = DatumCache.get(dataInfoId);
+            if (datumMap != null) {
+                datumMap.forEach((dataCenter, datum) -> {
+                    long checksum = 0;
+                    if (datum.getPubMap() != null) {
+                        for (Publisher publisher : datum.getPubMap().values()) {
+                            checksum += RollingChecksum.hash(publisher.getRegisterId(),
+                                publisher.getVersion());
+                        }
+                    }
+                    ret.put(dataCenter, checksum);
+                });
+            }
+        }
+        return ret;
+    }
+
     @POST
     @Path("connect/query")
     @Produces(MediaType.APPLICATION_JSON)
@@ -74,6 +74,28 @@ public interface MetaServerConfig {
 
     int getSessionNodeChangePushTaskRetryTimes();
 
+    int getLeaseGracePeriodSecs();
+
+    int getNodeChangeHistorySize();
+
+    int getNodeConfirmTimeoutSecs();
+
+    int getProvideDataChangeHistorySize();
+
+    int getProvideDataWatchMaxTimeoutSecs();
+
+    int getDataCenterNodesChangeHistorySize();
+
+    int getDataCenterNodesWatchTimeoutSecs();
+
+    int getDataCenterNodesWatchMaxTimeoutSecs();
+
+    boolean isRaftCompactCodec();
+
+    int getRaftTaskBatchWindowMs();
+
+    int getRaftTaskBatchMaxSize();
+
     String getRaftGroup();
 
     String getRaftDataPath();
@@ -79,6 +79,62 @@ public class MetaServerConfigBean implements MetaServerConfig {
 
     private int                sessionNodeChangePushTaskRetryTimes             = 3;
 
+    /**
+     * seconds new leader waits for heartbeats before evicting nodes
+     */
+    private int                leaseGracePeriodSecs                            = 30;
+
+    /**
+     * max node list changes kept for delta push, receiver further behind gets full node list
+     */
+    private int                nodeChangeHistorySize                           = 128;
+
+    /**
+     * seconds node operator waits for all data nodes confirm, operator is completed anyway after timeout
+     */
+    private int                nodeConfirmTimeoutSecs                          = 60;
+
+    /**
+     * max changes of ProvideData kept for watchers, older changes are compacted
+     */
+    private int                provideDataChangeHistorySize                    = 1024;
+
+    /**
+     * max seconds a ProvideData watch request can be held
+     */
+    private int                provideDataWatchMaxTimeoutSecs                  = 60;
+
+    /**
+     * max changes of local node list kept for other dataCenters watching it
+     */
+    private int                dataCenterNodesChangeHistorySize                = 64;
+
+    /**
+     * seconds a watch of other dataCenter node list is held before answered without change
+     */
+    private int                dataCenterNodesWatchTimeoutSecs                 = 30;
+
+    /**
+     * max seconds a watch from other dataCenter can be held
+     */
+    private int                dataCenterNodesWatchMaxTimeoutSecs              = 60;
+
+    /**
+     * write raft log and snapshot in compact format, enable it after all meta nodes upgraded
+     */
+    private boolean            raftCompactCodec                                = false;
+
+    /**
+     * leader packs write requests arrived in this window into one raft log entry, 0 disables it,
+     * meta node of old version can not decode batched log entry, enable it after all meta nodes upgraded
+     */
+    private int                raftTaskBatchWindowMs                           = 0;
+
+    /**
+     * max write requests in one batched raft log entry
+     */
+    private int                raftTaskBatchMaxSize                            = 64;
+
     /**
      * Whether to enable metrics for node.
      */
@@ -599,4 +655,213 @@ public class MetaServerConfigBean implements MetaServerConfig {
     public void setEnableMetrics(boolean enableMetrics) {
         this.enableMetrics = enableMetrics;
     }
-}
\ No newline at end of file
+
+    /**
+     * Getter method for property <tt>leaseGracePeriodSecs</tt>.
+     *
+     * @return property value of leaseGracePeriodSecs
+     */
+    @Override
+    public int getLeaseGracePeriodSecs() {
+        return leaseGracePeriodSecs;
+    }
+
+    /**
+     * Setter method for property <tt>leaseGracePeriodSecs</tt>.
+     *
+     * @param leaseGracePeriodSecs  value to be assigned to property leaseGracePeriodSecs
+     */
+    public void setLeaseGracePeriodSecs(int leaseGracePeriodSecs) {
+        this.leaseGracePeriodSecs = leaseGracePeriodSecs;
+    }
+
+    /**
+     * Getter method for property <tt>nodeChangeHistorySize</tt>.
+     *
+     * @return property value of nodeChangeHistorySize
+     */
+    @Override
+    public int getNodeChangeHistorySize() {
+        return nodeChangeHistorySize;
+    }
+
+    /**
+     * Setter method for property <tt>nodeChangeHistorySize</tt>.
+     *
+     * @param nodeChangeHistorySize  value to be assigned to property nodeChangeHistorySize
+     */
+    public void setNodeChangeHistorySize(int nodeChangeHistorySize) {
+        this.nodeChangeHistorySize = nodeChangeHistorySize;
+    }
+
+    /**
+     * Getter method for property <tt>nodeConfirmTimeoutSecs</tt>.
+     *
+     * @return property value of nodeConfirmTimeoutSecs
+     */
+    @Override
+    public int getNodeConfirmTimeoutSecs() {
+        return nodeConfirmTimeoutSecs;
+    }
+
+    /**
+     * Setter method for property <tt>nodeConfirmTimeoutSecs</tt>.
+     *
+     * @param nodeConfirmTimeoutSecs  value to be assigned to property nodeConfirmTimeoutSecs
+     */
+    public void setNodeConfirmTimeoutSecs(int nodeConfirmTimeoutSecs) {
+        this.nodeConfirmTimeoutSecs = nodeConfirmTimeoutSecs;
+    }
+
+    /**
+     * Getter method for property <tt>provideDataChangeHistorySize</tt>.
+     *
+     * @return property value of provideDataChangeHistorySize
+     */
+    @Override
+    public int getProvideDataChangeHistorySize() {
+        return provideDataChangeHistorySize;
+    }
+
+    /**
+     * Setter method for property <tt>provideDataChangeHistorySize</tt>.
+     *
+     * @param provideDataChangeHistorySize  value to be assigned to property provideDataChangeHistorySize
+     */
+    public void setProvideDataChangeHistorySize(int provideDataChangeHistorySize) {
+        this.provideDataChangeHistorySize = provideDataChangeHistorySize;
+    }
+
+    /**
+     * Getter method for property <tt>provideDataWatchMaxTimeoutSecs</tt>.
+     *
+     * @return property value of provideDataWatchMaxTimeoutSecs
+     */
+    @Override
+    public int getProvideDataWatchMaxTimeoutSecs() {
+        return provideDataWatchMaxTimeoutSecs;
+    }
+
+    /**
+     * Setter method for property <tt>provideDataWatchMaxTimeoutSecs</tt>.
+     *
+     * @param provideDataWatchMaxTimeoutSecs  value to be assigned to property provideDataWatchMaxTimeoutSecs
+     */
+    public void setProvideDataWatchMaxTimeoutSecs(int provideDataWatchMaxTimeoutSecs) {
+        this.provideDataWatchMaxTimeoutSecs = provideDataWatchMaxTimeoutSecs;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenterNodesChangeHistorySize</tt>.
+     *
+     * @return property value of dataCenterNodesChangeHistorySize
+     */
+    @Override
+    public int getDataCenterNodesChangeHistorySize() {
+        return dataCenterNodesChangeHistorySize;
+    }
+
+    /**
+     * Setter method for property <tt>dataCenterNodesChangeHistorySize</tt>.
+     *
+     * @param dataCenterNodesChangeHistorySize  value to be assigned to property dataCenterNodesChangeHistorySize
+     */
+    public void setDataCenterNodesChangeHistorySize(int dataCenterNodesChangeHistorySize) {
+        this.dataCenterNodesChangeHistorySize = dataCenterNodesChangeHistorySize;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenterNodesWatchTimeoutSecs</tt>.
+     *
+     * @return property value of dataCenterNodesWatchTimeoutSecs
+     */
+    @Override
+    public int getDataCenterNodesWatchTimeoutSecs() {
+        return dataCenterNodesWatchTimeoutSecs;
+    }
+
+    /**
+     * Setter method for property <tt>dataCenterNodesWatchTimeoutSecs</tt>.
+     *
+     * @param dataCenterNodesWatchTimeoutSecs  value to be assigned to property dataCenterNodesWatchTimeoutSecs
+     */
+    public void setDataCenterNodesWatchTimeoutSecs(int dataCenterNodesWatchTimeoutSecs) {
+        this.dataCenterNodesWatchTimeoutSecs = dataCenterNodesWatchTimeoutSecs;
+    }
+
+    /**
+     * Getter method for property <tt>dataCenterNodesWatchMaxTimeoutSecs</tt>.
+     *
+     * @return property value of dataCenterNodesWatchMaxTimeoutSecs
+     */
+    @Override
+    public int getDataCenterNodesWatchMaxTimeoutSecs() {
+        return dataCenterNodesWatchMaxTimeoutSecs;
+    }
+
+    /**
+     * Setter method for property <tt>dataCenterNodesWatchMaxTimeoutSecs</tt>.
+     *
+     * @param dataCenterNodesWatchMaxTimeoutSecs  value to be assigned to property dataCenterNodesWatchMaxTimeoutSecs
+     */
+    public void setDataCenterNodesWatchMaxTimeoutSecs(int dataCenterNodesWatchMaxTimeoutSecs) {
+        this.dataCenterNodesWatchMaxTimeoutSecs = dataCenterNodesWatchMaxTimeoutSecs;
+    }
+
+    /**
+     * Getter method for property <tt>raftCompactCodec</tt>.
+     *
+     * @return property value of raftCompactCodec
+     */
+    @Override
+    public boolean isRaftCompactCodec() {
+        return raftCompactCodec;
+    }
+
+    /**
+     * Setter method for property <tt>raftCompactCodec</tt>.
+     *
+     * @param raftCompactCodec  value to be assigned to property raftCompactCodec
+     */
+    public void setRaftCompactCodec(boolean raftCompactCodec) {
+        this.raftCompactCodec = raftCompactCodec;
+    }
+
+    /**
+     * Getter method for property <tt>raftTaskBatchWindowMs</tt>.
+     *
+     * @return property value of raftTaskBatchWindowMs
+     */
+    @Override
+    public int getRaftTaskBatchWindowMs() {
+        return raftTaskBatchWindowMs;
+    }
+
+    /**
+     * Setter method for property <tt>raftTaskBatchWindowMs</tt>.
+     *
+     * @param raftTaskBatchWindowMs  value to be assigned to property raftTaskBatchWindowMs
+     */
+    public void setRaftTaskBatchWindowMs(int raftTaskBatchWindowMs) {
+        this.raftTaskBatchWindowMs = raftTaskBatchWindowMs;
+    }
+
+    /**
+     * Getter method for property <tt>raftTaskBatchMaxSize</tt>.
+     *
+     * @return property value of raftTaskBatchMaxSize
+     */
+    @Override
+    public int getRaftTaskBatchMaxSize() {
+        return raftTaskBatchMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>raftTaskBatchMaxSize</tt>.
+     *
+     * @param raftTaskBatchMaxSize  value to be assigned to property raftTaskBatchMaxSize
+     */
+    public void setRaftTaskBatchMaxSize(int raftTaskBatchMaxSize) {
+        this.raftTaskBatchMaxSize = raftTaskBatchMaxSize;
+    }
+}
@@ -47,10 +47,14 @@ import com.alipay.sofa.registry.server.meta.remoting.handler.GetChangeListReques
 import com.alipay.sofa.registry.server.meta.remoting.handler.GetNodesRequestHandler;
 import com.alipay.sofa.registry.server.meta.remoting.handler.ReNewNodesRequestHandler;
 import com.alipay.sofa.registry.server.meta.remoting.handler.SessionNodeHandler;
+import com.alipay.sofa.registry.server.meta.remoting.handler.WatchDataCenterNodesRequestHandler;
+import com.alipay.sofa.registry.server.meta.remoting.handler.WatchProvideDataRequestHandler;
+import com.alipay.sofa.registry.server.meta.repository.DataCenterSyncStatusService;
 import com.alipay.sofa.registry.server.meta.repository.NodeConfirmStatusService;
 import com.alipay.sofa.registry.server.meta.repository.RepositoryService;
 import com.alipay.sofa.registry.server.meta.repository.VersionRepositoryService;
 import com.alipay.sofa.registry.server.meta.repository.annotation.RaftAnnotationBeanPostProcessor;
+import com.alipay.sofa.registry.server.meta.repository.service.DataCenterSyncStatusRepositoryService;
 import com.alipay.sofa.registry.server.meta.repository.service.DataConfirmStatusService;
 import com.alipay.sofa.registry.server.meta.repository.service.DataRepositoryService;
 import com.alipay.sofa.registry.server.meta.repository.service.MetaRepositoryService;
@@ -61,10 +65,14 @@ import com.alipay.sofa.registry.server.meta.resource.DecisionModeResource;
 import com.alipay.sofa.registry.server.meta.resource.HealthResource;
 import com.alipay.sofa.registry.server.meta.resource.MetaDigestResource;
 import com.alipay.sofa.registry.server.meta.resource.MetaStoreResource;
+import com.alipay.sofa.registry.server.meta.resource.MetricsResource;
 import com.alipay.sofa.registry.server.meta.resource.PersistentDataResource;
 import com.alipay.sofa.registry.server.meta.resource.StopPushDataResource;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatchService;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatcher;
 import com.alipay.sofa.registry.server.meta.store.DataStoreService;
 import com.alipay.sofa.registry.server.meta.store.MetaStoreService;
+import com.alipay.sofa.registry.server.meta.store.ProvideDataWatchService;
 import com.alipay.sofa.registry.server.meta.store.SessionStoreService;
 import com.alipay.sofa.registry.server.meta.store.StoreService;
 import com.alipay.sofa.registry.server.meta.task.processor.DataNodeSingleTaskProcessor;
@@ -165,6 +173,16 @@ public class MetaServerConfiguration {
             return new MetaStoreService();
         }
 
+        @Bean
+        public DataCenterNodesWatchService dataCenterNodesWatchService() {
+            return new DataCenterNodesWatchService();
+        }
+
+        @Bean
+        public DataCenterNodesWatcher dataCenterNodesWatcher() {
+            return new DataCenterNodesWatcher();
+        }
+
     }
 
     @Configuration
@@ -199,6 +217,11 @@ public class MetaServerConfiguration {
             return new SessionConfirmStatusService();
         }
 
+        @Bean
+        public DataCenterSyncStatusService dataCenterSyncStatusService() {
+            return new DataCenterSyncStatusRepositoryService();
+        }
+
         @Bean
         public RaftExchanger raftExchanger() {
             return new RaftExchanger();
@@ -231,6 +254,7 @@ public class MetaServerConfiguration {
             list.add(reNewNodesRequestHandler());
             list.add(getNodesRequestHandler());
             list.add(fetchProvideDataRequestHandler());
+            list.add(watchProvideDataRequestHandler());
             return list;
         }
 
@@ -241,6 +265,7 @@ public class MetaServerConfiguration {
             list.add(getNodesRequestHandler());
             list.add(dataNodeHandler());
             list.add(reNewNodesRequestHandler());
+            list.add(watchProvideDataRequestHandler());
             return list;
         }
 
@@ -250,6 +275,7 @@ public class MetaServerConfiguration {
             list.add(metaConnectionHandler());
             list.add(getChangeListRequestHandler());
             list.add(getNodesRequestHandler());
+            list.add(watchDataCenterNodesRequestHandler());
             return list;
         }
 
@@ -298,6 +324,16 @@ public class MetaServerConfiguration {
             return new FetchProvideDataRequestHandler();
         }
 
+        @Bean
+        public AbstractServerHandler watchProvideDataRequestHandler() {
+            return new WatchProvideDataRequestHandler();
+        }
+
+        @Bean
+        public AbstractServerHandler watchDataCenterNodesRequestHandler() {
+            return new WatchDataCenterNodesRequestHandler();
+        }
+
         @Bean
         public NodeExchanger sessionNodeExchanger() {
             return new SessionNodeExchanger();
@@ -358,6 +394,11 @@ public class MetaServerConfiguration {
         public StopPushDataResource stopPushDataResource() {
             return new StopPushDataResource();
         }
+
+        @Bean
+        public MetricsResource metricsResource() {
+            return new MetricsResource();
+        }
     }
 
     @Configuration
@@ -429,8 +470,18 @@ public class MetaServerConfiguration {
     @Configuration
     public static class MetaDBConfiguration {
         @Bean
-        public DBService persistenceDataDBService() {
-            return new PersistenceDataDBService();
+        public DBService persistenceDataDBService(MetaServerConfig metaServerConfig,
+                                                  ProvideDataWatchService provideDataWatchService) {
+            PersistenceDataDBService persistenceDataDBService = new PersistenceDataDBService();
+            persistenceDataDBService.setMaxChanges(metaServerConfig
+                .getProvideDataChangeHistorySize());
+            persistenceDataDBService.setChangeListener(provideDataWatchService::fireChange);
+            return persistenceDataDBService;
+        }
+
+        @Bean
+        public ProvideDataWatchService provideDataWatchService() {
+            return new ProvideDataWatchService();
         }
     }
 }
\ No newline at end of file
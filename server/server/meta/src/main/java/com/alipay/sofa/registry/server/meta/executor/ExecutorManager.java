@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.registry.Registry;
 import com.alipay.sofa.registry.server.meta.remoting.MetaClientExchanger;
 import com.alipay.sofa.registry.server.meta.remoting.RaftExchanger;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatcher;
 import com.alipay.sofa.registry.task.scheduler.TimedSupervisorTask;
 import com.alipay.sofa.registry.util.NamedThreadFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,8 +45,6 @@ public class ExecutorManager {
 
     private ThreadPoolExecutor       checkDataChangeExecutor;
 
-    private ThreadPoolExecutor       getOtherDataCenterChangeExecutor;
-
     private ThreadPoolExecutor       connectMetaServerExecutor;
 
     private ThreadPoolExecutor       checkNodeListChangePushExecutor;
@@ -63,6 +62,9 @@ public class ExecutorManager {
     @Autowired
     private RaftExchanger            raftExchanger;
 
+    @Autowired
+    private DataCenterNodesWatcher   dataCenterNodesWatcher;
+
     /**
      * constructor
      * @param metaServerConfig
@@ -81,10 +83,6 @@ public class ExecutorManager {
         checkDataChangeExecutor = new ThreadPoolExecutor(1, 2, 0, TimeUnit.SECONDS,
             new SynchronousQueue<>(), new NamedThreadFactory("MetaScheduler-CheckDataChange"));
 
-        getOtherDataCenterChangeExecutor = new ThreadPoolExecutor(1, 2, 0, TimeUnit.SECONDS,
-            new SynchronousQueue<>(), new NamedThreadFactory(
-                "MetaScheduler-GetOtherDataCenterChange"));
-
         connectMetaServerExecutor = new ThreadPoolExecutor(1, 2, 0, TimeUnit.SECONDS,
             new SynchronousQueue<>(), new NamedThreadFactory("MetaScheduler-ConnectMetaServer"));
 
@@ -107,14 +105,7 @@ public class ExecutorManager {
                         () -> metaServerRegistry.evict()),
                 metaServerConfig.getSchedulerHeartbeatFirstDelay(), TimeUnit.SECONDS);
 
-        scheduler.schedule(new TimedSupervisorTask("GetOtherDataCenterChange", scheduler,
-                        getOtherDataCenterChangeExecutor, metaServerConfig.getSchedulerGetDataChangeTimeout(),
-                        TimeUnit.SECONDS, metaServerConfig.getSchedulerGetDataChangeExpBackOffBound(),
-                        () -> {
-                            metaServerRegistry.getOtherDataCenterNodeAndUpdate(NodeType.DATA);
-                            metaServerRegistry.getOtherDataCenterNodeAndUpdate(NodeType.META);
-                        }),
-                metaServerConfig.getSchedulerGetDataChangeFirstDelay(), TimeUnit.SECONDS);
+        dataCenterNodesWatcher.start();
 
         scheduler.schedule(
                 new TimedSupervisorTask("ConnectMetaServer", scheduler, connectMetaServerExecutor,
@@ -166,10 +157,7 @@ public class ExecutorManager {
             connectMetaServerExecutor.shutdown();
         }
 
-        if (getOtherDataCenterChangeExecutor != null
-            && !getOtherDataCenterChangeExecutor.isShutdown()) {
-            getOtherDataCenterChangeExecutor.shutdown();
-        }
+        dataCenterNodesWatcher.stop();
 
         if (checkNodeListChangePushExecutor != null) {
             checkNodeListChangePushExecutor.isShutdown();
@@ -17,7 +17,9 @@
 package com.alipay.sofa.registry.server.meta.node;
 
 import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodesChanges;
 import com.alipay.sofa.registry.common.model.metaserver.GetChangeListRequest;
+import com.alipay.sofa.registry.common.model.metaserver.WatchDataCenterNodesRequest;
 
 /**
  *
@@ -27,4 +29,13 @@ import com.alipay.sofa.registry.common.model.metaserver.GetChangeListRequest;
 public interface MetaNodeService extends NodeService {
 
     DataCenterNodes getDataCenterNodes(GetChangeListRequest getChangeListRequest);
+
+    /**
+     * watch node list of other dataCenter, held by meta server of that dataCenter until changed or timeout
+     * @param dataCenter
+     * @param request
+     * @return
+     */
+    DataCenterNodesChanges watchDataCenterNodes(String dataCenter,
+                                                WatchDataCenterNodesRequest request);
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.alipay.sofa.registry.common.model.Node;
 import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  *
@@ -72,6 +73,23 @@ public class NodeOperator<T extends Node> implements Serializable {
         this.nodeOperate = nodeOperate;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NodeOperator)) {
+            return false;
+        }
+        NodeOperator<?> that = (NodeOperator<?>) o;
+        return Objects.equals(node, that.node) && nodeOperate == that.nodeOperate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(node, nodeOperate);
+    }
+
     @Override
     public String toString() {
         return "NodeOperator{" + "node=" + node.getNodeUrl().getAddressString() + ", nodeOperate="
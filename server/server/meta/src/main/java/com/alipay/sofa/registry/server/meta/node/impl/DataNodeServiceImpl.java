@@ -33,6 +33,7 @@ import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
 import com.alipay.sofa.registry.server.meta.node.DataNodeService;
 import com.alipay.sofa.registry.server.meta.remoting.connection.NodeConnectManager;
 import com.alipay.sofa.registry.server.meta.remoting.handler.AbstractServerHandler;
+import com.alipay.sofa.registry.server.meta.store.NodeChangeHistory;
 import com.alipay.sofa.registry.server.meta.store.StoreService;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -82,6 +83,9 @@ public class DataNodeServiceImpl implements DataNodeService {
             DataCenterNodes dataCenterNodes = storeService.getDataCenterNodes();
             Map<String, DataNode> registeredNodes = dataCenterNodes.getNodes();
 
+            StoreService changeStoreService = ServiceFactory.getStoreService(nodeChangeResult
+                .getNodeType());
+
             if (registeredNodes == null || registeredNodes.isEmpty()) {
                 LOGGER.error("Push dataNode list error! No data node registered!");
                 throw new RuntimeException("Push dataNode list error! No data node registered!");
@@ -100,10 +104,13 @@ public class DataNodeServiceImpl implements DataNodeService {
                         }
                     }
 
+                    String ipAddress = address.getAddress().getHostAddress();
+                    NodeChangeResult pushResult = changeStoreService.selectNodeChangeResult(
+                        nodeChangeResult, ipAddress);
                     Request<NodeChangeResult> nodeChangeRequestRequest = new Request<NodeChangeResult>() {
                         @Override
                         public NodeChangeResult getRequestBody() {
-                            return nodeChangeResult;
+                            return pushResult;
                         }
 
                         @Override
@@ -111,16 +118,26 @@ public class DataNodeServiceImpl implements DataNodeService {
                             return new URL(address);
                         }
                     };
-                    LOGGER.info("pushDataNodes sent url {},node type {}", address,
-                        nodeChangeResult.getNodeType());
-                    Response response = dataNodeExchanger.request(nodeChangeRequestRequest);
+                    LOGGER.info(
+                        "pushDataNodes sent url {},node type {},revision {},base revision {}",
+                        address, nodeChangeResult.getNodeType(), pushResult.getRevision(),
+                        pushResult.getBaseRevision());
+                    Response response;
+                    try {
+                        response = dataNodeExchanger.request(nodeChangeRequestRequest);
+                    } catch (RequestException e) {
+                        changeStoreService.confirmNodeChangeResult(ipAddress, null);
+                        throw e;
+                    }
+                    changeStoreService.confirmNodeChangeResult(ipAddress,
+                        NodeChangeHistory.getReceivedRevision(response.getResult()));
 
                     if (confirm) {
                         Object result = response.getResult();
                         if (result instanceof CommonResponse) {
                             CommonResponse genericResponse = (CommonResponse) result;
                             if (genericResponse.isSuccess()) {
-                                confirmStatus(address, confirmNodeIp);
+                                confirmStatus(address, confirmNodeIp, pushResult.getRevision());
                             } else {
                                 LOGGER.error("NodeChange notify get response fail!");
                                 throw new RuntimeException("NodeChange notify get response fail!");
@@ -183,9 +200,9 @@ public class DataNodeServiceImpl implements DataNodeService {
         }
     }
 
-    private void confirmStatus(InetSocketAddress address, String confirmNodeIp) {
+    private void confirmStatus(InetSocketAddress address, String confirmNodeIp, Long revision) {
         String ipAddress = address.getAddress().getHostAddress();
-        dataStoreService.confirmNodeStatus(ipAddress, confirmNodeIp);
+        dataStoreService.confirmNodeStatus(ipAddress, confirmNodeIp, revision);
     }
 
     private NodeConnectManager getNodeConnectManager() {
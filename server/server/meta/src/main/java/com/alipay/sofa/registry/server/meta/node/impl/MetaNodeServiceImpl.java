@@ -18,13 +18,16 @@ package com.alipay.sofa.registry.server.meta.node.impl;
 
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodesChanges;
 import com.alipay.sofa.registry.common.model.metaserver.GetChangeListRequest;
+import com.alipay.sofa.registry.common.model.metaserver.WatchDataCenterNodesRequest;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
 import com.alipay.sofa.registry.remoting.exchange.message.Response;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.node.MetaNodeService;
 import com.alipay.sofa.registry.server.meta.remoting.MetaClientExchanger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +44,9 @@ public class MetaNodeServiceImpl implements MetaNodeService {
     @Autowired
     private MetaClientExchanger metaClientExchanger;
 
+    @Autowired
+    private MetaServerConfig    metaServerConfig;
+
     @Override
     public DataCenterNodes getDataCenterNodes(GetChangeListRequest getChangeListRequest) {
         try {
@@ -75,6 +81,44 @@ public class MetaNodeServiceImpl implements MetaNodeService {
         }
     }
 
+    @Override
+    public DataCenterNodesChanges watchDataCenterNodes(String dataCenter,
+                                                       WatchDataCenterNodesRequest request) {
+        try {
+            Request<WatchDataCenterNodesRequest> watchRequest = new Request<WatchDataCenterNodesRequest>() {
+
+                @Override
+                public WatchDataCenterNodesRequest getRequestBody() {
+                    return request;
+                }
+
+                @Override
+                public URL getRequestUrl() {
+                    return metaClientExchanger.getDataCenterUrl(dataCenter);
+                }
+            };
+
+            //request is held by remote until changed or timeout
+            int timeout = (int) request.getTimeoutMillis()
+                          + metaServerConfig.getMetaNodeExchangeTimeout();
+            Response response = metaClientExchanger.request(watchRequest, timeout);
+            Object result = response.getResult();
+            if (result instanceof DataCenterNodesChanges) {
+                return (DataCenterNodesChanges) result;
+            } else {
+                LOGGER.error("watchDataCenterNodes has not get response or response type illegal!");
+                throw new RuntimeException(
+                    "watchDataCenterNodes has not get response or response type illegal!");
+            }
+
+        } catch (RequestException e) {
+            LOGGER.error("MetaNodeService watch DataCenter Nodes error! " + e.getRequestMessage(),
+                e);
+            throw new RuntimeException("MetaNodeService watch DataCenter Nodes error! "
+                                       + e.getRequestMessage(), e);
+        }
+    }
+
     @Override
     public NodeType getNodeType() {
         return NodeType.META;
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.meta.node.impl;
 
+import com.alipay.sofa.registry.common.model.CommonResponse;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.common.model.metaserver.NotifyProvideDataChange;
@@ -26,11 +27,13 @@ import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
+import com.alipay.sofa.registry.remoting.exchange.message.Response;
 import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
 import com.alipay.sofa.registry.server.meta.node.SessionNodeService;
 import com.alipay.sofa.registry.server.meta.remoting.connection.NodeConnectManager;
 import com.alipay.sofa.registry.server.meta.remoting.handler.AbstractServerHandler;
+import com.alipay.sofa.registry.server.meta.store.NodeChangeHistory;
 import com.alipay.sofa.registry.server.meta.store.StoreService;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -110,7 +113,7 @@ public class SessionNodeServiceImpl implements SessionNodeService {
 
                 //no error confirm receive
                 sessionStoreService.confirmNodeStatus(connection.getAddress().getHostAddress(),
-                    confirmNodeIp);
+                    confirmNodeIp, null);
 
             } catch (RequestException e) {
                 LOGGER.error("Push sessionNode list error! " + e.getRequestMessage(), e);
@@ -140,18 +143,24 @@ public class SessionNodeServiceImpl implements SessionNodeService {
             throw new RuntimeException("Push sessionNode list error! No session node registered!");
         }
 
+        StoreService changeStoreService = ServiceFactory.getStoreService(nodeChangeResult
+            .getNodeType());
+
         for (InetSocketAddress connection : connections) {
 
-            if (!sessionNodes.keySet().contains(connection.getAddress().getHostAddress())) {
+            String ipAddress = connection.getAddress().getHostAddress();
+            if (!sessionNodes.keySet().contains(ipAddress)) {
                 continue;
             }
 
             try {
+                NodeChangeResult pushResult = changeStoreService.selectNodeChangeResult(
+                    nodeChangeResult, ipAddress);
                 Request<NodeChangeResult> nodeChangeRequestRequest = new Request<NodeChangeResult>() {
 
                     @Override
                     public NodeChangeResult getRequestBody() {
-                        return nodeChangeResult;
+                        return pushResult;
                     }
 
                     @Override
@@ -160,9 +169,18 @@ public class SessionNodeServiceImpl implements SessionNodeService {
                     }
                 };
 
-                sessionNodeExchanger.request(nodeChangeRequestRequest);
+                Response response = sessionNodeExchanger.request(nodeChangeRequestRequest);
+                Object result = response.getResult();
+                changeStoreService.confirmNodeChangeResult(ipAddress,
+                    NodeChangeHistory.getReceivedRevision(result));
+                if (result instanceof CommonResponse && !((CommonResponse) result).isSuccess()) {
+                    LOGGER.error("Push dataNode list to session {} fail! {}", ipAddress,
+                        ((CommonResponse) result).getMessage());
+                    throw new RuntimeException("SessionNodeService push dataNode list error!");
+                }
 
             } catch (RequestException e) {
+                changeStoreService.confirmNodeChangeResult(ipAddress, null);
                 LOGGER.error("Push sessionNode list error! " + e.getRequestMessage(), e);
                 throw new RuntimeException("SessionNodeService push dataNode list error!");
             }
@@ -78,12 +78,29 @@ public class MetaServerRegistry implements Registry<Node> {
         storeService.reNew(node, duration);
     }
 
+    @Override
+    public void resetLeases(int graceSecs) {
+        for (NodeType nodeType : NodeType.values()) {
+            StoreService storeService = ServiceFactory.getStoreService(nodeType);
+            if (storeService != null) {
+                storeService.resetLeases(graceSecs);
+            }
+        }
+        LOGGER.info("Reset node leases, grace period {}s", graceSecs);
+    }
+
     @Override
     public void getOtherDataCenterNodeAndUpdate(NodeType nodeType) {
         StoreService storeService = ServiceFactory.getStoreService(nodeType);
         storeService.getOtherDataCenterNodeAndUpdate();
     }
 
+    @Override
+    public void updateOtherDataCenterNodes(DataCenterNodes dataCenterNodes) {
+        StoreService storeService = ServiceFactory.getStoreService(dataCenterNodes.getNodeType());
+        storeService.updateOtherDataCenterNodes(dataCenterNodes);
+    }
+
     @Override
     public DataCenterNodes getDataCenterNodes(NodeType nodeType) {
         StoreService storeService = ServiceFactory.getStoreService(nodeType);
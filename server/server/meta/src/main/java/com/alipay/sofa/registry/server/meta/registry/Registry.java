@@ -64,12 +64,24 @@ public interface Registry<T extends Node> {
      */
     void reNew(T node, int duration);
 
+    /**
+     * reset heartbeat leases when current meta becomes leader
+     * @param graceSecs
+     */
+    void resetLeases(int graceSecs);
+
     /**
      * get other dataCenter Nodes change scheduled
      * @param nodeType
      */
     void getOtherDataCenterNodeAndUpdate(NodeType nodeType);
 
+    /**
+     * update node list of other dataCenter, and push node change result to local nodes
+     * @param dataCenterNodes
+     */
+    void updateOtherDataCenterNodes(DataCenterNodes dataCenterNodes);
+
     /**
      * get DataCenter Nodes list contains version
      * @param nodeType
@@ -69,6 +69,17 @@ public class MetaClientExchanger implements NodeExchanger {
 
     @Override
     public Response request(Request request) throws RequestException {
+        return request(request, metaServerConfig.getMetaNodeExchangeTimeout());
+    }
+
+    /**
+     * request other datacenter's metaServer, wait response until timeout
+     * @param request
+     * @param timeoutMillis
+     * @return
+     * @throws RequestException
+     */
+    public Response request(Request request, int timeoutMillis) throws RequestException {
         Response response;
 
         try {
@@ -88,8 +99,7 @@ public class MetaClientExchanger implements NodeExchanger {
                 channel = metaClient.connect(url);
             }
 
-            final Object result = metaClient.sendSync(channel, request.getRequestBody(),
-                    metaServerConfig.getMetaNodeExchangeTimeout());
+            final Object result = metaClient.sendSync(channel, request.getRequestBody(), timeoutMillis);
             response = () -> result;
         } catch (Exception e) {
             LOGGER.error("MetaClient Exchanger request data error!", e);
@@ -29,6 +29,7 @@ import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftClient;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftServerConfig;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
 import com.alipay.sofa.registry.jraft.processor.FollowerProcessListener;
 import com.alipay.sofa.registry.jraft.processor.LeaderProcessListener;
 import com.alipay.sofa.registry.log.Logger;
@@ -38,6 +39,7 @@ import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
 import com.alipay.sofa.registry.server.meta.executor.ExecutorManager;
 import com.alipay.sofa.registry.server.meta.registry.Registry;
+import com.alipay.sofa.registry.server.meta.repository.RepositoryCodecs;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Collection;
@@ -88,12 +90,16 @@ public class RaftExchanger {
                     metaServerConfig.getRaftServerPort());
                 String serverConf = getServerConfig();
 
+                RepositoryCodecs.register();
+                CommandCodec.setCompactEnabled(metaServerConfig.isRaftCompactCodec());
+
                 raftServer = new RaftServer(metaServerConfig.getRaftDataPath(), getGroup(),
                     serverId, serverConf);
                 raftServer.setLeaderProcessListener(new LeaderProcessListener() {
                     @Override
                     public void startProcess() {
                         LOGGER.info("Start leader process...");
+                        metaServerRegistry.resetLeases(metaServerConfig.getLeaseGracePeriodSecs());
                         executorManager.startScheduler();
                         LOGGER.info("Initialize server scheduler success!");
                         PeerId leader = new PeerId(NetUtil.getLocalAddress().getHostAddress(),
@@ -131,6 +137,8 @@ public class RaftExchanger {
                 RaftServerConfig raftServerConfig = new RaftServerConfig();
                 raftServerConfig.setMetricsLogger(METRICS_LOGGER);
                 raftServerConfig.setEnableMetrics(metaServerConfig.isEnableMetrics());
+                raftServerConfig.setTaskBatchWindowMs(metaServerConfig.getRaftTaskBatchWindowMs());
+                raftServerConfig.setTaskBatchMaxSize(metaServerConfig.getRaftTaskBatchMaxSize());
 
                 raftServer.start(raftServerConfig);
             }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.remoting.handler;
+
+import com.alipay.sofa.registry.common.model.metaserver.WatchDataCenterNodesRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.remoting.bolt.BoltChannel;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Handle other datacenter's meta node's long poll watch of node list, response is sent when node list changed or timeout
+ * @author shangyu.wh
+ * @version $Id: WatchDataCenterNodesRequestHandler.java, v 0.1 2026-10-19 20:50 shangyu.wh Exp $
+ */
+public class WatchDataCenterNodesRequestHandler extends
+                                               AbstractServerHandler<WatchDataCenterNodesRequest> {
+
+    private static final Logger         LOGGER = LoggerFactory.getLogger("META-CONNECT");
+
+    @Autowired
+    private DataCenterNodesWatchService dataCenterNodesWatchService;
+
+    @Override
+    public void received(Channel channel, WatchDataCenterNodesRequest watchRequest) {
+        BoltChannel boltChannel = (BoltChannel) channel;
+        try {
+            dataCenterNodesWatchService.watch(watchRequest, changes -> {
+                if (!changes.isEmpty()) {
+                    LOGGER.info("Node list changed since revision {}, watcher {}, {}",
+                        watchRequest.getRevision(), channel.getRemoteAddress(), changes);
+                }
+                boltChannel.getAsyncContext().sendResponse(changes);
+            });
+        } catch (Exception e) {
+            LOGGER.error("Watch node list {} error!", watchRequest, e);
+            throw new RuntimeException("Watch node list error!", e);
+        }
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    public InvokeType getInvokeType() {
+        return InvokeType.ASYNC;
+    }
+
+    @Override
+    public Class interest() {
+        return WatchDataCenterNodesRequest.class;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.remoting.handler;
+
+import com.alipay.sofa.registry.common.model.metaserver.WatchProvideDataRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.remoting.bolt.BoltChannel;
+import com.alipay.sofa.registry.server.meta.store.ProvideDataWatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Handle session or data node's long poll watch of ProvideData, response is sent when ProvideData changed or timeout
+ * @author shangyu.wh
+ * @version $Id: WatchProvideDataRequestHandler.java, v 0.1 2026-10-19 18:55 shangyu.wh Exp $
+ */
+public class WatchProvideDataRequestHandler extends AbstractServerHandler<WatchProvideDataRequest> {
+
+    private static final Logger     DB_LOGGER = LoggerFactory.getLogger(
+                                                  WatchProvideDataRequestHandler.class,
+                                                  "[DBService]");
+
+    @Autowired
+    private ProvideDataWatchService provideDataWatchService;
+
+    @Override
+    public void received(Channel channel, WatchProvideDataRequest watchProvideDataRequest) {
+        BoltChannel boltChannel = (BoltChannel) channel;
+        try {
+            provideDataWatchService.watch(watchProvideDataRequest, changes -> {
+                if (!changes.isEmpty()) {
+                    DB_LOGGER.info("ProvideData changed since epoch {} revision {}, watcher {}, {}",
+                        watchProvideDataRequest.getEpoch(), watchProvideDataRequest.getRevision(),
+                        channel.getRemoteAddress(), changes);
+                }
+                boltChannel.getAsyncContext().sendResponse(changes);
+            });
+        } catch (Exception e) {
+            DB_LOGGER.error("watch ProvideData {} error!", watchProvideDataRequest, e);
+            throw new RuntimeException("Watch ProvideData error!", e);
+        }
+    }
+
+    @Override
+    public HandlerType getType() {
+        return HandlerType.PROCESSER;
+    }
+
+    @Override
+    public InvokeType getInvokeType() {
+        return InvokeType.ASYNC;
+    }
+
+    @Override
+    public Class interest() {
+        return WatchProvideDataRequest.class;
+    }
+}
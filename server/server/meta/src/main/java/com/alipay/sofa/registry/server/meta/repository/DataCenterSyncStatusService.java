@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.repository;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterSyncStatus;
+import com.alipay.sofa.registry.store.api.annotation.FollowerRead;
+import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
+
+import java.util.Map;
+
+/**
+ * sync status of other dataCenter node list watched by meta leader
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterSyncStatusService.java, v 0.1 2026-10-19 20:30 shangyu.wh Exp $
+ */
+public interface DataCenterSyncStatusService {
+
+    /**
+     * put sync status of dataCenter node list
+     * @param status
+     */
+    void put(DataCenterSyncStatus status);
+
+    /**
+     * get sync status of dataCenter node list
+     * @param dataCenter
+     * @param nodeType
+     * @return null if never synced
+     */
+    @ReadOnLeader
+    @FollowerRead
+    DataCenterSyncStatus get(String dataCenter, NodeType nodeType);
+
+    /**
+     * get sync status of all dataCenter node lists
+     * @return
+     */
+    @ReadOnLeader
+    @FollowerRead
+    Map<String, DataCenterSyncStatus> getAll();
+}
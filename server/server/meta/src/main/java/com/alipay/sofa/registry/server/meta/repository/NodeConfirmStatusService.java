@@ -39,6 +39,12 @@ public interface NodeConfirmStatusService<T extends Node> {
 
     NodeOperator<T> pollConfirmNode() throws InterruptedException;
 
+    /**
+     * remove confirmed operators from queue in batch, only first equal operator is removed for each
+     * @param nodeOperators
+     */
+    void removeConfirmNodes(Collection<NodeOperator<T>> nodeOperators);
+
     @ReadOnLeader
     Queue<NodeOperator> getAllConfirmNodes();
 
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.repository;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeStatus;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
+import com.alipay.sofa.registry.common.model.metaserver.MetaNode;
+import com.alipay.sofa.registry.common.model.metaserver.SessionNode;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.common.model.store.URL.ProtocolType;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.jraft.command.CompactInput;
+import com.alipay.sofa.registry.jraft.command.CompactOutput;
+import com.alipay.sofa.registry.jraft.command.ValueCodec;
+import com.alipay.sofa.registry.server.meta.node.NodeOperator;
+import com.alipay.sofa.registry.server.meta.store.RenewDecorate;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * compact codecs of values kept in meta raft repositories.
+ * tags are part of raft log and snapshot format, never change or reuse them.
+ *
+ * @author shangyu.wh
+ * @version $Id: RepositoryCodecs.java, v 0.1 2026-10-19 16:20 shangyu.wh Exp $
+ */
+public class RepositoryCodecs {
+
+    private static final int TAG_URL             = 32;
+    private static final int TAG_DATA_NODE       = 33;
+    private static final int TAG_SESSION_NODE    = 34;
+    private static final int TAG_META_NODE       = 35;
+    private static final int TAG_RENEW_DECORATE  = 36;
+    private static final int TAG_NODE_REPOSITORY = 37;
+    private static final int TAG_NODE_OPERATOR   = 38;
+
+    /**
+     * register codecs to CommandCodec, must be done before raft log or snapshot loaded
+     */
+    public static void register() {
+        CommandCodec.registerValueCodec(TAG_URL, URL.class, new UrlCodec());
+        CommandCodec.registerValueCodec(TAG_DATA_NODE, DataNode.class, new DataNodeCodec());
+        CommandCodec
+            .registerValueCodec(TAG_SESSION_NODE, SessionNode.class, new SessionNodeCodec());
+        CommandCodec.registerValueCodec(TAG_META_NODE, MetaNode.class, new MetaNodeCodec());
+        CommandCodec.registerValueCodec(TAG_RENEW_DECORATE, RenewDecorate.class,
+            new RenewDecorateCodec());
+        CommandCodec.registerValueCodec(TAG_NODE_REPOSITORY, NodeRepository.class,
+            new NodeRepositoryCodec());
+        CommandCodec.registerValueCodec(TAG_NODE_OPERATOR, NodeOperator.class,
+            new NodeOperatorCodec());
+    }
+
+    private static class UrlCodec implements ValueCodec<URL> {
+        @Override
+        public void encode(CompactOutput out, URL url) throws IOException {
+            out.writeEnum(url.getProtocol());
+            out.writeString(url.getIpAddress());
+            out.writeVarInt(url.getPort());
+            out.writeString(url.getHost());
+            out.writeString(url.getPath());
+            Byte serializerIndex = url.getSerializerIndex();
+            out.writeVarInt(serializerIndex == null ? 0 : (serializerIndex & 0xFF) + 1);
+            out.writeValue(url.getParameters());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public URL decode(CompactInput in) throws IOException {
+            ProtocolType protocol = in.readEnum(ProtocolType.values());
+            String ipAddress = in.readString();
+            int port = in.readVarInt();
+            String host = in.readString();
+            String path = in.readString();
+            int serializerIndex = in.readVarInt();
+            Map<String, String> parameters = (Map<String, String>) in.readValue();
+            return new URL(protocol, ipAddress, port, host, path, serializerIndex == 0 ? null
+                : (byte) (serializerIndex - 1), parameters);
+        }
+    }
+
+    private static class DataNodeCodec implements ValueCodec<DataNode> {
+        @Override
+        public void encode(CompactOutput out, DataNode node) throws IOException {
+            out.writeValue(node.getNodeUrl());
+            out.writeString(node.getDataCenter());
+            out.writeString(node.getRegionId());
+            out.writeEnum(node.getNodeStatus());
+            out.writeVarLong(node.getRegistrationTimestamp());
+        }
+
+        @Override
+        public DataNode decode(CompactInput in) throws IOException {
+            URL url = (URL) in.readValue();
+            String dataCenter = in.readString();
+            DataNode node = new DataNode(url, dataCenter);
+            node.setRegionId(in.readString());
+            node.setNodeStatus(in.readEnum(NodeStatus.values()));
+            node.setRegistrationTimestamp(in.readVarLong());
+            return node;
+        }
+    }
+
+    private static class SessionNodeCodec implements ValueCodec<SessionNode> {
+        @Override
+        public void encode(CompactOutput out, SessionNode node) throws IOException {
+            out.writeValue(node.getNodeUrl());
+            out.writeString(node.getRegionId());
+            out.writeString(node.getName());
+            out.writeEnum(node.getNodeStatus());
+        }
+
+        @Override
+        public SessionNode decode(CompactInput in) throws IOException {
+            URL url = (URL) in.readValue();
+            SessionNode node = new SessionNode(url, in.readString());
+            node.setName(in.readString());
+            node.setNodeStatus(in.readEnum(NodeStatus.values()));
+            return node;
+        }
+    }
+
+    private static class MetaNodeCodec implements ValueCodec<MetaNode> {
+        @Override
+        public void encode(CompactOutput out, MetaNode node) throws IOException {
+            out.writeValue(node.getNodeUrl());
+            out.writeString(node.getDataCenter());
+            out.writeString(node.getName());
+            out.writeString(node.getRegionId());
+            out.writeEnum(node.getNodeStatus());
+        }
+
+        @Override
+        public MetaNode decode(CompactInput in) throws IOException {
+            URL url = (URL) in.readValue();
+            MetaNode node = new MetaNode(url, in.readString());
+            node.setName(in.readString());
+            node.setRegionId(in.readString());
+            node.setNodeStatus(in.readEnum(NodeStatus.values()));
+            return node;
+        }
+    }
+
+    private static class RenewDecorateCodec implements ValueCodec<RenewDecorate> {
+        @Override
+        public void encode(CompactOutput out, RenewDecorate decorate) throws IOException {
+            out.writeValue(decorate.getRenewal());
+            out.writeVarLong(decorate.getBeginTimestamp());
+            //last update is close to begin, delta takes a few bytes
+            out.writeZigZagLong(decorate.getLastUpdateTimestamp() - decorate.getBeginTimestamp());
+            out.writeVarLong(decorate.getDuration());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RenewDecorate decode(CompactInput in) throws IOException {
+            Object renewal = in.readValue();
+            long beginTimestamp = in.readVarLong();
+            long lastUpdateTimestamp = beginTimestamp + in.readZigZagLong();
+            return new RenewDecorate(renewal, beginTimestamp, lastUpdateTimestamp, in.readVarLong());
+        }
+    }
+
+    private static class NodeRepositoryCodec implements ValueCodec<NodeRepository> {
+        @Override
+        public void encode(CompactOutput out, NodeRepository repository) throws IOException {
+            out.writeString(repository.getDataCenter());
+            out.writeValue(repository.getNodeMap());
+            out.writeValue(repository.getVersion());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public NodeRepository decode(CompactInput in) throws IOException {
+            String dataCenter = in.readString();
+            Map<String, RenewDecorate<Node>> nodeMap = (Map<String, RenewDecorate<Node>>) in
+                .readValue();
+            return new NodeRepository(dataCenter, nodeMap, (Long) in.readValue());
+        }
+    }
+
+    private static class NodeOperatorCodec implements ValueCodec<NodeOperator> {
+        @Override
+        public void encode(CompactOutput out, NodeOperator operator) throws IOException {
+            out.writeValue(operator.getNode());
+            out.writeEnum(operator.getNodeOperate());
+        }
+
+        @Override
+        public NodeOperator decode(CompactInput in) throws IOException {
+            Node node = (Node) in.readValue();
+            return new NodeOperator<>(node, in.readEnum(DataOperator.values()));
+        }
+    }
+}
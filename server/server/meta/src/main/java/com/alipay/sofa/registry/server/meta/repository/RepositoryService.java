@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.meta.repository;
 
+import com.alipay.sofa.registry.store.api.annotation.FollowerRead;
 import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
 
 import java.util.Map;
@@ -34,15 +35,19 @@ public interface RepositoryService<K, V> {
     V replace(K key, V value);
 
     @ReadOnLeader
+    @FollowerRead
     V get(Object key);
 
     @ReadOnLeader
+    @FollowerRead
     Map<K, V> getAllData();
 
     @ReadOnLeader
+    @FollowerRead
     Map<String, Map<K, V>> getAllDataMap();
 
     @ReadOnLeader
+    @FollowerRead
     Map<String, NodeRepository> getNodeRepositories();
 
     Map<K, V> replaceAll(String dataCenter, Map<K, V> map, Long version);
@@ -51,5 +56,6 @@ public interface RepositoryService<K, V> {
     boolean checkVersion(K key, Long version);
 
     @ReadOnLeader
+    @FollowerRead
     Long getVersion(K key);
 }
\ No newline at end of file
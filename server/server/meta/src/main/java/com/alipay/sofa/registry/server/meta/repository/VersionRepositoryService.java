@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.meta.repository;
 
+import com.alipay.sofa.registry.store.api.annotation.FollowerRead;
 import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
 
 /**
@@ -34,5 +35,6 @@ public interface VersionRepositoryService<K> {
     boolean checkAndUpdateVersions(K key, Long version);
 
     @ReadOnLeader
+    @FollowerRead
     Long getVersion(K key);
 }
\ No newline at end of file
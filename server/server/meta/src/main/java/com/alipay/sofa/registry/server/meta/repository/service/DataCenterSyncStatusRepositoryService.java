@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.repository.service;
+
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterSyncStatus;
+import com.alipay.sofa.registry.jraft.processor.AbstractSnapshotProcess;
+import com.alipay.sofa.registry.jraft.processor.SnapshotProcess;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.repository.DataCenterSyncStatusService;
+import com.alipay.sofa.registry.store.api.annotation.RaftService;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterSyncStatusRepositoryService.java, v 0.1 2026-10-19 20:30 shangyu.wh Exp $
+ */
+@RaftService(uniqueId = "metaServer")
+public class DataCenterSyncStatusRepositoryService extends AbstractSnapshotProcess implements
+                                                                                  DataCenterSyncStatusService {
+
+    private static final Logger                             LOGGER            = LoggerFactory
+                                                                                  .getLogger(DataCenterSyncStatusRepositoryService.class);
+
+    /**
+     * sync status keyed by dataCenter and nodeType
+     */
+    private ConcurrentHashMap<String, DataCenterSyncStatus> statuses          = new ConcurrentHashMap<>();
+
+    private Set<String>                                     snapShotFileNames = new HashSet<>();
+
+    /**
+     * constructor
+     */
+    public DataCenterSyncStatusRepositoryService() {
+    }
+
+    /**
+     * constructor
+     * @param statuses
+     */
+    public DataCenterSyncStatusRepositoryService(ConcurrentHashMap<String, DataCenterSyncStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    @Override
+    public SnapshotProcess copy() {
+        return new DataCenterSyncStatusRepositoryService(new ConcurrentHashMap<>(statuses));
+    }
+
+    @Override
+    public void put(DataCenterSyncStatus status) {
+        statuses
+            .put(DataCenterSyncStatus.key(status.getDataCenter(), status.getNodeType()), status);
+    }
+
+    @Override
+    public DataCenterSyncStatus get(String dataCenter, NodeType nodeType) {
+        return statuses.get(DataCenterSyncStatus.key(dataCenter, nodeType));
+    }
+
+    @Override
+    public Map<String, DataCenterSyncStatus> getAll() {
+        return new HashMap<>(statuses);
+    }
+
+    @Override
+    public boolean save(String path) {
+        return save(path, statuses);
+    }
+
+    @Override
+    public synchronized boolean load(String path) {
+        try {
+            ConcurrentHashMap<String, DataCenterSyncStatus> map = load(path, statuses.getClass());
+            statuses.clear();
+            statuses.putAll(map);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Load dataCenter sync status data error!", e);
+            return false;
+        }
+    }
+
+    @Override
+    public Set<String> getSnapshotFileNames() {
+        if (!snapShotFileNames.isEmpty()) {
+            return snapShotFileNames;
+        }
+        snapShotFileNames.add(this.getClass().getSimpleName());
+        return snapShotFileNames;
+    }
+
+    @Override
+    public boolean isSnapshotOptional() {
+        //snapshots saved before dataCenter sync status kept by raft have no such file
+        return true;
+    }
+}
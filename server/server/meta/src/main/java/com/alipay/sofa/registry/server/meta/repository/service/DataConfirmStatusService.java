@@ -105,6 +105,13 @@ public class DataConfirmStatusService extends AbstractSnapshotProcess
         return expectNodesOrders.poll(1, TimeUnit.SECONDS);
     }
 
+    @Override
+    public void removeConfirmNodes(Collection<NodeOperator<DataNode>> nodeOperators) {
+        nodeOperators.forEach(expectNodesOrders::remove);
+        LOGGER.info("Remove confirmed operators:{}, remain size:{}", nodeOperators,
+            expectNodesOrders.size());
+    }
+
     @Override
     public Queue<NodeOperator> getAllConfirmNodes() {
         return expectNodesOrders;
@@ -113,16 +120,18 @@ public class DataConfirmStatusService extends AbstractSnapshotProcess
     @Override
     public Map<String, DataNode> putExpectNodes(DataNode confirmNode, Map<String, DataNode> addNodes) {
         expectNodes.put(confirmNode, addNodes);
-        LOGGER.info("Put ExpectNodes: expect be confirm {} expectNodes all {}",
-            confirmNode.getIp(), expectNodes);
+        LOGGER.info("Put ExpectNodes: expect be confirm {} expect ips {}", confirmNode.getIp(),
+            addNodes.keySet());
         return addNodes;
     }
 
     @Override
     public Map<String, DataNode> getExpectNodes(DataNode confirmNode) {
         Map<String, DataNode> map = expectNodes.get(confirmNode);
-        LOGGER.info("Get ExpectNodes:{} node:{} expect be confirm. expectNodes all {}", map,
-            confirmNode.getIp(), expectNodes);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Get ExpectNodes:{} node:{} expect be confirm.",
+                map == null ? null : map.keySet(), confirmNode.getIp());
+        }
         return map;
     }
 
@@ -141,7 +150,8 @@ public class DataConfirmStatusService extends AbstractSnapshotProcess
         } else {
             LOGGER.warn("Get Expect confirmNode {} not existed!", confirmNode);
         }
-        LOGGER.info("Remove expect confirmNode:{} remove ips:{}. return all {}", confirmNode.getIp(), ips, map);
+        LOGGER.info("Remove expect confirmNode:{} remove ips:{}. remain size {}", confirmNode.getIp(), ips,
+                map == null ? 0 : map.size());
         return map;
     }
 
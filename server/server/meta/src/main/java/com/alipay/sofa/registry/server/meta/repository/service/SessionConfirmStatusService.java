@@ -105,6 +105,13 @@ public class SessionConfirmStatusService extends AbstractSnapshotProcess
         return expectNodesOrders.poll(1, TimeUnit.SECONDS);
     }
 
+    @Override
+    public void removeConfirmNodes(Collection<NodeOperator<SessionNode>> nodeOperators) {
+        nodeOperators.forEach(expectNodesOrders::remove);
+        LOGGER.info("Remove confirmed operators:{}, remain size:{}", nodeOperators,
+            expectNodesOrders.size());
+    }
+
     @Override
     public Queue<NodeOperator> getAllConfirmNodes() {
         return expectNodesOrders;
@@ -19,10 +19,12 @@ package com.alipay.sofa.registry.server.meta.resource;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.console.PersistenceData;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterSyncStatus;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.meta.registry.Registry;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatcher;
 import com.alipay.sofa.registry.store.api.DBResponse;
 import com.alipay.sofa.registry.store.api.DBService;
 import com.alipay.sofa.registry.store.api.OperationStatus;
@@ -45,17 +47,20 @@ import java.util.Map;
 @Path("digest")
 public class MetaDigestResource {
 
-    private static final Logger TASK_LOGGER = LoggerFactory.getLogger(MetaDigestResource.class,
-                                                "[Resource]");
+    private static final Logger    TASK_LOGGER = LoggerFactory.getLogger(MetaDigestResource.class,
+                                                   "[Resource]");
 
-    private static final Logger DB_LOGGER   = LoggerFactory.getLogger(MetaDigestResource.class,
-                                                "[DBService]");
+    private static final Logger    DB_LOGGER   = LoggerFactory.getLogger(MetaDigestResource.class,
+                                                   "[DBService]");
 
     @Autowired
-    private Registry            metaServerRegistry;
+    private Registry               metaServerRegistry;
 
     @RaftReference
-    private DBService           persistenceDataDBService;
+    private DBService              persistenceDataDBService;
+
+    @Autowired
+    private DataCenterNodesWatcher dataCenterNodesWatcher;
 
     @GET
     @Path("{type}/node/query")
@@ -71,6 +76,21 @@ public class MetaDigestResource {
         }
     }
 
+    /**
+     * sync status of other dataCenter node lists, stalenessMillis is time since last confirmed with remote
+     */
+    @GET
+    @Path("dataCenter/sync/query")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, DataCenterSyncStatus> getDataCenterSyncStatus() {
+        try {
+            return dataCenterNodesWatcher.getSyncStatuses();
+        } catch (Exception e) {
+            TASK_LOGGER.error("Fail get dataCenter sync status!", e);
+            throw new RuntimeException("Fail get dataCenter sync status!", e);
+        }
+    }
+
     /**
      * return true mean push switch on
      */
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodesChanges;
+import com.alipay.sofa.registry.common.model.metaserver.WatchDataCenterNodesRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
+import com.alipay.sofa.registry.server.meta.registry.Registry;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * long poll watch of local dataCenter node list, requested by meta leader of other dataCenters.
+ * every change of node list gets a new revision, watch request is answered with changes since its revision,
+ * or full node list if its epoch is not current one or its revision is too old to be kept.
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterNodesWatchService.java, v 0.1 2026-10-19 20:40 shangyu.wh Exp $
+ */
+public class DataCenterNodesWatchService {
+
+    private static final Logger              LOGGER                = LoggerFactory
+                                                                       .getLogger("META-CONNECT");
+
+    private static final long                CHECK_INTERVAL_MILLIS = 1000;
+
+    @Autowired
+    private Registry                         metaServerRegistry;
+
+    @Autowired
+    private MetaServerConfig                 metaServerConfig;
+
+    /**
+     * revisions are counted by this instance only, watchers of other epoch get full node list
+     */
+    private final String                     epoch                 = UUID.randomUUID().toString();
+
+    private final Map<NodeType, NodesStream> streams               = new ConcurrentHashMap<>();
+
+    private final Set<Watch>                 pending               = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService   executor;
+
+    public DataCenterNodesWatchService() {
+        this.executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory(
+            "DataCenterNodesWatch", true));
+        this.executor.scheduleWithFixedDelay(this::checkPending, CHECK_INTERVAL_MILLIS,
+            CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * watch local node list changed after revision of request
+     * @param request
+     * @param callback receive changes, or empty changes if timeout
+     */
+    public void watch(WatchDataCenterNodesRequest request,
+                      Consumer<DataCenterNodesChanges> callback) {
+        Watch watch = new Watch(request, callback);
+        //hold it before query, change after query never be missed
+        pending.add(watch);
+        DataCenterNodesChanges changes;
+        try {
+            changes = getChanges(request.getNodeType(), request.getEpoch(), request.getRevision());
+        } catch (RuntimeException e) {
+            pending.remove(watch);
+            throw e;
+        }
+        if (!changes.isEmpty()) {
+            complete(watch, changes);
+            return;
+        }
+        long timeoutMillis = Math.min(request.getTimeoutMillis(),
+            TimeUnit.SECONDS.toMillis(metaServerConfig.getDataCenterNodesWatchMaxTimeoutSecs()));
+        executor.schedule(() -> complete(watch, changes), timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * local node list may be changed, answer pending watch requests.
+     * called by store services after local node list changed,
+     * pending watch requests are also checked every second for changes not fired
+     */
+    public void fireChange() {
+        executor.execute(this::checkPending);
+    }
+
+    /**
+     * get local node list changed after revision
+     * @param nodeType
+     * @param epoch epoch of revision, null if watcher got nothing
+     * @param revision
+     * @return
+     */
+    public DataCenterNodesChanges getChanges(NodeType nodeType, String epoch, long revision) {
+        NodesStream stream = streams.computeIfAbsent(nodeType, k -> new NodesStream());
+        DataCenterNodes dataCenterNodes = metaServerRegistry.getDataCenterNodes(nodeType);
+        synchronized (stream) {
+            stream.record(dataCenterNodes, metaServerConfig.getDataCenterNodesChangeHistorySize());
+            if (this.epoch.equals(epoch) && revision <= stream.revision) {
+                DataCenterNodesChanges changes = stream.since(nodeType, dataCenterNodes
+                    .getDataCenterId(), this.epoch, revision);
+                if (changes != null) {
+                    return changes;
+                }
+            }
+            DataCenterNodesChanges changes = new DataCenterNodesChanges(nodeType,
+                dataCenterNodes.getDataCenterId(), this.epoch, revision, stream.revision, true);
+            changes.setVersion(stream.version);
+            changes.setChangedNodes(new HashMap<>(stream.nodes));
+            changes.setRemovedNodes(new HashSet<>());
+            return changes;
+        }
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * number of watch requests held
+     * @return
+     */
+    public int getPendingSize() {
+        return pending.size();
+    }
+
+    private void checkPending() {
+        for (Watch watch : pending) {
+            try {
+                DataCenterNodesChanges changes = getChanges(watch.request.getNodeType(),
+                    watch.request.getEpoch(), watch.request.getRevision());
+                if (!changes.isEmpty()) {
+                    complete(watch, changes);
+                }
+            } catch (Throwable e) {
+                LOGGER.error("Answer dataCenter nodes watch {} error!", watch.request, e);
+            }
+        }
+    }
+
+    private void complete(Watch watch, DataCenterNodesChanges changes) {
+        if (!pending.remove(watch)) {
+            return;
+        }
+        try {
+            watch.callback.accept(changes);
+        } catch (Throwable e) {
+            LOGGER.error("Reply dataCenter nodes watch {} error!", watch.request, e);
+        }
+    }
+
+    private static class NodesStream {
+        private final LinkedList<Change> changes  = new LinkedList<>();
+
+        private Map<String, Node>        nodes;
+
+        private Long                     version;
+
+        private long                     revision = 1;
+
+        private void record(DataCenterNodes dataCenterNodes, int capacity) {
+            Map<String, Node> current = dataCenterNodes.getNodes() == null ? new HashMap<>()
+                : new HashMap<>(dataCenterNodes.getNodes());
+            version = dataCenterNodes.getVersion();
+            if (nodes == null) {
+                nodes = current;
+                return;
+            }
+            Change change = new Change();
+            current.forEach((ip, node) -> {
+                if (!node.equals(nodes.get(ip))) {
+                    change.changedNodes.put(ip, node);
+                }
+            });
+            nodes.keySet().stream().filter(ip -> !current.containsKey(ip))
+                .forEach(change.removedNodes::add);
+            if (change.changedNodes.isEmpty() && change.removedNodes.isEmpty()) {
+                return;
+            }
+            change.baseRevision = revision;
+            change.revision = ++revision;
+            changes.addLast(change);
+            while (changes.size() > capacity) {
+                changes.removeFirst();
+            }
+            nodes = current;
+        }
+
+        private DataCenterNodesChanges since(NodeType nodeType, String dataCenter, String epoch,
+                                             long baseRevision) {
+            Map<String, Node> changedNodes = new HashMap<>();
+            Set<String> removedNodes = new HashSet<>();
+            if (baseRevision < revision) {
+                Change last = null;
+                for (Change change : changes) {
+                    if (last == null && change.baseRevision != baseRevision) {
+                        continue;
+                    }
+                    change.changedNodes.forEach((ip, node) -> {
+                        changedNodes.put(ip, node);
+                        removedNodes.remove(ip);
+                    });
+                    change.removedNodes.forEach(ip -> {
+                        changedNodes.remove(ip);
+                        removedNodes.add(ip);
+                    });
+                    last = change;
+                }
+                if (last == null || last.revision != revision) {
+                    //watcher is too far behind
+                    return null;
+                }
+            }
+            DataCenterNodesChanges ret = new DataCenterNodesChanges(nodeType, dataCenter, epoch,
+                baseRevision, revision, false);
+            ret.setVersion(version);
+            ret.setChangedNodes(changedNodes);
+            ret.setRemovedNodes(removedNodes);
+            return ret;
+        }
+    }
+
+    private static class Change {
+        private long              baseRevision;
+        private long              revision;
+        private Map<String, Node> changedNodes = new HashMap<>();
+        private Set<String>       removedNodes = new HashSet<>();
+    }
+
+    private static class Watch {
+        private final WatchDataCenterNodesRequest      request;
+        private final Consumer<DataCenterNodesChanges> callback;
+
+        private Watch(WatchDataCenterNodesRequest request, Consumer<DataCenterNodesChanges> callback) {
+            this.request = request;
+            this.callback = callback;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodesChanges;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterSyncStatus;
+import com.alipay.sofa.registry.common.model.metaserver.GetChangeListRequest;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+import com.alipay.sofa.registry.common.model.metaserver.WatchDataCenterNodesRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
+import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
+import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
+import com.alipay.sofa.registry.server.meta.node.MetaNodeService;
+import com.alipay.sofa.registry.server.meta.registry.Registry;
+import com.alipay.sofa.registry.server.meta.repository.DataCenterSyncStatusService;
+import com.alipay.sofa.registry.store.api.annotation.RaftReference;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * meta leader watches node lists of other dataCenters, one long poll stream for every dataCenter and node type.
+ * stream resumes from epoch and revision kept by raft after disconnected or leader changed,
+ * so only changes since last sync are transferred. remote dataCenter not support watch is fetched in full.
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterNodesWatcher.java, v 0.1 2026-10-19 21:00 shangyu.wh Exp $
+ */
+public class DataCenterNodesWatcher {
+
+    private static final Logger                 LOGGER             = LoggerFactory
+                                                                       .getLogger("META-CONNECT");
+
+    private static final long                   MIN_BACKOFF_MILLIS = 1000;
+
+    private static final long                   MAX_BACKOFF_MILLIS = 30000;
+
+    private static final NodeType[]             WATCH_NODE_TYPES   = { NodeType.DATA, NodeType.META };
+
+    @Autowired
+    private Registry                            metaServerRegistry;
+
+    @Autowired
+    private MetaServerConfig                    metaServerConfig;
+
+    @Autowired
+    private NodeConfig                          nodeConfig;
+
+    @RaftReference(uniqueId = "metaServer")
+    private DataCenterSyncStatusService         dataCenterSyncStatusService;
+
+    private final Map<String, DataCenterStream> streams            = new ConcurrentHashMap<>();
+
+    private volatile ExecutorService            executor;
+
+    /**
+     * start watching all other dataCenters, called when current meta becomes leader
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newCachedThreadPool(new NamedThreadFactory("DataCenterNodesWatcher",
+            true));
+        for (String dataCenter : nodeConfig.getMetaNodeIP().keySet()) {
+            if (nodeConfig.getLocalDataCenter().equals(dataCenter)) {
+                continue;
+            }
+            for (NodeType nodeType : WATCH_NODE_TYPES) {
+                ExecutorService current = executor;
+                current.execute(() -> watchLoop(current, dataCenter, nodeType));
+            }
+        }
+    }
+
+    /**
+     * stop watching, called when current meta is not leader any more
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        streams.clear();
+    }
+
+    /**
+     * watch node list of dataCenter once, block until changes answered or timeout
+     * @param dataCenter
+     * @param nodeType
+     * @return false if remote not answer watch and node list is fetched in full
+     */
+    public boolean sync(String dataCenter, NodeType nodeType) {
+        String key = DataCenterSyncStatus.key(dataCenter, nodeType);
+        DataCenterStream stream = streams.computeIfAbsent(key, k -> new DataCenterStream(
+            dataCenter, nodeType));
+        synchronized (stream) {
+            if (!stream.resumed) {
+                resume(stream);
+            }
+            MetaNodeService metaNodeService = (MetaNodeService) ServiceFactory
+                .getNodeService(NodeType.META);
+            DataCenterNodesChanges changes;
+            try {
+                changes = metaNodeService.watchDataCenterNodes(dataCenter,
+                    new WatchDataCenterNodesRequest(nodeType, stream.epoch, stream.revision,
+                        TimeUnit.SECONDS.toMillis(metaServerConfig
+                            .getDataCenterNodesWatchTimeoutSecs())));
+            } catch (Throwable e) {
+                if (streams.get(key) != stream) {
+                    return false;
+                }
+                LOGGER.error("Watch dataCenter {} {} nodes error, fetch all nodes instead!",
+                    dataCenter, nodeType, e);
+                //remote dataCenter may run former version without watch
+                DataCenterNodes dataCenterNodes = metaNodeService
+                    .getDataCenterNodes(new GetChangeListRequest(nodeType, dataCenter));
+                if (streams.get(key) != stream) {
+                    return false;
+                }
+                Map<String, Node> nodes = dataCenterNodes.getNodes();
+                apply(stream, nodes == null ? new HashMap<>() : new HashMap<>(nodes),
+                    dataCenterNodes.getVersion(), null, 0);
+                return false;
+            }
+            if (streams.get(key) != stream) {
+                //stopped while watching, current meta may not be leader any more
+                return true;
+            }
+            apply(stream, changes);
+            return true;
+        }
+    }
+
+    /**
+     * get sync status kept by raft
+     * @return
+     */
+    public Map<String, DataCenterSyncStatus> getSyncStatuses() {
+        return dataCenterSyncStatusService.getAll();
+    }
+
+    private void watchLoop(ExecutorService current, String dataCenter, NodeType nodeType) {
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (!current.isShutdown()) {
+            try {
+                if (sync(dataCenter, nodeType)) {
+                    backoff = MIN_BACKOFF_MILLIS;
+                    continue;
+                }
+            } catch (Throwable e) {
+                LOGGER.error("Sync dataCenter {} {} nodes error!", dataCenter, nodeType, e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoff);
+            } catch (InterruptedException e) {
+                break;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+        LOGGER.info("Stop watching dataCenter {} {} nodes", dataCenter, nodeType);
+    }
+
+    private void resume(DataCenterStream stream) {
+        NodeChangeResult nodeChangeResult = metaServerRegistry.getAllNodes(stream.nodeType);
+        Map<String, Map<String, Node>> allNodes = nodeChangeResult.getNodes();
+        Map<String, Long> versions = nodeChangeResult.getDataCenterListVersions();
+        Map<String, Node> nodes = allNodes == null ? null : allNodes.get(stream.dataCenter);
+        stream.nodes = nodes == null ? new HashMap<>() : new HashMap<>(nodes);
+        stream.version = versions == null ? null : versions.get(stream.dataCenter);
+
+        DataCenterSyncStatus status = dataCenterSyncStatusService.get(stream.dataCenter,
+            stream.nodeType);
+        //node list may be updated after status kept, resume only if it is same as status
+        if (status != null && status.getVersion() != null
+            && status.getVersion().equals(stream.version)) {
+            stream.epoch = status.getEpoch();
+            stream.revision = status.getRevision();
+        }
+        stream.resumed = true;
+        LOGGER.info("Resume watching dataCenter {} {} nodes from {}, version {}",
+            stream.dataCenter, stream.nodeType, status, stream.version);
+    }
+
+    private void apply(DataCenterStream stream, DataCenterNodesChanges<Node> changes) {
+        if (!changes.isFull()
+            && (!Objects.equals(changes.getEpoch(), stream.epoch) || changes.getBaseRevision() != stream.revision)) {
+            LOGGER.warn("Changes of dataCenter {} {} not match revision {}:{}, resync all nodes!",
+                stream.dataCenter, stream.nodeType, stream.epoch, stream.revision);
+            stream.epoch = null;
+            stream.revision = 0;
+            return;
+        }
+        Map<String, Node> nodes;
+        if (changes.isFull()) {
+            nodes = new HashMap<>(changes.getChangedNodes());
+        } else {
+            nodes = new HashMap<>(stream.nodes);
+            if (changes.getChangedNodes() != null) {
+                nodes.putAll(changes.getChangedNodes());
+            }
+            if (changes.getRemovedNodes() != null) {
+                changes.getRemovedNodes().forEach(nodes::remove);
+            }
+        }
+        apply(stream, nodes, changes.getVersion(), changes.getEpoch(), changes.getRevision());
+    }
+
+    private void apply(DataCenterStream stream, Map<String, Node> nodes, Long remoteVersion,
+                       String epoch, long revision) {
+        if (stream.version == null || !nodes.equals(stream.nodes)) {
+            long version;
+            if (remoteVersion == null) {
+                version = System.currentTimeMillis();
+            } else if (stream.version == null || remoteVersion > stream.version) {
+                version = remoteVersion;
+            } else {
+                //versions differ between remote meta nodes, keep local version increasing
+                version = stream.version + 1;
+            }
+            DataCenterNodes dataCenterNodes = new DataCenterNodes(stream.nodeType, version,
+                stream.dataCenter);
+            dataCenterNodes.setNodes(new ConcurrentHashMap<>(nodes));
+            metaServerRegistry.updateOtherDataCenterNodes(dataCenterNodes);
+            stream.nodes = nodes;
+            stream.version = version;
+        }
+        stream.epoch = epoch;
+        stream.revision = revision;
+        //node list is updated before status kept, changes since status are never lost
+        dataCenterSyncStatusService.put(new DataCenterSyncStatus(stream.dataCenter,
+            stream.nodeType, epoch, revision, stream.version, nodes.size(), System
+                .currentTimeMillis()));
+    }
+
+    private static class DataCenterStream {
+        private final String      dataCenter;
+        private final NodeType    nodeType;
+        private boolean           resumed;
+        private String            epoch;
+        private long              revision;
+        private Long              version;
+        private Map<String, Node> nodes;
+
+        private DataCenterStream(String dataCenter, NodeType nodeType) {
+            this.dataCenter = dataCenter;
+            this.nodeType = nodeType;
+        }
+    }
+}
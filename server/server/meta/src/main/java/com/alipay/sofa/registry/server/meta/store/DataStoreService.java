@@ -22,8 +22,10 @@ import com.alipay.sofa.registry.common.model.metaserver.DataNode;
 import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
 import com.alipay.sofa.registry.common.model.metaserver.GetChangeListRequest;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
 import com.alipay.sofa.registry.server.meta.node.MetaNodeService;
@@ -41,15 +43,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
 
 /**
  *
@@ -87,6 +87,27 @@ public class DataStoreService implements StoreService<DataNode> {
 
     private static final long                                  COMPARE_TIME_COST          = 1000L;
 
+    /**
+     * heartbeat lease of local dataCenter data nodes, only used on leader
+     */
+    private final NodeLeaseTable                               leaseTable                 = new NodeLeaseTable();
+
+    /**
+     * node list changes pushed to data and session nodes, only used on leader
+     */
+    private final NodeChangeHistory<DataNode>                  changeHistory              = new NodeChangeHistory<>();
+
+    /**
+     * confirm status of node operators, only used on leader
+     */
+    private final NodeConfirmTracker<DataNode>                 confirmTracker             = new NodeConfirmTracker<>();
+
+    @Autowired
+    private MetaServerConfig                                   metaServerConfig;
+
+    @Autowired
+    private DataCenterNodesWatchService                        dataCenterNodesWatchService;
+
     @Override
     public NodeType getNodeType() {
         return NodeType.DATA;
@@ -116,6 +137,8 @@ public class DataStoreService implements StoreService<DataNode> {
 
             dataConfirmStatusService.putConfirmNode(dataNode, DataOperator.ADD);
 
+            dataCenterNodesWatchService.fireChange();
+
         } finally {
             write.unlock();
         }
@@ -133,9 +156,13 @@ public class DataStoreService implements StoreService<DataNode> {
         try {
 
             RenewDecorate<DataNode> dataNode = dataRepositoryService.remove(ipAddress);
+            leaseTable.remove(ipAddress);
+            //removed node gets full node list if registered again
+            changeHistory.confirm(ipAddress, null);
             if (dataNode != null) {
 
                 dataConfirmStatusService.putConfirmNode(dataNode.getRenewal(), DataOperator.REMOVE);
+                dataCenterNodesWatchService.fireChange();
 
                 LOGGER.info("Remove single node {} success!", dataNode.getRenewal());
                 return true;
@@ -156,9 +183,12 @@ public class DataStoreService implements StoreService<DataNode> {
                     String ipAddress = dataNode.getNodeUrl().getIpAddress();
                     RenewDecorate<DataNode> dataNodeRemove = dataRepositoryService
                         .remove(ipAddress);
+                    leaseTable.remove(ipAddress);
+                    changeHistory.confirm(ipAddress, null);
                     if (dataNodeRemove != null) {
 
                         dataConfirmStatusService.putConfirmNode(dataNode, DataOperator.REMOVE);
+                        dataCenterNodesWatchService.fireChange();
 
                         LOGGER.info("Remove node {} success!", dataNodeRemove.getRenewal());
                     }
@@ -176,20 +206,20 @@ public class DataStoreService implements StoreService<DataNode> {
         write.lock();
         try {
             String ipAddress = dataNode.getNodeUrl().getIpAddress();
-            RenewDecorate reNewer = dataRepositoryService.get(ipAddress);
+            RenewDecorate<DataNode> reNewer = dataRepositoryService.get(ipAddress);
+            int durationSecs = duration > 0 ? duration : RenewDecorate.DEFAULT_DURATION_SECS;
 
             if (reNewer == null) {
                 LOGGER.warn("Renew Data node with ipAddress:" + ipAddress
                             + " has not existed!It will be registered again!");
                 addNode(dataNode);
+            } else if (ServiceStateMachine.getInstance().isLeader()
+                       && dataNode.equals(reNewer.getRenewal())) {
+                //node not changed, just refresh lease on leader without raft log
+                leaseTable.renew(ipAddress, durationSecs);
             } else {
-                if (duration > 0) {
-                    dataRepositoryService.replace(ipAddress, new RenewDecorate(dataNode, duration));
-                } else {
-                    dataRepositoryService.replace(ipAddress, new RenewDecorate(dataNode,
-                        RenewDecorate.DEFAULT_DURATION_SECS));
-                }
-
+                dataRepositoryService.replace(ipAddress, new RenewDecorate(dataNode, durationSecs));
+                leaseTable.renew(ipAddress, durationSecs);
             }
             long cost = System.currentTimeMillis() - startAll;
             if (cost >= COMPARE_TIME_COST) {
@@ -210,14 +240,24 @@ public class DataStoreService implements StoreService<DataNode> {
         read.lock();
         try {
             Map<String, RenewDecorate<DataNode>> dataMap = dataRepositoryService.getAllData();
-
+            Map<String, DataNode> localNodes = new HashMap<>();
             dataMap.forEach((ip, dataNode) -> {
-
                 String dataCenter = dataNode.getRenewal().getDataCenter();
                 if (dataCenter.equals(nodeConfig.getLocalDataCenter())) {
-                    if (dataNode.isExpired()) {
-                        reNewerList.add(dataNode.getRenewal());
-                    }
+                    localNodes.put(ip, dataNode.getRenewal());
+                }
+            });
+
+            //nodes registered before leader changed have no lease yet, a node missing lease
+            //can hide behind a stale lease of removed node, so check every node
+            localNodes.keySet().forEach(
+                ip -> leaseTable.seed(ip, RenewDecorate.DEFAULT_DURATION_SECS));
+            leaseTable.retainAll(localNodes.keySet());
+
+            leaseTable.getExpired().forEach(ip -> {
+                DataNode dataNode = localNodes.get(ip);
+                if (dataNode != null) {
+                    reNewerList.add(dataNode);
                 }
             });
 
@@ -227,6 +267,13 @@ public class DataStoreService implements StoreService<DataNode> {
         return reNewerList;
     }
 
+    @Override
+    public void resetLeases(int graceSecs) {
+        leaseTable.reset(graceSecs);
+        changeHistory.reset();
+        confirmTracker.reset();
+    }
+
     @Override
     public Map<String/*ipAddress*/, DataNode> getNodes() {
         Map<String, Map<String, DataNode>> map = getRunTime();
@@ -272,6 +319,9 @@ public class DataStoreService implements StoreService<DataNode> {
 
             nodeChangeResult.setLocalDataCenter(localDataCenter);
 
+            nodeChangeResult.setRevision(changeHistory.record(pushNodes,
+                metaServerConfig.getNodeChangeHistorySize()));
+
         } finally {
             read.unlock();
         }
@@ -281,128 +331,84 @@ public class DataStoreService implements StoreService<DataNode> {
 
     @Override
     public void pushNodeListChange() {
-        NodeOperator<DataNode> fireNode;
-        if ((fireNode = dataConfirmStatusService.peekConfirmNode()) != null) {
-            LOGGER.info("Now:type {},node {},Push queue:{}", fireNode.getNodeOperate(), fireNode
-                .getNode().getNodeUrl().getIpAddress(),
-                dataConfirmStatusService.getAllConfirmNodes());
-            NodeChangeResult nodeChangeResult = getNodeChangeResult();
-            Map<String, Map<String, DataNode>> map = nodeChangeResult.getNodes();
-            Map<String, DataNode> addNodes = map.get(nodeConfig.getLocalDataCenter());
-            if (addNodes != null) {
-                LOGGER.info("addNodes:{}", addNodes.keySet());
-                Map<String, DataNode> previousNodes = dataConfirmStatusService.putExpectNodes(
-                    fireNode.getNode(), addNodes);
-
-                if (!previousNodes.isEmpty()) {
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("push Type:{},peek:{},list{}", fireNode.getNodeOperate(),
-                            fireNode.getNode().getNodeUrl().getIpAddress(), previousNodes.keySet());
-                    }
-                    firePushDataListTask(fireNode, nodeChangeResult, previousNodes, true);
-
-                }
+        Queue<NodeOperator> confirmNodes = dataConfirmStatusService.getAllConfirmNodes();
+        List<NodeOperator<DataNode>> operators = new ArrayList<>();
+        if (confirmNodes != null) {
+            confirmNodes.forEach(operators::add);
+        }
+        if (operators.isEmpty()) {
+            confirmTracker.reset();
+            return;
+        }
+        //all operators in queue have been applied to node list got after
+        NodeChangeResult nodeChangeResult = getNodeChangeResult();
+        Map<String, Map<String, DataNode>> map = nodeChangeResult.getNodes();
+        Map<String, DataNode> localNodes = map.get(nodeConfig.getLocalDataCenter());
+        if (localNodes == null) {
+            localNodes = new HashMap<>();
+        }
+        confirmTracker.track(operators, localNodes.keySet(), nodeChangeResult.getRevision(),
+            metaServerConfig.getNodeConfirmTimeoutSecs() * 1000L);
+        completeConfirmNodes();
+
+        String nodeOperate = operators.get(0).getNodeOperate().toString();
+        Map<String, DataNode> targetNodes = new HashMap<>();
+        for (String ip : confirmTracker.getWaitingReceivers()) {
+            DataNode dataNode = localNodes.get(ip);
+            if (dataNode != null) {
+                targetNodes.put(ip, dataNode);
             }
-
-            firePushSessionListTask(nodeChangeResult, fireNode.getNodeOperate().toString());
         }
+        LOGGER.info("Push node list revision {}, pending operators:{}, wait confirm:{}",
+            nodeChangeResult.getRevision(), confirmTracker.size(), targetNodes.keySet());
+        if (!targetNodes.isEmpty()) {
+            firePushDataListTask(nodeOperate, nodeChangeResult, targetNodes, true);
+        }
+
+        firePushSessionListTask(nodeChangeResult, nodeOperate);
     }
 
     @Override
-    public void confirmNodeStatus(String ipAddress, String confirmNodeIp) {
-        NodeOperator<DataNode> fireNode = dataConfirmStatusService.peekConfirmNode();
-        if (fireNode != null) {
-            String fireNodeIp = fireNode.getNode().getIp();
-            if (fireNodeIp != null && !fireNodeIp.equals(confirmNodeIp)) {
-                LOGGER
-                    .info(
-                        "Confirm node already be remove from queue!Receive ip:{},expect confirm ip:{},now peek ip:{}",
-                        ipAddress, confirmNodeIp, fireNodeIp);
-                return;
-            }
-            Map<String/*ipAddress*/, DataNode> waitNotifyNodes = dataConfirmStatusService
-                .getExpectNodes(fireNode.getNode());
-
-            if (waitNotifyNodes != null) {
-                LOGGER.info("Peek node:{} oper:{},waitNotifyNodes:{},confirm ip:{}", fireNode
-                    .getNode().getNodeUrl().getIpAddress(), fireNode.getNodeOperate(),
-                    waitNotifyNodes.keySet(), ipAddress);
-
-                Set<String> removeIp = getRemoveIp(waitNotifyNodes.keySet());
-                removeIp.add(ipAddress);
-
-                waitNotifyNodes = dataConfirmStatusService.removeExpectConfirmNodes(
-                    fireNode.getNode(), removeIp);
-
-                if (waitNotifyNodes.isEmpty()) {
-                    //all node be notified,or some disconnect node be evict
-                    try {
-                        if (null != dataConfirmStatusService
-                            .removeExpectNodes((dataConfirmStatusService.pollConfirmNode())
-                                .getNode())) {
-                            //add init status must notify
-                            if (fireNode.getNodeOperate() == DataOperator.ADD) {
-                                notifyConfirm(fireNode.getNode());
-                            }
-                            LOGGER.info("Data node {} operator {} be confirm,Dump queue:{}",
-                                fireNode.getNode().getNodeUrl().getIpAddress(),
-                                fireNode.getNodeOperate(),
-                                dataConfirmStatusService.getAllConfirmNodes());
-                        }
-                    } catch (InterruptedException e) {
-                        LOGGER.error("Notify expect confirm status node {} interrupted!",
-                            fireNode.getNode());
-                    }
-                }
-            } else {
-                try {
-                    //wait node not exist,
-                    dataConfirmStatusService.pollConfirmNode();
-                    LOGGER
-                        .info(
-                            "Data node {} operator {} poll!not other node need be notify!Confirm ip {},Dump queue:{}",
-                            fireNode.getNode().getNodeUrl().getIpAddress(),
-                            fireNode.getNodeOperate(), ipAddress,
-                            dataConfirmStatusService.getAllConfirmNodes());
-                } catch (InterruptedException e) {
-                    LOGGER.error("Notify expect confirm status node " + fireNode.getNode()
-                                 + " interrupted!", e);
-                }
-            }
+    public void confirmNodeStatus(String ipAddress, String confirmNodeIp, Long revision) {
+        if (revision == null) {
+            LOGGER.warn("Confirm node list from {} without revision!", ipAddress);
+            return;
         }
+        confirmTracker.confirm(ipAddress, revision);
+        completeConfirmNodes();
     }
 
-    private Set<String> getRemoveIp(Set<String> waitNotifyNodes) {
-        Map<String, Map<String, DataNode>> map = getRunTime();
-        Map<String, DataNode> addNodes = map.get(nodeConfig.getLocalDataCenter());
-        if (addNodes != null && !addNodes.isEmpty()) {
-            return waitNotifyNodes.stream().filter(ip -> !addNodes.keySet().contains(ip)).collect(Collectors.toSet());
+    private void completeConfirmNodes() {
+        List<NodeOperator<DataNode>> completed = confirmTracker.pollCompleted();
+        if (completed.isEmpty()) {
+            return;
+        }
+        try {
+            dataConfirmStatusService.removeConfirmNodes(completed);
+            //add init status must notify
+            completed.stream().filter(operator -> operator.getNodeOperate() == DataOperator.ADD)
+                    .forEach(operator -> notifyConfirm(operator.getNode()));
+            LOGGER.info("Data node operators {} be confirm, pending size {}", completed,
+                    confirmTracker.size());
+        } finally {
+            confirmTracker.finish(completed);
         }
-        return new HashSet<>();
     }
 
-    private void firePushDataListTask(NodeOperator<DataNode> confirmNode,
-                                      NodeChangeResult nodeChangeResult,
+    private void firePushDataListTask(String nodeOperate, NodeChangeResult nodeChangeResult,
                                       Map<String, DataNode> targetNodes, boolean confirm) {
 
         //notify targetNodes change
-        String ip = "";
-        String nodeOperate;
-        if (confirmNode != null) {
-            ip = confirmNode.getNode().getIp();
-            nodeOperate = confirmNode.getNodeOperate().toString();
-        } else {
-            nodeOperate = "OtherDataCenter update";
-        }
         TaskEvent taskEvent = new TaskEvent(nodeChangeResult, TaskType.DATA_NODE_CHANGE_PUSH_TASK);
         taskEvent.setAttribute(Constant.PUSH_NEED_CONFIRM_KEY, confirm);
         taskEvent.setAttribute(Constant.PUSH_TARGET_DATA_NODE, targetNodes);
         taskEvent.setAttribute(Constant.PUSH_TARGET_TYPE, NodeType.DATA);
         taskEvent.setAttribute(Constant.PUSH_TARGET_OPERATOR_TYPE, nodeOperate);
-        taskEvent.setAttribute(Constant.PUSH_TARGET_CONFIRM_NODE, ip);
+        taskEvent.setAttribute(Constant.PUSH_TARGET_CONFIRM_NODE, "");
 
         TASK_LOGGER.info("send " + taskEvent.getTaskType() + " NodeType:" + NodeType.DATA
-                         + " Operator:" + nodeOperate + " confirmNode:" + ip);
+                         + " Operator:" + nodeOperate + " revision:"
+                         + nodeChangeResult.getRevision());
         taskListenerManager.sendTaskEvent(taskEvent);
     }
 
@@ -444,6 +450,17 @@ public class DataStoreService implements StoreService<DataNode> {
         }
     }
 
+    @Override
+    public NodeChangeResult selectNodeChangeResult(NodeChangeResult nodeChangeResult,
+                                                   String ipAddress) {
+        return changeHistory.select(nodeChangeResult, ipAddress);
+    }
+
+    @Override
+    public void confirmNodeChangeResult(String ipAddress, Long revision) {
+        changeHistory.confirm(ipAddress, revision);
+    }
+
     @Override
     public void getOtherDataCenterNodeAndUpdate() {
 
@@ -517,7 +534,7 @@ public class DataStoreService implements StoreService<DataNode> {
 
             NodeChangeResult nodeChangeResult = getNodeChangeResult();
 
-            firePushDataListTask(null, nodeChangeResult, null, false);
+            firePushDataListTask("OtherDataCenter update", nodeChangeResult, null, false);
 
             firePushSessionListTask(nodeChangeResult, "OtherDataCenterUpdate");
         } finally {
@@ -568,6 +585,15 @@ public class DataStoreService implements StoreService<DataNode> {
         this.nodeConfig = nodeConfig;
     }
 
+    /**
+     * Setter method for property <tt>metaServerConfig</tt>.
+     *
+     * @param metaServerConfig  value to be assigned to property metaServerConfig
+     */
+    public void setMetaServerConfig(MetaServerConfig metaServerConfig) {
+        this.metaServerConfig = metaServerConfig;
+    }
+
     /**
      * Setter method for property <tt>taskListenerManager</tt>.
      *
@@ -595,4 +621,13 @@ public class DataStoreService implements StoreService<DataNode> {
         this.dataConfirmStatusService = dataConfirmStatusService;
     }
 
+    /**
+     * Setter method for property <tt>dataCenterNodesWatchService</tt>.
+     *
+     * @param dataCenterNodesWatchService  value to be assigned to property dataCenterNodesWatchService
+     */
+    public void setDataCenterNodesWatchService(DataCenterNodesWatchService dataCenterNodesWatchService) {
+        this.dataCenterNodesWatchService = dataCenterNodesWatchService;
+    }
+
 }
\ No newline at end of file
@@ -72,6 +72,9 @@ public class MetaStoreService implements StoreService<MetaNode> {
     @RaftReference(uniqueId = "metaServer")
     private RepositoryService<String, RenewDecorate<MetaNode>> metaRepositoryService;
 
+    @Autowired
+    private DataCenterNodesWatchService                        dataCenterNodesWatchService;
+
     @Override
     public NodeType getNodeType() {
         return NodeType.META;
@@ -98,6 +101,7 @@ public class MetaStoreService implements StoreService<MetaNode> {
             nodeChangeResult = getNodeChangeResult();
             firePushDataListTask(nodeChangeResult, "addMetaNode");
             firePushSessionListTask(nodeChangeResult, "addMetaNode");
+            dataCenterNodesWatchService.fireChange();
 
             LOGGER.info("Set meta node list {} success!", metaNodes);
 
@@ -124,6 +128,7 @@ public class MetaStoreService implements StoreService<MetaNode> {
             nodeChangeResult = getNodeChangeResult();
             firePushDataListTask(nodeChangeResult, "addMetaNode");
             firePushSessionListTask(nodeChangeResult, "addMetaNode");
+            dataCenterNodesWatchService.fireChange();
 
             LOGGER.info("Add single meta node {} success!", metaNode);
 
@@ -147,6 +152,7 @@ public class MetaStoreService implements StoreService<MetaNode> {
                 NodeChangeResult nodeChangeResult = getNodeChangeResult();
                 firePushDataListTask(nodeChangeResult, "removeMetaNode");
                 firePushSessionListTask(nodeChangeResult, "removeMetaNode");
+                dataCenterNodesWatchService.fireChange();
                 LOGGER.info("Remove single meta node {} success!", dataNode.getRenewal());
                 return true;
             }
@@ -162,7 +168,7 @@ public class MetaStoreService implements StoreService<MetaNode> {
     }
 
     @Override
-    public void confirmNodeStatus(String connectId, String ip) {
+    public void confirmNodeStatus(String connectId, String ip, Long revision) {
         throw new NotSupportedException("Node type META not support function");
     }
 
@@ -175,6 +181,10 @@ public class MetaStoreService implements StoreService<MetaNode> {
         return null;
     }
 
+    @Override
+    public void resetLeases(int graceSecs) {
+    }
+
     @Override
     public Map<String, MetaNode> getNodes() {
         return null;
@@ -216,6 +226,16 @@ public class MetaStoreService implements StoreService<MetaNode> {
         return nodeChangeResult;
     }
 
+    @Override
+    public NodeChangeResult selectNodeChangeResult(NodeChangeResult nodeChangeResult,
+                                                   String ipAddress) {
+        return nodeChangeResult;
+    }
+
+    @Override
+    public void confirmNodeChangeResult(String ipAddress, Long revision) {
+    }
+
     @Override
     public void getOtherDataCenterNodeAndUpdate() {
 
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * bounded history of node list changes, every change of node list gets a new revision.
+ * receiver which confirmed a revision still kept in history gets only changes since that revision,
+ * otherwise full node list is pushed.
+ *
+ * @author shangyu.wh
+ * @version $Id: NodeChangeHistory.java, v 0.1 2026-10-19 14:05 shangyu.wh Exp $
+ */
+public class NodeChangeHistory<T extends Node> {
+
+    private final LinkedList<Change<T>>           changes           = new LinkedList<>();
+
+    private final Map<String/*ipAddress*/, Long> receivedRevisions = new HashMap<>();
+
+    private Map<String, Map<String, T>>           current;
+
+    private long                                  revision          = System.currentTimeMillis();
+
+    /**
+     * record node list, new revision is created if node list changed since last record
+     * @param nodes node list of all dataCenters
+     * @param capacity max changes kept
+     * @return revision of node list
+     */
+    public synchronized long record(Map<String, Map<String, T>> nodes, int capacity) {
+        if (current == null) {
+            current = copy(nodes);
+            return revision;
+        }
+        Change<T> change = diff(current, nodes);
+        if (change.isEmpty() && current.keySet().equals(nodes.keySet())) {
+            return revision;
+        }
+        change.baseRevision = revision;
+        change.revision = ++revision;
+        changes.addLast(change);
+        while (changes.size() > capacity) {
+            changes.removeFirst();
+        }
+        current = copy(nodes);
+        return revision;
+    }
+
+    /**
+     * get node change result should be pushed to receiver
+     * @param nodeChangeResult full node list with revision
+     * @param ipAddress receiver ipAddress
+     * @return delta since revision confirmed by receiver, or full node list if delta not available
+     */
+    public synchronized NodeChangeResult<T> select(NodeChangeResult<T> nodeChangeResult,
+                                                   String ipAddress) {
+        Long target = nodeChangeResult.getRevision();
+        Long received = receivedRevisions.get(ipAddress);
+        if (target == null || received == null || received > target
+            || nodeChangeResult.getNodes() == null) {
+            return nodeChangeResult;
+        }
+
+        Map<String, Map<String, T>> changedNodes = new HashMap<>();
+        Map<String, Set<String>> removedNodes = new HashMap<>();
+        if (received < target) {
+            Change<T> last = null;
+            for (Change<T> change : changes) {
+                if (last == null && change.baseRevision != received) {
+                    continue;
+                }
+                merge(change, changedNodes, removedNodes);
+                last = change;
+                if (change.revision == target) {
+                    break;
+                }
+            }
+            if (last == null || last.revision != target) {
+                //receiver is too far behind
+                return nodeChangeResult;
+            }
+        }
+
+        int total = 0;
+        int changed = 0;
+        Map<String, Map<String, T>> deltaNodes = new HashMap<>();
+        Map<String, Set<String>> deltaRemovedNodes = new HashMap<>();
+        for (Map.Entry<String, Map<String, T>> entry : nodeChangeResult.getNodes().entrySet()) {
+            String dataCenter = entry.getKey();
+            total += entry.getValue().size();
+            Map<String, T> dataCenterChanged = changedNodes.getOrDefault(dataCenter,
+                new HashMap<>());
+            deltaNodes.put(dataCenter, dataCenterChanged);
+            changed += dataCenterChanged.size();
+            Set<String> dataCenterRemoved = removedNodes.get(dataCenter);
+            if (dataCenterRemoved != null && !dataCenterRemoved.isEmpty()) {
+                deltaRemovedNodes.put(dataCenter, dataCenterRemoved);
+                changed += dataCenterRemoved.size();
+            }
+        }
+        if (changed > 0 && changed >= total) {
+            return nodeChangeResult;
+        }
+
+        NodeChangeResult<T> delta = new NodeChangeResult<>(nodeChangeResult.getNodeType());
+        delta.setNodes(deltaNodes);
+        delta.setRemovedNodes(deltaRemovedNodes);
+        delta.setBaseRevision(received);
+        delta.setRevision(target);
+        delta.setVersion(nodeChangeResult.getVersion());
+        delta.setDataCenterListVersions(nodeChangeResult.getDataCenterListVersions());
+        delta.setLocalDataCenter(nodeChangeResult.getLocalDataCenter());
+        return delta;
+    }
+
+    /**
+     * update revision applied by receiver
+     * @param ipAddress receiver ipAddress
+     * @param revision null if receiver not confirm any revision, full node list will be pushed next time
+     */
+    public synchronized void confirm(String ipAddress, Long revision) {
+        if (revision == null) {
+            receivedRevisions.remove(ipAddress);
+        } else {
+            receivedRevisions.put(ipAddress, revision);
+        }
+    }
+
+    /**
+     * drop all changes and revisions confirmed by receivers
+     */
+    public synchronized void reset() {
+        changes.clear();
+        receivedRevisions.clear();
+        current = null;
+        revision = Math.max(revision + 1, System.currentTimeMillis());
+    }
+
+    /**
+     * get revision applied by receiver from push response
+     * @param result
+     * @return
+     */
+    public static Long getReceivedRevision(Object result) {
+        if (result instanceof GenericResponse) {
+            GenericResponse response = (GenericResponse) result;
+            if (response.isSuccess() && response.getData() instanceof Long) {
+                return (Long) response.getData();
+            }
+        }
+        return null;
+    }
+
+    private Change<T> diff(Map<String, Map<String, T>> previous, Map<String, Map<String, T>> nodes) {
+        Change<T> change = new Change<>();
+        nodes.forEach((dataCenter, dataCenterNodes) -> {
+            Map<String, T> previousNodes = previous.getOrDefault(dataCenter, new HashMap<>());
+            dataCenterNodes.forEach((ip, node) -> {
+                if (!node.equals(previousNodes.get(ip))) {
+                    change.changedNodes.computeIfAbsent(dataCenter, k -> new HashMap<>()).put(ip, node);
+                }
+            });
+            previousNodes.keySet().stream().filter(ip -> !dataCenterNodes.containsKey(ip))
+                    .forEach(ip -> change.removedNodes.computeIfAbsent(dataCenter, k -> new HashSet<>()).add(ip));
+        });
+        previous.forEach((dataCenter, previousNodes) -> {
+            if (!nodes.containsKey(dataCenter) && !previousNodes.isEmpty()) {
+                change.removedNodes.put(dataCenter, new HashSet<>(previousNodes.keySet()));
+            }
+        });
+        return change;
+    }
+
+    private void merge(Change<T> change, Map<String, Map<String, T>> changedNodes,
+                       Map<String, Set<String>> removedNodes) {
+        change.changedNodes.forEach((dataCenter, dataCenterNodes) -> dataCenterNodes.forEach((ip, node) -> {
+            changedNodes.computeIfAbsent(dataCenter, k -> new HashMap<>()).put(ip, node);
+            Set<String> removed = removedNodes.get(dataCenter);
+            if (removed != null) {
+                removed.remove(ip);
+            }
+        }));
+        change.removedNodes.forEach((dataCenter, ips) -> ips.forEach(ip -> {
+            Map<String, T> changed = changedNodes.get(dataCenter);
+            if (changed != null) {
+                changed.remove(ip);
+            }
+            removedNodes.computeIfAbsent(dataCenter, k -> new HashSet<>()).add(ip);
+        }));
+    }
+
+    private Map<String, Map<String, T>> copy(Map<String, Map<String, T>> nodes) {
+        Map<String, Map<String, T>> ret = new HashMap<>();
+        nodes.forEach((dataCenter, dataCenterNodes) -> ret.put(dataCenter, new HashMap<>(dataCenterNodes)));
+        return ret;
+    }
+
+    private static class Change<T> {
+        private long                        baseRevision;
+        private long                        revision;
+        private Map<String, Map<String, T>> changedNodes = new HashMap<>();
+        private Map<String, Set<String>>    removedNodes = new HashMap<>();
+
+        private boolean isEmpty() {
+            return changedNodes.isEmpty() && removedNodes.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.node.NodeOperator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * confirm status of pending node operators kept only in memory of meta leader.
+ * every operator waits for its own receivers to confirm a node list revision containing it,
+ * operators of different nodes are confirmed concurrently, operators of same node are confirmed in order.
+ *
+ * @author shangyu.wh
+ * @version $Id: NodeConfirmTracker.java, v 0.1 2026-10-19 15:20 shangyu.wh Exp $
+ */
+public class NodeConfirmTracker<T extends Node> {
+
+    private static final Logger                           LOGGER     = LoggerFactory
+                                                                         .getLogger(NodeConfirmTracker.class);
+
+    private final Map<NodeOperator<T>, PendingConfirm<T>> pendings   = new LinkedHashMap<>();
+
+    /**
+     * operators already confirmed but not removed from confirm queue yet
+     */
+    private final Set<NodeOperator<T>>                    completing = new HashSet<>();
+
+    /**
+     * track operators in confirm queue, operators not tracked yet wait for receivers to confirm revision
+     * @param operators all operators in confirm queue by order
+     * @param receivers ipAddress of all registered receivers
+     * @param revision node list revision containing all operators
+     * @param timeoutMillis
+     */
+    public synchronized void track(Collection<NodeOperator<T>> operators, Set<String> receivers,
+                                   long revision, long timeoutMillis) {
+        Map<NodeOperator<T>, PendingConfirm<T>> tracked = new LinkedHashMap<>();
+        for (NodeOperator<T> operator : operators) {
+            if (completing.contains(operator) || tracked.containsKey(operator)) {
+                continue;
+            }
+            PendingConfirm<T> pending = pendings.get(operator);
+            if (pending == null) {
+                pending = new PendingConfirm<>(operator, revision, new HashSet<>(receivers),
+                    System.currentTimeMillis() + timeoutMillis);
+            } else {
+                //receivers unregistered need not confirm
+                pending.waitingReceivers.retainAll(receivers);
+            }
+            tracked.put(operator, pending);
+        }
+        pendings.clear();
+        pendings.putAll(tracked);
+    }
+
+    /**
+     * receiver confirm node list revision
+     * @param ipAddress receiver ipAddress
+     * @param revision
+     */
+    public synchronized void confirm(String ipAddress, long revision) {
+        for (PendingConfirm<T> pending : pendings.values()) {
+            if (pending.revision <= revision) {
+                pending.waitingReceivers.remove(ipAddress);
+            }
+        }
+    }
+
+    /**
+     * get receivers not confirm all operators
+     * @return
+     */
+    public synchronized Set<String> getWaitingReceivers() {
+        Set<String> ret = new HashSet<>();
+        pendings.values().forEach(pending -> ret.addAll(pending.waitingReceivers));
+        return ret;
+    }
+
+    /**
+     * poll operators confirmed by all receivers or timeout,
+     * operator is not polled before previous operators of same node.
+     * polled operators must be finished after removed from confirm queue
+     * @return
+     */
+    public synchronized List<NodeOperator<T>> pollCompleted() {
+        List<NodeOperator<T>> ret = new ArrayList<>();
+        Set<String> blockedNodes = new HashSet<>();
+        long now = System.currentTimeMillis();
+        Iterator<PendingConfirm<T>> iterator = pendings.values().iterator();
+        while (iterator.hasNext()) {
+            PendingConfirm<T> pending = iterator.next();
+            String ip = pending.operator.getNode().getNodeUrl().getIpAddress();
+            if (blockedNodes.contains(ip)) {
+                continue;
+            }
+            if (pending.waitingReceivers.isEmpty()) {
+                ret.add(pending.operator);
+            } else if (now > pending.deadline) {
+                LOGGER.warn("Node operator {} confirm timeout! Not confirmed receivers:{}",
+                    pending.operator, pending.waitingReceivers);
+                ret.add(pending.operator);
+            } else {
+                blockedNodes.add(ip);
+                continue;
+            }
+            iterator.remove();
+            completing.add(pending.operator);
+        }
+        return ret;
+    }
+
+    /**
+     * operators polled have been removed from confirm queue
+     * @param operators
+     */
+    public synchronized void finish(Collection<NodeOperator<T>> operators) {
+        completing.removeAll(operators);
+    }
+
+    /**
+     * drop all confirm status, used after leader changed
+     */
+    public synchronized void reset() {
+        pendings.clear();
+        completing.clear();
+    }
+
+    /**
+     * pending operators count
+     * @return
+     */
+    public synchronized int size() {
+        return pendings.size();
+    }
+
+    private static class PendingConfirm<T extends Node> {
+        private final NodeOperator<T> operator;
+        private final long            revision;
+        private final Set<String>     waitingReceivers;
+        private final long            deadline;
+
+        private PendingConfirm(NodeOperator<T> operator, long revision,
+                               Set<String> waitingReceivers, long deadline) {
+            this.operator = operator;
+            this.revision = revision;
+            this.waitingReceivers = waitingReceivers;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * heartbeat lease of nodes kept only in memory of meta leader,
+ * leases are grouped in expiry buckets so evict just scan the buckets already passed.
+ * renew never goes through raft, only membership change does.
+ *
+ * @author shangyu.wh
+ * @version $Id: NodeLeaseTable.java, v 0.1 2026-10-19 10:12 shangyu.wh Exp $
+ */
+public class NodeLeaseTable {
+
+    private static final long                           BUCKET_MILLIS = 1000L;
+
+    private final Map<String/*ipAddress*/, Long>       deadlines     = new HashMap<>();
+
+    private final TreeMap<Long/*bucket*/, Set<String>> buckets       = new TreeMap<>();
+
+    /**
+     * leases seeded before this time never expire,
+     * so nodes have time to renew on new leader
+     */
+    private long                                        graceDeadline;
+
+    /**
+     * refresh lease of node
+     * @param ipAddress
+     * @param durationSecs
+     */
+    public synchronized void renew(String ipAddress, long durationSecs) {
+        setDeadline(ipAddress, System.currentTimeMillis() + durationSecs * 1000);
+    }
+
+    /**
+     * create lease for node which has no lease yet, used after leader changed
+     * @param ipAddress
+     * @param durationSecs
+     * @return true if new lease created
+     */
+    public synchronized boolean seed(String ipAddress, long durationSecs) {
+        if (deadlines.containsKey(ipAddress)) {
+            return false;
+        }
+        long deadline = System.currentTimeMillis() + durationSecs * 1000;
+        setDeadline(ipAddress, Math.max(deadline, graceDeadline));
+        return true;
+    }
+
+    /**
+     * remove lease of node
+     * @param ipAddress
+     */
+    public synchronized void remove(String ipAddress) {
+        Long deadline = deadlines.remove(ipAddress);
+        if (deadline != null) {
+            removeFromBucket(ipAddress, deadline);
+        }
+    }
+
+    /**
+     * drop all leases and start grace period, called when current node becomes leader
+     * @param graceSecs
+     */
+    public synchronized void reset(long graceSecs) {
+        deadlines.clear();
+        buckets.clear();
+        graceDeadline = System.currentTimeMillis() + graceSecs * 1000;
+    }
+
+    /**
+     * get nodes whose lease has expired, only buckets before current one are visited
+     * @return
+     */
+    public synchronized Set<String> getExpired() {
+        Set<String> expired = new HashSet<>();
+        long now = System.currentTimeMillis();
+        for (Set<String> ips : buckets.headMap(bucketOf(now)).values()) {
+            expired.addAll(ips);
+        }
+        return expired;
+    }
+
+    /**
+     * verify node has lease or not
+     * @param ipAddress
+     * @return
+     */
+    public synchronized boolean contains(String ipAddress) {
+        return deadlines.containsKey(ipAddress);
+    }
+
+    /**
+     * remove leases of nodes not in current set
+     * @param ipAddresses
+     */
+    public synchronized void retainAll(Set<String> ipAddresses) {
+        Iterator<Entry<String, Long>> it = deadlines.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<String, Long> entry = it.next();
+            if (!ipAddresses.contains(entry.getKey())) {
+                it.remove();
+                removeFromBucket(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * lease count
+     * @return
+     */
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private void setDeadline(String ipAddress, long deadline) {
+        Long old = deadlines.put(ipAddress, deadline);
+        if (old != null) {
+            removeFromBucket(ipAddress, old);
+        }
+        buckets.computeIfAbsent(bucketOf(deadline), k -> new HashSet<>()).add(ipAddress);
+    }
+
+    private void removeFromBucket(String ipAddress, long deadline) {
+        long bucket = bucketOf(deadline);
+        Set<String> ips = buckets.get(bucket);
+        if (ips != null) {
+            ips.remove(ipAddress);
+            if (ips.isEmpty()) {
+                buckets.remove(bucket);
+            }
+        }
+    }
+
+    private static long bucketOf(long timestamp) {
+        return timestamp / BUCKET_MILLIS;
+    }
+}
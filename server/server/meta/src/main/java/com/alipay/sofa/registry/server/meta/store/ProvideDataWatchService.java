@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.store;
+
+import com.alipay.sofa.registry.common.model.ServerDataBox;
+import com.alipay.sofa.registry.common.model.console.PersistenceData;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideData;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideDataChanges;
+import com.alipay.sofa.registry.common.model.metaserver.WatchProvideDataRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
+import com.alipay.sofa.registry.store.api.DBChanges;
+import com.alipay.sofa.registry.store.api.DBEntry;
+import com.alipay.sofa.registry.store.api.DBResponse;
+import com.alipay.sofa.registry.store.api.DBService;
+import com.alipay.sofa.registry.store.api.OperationStatus;
+import com.alipay.sofa.registry.store.api.annotation.RaftReference;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * long poll watch of ProvideData. watch request is answered at once if any ProvideData changed after its revision,
+ * otherwise it is held until next change of ProvideData or timeout.
+ * revisions are kept by raft, so watchers resume from revision they got after meta leader changed,
+ * unless epoch of revisions on new leader is not the one they got.
+ *
+ * @author shangyu.wh
+ * @version $Id: ProvideDataWatchService.java, v 0.1 2026-10-19 18:45 shangyu.wh Exp $
+ */
+public class ProvideDataWatchService {
+
+    private static final Logger            LOGGER  = LoggerFactory
+                                                       .getLogger(ProvideDataWatchService.class,
+                                                           "[DBService]");
+
+    @RaftReference
+    private DBService                      persistenceDataDBService;
+
+    @Autowired
+    private MetaServerConfig               metaServerConfig;
+
+    private final Set<Watch>               pending = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService executor;
+
+    public ProvideDataWatchService() {
+        this.executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory(
+            "ProvideDataWatch", true));
+    }
+
+    /**
+     * watch ProvideData changed after revision of request
+     * @param request
+     * @param callback receive ProvideDataChanges, or empty changes if timeout
+     */
+    public void watch(WatchProvideDataRequest request, Consumer<ProvideDataChanges> callback) {
+        Watch watch = new Watch(request, callback);
+        //hold it before query, change after query never be missed
+        pending.add(watch);
+        ProvideDataChanges changes;
+        try {
+            changes = getChanges(request.getDataInfoIdPrefix(), request.getEpoch(),
+                request.getRevision());
+        } catch (RuntimeException e) {
+            pending.remove(watch);
+            throw e;
+        }
+        if (!changes.isEmpty()) {
+            complete(watch, changes);
+            return;
+        }
+        long timeoutMillis = Math.min(request.getTimeoutMillis(),
+            TimeUnit.SECONDS.toMillis(metaServerConfig.getProvideDataWatchMaxTimeoutSecs()));
+        executor.schedule(() -> complete(watch, changes), timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * ProvideData changed, answer pending watch requests
+     */
+    public void fireChange() {
+        executor.execute(() -> {
+            for (Watch watch : pending) {
+                try {
+                    ProvideDataChanges changes = getChanges(
+                        watch.request.getDataInfoIdPrefix(), watch.request.getEpoch(),
+                        watch.request.getRevision());
+                    if (!changes.isEmpty()) {
+                        complete(watch, changes);
+                    }
+                } catch (Throwable e) {
+                    LOGGER.error("Answer ProvideData watch {} error!", watch.request, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * get ProvideData changed after revision, all ProvideData if revision is not of current epoch
+     * @param dataInfoIdPrefix
+     * @param epoch epoch of revision, null if watcher got nothing
+     * @param revision
+     * @return
+     */
+    public ProvideDataChanges getChanges(String dataInfoIdPrefix, String epoch, long revision) {
+        DBResponse response;
+        try {
+            response = persistenceDataDBService.getChanges(dataInfoIdPrefix, epoch, revision);
+        } catch (Exception e) {
+            throw new RuntimeException("Get ProvideData changes from db error!", e);
+        }
+        if (response == null || response.getOperationStatus() != OperationStatus.SUCCESS) {
+            throw new RuntimeException("Get ProvideData changes from db error!");
+        }
+        DBChanges dbChanges = (DBChanges) response.getEntity();
+        List<ProvideData> changedData = new ArrayList<>();
+        List<String> removedDataInfoIds = new ArrayList<>();
+        for (DBEntry entry : dbChanges.getEntries()) {
+            if (entry.isRemoved()) {
+                removedDataInfoIds.add(entry.getKey());
+            } else {
+                PersistenceData data = (PersistenceData) entry.getValue();
+                changedData.add(new ProvideData(new ServerDataBox(data.getData()), entry.getKey(),
+                    data.getVersion()));
+            }
+        }
+        return new ProvideDataChanges(dbChanges.getEpoch(), dbChanges.getRevision(),
+            dbChanges.isFull(), changedData, removedDataInfoIds);
+    }
+
+    /**
+     * number of watch requests held
+     * @return
+     */
+    public int getPendingSize() {
+        return pending.size();
+    }
+
+    private void complete(Watch watch, ProvideDataChanges changes) {
+        if (!pending.remove(watch)) {
+            return;
+        }
+        try {
+            watch.callback.accept(changes);
+        } catch (Throwable e) {
+            LOGGER.error("Reply ProvideData watch {} error!", watch.request, e);
+        }
+    }
+
+    private static class Watch {
+        private final WatchProvideDataRequest      request;
+        private final Consumer<ProvideDataChanges> callback;
+
+        private Watch(WatchProvideDataRequest request, Consumer<ProvideDataChanges> callback) {
+            this.request = request;
+            this.callback = callback;
+        }
+    }
+}
@@ -55,6 +55,20 @@ public class RenewDecorate<T> implements Serializable {
         this.duration = durationSECS * 1000;
     }
 
+    /**
+     * restore decorate with all timestamps, use for decode
+     * @param renewal
+     * @param beginTimestamp
+     * @param lastUpdateTimestamp
+     * @param duration duration in millis
+     */
+    public RenewDecorate(T renewal, long beginTimestamp, long lastUpdateTimestamp, long duration) {
+        this.renewal = renewal;
+        this.beginTimestamp = beginTimestamp;
+        this.lastUpdateTimestamp = lastUpdateTimestamp;
+        this.duration = duration;
+    }
+
     /**
      * verify expired or not
      * @return
@@ -113,4 +127,13 @@ public class RenewDecorate<T> implements Serializable {
     public long getLastUpdateTimestamp() {
         return lastUpdateTimestamp;
     }
-}
\ No newline at end of file
+
+    /**
+     * Getter method for property <tt>duration</tt>.
+     *
+     * @return property value of duration in millis
+     */
+    public long getDuration() {
+        return duration;
+    }
+}
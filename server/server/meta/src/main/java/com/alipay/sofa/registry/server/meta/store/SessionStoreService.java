@@ -22,6 +22,7 @@ import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
 import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.common.model.metaserver.SessionNode;
+import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
@@ -83,6 +84,11 @@ public class SessionStoreService implements StoreService<SessionNode> {
     @RaftReference(uniqueId = "sessionServer")
     private NodeConfirmStatusService<SessionNode>                 sessionConfirmStatusService;
 
+    /**
+     * heartbeat lease of session nodes, only used on leader
+     */
+    private final NodeLeaseTable                                  leaseTable    = new NodeLeaseTable();
+
     @Override
     public NodeType getNodeType() {
         return NodeType.SESSION;
@@ -124,6 +130,9 @@ public class SessionStoreService implements StoreService<SessionNode> {
         try {
             RenewDecorate<SessionNode> oldRenewDecorate = sessionRepositoryService
                 .remove(ipAddress);
+            leaseTable.remove(ipAddress);
+            //drop revision confirmed by removed session, full data node list is pushed if registered again
+            dataStoreService.confirmNodeChangeResult(ipAddress, null);
             if (oldRenewDecorate == null) {
                 LOGGER
                     .info("Remove Session node with ipAddress:" + ipAddress + " has not existed!");
@@ -152,6 +161,8 @@ public class SessionStoreService implements StoreService<SessionNode> {
                     String ipAddress = node.getNodeUrl().getIpAddress();
                     RenewDecorate<SessionNode> oldRenewDecorate = sessionRepositoryService
                         .remove(ipAddress);
+                    leaseTable.remove(ipAddress);
+                    dataStoreService.confirmNodeChangeResult(ipAddress, null);
                     if (oldRenewDecorate == null) {
                         LOGGER.warn("Remove session nodes with ipAddress:" + ipAddress
                                     + " has not existed!");
@@ -178,20 +189,21 @@ public class SessionStoreService implements StoreService<SessionNode> {
         write.lock();
         try {
             String ipAddress = sessionNode.getNodeUrl().getIpAddress();
-            RenewDecorate reNewer = sessionRepositoryService.get(ipAddress);
+            RenewDecorate<SessionNode> reNewer = sessionRepositoryService.get(ipAddress);
+            int durationSecs = duration > 0 ? duration : RenewDecorate.DEFAULT_DURATION_SECS;
 
             if (reNewer == null) {
                 LOGGER.warn("ReNew session node with ipAddress:" + ipAddress
                             + " has not existed!It will be registered again!");
                 addNode(sessionNode);
+            } else if (ServiceStateMachine.getInstance().isLeader()
+                       && sessionNode.equals(reNewer.getRenewal())) {
+                //node not changed, just refresh lease on leader without raft log
+                leaseTable.renew(ipAddress, durationSecs);
             } else {
-                if (duration > 0) {
-                    sessionRepositoryService.replace(ipAddress, new RenewDecorate(sessionNode,
-                        duration));
-                } else {
-                    sessionRepositoryService.replace(ipAddress, new RenewDecorate(sessionNode,
-                        RenewDecorate.DEFAULT_DURATION_SECS));
-                }
+                sessionRepositoryService.replace(ipAddress, new RenewDecorate(sessionNode,
+                    durationSecs));
+                leaseTable.renew(ipAddress, durationSecs);
             }
         } finally {
             write.unlock();
@@ -204,8 +216,13 @@ public class SessionStoreService implements StoreService<SessionNode> {
         read.lock();
         try {
             Map<String, RenewDecorate<SessionNode>> map = sessionRepositoryService.getAllData();
-            map.forEach((key, value) -> {
-                if (value.isExpired()) {
+            //nodes registered before leader changed have no lease yet, a node missing lease
+            //can hide behind a stale lease of removed node, so check every node
+            map.keySet().forEach(ip -> leaseTable.seed(ip, RenewDecorate.DEFAULT_DURATION_SECS));
+            leaseTable.retainAll(map.keySet());
+            leaseTable.getExpired().forEach(ip -> {
+                RenewDecorate<SessionNode> value = map.get(ip);
+                if (value != null) {
                     reNewerList.add(value.getRenewal());
                 }
             });
@@ -215,6 +232,11 @@ public class SessionStoreService implements StoreService<SessionNode> {
         return reNewerList;
     }
 
+    @Override
+    public void resetLeases(int graceSecs) {
+        leaseTable.reset(graceSecs);
+    }
+
     @Override
     public Map<String, SessionNode> getNodes() {
         Map<String, SessionNode> tmpMap = new HashMap<>();
@@ -258,7 +280,7 @@ public class SessionStoreService implements StoreService<SessionNode> {
     }
 
     @Override
-    public void confirmNodeStatus(String ipAddress, String confirmNodeIp) {
+    public void confirmNodeStatus(String ipAddress, String confirmNodeIp, Long revision) {
         NodeOperator<SessionNode> fireNode = sessionConfirmStatusService.peekConfirmNode();
         if (fireNode != null) {
             String fireNodeIp = fireNode.getNode().getNodeUrl().getIpAddress();
@@ -366,6 +388,16 @@ public class SessionStoreService implements StoreService<SessionNode> {
         return nodeChangeResult;
     }
 
+    @Override
+    public NodeChangeResult selectNodeChangeResult(NodeChangeResult nodeChangeResult,
+                                                   String ipAddress) {
+        return nodeChangeResult;
+    }
+
+    @Override
+    public void confirmNodeChangeResult(String ipAddress, Long revision) {
+    }
+
     @Override
     public void getOtherDataCenterNodeAndUpdate() {
 
@@ -51,8 +51,9 @@ public interface StoreService<T extends Node> {
      * node change info push must be confirm received,
      * @param ipAddress received Node ipAddress
      * @param confirmNodeIp will be confirmed node ip
+     * @param revision node list revision received, pending node operators before it are confirmed
      */
-    void confirmNodeStatus(String ipAddress, String confirmNodeIp);
+    void confirmNodeStatus(String ipAddress, String confirmNodeIp, Long revision);
 
     /**
      * remove current dataCenter dataNode by ipAddress
@@ -80,6 +81,14 @@ public interface StoreService<T extends Node> {
      */
     Collection<T> getExpired();
 
+    /**
+     * drop heartbeat leases kept on leader and start grace period,
+     * nodes registered before leader changed will not be evicted until grace period passed.
+     * node list revisions confirmed by receivers are dropped too.
+     * @param graceSecs
+     */
+    void resetLeases(int graceSecs);
+
     /**
      * get all Nodes from all dataCenter
      * @return
@@ -92,6 +101,22 @@ public interface StoreService<T extends Node> {
      */
     NodeChangeResult getNodeChangeResult();
 
+    /**
+     * get node change result pushed to receiver, only changes since revision confirmed by receiver
+     * are contained if available, otherwise full node list
+     * @param nodeChangeResult full node list
+     * @param ipAddress receiver ipAddress
+     * @return
+     */
+    NodeChangeResult selectNodeChangeResult(NodeChangeResult nodeChangeResult, String ipAddress);
+
+    /**
+     * receiver confirm node list revision applied
+     * @param ipAddress receiver ipAddress
+     * @param revision null if receiver not support revision or apply failed
+     */
+    void confirmNodeChangeResult(String ipAddress, Long revision);
+
     /**
      * schedule check other dataCenter node change and update
      */
@@ -18,6 +18,7 @@ package com.alipay.sofa.registry.server.meta.test.confirm;
 
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.server.meta.store.DataStoreService;
 import com.alipay.sofa.registry.server.meta.task.Constant;
 import com.alipay.sofa.registry.task.listener.TaskEvent;
@@ -56,6 +57,7 @@ public class DataNodeChangePushTaskListenerMock implements TaskListener {
 
         NodeType nodeType = (NodeType) event.getAttribute(Constant.PUSH_TARGET_TYPE);
         String ip = (String) event.getAttribute(Constant.PUSH_TARGET_CONFIRM_NODE);
+        Long revision = ((NodeChangeResult) event.getEventObj()).getRevision();
 
         Map<String, DataNode> targetNodes = (Map<String, DataNode>) event
                 .getAttribute(Constant.PUSH_TARGET_DATA_NODE);
@@ -67,7 +69,7 @@ public class DataNodeChangePushTaskListenerMock implements TaskListener {
                 try {
                     threadPool.submit(() -> targetNodes.forEach((address, dataNode) -> {
                         if (removeNodes == null || !removeNodes.contains(address)) {
-                            dataStoreService.confirmNodeStatus(address, ip);
+                            dataStoreService.confirmNodeStatus(address, ip, revision);
                         }
                     }));
                     break;
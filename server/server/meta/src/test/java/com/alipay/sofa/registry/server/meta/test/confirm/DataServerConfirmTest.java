@@ -17,19 +17,28 @@
 package com.alipay.sofa.registry.server.meta.test.confirm;
 
 import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+import com.alipay.sofa.registry.common.model.metaserver.SessionNode;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
 import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig.DecisionMode;
 import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
 import com.alipay.sofa.registry.server.meta.repository.service.DataConfirmStatusService;
 import com.alipay.sofa.registry.server.meta.repository.service.DataRepositoryService;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatchService;
+import com.alipay.sofa.registry.server.meta.repository.NodeConfirmStatusService;
+import com.alipay.sofa.registry.server.meta.repository.RepositoryService;
+import com.alipay.sofa.registry.server.meta.repository.VersionRepositoryService;
 import com.alipay.sofa.registry.server.meta.store.DataStoreService;
+import com.alipay.sofa.registry.server.meta.store.SessionStoreService;
+import com.alipay.sofa.registry.server.meta.store.StoreService;
 import com.alipay.sofa.registry.task.listener.DefaultTaskListenerManager;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 import com.alipay.sofa.registry.task.scheduler.TimedSupervisorTask;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -39,8 +48,11 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -65,8 +77,11 @@ public class DataServerConfirmTest {
         taskListenerManager.addTaskListener(new ReceiveStatusConfirmNotifyTaskMock());
 
         dataStoreService.setNodeConfig(nodeConfig);
+        dataStoreService.setMetaServerConfig(metaServerConfig);
         dataStoreService.setTaskListenerManager(taskListenerManager);
         dataStoreService.setDataConfirmStatusService(dataConfirmStatusService);
+        DataCenterNodesWatchService dataCenterNodesWatchService = mock(DataCenterNodesWatchService.class);
+        dataStoreService.setDataCenterNodesWatchService(dataCenterNodesWatchService);
 
         DataRepositoryService dataRepositoryService = new DataRepositoryService();
         dataRepositoryService.setNodeConfig(nodeConfig);
@@ -74,6 +89,7 @@ public class DataServerConfirmTest {
 
         when(nodeConfig.getLocalDataCenter()).thenReturn("DefaultDataCenter");
         when(metaServerConfig.getDecisionMode()).thenReturn(DecisionMode.RUNTIME);
+        when(metaServerConfig.getNodeConfirmTimeoutSecs()).thenReturn(60);
 
         //dataStoreService.pushDataNodeListChange();
         start(dataStoreService);
@@ -89,6 +105,7 @@ public class DataServerConfirmTest {
 
         assertTrue(" timeout! More than" + 60 + "seconds,allDone:" + allDone.getCount(),
                 allDone.await(60, TimeUnit.SECONDS));
+        verify(dataCenterNodesWatchService, times(numThreads)).fireChange();
     }
 
     @Test
@@ -114,8 +131,10 @@ public class DataServerConfirmTest {
         taskListenerManager.addTaskListener(new ReceiveStatusConfirmNotifyTaskMock());
 
         dataStoreService.setNodeConfig(nodeConfig);
+        dataStoreService.setMetaServerConfig(metaServerConfig);
         dataStoreService.setTaskListenerManager(taskListenerManager);
         dataStoreService.setDataConfirmStatusService(dataConfirmStatusService);
+        dataStoreService.setDataCenterNodesWatchService(mock(DataCenterNodesWatchService.class));
 
         DataRepositoryService dataRepositoryService = new DataRepositoryService();
         dataRepositoryService.setNodeConfig(nodeConfig);
@@ -123,6 +142,7 @@ public class DataServerConfirmTest {
 
         when(nodeConfig.getLocalDataCenter()).thenReturn("DefaultDataCenter");
         when(metaServerConfig.getDecisionMode()).thenReturn(DecisionMode.RUNTIME);
+        when(metaServerConfig.getNodeConfirmTimeoutSecs()).thenReturn(60);
 
         //dataStoreService.pushDataNodeListChange();
         start(dataStoreService);
@@ -146,6 +166,68 @@ public class DataServerConfirmTest {
         }
     }
 
+    @Test
+    public void testRemoveNodeDropsReceivedRevision() {
+
+        DataStoreService dataStoreService = new DataStoreService();
+        NodeConfig nodeConfig = mock(NodeConfig.class);
+        MetaServerConfig metaServerConfig = mock(MetaServerConfig.class);
+
+        dataStoreService.setNodeConfig(nodeConfig);
+        dataStoreService.setMetaServerConfig(metaServerConfig);
+        dataStoreService.setDataConfirmStatusService(new DataConfirmStatusService());
+        dataStoreService.setDataCenterNodesWatchService(mock(DataCenterNodesWatchService.class));
+
+        DataRepositoryService dataRepositoryService = new DataRepositoryService();
+        dataRepositoryService.setNodeConfig(nodeConfig);
+        dataStoreService.setDataRepositoryService(dataRepositoryService);
+
+        when(nodeConfig.getLocalDataCenter()).thenReturn("DefaultDataCenter");
+        when(metaServerConfig.getNodeChangeHistorySize()).thenReturn(16);
+
+        for (int i = 1; i <= 6; i++) {
+            dataStoreService
+                .addNode(new DataNode(new URL("192.168.0." + i, 0), "DefaultDataCenter"));
+        }
+        NodeChangeResult first = dataStoreService.getNodeChangeResult();
+        dataStoreService.confirmNodeChangeResult("192.168.0.1", first.getRevision());
+        dataStoreService.confirmNodeChangeResult("192.168.0.2", first.getRevision());
+
+        dataStoreService.addNode(new DataNode(new URL("192.168.0.7", 0), "DefaultDataCenter"));
+        NodeChangeResult second = dataStoreService.getNodeChangeResult();
+        assertTrue(dataStoreService.selectNodeChangeResult(second, "192.168.0.1").isDelta());
+
+        dataStoreService.removeNode("192.168.0.1");
+        dataStoreService.removeNodes(Collections.singletonList(new DataNode(new URL("192.168.0.2",
+            0), "DefaultDataCenter")));
+        NodeChangeResult last = dataStoreService.getNodeChangeResult();
+        assertFalse(dataStoreService.selectNodeChangeResult(last, "192.168.0.1").isDelta());
+        assertFalse(dataStoreService.selectNodeChangeResult(last, "192.168.0.2").isDelta());
+    }
+
+    @Test
+    public void testRemoveSessionDropsReceivedRevision() {
+
+        SessionStoreService sessionStoreService = new SessionStoreService();
+        StoreService dataStoreService = mock(StoreService.class);
+        NodeConfig nodeConfig = mock(NodeConfig.class);
+        when(nodeConfig.getLocalDataCenter()).thenReturn("DefaultDataCenter");
+
+        sessionStoreService.setDataStoreService(dataStoreService);
+        sessionStoreService.setNodeConfig(nodeConfig);
+        sessionStoreService.setSessionRepositoryService(mock(RepositoryService.class));
+        sessionStoreService
+            .setSessionVersionRepositoryService(mock(VersionRepositoryService.class));
+        sessionStoreService.setSessionConfirmStatusService(mock(NodeConfirmStatusService.class));
+
+        sessionStoreService.removeNode("192.168.1.1");
+        sessionStoreService.removeNodes(Collections.singletonList(new SessionNode(new URL(
+            "192.168.1.2", 0), "DefaultZone")));
+
+        verify(dataStoreService).confirmNodeChangeResult("192.168.1.1", null);
+        verify(dataStoreService).confirmNodeChangeResult("192.168.1.2", null);
+    }
+
     private void start(DataStoreService dataStoreService) {
 
         ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.confirm;
+
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.meta.node.NodeOperator;
+import com.alipay.sofa.registry.server.meta.store.NodeConfirmTracker;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: NodeConfirmTrackerTest.java, v 0.1 2026-10-19 15:55 shangyu.wh Exp $
+ */
+public class NodeConfirmTrackerTest {
+
+    private static final long TIMEOUT = 60000L;
+
+    @Test
+    public void testConfirmConcurrently() {
+        NodeConfirmTracker<DataNode> tracker = new NodeConfirmTracker<>();
+        NodeOperator<DataNode> add1 = operator("192.168.0.1", DataOperator.ADD);
+        NodeOperator<DataNode> add2 = operator("192.168.0.2", DataOperator.ADD);
+        Set<String> receivers = new HashSet<>(Arrays.asList("192.168.0.1", "192.168.0.2",
+            "192.168.0.3"));
+        tracker.track(Arrays.asList(add1, add2), receivers, 10, TIMEOUT);
+        assertEquals(receivers, tracker.getWaitingReceivers());
+
+        //operator recorded after revision received is not confirmed
+        NodeOperator<DataNode> add4 = operator("192.168.0.4", DataOperator.ADD);
+        receivers.add("192.168.0.4");
+        tracker.track(Arrays.asList(add1, add2, add4), receivers, 11, TIMEOUT);
+        receivers.forEach(ip -> tracker.confirm(ip, 10));
+
+        List<NodeOperator<DataNode>> completed = tracker.pollCompleted();
+        assertEquals(Arrays.asList(add1, add2), completed);
+        assertEquals(1, tracker.size());
+
+        //completed operators still in queue are not tracked again before finished
+        tracker.track(Arrays.asList(add1, add2, add4), receivers, 11, TIMEOUT);
+        assertEquals(1, tracker.size());
+        tracker.finish(completed);
+
+        receivers.forEach(ip -> tracker.confirm(ip, 11));
+        assertEquals(Arrays.asList(add4), tracker.pollCompleted());
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void testSameNodeInOrder() throws InterruptedException {
+        NodeConfirmTracker<DataNode> tracker = new NodeConfirmTracker<>();
+        NodeOperator<DataNode> remove = operator("192.168.0.1", DataOperator.REMOVE);
+        NodeOperator<DataNode> add = operator("192.168.0.1", DataOperator.ADD);
+        Set<String> receivers = new HashSet<>(Arrays.asList("192.168.0.1", "192.168.0.2"));
+        tracker.track(Arrays.asList(remove, add), receivers, 10, TIMEOUT);
+
+        tracker.confirm("192.168.0.1", 10);
+        assertTrue(tracker.pollCompleted().isEmpty());
+
+        //unregistered receiver need not confirm
+        tracker.track(Arrays.asList(remove, add), new HashSet<>(Arrays.asList("192.168.0.1")), 11,
+            TIMEOUT);
+        assertEquals(Arrays.asList(remove, add), tracker.pollCompleted());
+
+        tracker.reset();
+        tracker.track(Arrays.asList(remove), receivers, 12, 0);
+        TimeUnit.MILLISECONDS.sleep(10);
+        assertEquals(Arrays.asList(remove), tracker.pollCompleted());
+    }
+
+    private NodeOperator<DataNode> operator(String ip, DataOperator dataOperator) {
+        return new NodeOperator<>(new DataNode(new URL(ip, 0), "DefaultDataCenter"), dataOperator);
+    }
+}
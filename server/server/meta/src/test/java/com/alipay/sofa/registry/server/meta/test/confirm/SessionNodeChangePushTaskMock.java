@@ -62,7 +62,7 @@ public class SessionNodeChangePushTaskMock implements TaskListener {
             threadPool.submit(() -> targetNodes.forEach((address, dataNode) -> {
 
                 if (removeNodes == null || !removeNodes.contains(address)) {
-                    sessionStoreService.confirmNodeStatus(address, ip);
+                    sessionStoreService.confirmNodeStatus(address, ip, null);
                 }
             }));
         } finally {
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.lease;
+
+import com.alipay.sofa.registry.server.meta.store.NodeLeaseTable;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: NodeLeaseTableTest.java, v 0.1 2026-10-19 10:40 shangyu.wh Exp $
+ */
+public class NodeLeaseTableTest {
+
+    @Test
+    public void testRenewAndExpire() throws InterruptedException {
+        NodeLeaseTable leaseTable = new NodeLeaseTable();
+        leaseTable.renew("192.168.0.1", 0);
+        leaseTable.renew("192.168.0.2", 30);
+        assertEquals(2, leaseTable.size());
+
+        TimeUnit.MILLISECONDS.sleep(1100);
+        assertEquals(1, leaseTable.getExpired().size());
+        assertTrue(leaseTable.getExpired().contains("192.168.0.1"));
+
+        leaseTable.renew("192.168.0.1", 30);
+        assertTrue(leaseTable.getExpired().isEmpty());
+
+        leaseTable.remove("192.168.0.2");
+        assertFalse(leaseTable.contains("192.168.0.2"));
+        assertEquals(1, leaseTable.size());
+    }
+
+    @Test
+    public void testResetWithGrace() throws InterruptedException {
+        NodeLeaseTable leaseTable = new NodeLeaseTable();
+        leaseTable.renew("192.168.0.1", 0);
+        leaseTable.reset(30);
+        assertEquals(0, leaseTable.size());
+
+        assertTrue(leaseTable.seed("192.168.0.1", 0));
+        assertFalse(leaseTable.seed("192.168.0.1", 0));
+        TimeUnit.MILLISECONDS.sleep(1100);
+        assertTrue(leaseTable.getExpired().isEmpty());
+
+        leaseTable.renew("192.168.0.2", 30);
+        leaseTable.retainAll(new HashSet<>(Collections.singletonList("192.168.0.2")));
+        assertEquals(1, leaseTable.size());
+        assertFalse(leaseTable.contains("192.168.0.1"));
+    }
+}
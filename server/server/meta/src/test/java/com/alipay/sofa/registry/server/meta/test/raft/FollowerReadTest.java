@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.raft;
+
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
+import com.alipay.sofa.jraft.entity.LeaderChangeContext;
+import com.alipay.sofa.jraft.error.RaftError;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftClient;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
+import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+import com.alipay.sofa.registry.jraft.processor.Processor;
+import com.alipay.sofa.registry.jraft.processor.ProxyHandler;
+import com.alipay.sofa.registry.store.api.annotation.FollowerRead;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * methods annotated by FollowerRead are served by local worker on follower once read index
+ * confirmed, and are sent to leader when follower can not confirm read index
+ *
+ * @author shangyu.wh
+ * @version $Id: FollowerReadTest.java, v 0.1 2026-10-19 23:40 shangyu.wh Exp $
+ */
+public class FollowerReadTest {
+
+    private static final String   GROUP   = "FollowerReadTest";
+
+    private static final String   SERVICE = "FollowerReadTestService";
+
+    private static final int      NODES   = 3;
+
+    private static final int      WRITES  = 50;
+
+    @Rule
+    public TemporaryFolder        folder  = new TemporaryFolder();
+
+    private final RaftTestCluster cluster = new RaftTestCluster(GROUP);
+
+    private RaftClient            client;
+
+    public interface ValueService {
+        @FollowerRead
+        String get(String key);
+
+        void put(String key, String value);
+    }
+
+    /**
+     * values of one node, reads served by this node are counted
+     */
+    private static class LocalValueService implements ValueService {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+
+        private final AtomicInteger       reads  = new AtomicInteger();
+
+        @Override
+        public String get(String key) {
+            reads.incrementAndGet();
+            return values.get(key);
+        }
+
+        @Override
+        public void put(String key, String value) {
+            values.put(key, value);
+        }
+    }
+
+    @After
+    public void after() {
+        if (client != null) {
+            client.shutdown();
+        }
+        cluster.shutdown();
+    }
+
+    @Test
+    public void testReadOnFollowerAfterWriteOnLeader() throws Exception {
+        List<LocalValueService> services = new ArrayList<>();
+        List<Processor> processors = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            LocalValueService service = new LocalValueService();
+            Processor processor = new Processor();
+            processor.addWorker(SERVICE, ValueService.class, service);
+            services.add(service);
+            processors.add(processor);
+        }
+        cluster.start(folder.getRoot(), processors);
+        RaftServer leader = cluster.waitLeader();
+        assertNotNull("no leader elected", leader);
+
+        client = new RaftClient(GROUP, cluster.getConf());
+        client.start();
+
+        List<RaftServer> servers = cluster.getServers();
+        int leaderIndex = servers.indexOf(leader);
+        int followerIndex = (leaderIndex + 1) % NODES;
+        int otherIndex = (leaderIndex + 2) % NODES;
+        RaftServer follower = servers.get(followerIndex);
+        ValueService followerProxy = proxy(follower.getFsm());
+
+        for (int i = 0; i < WRITES; i++) {
+            //returns once applied on leader, follower may not have applied it yet
+            followerProxy.put("key", "value" + i);
+            //read index makes follower wait for the write before reading locally
+            assertEquals("value" + i, followerProxy.get("key"));
+        }
+        assertEquals(WRITES, services.get(followerIndex).reads.get());
+        assertEquals(0, services.get(leaderIndex).reads.get());
+        assertEquals(0, services.get(otherIndex).reads.get());
+
+        //follower stopped can not confirm read index, read is sent to leader and goes through log
+        follower.shutdown();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (follower.getFsm().isfollower() && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertFalse(follower.getFsm().isfollower());
+        assertEquals("value" + (WRITES - 1), followerProxy.get("key"));
+        assertEquals(WRITES, services.get(followerIndex).reads.get());
+        assertEquals(1, services.get(leaderIndex).reads.get());
+    }
+
+    @Test
+    public void testFallbackToLeaderWhenReadIndexFails() {
+        LocalValueService service = new LocalValueService();
+        Processor processor = new Processor();
+        processor.addWorker(SERVICE, ValueService.class, service);
+        ServiceStateMachine fsm = new ServiceStateMachine(processor);
+        fsm.onStartFollowing(new LeaderChangeContext(null, 1, Status.OK()));
+        assertTrue(fsm.isfollower());
+        Node node = mock(Node.class);
+        fsm.setNode(node);
+
+        RaftClient leaderClient = mock(RaftClient.class);
+        when(leaderClient.sendRequest(any(ProcessRequest.class))).thenReturn("leader");
+        ValueService valueService = (ValueService) Proxy.newProxyInstance(
+            ValueService.class.getClassLoader(), new Class<?>[] { ValueService.class },
+            new ProxyHandler(ValueService.class, SERVICE, leaderClient, fsm));
+
+        //read index rejected
+        doAnswer(invocation -> {
+            ((ReadIndexClosure) invocation.getArguments()[1]).run(
+                new Status(RaftError.EPERM, "Not leader"), -1, null);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        assertEquals("leader", valueService.get("a"));
+
+        //read index never confirmed
+        doAnswer(invocation -> null).when(node).readIndex(any(byte[].class),
+            any(ReadIndexClosure.class));
+        assertEquals("leader", valueService.get("a"));
+
+        assertEquals(0, service.reads.get());
+        verify(leaderClient, times(2)).sendRequest(any(ProcessRequest.class));
+
+        //read index confirmed
+        doAnswer(invocation -> {
+            ((ReadIndexClosure) invocation.getArguments()[1]).run(Status.OK(), 1, null);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        valueService.get("a");
+        assertEquals(1, service.reads.get());
+        verify(leaderClient, times(2)).sendRequest(any(ProcessRequest.class));
+    }
+
+    private ValueService proxy(ServiceStateMachine fsm) {
+        return (ValueService) Proxy.newProxyInstance(ValueService.class.getClassLoader(),
+            new Class<?>[] { ValueService.class }, new ProxyHandler(ValueService.class, SERVICE,
+                client, fsm));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.raft;
+
+import com.alipay.sofa.registry.jraft.processor.MethodDispatcher;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import org.junit.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * compare dispatch time of raft service call, method resolved and unreflected by every call
+ * as former Processor did, with method handle pre-bound once by MethodDispatcher
+ *
+ * @author shangyu.wh
+ * @version $Id: MethodDispatcherBenchmarkTest.java, v 0.1 2026-10-19 22:40 shangyu.wh Exp $
+ */
+public class MethodDispatcherBenchmarkTest {
+
+    private static final Logger   LOGGER = LoggerFactory
+                                             .getLogger(MethodDispatcherBenchmarkTest.class);
+
+    private static final String[] SIGS   = { Object.class.getName(), Object.class.getName() };
+
+    private static final int      WARMUP = 20000;
+
+    private static final int      ROUNDS = 200000;
+
+    public interface RepositoryService {
+        Object put(Object key, Object value);
+    }
+
+    public static class MapRepositoryService implements RepositoryService {
+        private final Map<Object, Object> map = new ConcurrentHashMap<>();
+
+        @Override
+        public Object put(Object key, Object value) {
+            return map.put(key, value);
+        }
+    }
+
+    @Test
+    public void testDispatch() throws Throwable {
+        RepositoryService target = new MapRepositoryService();
+        Map<String, Method> methods = new HashMap<>();
+        Map<String, MethodDispatcher> dispatchers = new HashMap<>();
+        for (Method m : RepositoryService.class.getMethods()) {
+            String[] sigs = new String[m.getParameterCount()];
+            for (int i = 0; i < sigs.length; i++) {
+                sigs[i] = m.getParameterTypes()[i].getName();
+            }
+            methods.put(MethodDispatcher.methodKey(m.getName(), sigs), m);
+            dispatchers.put(MethodDispatcher.methodKey(m.getName(), sigs), new MethodDispatcher(m,
+                target));
+        }
+
+        //both paths call the same service bean
+        Object[] args = { "key", 1 };
+        assertNull(reflect(methods, target, args));
+        assertEquals(1, dispatch(dispatchers, new Object[] { "key", 2 }));
+        assertEquals(2, reflect(methods, target, args));
+
+        for (int i = 0; i < WARMUP; i++) {
+            reflect(methods, target, args);
+            dispatch(dispatchers, args);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            reflect(methods, target, args);
+        }
+        long reflectNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            dispatch(dispatchers, args);
+        }
+        long dispatchNanos = System.nanoTime() - start;
+        LOGGER.info("[dispatch] {} calls, reflection {}ns/call, method handle {}ns/call", ROUNDS,
+            reflectNanos / ROUNDS, dispatchNanos / ROUNDS);
+        assertTrue("reflection: " + reflectNanos + "ns, method handle: " + dispatchNanos + "ns",
+            dispatchNanos < reflectNanos);
+    }
+
+    /**
+     * former path, method looked up by key and unreflected on every call
+     */
+    private Object reflect(Map<String, Method> methods, Object target, Object[] args)
+                                                                                     throws Throwable {
+        Method method = methods.get(MethodDispatcher.methodKey("put", SIGS));
+        return MethodHandles.lookup().unreflect(method).bindTo(target).invokeWithArguments(args);
+    }
+
+    private Object dispatch(Map<String, MethodDispatcher> dispatchers, Object[] args)
+                                                                                     throws Throwable {
+        return dispatchers.get(MethodDispatcher.methodKey("put", SIGS)).invoke(args);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.raft;
+
+import com.alipay.sofa.jraft.Node;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import com.alipay.sofa.jraft.storage.LogManager;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+import com.alipay.sofa.registry.jraft.command.ProcessResponse;
+import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
+import com.alipay.sofa.registry.jraft.processor.Processor;
+import com.alipay.sofa.registry.jraft.processor.RaftTaskBatcher;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * requests submitted to leader of a three nodes raft group are packed into batched log entries,
+ * every request completes by its own closure in submit order and is applied on every node.
+ * every node has its own state machine, throughput is measured with batching off and on
+ *
+ * @author shangyu.wh
+ * @version $Id: RaftTaskBatcherTest.java, v 0.1 2026-10-19 22:10 shangyu.wh Exp $
+ */
+public class RaftTaskBatcherTest {
+
+    private static final String       GROUP         = "RaftTaskBatcherTest";
+
+    private static final String       SERVICE       = "RaftTaskBatcherTestService";
+
+    private static final int          NODES         = 3;
+
+    private static final int          REQUESTS      = 1000;
+
+    private static final Logger       LOGGER        = LoggerFactory
+                                                        .getLogger(RaftTaskBatcherTest.class);
+
+    @Rule
+    public TemporaryFolder            folder        = new TemporaryFolder();
+
+    private final RaftTestCluster     cluster       = new RaftTestCluster(GROUP);
+
+    private final List<List<Integer>> appliedByNode = new ArrayList<>();
+
+    private RaftTaskBatcher           batcher;
+
+    private double                    lastOps;
+
+    public interface EchoService {
+        Integer echo(Integer value);
+    }
+
+    @After
+    public void after() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        cluster.shutdown();
+    }
+
+    @Test
+    public void testBatchedApplyAcrossLeader() throws Exception {
+        List<Processor> processors = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            //every node applies log by its own state machine and its own service
+            List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+            Processor processor = new Processor();
+            processor.addWorker(SERVICE, EchoService.class, (EchoService) value -> {
+                applied.add(value);
+                return value;
+            });
+            processors.add(processor);
+            appliedByNode.add(applied);
+        }
+        cluster.start(folder.getRoot(), processors);
+        RaftServer leader = cluster.waitLeader();
+        assertNotNull("no leader elected", leader);
+
+        long unbatchedEntries = submitAll(leader, new RaftTaskBatcher(leader, 0, 1), 0);
+        double unbatchedOps = lastOps;
+        long batchedEntries = submitAll(leader, new RaftTaskBatcher(leader, 5, 16), REQUESTS);
+        double batchedOps = lastOps;
+        LOGGER.info("Raft submit {} requests, unbatched {} entries {} ops/s, batched {} entries {} ops/s",
+            REQUESTS, unbatchedEntries, (long) unbatchedOps, batchedEntries, (long) batchedOps);
+
+        //one log entry per request without batching, requests are packed into far fewer entries with batching
+        assertEquals(REQUESTS, unbatchedEntries);
+        assertTrue(batchedEntries <= REQUESTS / 4);
+        assertTrue(String.format("batched %s ops/s, unbatched %s ops/s", batchedOps, unbatchedOps),
+            batchedOps > unbatchedOps);
+
+        //followers decode batched entries and apply every request of them in submit order
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2 * REQUESTS; i++) {
+            expected.add(i);
+        }
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!allApplied(expected) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        for (List<Integer> applied : appliedByNode) {
+            synchronized (applied) {
+                assertEquals(expected, applied);
+            }
+        }
+    }
+
+    /**
+     * submit requests to leader and wait all completed
+     * @return count of raft log entries written for the requests
+     */
+    private long submitAll(RaftServer leader, RaftTaskBatcher taskBatcher, int offset)
+                                                                                     throws Exception {
+        batcher = taskBatcher;
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(REQUESTS);
+        List<LeaderTaskClosure> closures = new ArrayList<>();
+        long firstIndex = lastLogIndex(leader);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            final int value = offset + i;
+            LeaderTaskClosure closure = new LeaderTaskClosure();
+            closure.setRequest(newRequest(value));
+            closure.setDone(status -> {
+                if (status.isOk()) {
+                    completed.add(value);
+                }
+                latch.countDown();
+            });
+            closures.add(closure);
+            taskBatcher.submit(closure);
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        lastOps = REQUESTS * 1e9 / (System.nanoTime() - start);
+        taskBatcher.shutdown();
+        batcher = null;
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            expected.add(offset + i);
+            //response of batched entry goes to closure of its own request
+            ProcessResponse response = (ProcessResponse) closures.get(i).getResponse();
+            assertTrue(response.getSuccess());
+            assertEquals(offset + i, response.getEntity());
+        }
+        assertEquals(expected, completed);
+        return lastLogIndex(leader) - firstIndex;
+    }
+
+    private static long lastLogIndex(RaftServer server) {
+        return ((LogManager) ReflectionTestUtils.getField(server.getNode(), "logManager"))
+            .getLastLogIndex();
+    }
+
+    @Test
+    public void testSubmitRaceWithShutdown() throws Exception {
+        RaftServer raftServer = mock(RaftServer.class);
+        Node node = mock(Node.class);
+        when(raftServer.getNode()).thenReturn(node);
+        doAnswer(invocation -> {
+            ((Task) invocation.getArguments()[0]).getDone().run(Status.OK());
+            return null;
+        }).when(node).apply(any(Task.class));
+
+        int threads = 8;
+        int perThread = 100;
+        for (int round = 0; round < 200; round++) {
+            RaftTaskBatcher raceBatcher = new RaftTaskBatcher(raftServer, 1, 16);
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger duplicated = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread submitter = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        AtomicInteger runs = new AtomicInteger();
+                        LeaderTaskClosure closure = new LeaderTaskClosure();
+                        closure.setRequest(newRequest(i));
+                        closure.setDone(status -> {
+                            if (runs.incrementAndGet() > 1) {
+                                duplicated.incrementAndGet();
+                            }
+                            completed.incrementAndGet();
+                        });
+                        raceBatcher.submit(closure);
+                    }
+                });
+                submitters.add(submitter);
+                submitter.start();
+            }
+            start.countDown();
+            //shutdown while submitters are still running
+            while (completed.get() < round % 10 * threads) {
+                Thread.yield();
+            }
+            raceBatcher.shutdown();
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+
+            //every closure completes exactly once, applied or failed by shutdown
+            long deadline = System.currentTimeMillis() + 5000;
+            while (completed.get() < threads * perThread && System.currentTimeMillis() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertEquals(threads * perThread, completed.get());
+            assertEquals(0, duplicated.get());
+        }
+    }
+
+    private boolean allApplied(List<Integer> expected) {
+        for (List<Integer> applied : appliedByNode) {
+            if (applied.size() < expected.size()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ProcessRequest newRequest(int value) {
+        ProcessRequest request = new ProcessRequest();
+        request.setServiceName(SERVICE);
+        request.setMethodName("echo");
+        request.setMethodArgSigs(new String[] { Integer.class.getName() });
+        request.setMethodArgs(new Object[] { value });
+        return request;
+    }
+}
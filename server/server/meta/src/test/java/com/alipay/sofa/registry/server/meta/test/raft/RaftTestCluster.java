@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.raft;
+
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServerConfig;
+import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
+import com.alipay.sofa.registry.jraft.processor.Processor;
+import com.alipay.sofa.registry.net.NetUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * raft group of local servers for tests, every server applies log by its own state machine
+ * and services registered in its own processor
+ *
+ * @author shangyu.wh
+ * @version $Id: RaftTestCluster.java, v 0.1 2026-10-19 19:10 shangyu.wh Exp $
+ */
+public class RaftTestCluster {
+
+    private final String           groupId;
+
+    private final List<RaftServer> servers = new ArrayList<>();
+
+    private String                 conf;
+
+    public RaftTestCluster(String groupId) {
+        this.groupId = groupId;
+    }
+
+    /**
+     * start one server for each processor
+     * @param dataDir
+     * @param processors
+     * @throws IOException
+     */
+    public void start(File dataDir, List<Processor> processors) throws IOException {
+        String host = NetUtil.getLocalAddress().getHostAddress();
+        List<String> peers = new ArrayList<>();
+        for (int i = 0; i < processors.size(); i++) {
+            peers.add(NetUtil.genHost(host, freePort()));
+        }
+        conf = String.join(",", peers);
+        for (int i = 0; i < processors.size(); i++) {
+            RaftServer server = new RaftServer(new File(dataDir, "node" + i).getAbsolutePath(),
+                groupId, peers.get(i), conf);
+            server.setFsm(new ServiceStateMachine(processors.get(i)));
+            RaftServerConfig config = new RaftServerConfig();
+            //a burst of log entries fsynced one by one is slow on test machine, keep leader lease
+            config.setElectionTimeoutMs(5000);
+            server.start(config);
+            servers.add(server);
+        }
+    }
+
+    /**
+     * wait until a leader elected and every other server follows it
+     * @return leader, null if timeout
+     * @throws InterruptedException
+     */
+    public RaftServer waitLeader() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (System.currentTimeMillis() < deadline) {
+            RaftServer leader = null;
+            int followers = 0;
+            for (RaftServer server : servers) {
+                if (server.getFsm().isLeader()) {
+                    leader = server;
+                } else if (server.getFsm().isfollower()) {
+                    followers++;
+                }
+            }
+            if (leader != null && followers == servers.size() - 1) {
+                return leader;
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        return null;
+    }
+
+    public void shutdown() {
+        servers.forEach(RaftServer::shutdown);
+    }
+
+    /**
+     * Getter method for property <tt>servers</tt>.
+     *
+     * @return property value of servers
+     */
+    public List<RaftServer> getServers() {
+        return servers;
+    }
+
+    /**
+     * Getter method for property <tt>conf</tt>.
+     *
+     * @return property value of conf
+     */
+    public String getConf() {
+        return conf;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.snapshot;
+
+import com.alipay.sofa.registry.common.model.Node.NodeStatus;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.jraft.command.BatchProcessRequest;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.jraft.command.CompactInput;
+import com.alipay.sofa.registry.jraft.command.CompactOutput;
+import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.meta.repository.NodeRepository;
+import com.alipay.sofa.registry.server.meta.repository.RepositoryCodecs;
+import com.alipay.sofa.registry.server.meta.store.RenewDecorate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * compare log entry size, snapshot size and codec time of compact format with hessian
+ *
+ * @author shangyu.wh
+ * @version $Id: CommandCodecBenchmarkTest.java, v 0.1 2026-10-19 16:40 shangyu.wh Exp $
+ */
+public class CommandCodecBenchmarkTest {
+
+    private static final Logger   LOGGER      = LoggerFactory
+                                                  .getLogger(CommandCodecBenchmarkTest.class);
+
+    private static final String   SERVICE     = "DataRepositoryService";
+
+    private static final String[] SIGS        = { Object.class.getName(), Object.class.getName() };
+
+    private static final String   DATA_CENTER = "DefaultDataCenter";
+
+    private static final int      NODES       = 200;
+
+    private static final int      ROUNDS      = 100;
+
+    @Before
+    public void before() {
+        RepositoryCodecs.register();
+        CommandCodec.registerMethod(SERVICE, "put", SIGS);
+    }
+
+    @After
+    public void after() {
+        CommandCodec.setCompactEnabled(false);
+    }
+
+    @Test
+    public void testRequest() {
+        ProcessRequest request = newRequest(newDecorate(0));
+        byte[] hessian = encodeLog(request, false);
+        byte[] compact = encodeLog(request, true);
+
+        ProcessRequest decoded = (ProcessRequest) CommandCodec.decodeLog(compact);
+        assertEquals(SERVICE, decoded.getServiceName());
+        assertEquals("put", decoded.getMethodName());
+        assertArrayEquals(SIGS, decoded.getMethodArgSigs());
+        assertEquals(request.getMethodArgs()[0], decoded.getMethodArgs()[0]);
+        assertDecorateEquals((RenewDecorate) request.getMethodArgs()[1],
+            (RenewDecorate) decoded.getMethodArgs()[1]);
+        //former entries are still readable
+        assertEquals(SERVICE, ((ProcessRequest) CommandCodec.decodeLog(hessian)).getServiceName());
+
+        report("request", hessian.length, compact.length, request, CommandCodec::decodeLog);
+        assertTrue(compact.length * 2 < hessian.length);
+    }
+
+    @Test
+    public void testUnregisteredMethod() {
+        ProcessRequest request = newRequest(newDecorate(0));
+        request.setMethodName("replace");
+        ProcessRequest decoded = (ProcessRequest) CommandCodec.decodeLog(encodeLog(request, true));
+        assertEquals("replace", decoded.getMethodName());
+        assertArrayEquals(SIGS, decoded.getMethodArgSigs());
+    }
+
+    @Test
+    public void testBatch() {
+        List<ProcessRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            requests.add(newRequest(newDecorate(i)));
+        }
+        BatchProcessRequest batch = new BatchProcessRequest(requests);
+        byte[] hessian = encodeLog(batch, false);
+        byte[] compact = encodeLog(batch, true);
+
+        BatchProcessRequest decoded = (BatchProcessRequest) CommandCodec.decodeLog(compact);
+        assertEquals(64, decoded.getRequests().size());
+        assertDecorateEquals((RenewDecorate) requests.get(63).getMethodArgs()[1],
+            (RenewDecorate) decoded.getRequests().get(63).getMethodArgs()[1]);
+
+        report("batch", hessian.length, compact.length, batch, CommandCodec::decodeLog);
+        assertTrue(compact.length < hessian.length);
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        Map<String, RenewDecorate<DataNode>> nodeMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < NODES; i++) {
+            RenewDecorate<DataNode> decorate = newDecorate(i);
+            nodeMap.put(decorate.getRenewal().getIp(), decorate);
+        }
+        Map<String, NodeRepository> registry = new ConcurrentHashMap<>();
+        registry.put(DATA_CENTER,
+            new NodeRepository<>(DATA_CENTER, nodeMap, System.currentTimeMillis()));
+
+        byte[] hessian = CommandCodec.encodeCommand(registry);
+        byte[] compact = encodeValue(registry);
+
+        Map<String, NodeRepository> decoded = (Map<String, NodeRepository>) decodeValue(compact);
+        NodeRepository<DataNode> repository = decoded.get(DATA_CENTER);
+        assertEquals(registry.get(DATA_CENTER).getVersion(), repository.getVersion());
+        assertEquals(nodeMap.keySet(), repository.getNodeMap().keySet());
+        for (RenewDecorate<DataNode> decorate : nodeMap.values()) {
+            assertDecorateEquals(decorate,
+                repository.getNodeMap().get(decorate.getRenewal().getIp()));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            CommandCodec.decodeCommand(CommandCodec.encodeCommand(registry), Map.class);
+        }
+        long hessianNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            decodeValue(encodeValue(registry));
+        }
+        long compactNanos = System.nanoTime() - start;
+        LOGGER.info("[snapshot] {} nodes, hessian {} bytes {}us, compact {} bytes {}us", NODES,
+            hessian.length, hessianNanos / ROUNDS / 1000, compact.length, compactNanos / ROUNDS
+                                                                          / 1000);
+        assertTrue(compact.length * 2 < hessian.length);
+    }
+
+    private void report(String name, int hessianSize, int compactSize, Object command,
+                        Function<byte[], Object> decoder) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            decoder.apply(encodeLog(command, false));
+        }
+        long hessianNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            decoder.apply(encodeLog(command, true));
+        }
+        long compactNanos = System.nanoTime() - start;
+        LOGGER.info("[{}] hessian {} bytes {}us, compact {} bytes {}us", name, hessianSize,
+            hessianNanos / ROUNDS / 1000, compactSize, compactNanos / ROUNDS / 1000);
+    }
+
+    private byte[] encodeLog(Object command, boolean compact) {
+        CommandCodec.setCompactEnabled(compact);
+        try {
+            return CommandCodec.encodeLog(command);
+        } finally {
+            CommandCodec.setCompactEnabled(false);
+        }
+    }
+
+    private byte[] encodeValue(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CompactOutput(out).writeValue(value);
+        return out.toByteArray();
+    }
+
+    private Object decodeValue(byte[] bytes) throws IOException {
+        return new CompactInput(new ByteArrayInputStream(bytes)).readValue();
+    }
+
+    private void assertDecorateEquals(RenewDecorate expect, RenewDecorate actual) {
+        DataNode expectNode = (DataNode) expect.getRenewal();
+        DataNode actualNode = (DataNode) actual.getRenewal();
+        assertEquals(expectNode, actualNode);
+        assertEquals(expectNode.getNodeUrl().getAddressString(), actualNode.getNodeUrl()
+            .getAddressString());
+        assertEquals(expectNode.getRegionId(), actualNode.getRegionId());
+        assertEquals(expectNode.getRegistrationTimestamp(), actualNode.getRegistrationTimestamp());
+        assertEquals(expect.getBeginTimestamp(), actual.getBeginTimestamp());
+        assertEquals(expect.getLastUpdateTimestamp(), actual.getLastUpdateTimestamp());
+        assertEquals(expect.getDuration(), actual.getDuration());
+    }
+
+    private ProcessRequest newRequest(RenewDecorate<DataNode> decorate) {
+        ProcessRequest request = new ProcessRequest();
+        request.setServiceName(SERVICE);
+        request.setMethodName("put");
+        request.setMethodArgSigs(SIGS.clone());
+        request.setMethodArgs(new Object[] { decorate.getRenewal().getIp(), decorate });
+        return request;
+    }
+
+    private RenewDecorate<DataNode> newDecorate(int i) {
+        DataNode dataNode = new DataNode(new URL("10.0." + i / 256 + "." + i % 256, 9620),
+            DATA_CENTER, NodeStatus.WORKING);
+        dataNode.setRegionId("DefaultRegion");
+        dataNode.setRegistrationTimestamp(System.currentTimeMillis());
+        RenewDecorate<DataNode> decorate = new RenewDecorate<>(dataNode,
+            RenewDecorate.DEFAULT_DURATION_SECS);
+        decorate.reNew();
+        return decorate;
+    }
+}
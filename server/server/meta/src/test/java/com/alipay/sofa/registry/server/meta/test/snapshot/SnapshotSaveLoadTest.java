@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.snapshot;
+
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.server.meta.repository.RepositoryCodecs;
+import com.alipay.sofa.registry.server.meta.repository.service.DataRepositoryService;
+import com.alipay.sofa.registry.server.meta.store.RenewDecorate;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: SnapshotSaveLoadTest.java, v 0.1 2026-10-19 15:10 shangyu.wh Exp $
+ */
+public class SnapshotSaveLoadTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        DataRepositoryService repositoryService = newRepository();
+        String path = new File(folder.getRoot(), "DataRepositoryService").getPath();
+        assertTrue(repositoryService.save(path));
+        //raw hessian is written for followers of old version until compact codec enabled,
+        //streamed to file but same bytes as encoded in memory
+        byte[] bytes = Files.readAllBytes(new File(path).toPath());
+        assertArrayEquals(CommandCodec.encodeCommand(repositoryService.getNodeRepositories()),
+            bytes);
+        Map<?, ?> former = CommandCodec.decodeCommand(bytes, Map.class);
+        assertEquals(1, former.size());
+
+        DataRepositoryService loaded = new DataRepositoryService();
+        assertTrue(loaded.load(path));
+        assertEquals(1, loaded.getAllDataMap().size());
+        assertEquals(2, loaded.getAllData().size());
+        assertEquals(repositoryService.getAllData().keySet(), loaded.getAllData().keySet());
+    }
+
+    @Test
+    public void testSaveAndLoadCompact() throws Exception {
+        RepositoryCodecs.register();
+        DataRepositoryService repositoryService = newRepository();
+        File hessianFile = new File(folder.getRoot(), "hessian");
+        assertTrue(repositoryService.save(hessianFile.getPath()));
+        File compactFile = new File(folder.getRoot(), "compact");
+        CommandCodec.setCompactEnabled(true);
+        try {
+            assertTrue(repositoryService.save(compactFile.getPath()));
+        } finally {
+            CommandCodec.setCompactEnabled(false);
+        }
+        assertTrue(compactFile.length() < hessianFile.length());
+
+        DataRepositoryService loaded = new DataRepositoryService();
+        assertTrue(loaded.load(compactFile.getPath()));
+        assertEquals(repositoryService.getAllData().keySet(), loaded.getAllData().keySet());
+        RenewDecorate<DataNode> expect = repositoryService.getAllData().get("192.168.0.1");
+        RenewDecorate<DataNode> actual = loaded.getAllData().get("192.168.0.1");
+        assertEquals(expect.getRenewal(), actual.getRenewal());
+        assertEquals(expect.getLastUpdateTimestamp(), actual.getLastUpdateTimestamp());
+        assertEquals(expect.getDuration(), actual.getDuration());
+    }
+
+    @Test
+    public void testLoadCorrupted() throws Exception {
+        DataRepositoryService repositoryService = newRepository();
+        File file = new File(folder.getRoot(), "DataRepositoryService");
+        CommandCodec.setCompactEnabled(true);
+        try {
+            assertTrue(repositoryService.save(file.getPath()));
+        } finally {
+            CommandCodec.setCompactEnabled(false);
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 3);
+            int b = raf.read();
+            raf.seek(raf.length() - 3);
+            raf.write(b ^ 0xFF);
+        }
+        assertFalse(new DataRepositoryService().load(file.getPath()));
+    }
+
+    @Test
+    public void testLoadFormerFormat() throws Exception {
+        DataRepositoryService repositoryService = newRepository();
+        File file = new File(folder.getRoot(), "DataRepositoryService");
+        Files.write(file.toPath(),
+            CommandCodec.encodeCommand(repositoryService.getNodeRepositories()));
+
+        DataRepositoryService loaded = new DataRepositoryService();
+        assertTrue(loaded.load(file.getPath()));
+        assertEquals(2, loaded.getAllData().size());
+    }
+
+    private DataRepositoryService newRepository() {
+        DataRepositoryService repositoryService = new DataRepositoryService();
+        for (int i = 0; i < 2; i++) {
+            DataNode dataNode = new DataNode(new URL("192.168.0." + i, 9620), "DefaultDataCenter");
+            repositoryService.put(dataNode.getIp(), new RenewDecorate<>(dataNode,
+                RenewDecorate.DEFAULT_DURATION_SECS));
+        }
+        return repositoryService;
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.store;
+
+import com.alipay.sofa.registry.common.model.Node;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodes;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterNodesChanges;
+import com.alipay.sofa.registry.common.model.metaserver.DataCenterSyncStatus;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.GetChangeListRequest;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+import com.alipay.sofa.registry.common.model.metaserver.WatchDataCenterNodesRequest;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfigBean;
+import com.alipay.sofa.registry.server.meta.bootstrap.NodeConfig;
+import com.alipay.sofa.registry.server.meta.bootstrap.ServiceFactory;
+import com.alipay.sofa.registry.server.meta.node.MetaNodeService;
+import com.alipay.sofa.registry.server.meta.node.NodeService;
+import com.alipay.sofa.registry.server.meta.registry.Registry;
+import com.alipay.sofa.registry.server.meta.repository.service.DataCenterSyncStatusRepositoryService;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatchService;
+import com.alipay.sofa.registry.server.meta.store.DataCenterNodesWatcher;
+import com.alipay.sofa.registry.server.meta.store.StoreService;
+import com.alipay.sofa.registry.server.meta.remoting.connection.NodeConnectManager;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * two simulated dataCenters, local meta leader watches node list of remote dataCenter
+ *
+ * @author shangyu.wh
+ * @version $Id: DataCenterNodesWatchTest.java, v 0.1 2026-10-19 21:20 shangyu.wh Exp $
+ */
+public class DataCenterNodesWatchTest {
+
+    private static final String                                LOCAL_DATA_CENTER  = "LocalDataCenter";
+
+    private static final String                                REMOTE_DATA_CENTER = "RemoteDataCenter";
+
+    @Rule
+    public TemporaryFolder                                     folder             = new TemporaryFolder();
+
+    private MetaServerConfigBean                               metaServerConfig;
+
+    /** node list of remote dataCenter, kept by its raft */
+    private final Map<String, DataNode>                        remoteNodes        = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Long>                        remoteVersion      = new AtomicReference<>();
+
+    /** remote meta node answering watch */
+    private final AtomicReference<DataCenterNodesWatchService> remote             = new AtomicReference<>();
+
+    private Registry                                           remoteRegistry;
+
+    /** node list of remote dataCenter updated by local meta leader, kept by local raft */
+    private final Map<String, Node>                            localView          = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Long>                        localVersion       = new AtomicReference<>();
+
+    private final AtomicInteger                                localUpdates       = new AtomicInteger();
+
+    private Registry                                           localRegistry;
+
+    private MetaNodeService                                    metaNodeService;
+
+    private final List<DataCenterNodesChanges>                 responses          = new CopyOnWriteArrayList<>();
+
+    private volatile boolean                                   watchSupported     = true;
+
+    @Before
+    public void setUp() {
+        metaServerConfig = new MetaServerConfigBean();
+        metaServerConfig.setDataCenterNodesWatchTimeoutSecs(1);
+        metaServerConfig.setDataCenterNodesChangeHistorySize(4);
+
+        remoteRegistry = mock(Registry.class);
+        when(remoteRegistry.getDataCenterNodes(any(NodeType.class))).thenAnswer(invocation -> {
+            NodeType nodeType = (NodeType) invocation.getArguments()[0];
+            DataCenterNodes dataCenterNodes = new DataCenterNodes(nodeType, remoteVersion.get(),
+                REMOTE_DATA_CENTER);
+            dataCenterNodes.setNodes(nodeType == NodeType.DATA ? new HashMap<>(remoteNodes)
+                : new HashMap<>());
+            return dataCenterNodes;
+        });
+        remote.set(newRemoteMeta());
+
+        localRegistry = mock(Registry.class);
+        when(localRegistry.getAllNodes(any(NodeType.class))).thenAnswer(invocation -> {
+            NodeChangeResult nodeChangeResult = new NodeChangeResult((NodeType) invocation.getArguments()[0]);
+            Map<String, Map<String, Node>> nodes = new HashMap<>();
+            Map<String, Long> versions = new HashMap<>();
+            if (nodeChangeResult.getNodeType() == NodeType.DATA && localVersion.get() != null) {
+                nodes.put(REMOTE_DATA_CENTER, new HashMap<>(localView));
+                versions.put(REMOTE_DATA_CENTER, localVersion.get());
+            }
+            nodeChangeResult.setNodes(nodes);
+            nodeChangeResult.setDataCenterListVersions(versions);
+            return nodeChangeResult;
+        });
+        doAnswer(invocation -> {
+            DataCenterNodes dataCenterNodes = (DataCenterNodes) invocation.getArguments()[0];
+            if (dataCenterNodes.getNodeType() == NodeType.DATA) {
+                localView.clear();
+                localView.putAll(dataCenterNodes.getNodes());
+                localVersion.set(dataCenterNodes.getVersion());
+                localUpdates.incrementAndGet();
+            }
+            return null;
+        }).when(localRegistry).updateOtherDataCenterNodes(any(DataCenterNodes.class));
+
+        metaNodeService = mock(MetaNodeService.class);
+        when(metaNodeService.getNodeType()).thenReturn(NodeType.META);
+        when(metaNodeService.watchDataCenterNodes(anyString(), any(WatchDataCenterNodesRequest.class)))
+            .thenAnswer(invocation -> watch((WatchDataCenterNodesRequest) invocation.getArguments()[1]));
+        when(metaNodeService.getDataCenterNodes(any(GetChangeListRequest.class))).thenAnswer(
+            invocation -> remoteRegistry.getDataCenterNodes(
+                ((GetChangeListRequest) invocation.getArguments()[0]).getNodeType()));
+
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        Map<String, NodeService> nodeServices = new HashMap<>();
+        nodeServices.put("metaNodeService", metaNodeService);
+        when(applicationContext.getBeansOfType(NodeService.class)).thenReturn(nodeServices);
+        when(applicationContext.getBeansOfType(StoreService.class)).thenReturn(new HashMap<>());
+        when(applicationContext.getBeansOfType(NodeConnectManager.class)).thenReturn(
+            new HashMap<>());
+        new ServiceFactory().setApplicationContext(applicationContext);
+
+        remoteVersion.set(100L);
+        putRemote("192.168.1.1", "192.168.1.2", "192.168.1.3");
+    }
+
+    @Test
+    public void testConvergeThroughDeltas() throws Exception {
+        NodeConfig nodeConfig = mock(NodeConfig.class);
+        Map<String, Collection<String>> metaNodeIP = new HashMap<>();
+        metaNodeIP.put(LOCAL_DATA_CENTER, Arrays.asList("10.0.0.1"));
+        metaNodeIP.put(REMOTE_DATA_CENTER, Arrays.asList("10.0.1.1"));
+        when(nodeConfig.getMetaNodeIP()).thenReturn(metaNodeIP);
+        when(nodeConfig.getLocalDataCenter()).thenReturn(LOCAL_DATA_CENTER);
+
+        DataCenterSyncStatusRepositoryService statusService = new DataCenterSyncStatusRepositoryService();
+        DataCenterNodesWatcher watcher = newWatcher(statusService);
+        ReflectionTestUtils.setField(watcher, "nodeConfig", nodeConfig);
+        watcher.start();
+        try {
+            awaitConverged();
+            assertEquals(Long.valueOf(100L), localVersion.get());
+
+            remoteVersion.set(101L);
+            remoteNodes.remove("192.168.1.1");
+            putRemote("192.168.1.4");
+            remote.get().fireChange();
+            awaitConverged();
+            assertEquals(Long.valueOf(101L), localVersion.get());
+
+            DataCenterNodesChanges last = lastChanged();
+            assertFalse(last.isFull());
+            assertEquals(1, last.getChangedNodes().size());
+            assertTrue(last.getRemovedNodes().contains("192.168.1.1"));
+
+            DataCenterSyncStatus status = awaitStatus(watcher, NodeType.DATA, last.getRevision());
+            assertEquals(remote.get().getEpoch(), status.getEpoch());
+            assertEquals(last.getRevision(), status.getRevision());
+            assertEquals(3, status.getNodeCount());
+            assertTrue(status.getStalenessMillis() < TimeUnit.SECONDS.toMillis(10));
+            assertNotNull(awaitStatus(watcher, NodeType.META, 1));
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    @Test
+    public void testRemoteFailover() {
+        DataCenterNodesWatcher watcher = newWatcher(new DataCenterSyncStatusRepositoryService());
+        assertTrue(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        assertTrue(lastChanged().isFull());
+        assertEquals(1, localUpdates.get());
+
+        putRemote("192.168.1.4");
+        remoteVersion.set(101L);
+        assertTrue(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        assertFalse(lastChanged().isFull());
+        assertEquals(remoteNodes, localView);
+
+        //another remote meta node answers, its epoch is new and its version is older
+        remote.set(newRemoteMeta());
+        remoteVersion.set(99L);
+        remoteNodes.remove("192.168.1.2");
+        assertTrue(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        assertTrue(lastChanged().isFull());
+        assertEquals(remoteNodes, localView);
+        assertEquals(Long.valueOf(102L), localVersion.get());
+        assertEquals(3, localUpdates.get());
+
+        //remote run former version without watch
+        watchSupported = false;
+        putRemote("192.168.1.5");
+        assertFalse(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        assertEquals(remoteNodes, localView);
+        assertEquals(Long.valueOf(103L), localVersion.get());
+
+        //watch supported again, stream is resynced in full
+        watchSupported = true;
+        responses.clear();
+        assertTrue(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        assertTrue(lastChanged().isFull());
+        assertEquals(4, localUpdates.get());
+    }
+
+    @Test
+    public void testLocalFailoverResume() throws Exception {
+        DataCenterSyncStatusRepositoryService statusService = new DataCenterSyncStatusRepositoryService();
+        DataCenterNodesWatcher watcher = newWatcher(statusService);
+        assertTrue(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        putRemote("192.168.1.4");
+        remoteVersion.set(101L);
+        assertTrue(watcher.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        watcher.stop();
+
+        //new leader loads status from raft snapshot
+        String path = new File(folder.getRoot(), "status").getAbsolutePath();
+        assertTrue(statusService.save(path));
+        DataCenterSyncStatusRepositoryService loaded = new DataCenterSyncStatusRepositoryService();
+        assertTrue(loaded.load(path));
+        assertEquals(statusService.getAll().keySet(), loaded.getAll().keySet());
+
+        putRemote("192.168.1.5");
+        remoteVersion.set(102L);
+        DataCenterNodesWatcher newLeader = newWatcher(loaded);
+        assertTrue(newLeader.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        DataCenterNodesChanges last = lastChanged();
+        assertFalse(last.isFull());
+        assertEquals(1, last.getChangedNodes().size());
+        assertEquals(remoteNodes, localView);
+        assertEquals(Long.valueOf(102L), localVersion.get());
+
+        //local node list changed after status kept, resume is not safe
+        localVersion.set(1L);
+        putRemote("192.168.1.6");
+        DataCenterNodesWatcher another = newWatcher(loaded);
+        assertTrue(another.sync(REMOTE_DATA_CENTER, NodeType.DATA));
+        assertTrue(lastChanged().isFull());
+        assertEquals(remoteNodes, localView);
+        assertNotEquals(Long.valueOf(1L), localVersion.get());
+    }
+
+    private DataCenterNodesWatchService newRemoteMeta() {
+        DataCenterNodesWatchService watchService = new DataCenterNodesWatchService();
+        ReflectionTestUtils.setField(watchService, "metaServerRegistry", remoteRegistry);
+        ReflectionTestUtils.setField(watchService, "metaServerConfig", metaServerConfig);
+        return watchService;
+    }
+
+    private DataCenterNodesWatcher newWatcher(DataCenterSyncStatusRepositoryService statusService) {
+        DataCenterNodesWatcher watcher = new DataCenterNodesWatcher();
+        ReflectionTestUtils.setField(watcher, "metaServerRegistry", localRegistry);
+        ReflectionTestUtils.setField(watcher, "metaServerConfig", metaServerConfig);
+        ReflectionTestUtils.setField(watcher, "dataCenterSyncStatusService", statusService);
+        return watcher;
+    }
+
+    private DataCenterNodesChanges watch(WatchDataCenterNodesRequest request)
+                                                                             throws InterruptedException {
+        if (!watchSupported) {
+            throw new RuntimeException("No processor found for WatchDataCenterNodesRequest");
+        }
+        BlockingQueue<DataCenterNodesChanges> queue = new ArrayBlockingQueue<>(1);
+        remote.get().watch(request, queue::offer);
+        DataCenterNodesChanges changes = queue.poll(request.getTimeoutMillis() + 1000,
+            TimeUnit.MILLISECONDS);
+        if (changes == null) {
+            throw new RuntimeException("Watch timeout!");
+        }
+        if (request.getNodeType() == NodeType.DATA) {
+            responses.add(changes);
+        }
+        return changes;
+    }
+
+    private DataCenterNodesChanges lastChanged() {
+        List<DataCenterNodesChanges> changed = new ArrayList<>();
+        responses.stream().filter(changes -> !changes.isEmpty()).forEach(changed::add);
+        return changed.get(changed.size() - 1);
+    }
+
+    private void awaitConverged() throws InterruptedException {
+        for (int i = 0; i < 100 && !remoteNodes.equals(localView); i++) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        assertEquals(remoteNodes, localView);
+    }
+
+    private DataCenterSyncStatus awaitStatus(DataCenterNodesWatcher watcher, NodeType nodeType,
+                                             long revision) throws InterruptedException {
+        String key = DataCenterSyncStatus.key(REMOTE_DATA_CENTER, nodeType);
+        for (int i = 0; i < 100; i++) {
+            DataCenterSyncStatus status = watcher.getSyncStatuses().get(key);
+            if (status != null && status.getRevision() >= revision) {
+                return status;
+            }
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        return watcher.getSyncStatuses().get(key);
+    }
+
+    private void putRemote(String... ips) {
+        for (String ip : ips) {
+            remoteNodes.put(ip, new DataNode(new URL(ip, 0), REMOTE_DATA_CENTER));
+        }
+    }
+}
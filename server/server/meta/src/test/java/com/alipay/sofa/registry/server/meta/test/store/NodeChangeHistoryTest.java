@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.store;
+
+import com.alipay.sofa.registry.common.model.GenericResponse;
+import com.alipay.sofa.registry.common.model.Node.NodeType;
+import com.alipay.sofa.registry.common.model.metaserver.DataNode;
+import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.server.meta.store.NodeChangeHistory;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: NodeChangeHistoryTest.java, v 0.1 2026-10-19 14:50 shangyu.wh Exp $
+ */
+public class NodeChangeHistoryTest {
+
+    private static final String DATA_CENTER = "DefaultDataCenter";
+
+    private static final String RECEIVER    = "192.168.1.1";
+
+    @Test
+    public void testDeltaSinceConfirmedRevision() {
+        NodeChangeHistory<DataNode> history = new NodeChangeHistory<>();
+        Map<String, Map<String, DataNode>> nodes = nodes("192.168.0.1", "192.168.0.2",
+            "192.168.0.3", "192.168.0.4");
+        NodeChangeResult<DataNode> first = result(nodes, history.record(nodes, 16));
+
+        //receiver not confirm any revision
+        assertSame(first, history.select(first, RECEIVER));
+        history.confirm(RECEIVER, NodeChangeHistory.getReceivedRevision(new GenericResponse<Long>()
+            .fillSucceed(first.getRevision())));
+        Map<String, Map<String, DataNode>> received = first.applyTo(null);
+
+        nodes.get(DATA_CENTER).remove("192.168.0.1");
+        history.record(nodes, 16);
+        nodes.get(DATA_CENTER).put("192.168.0.5", node("192.168.0.5"));
+        NodeChangeResult<DataNode> last = result(nodes, history.record(nodes, 16));
+        assertTrue(last.getRevision() > first.getRevision());
+
+        NodeChangeResult<DataNode> delta = history.select(last, RECEIVER);
+        assertTrue(delta.isDelta());
+        assertEquals(first.getRevision(), delta.getBaseRevision());
+        assertEquals(1, delta.getNodes().get(DATA_CENTER).size());
+        assertTrue(delta.getRemovedNodes().get(DATA_CENTER).contains("192.168.0.1"));
+        assertEquals(nodes, delta.applyTo(received));
+
+        //unchanged node list keeps revision
+        assertEquals(last.getRevision().longValue(), history.record(nodes, 16));
+    }
+
+    @Test
+    public void testFullWhenTooFarBehind() {
+        NodeChangeHistory<DataNode> history = new NodeChangeHistory<>();
+        Map<String, Map<String, DataNode>> nodes = nodes("192.168.0.1", "192.168.0.2",
+            "192.168.0.3", "192.168.0.4");
+        history.confirm(RECEIVER, history.record(nodes, 2));
+        for (int i = 5; i < 8; i++) {
+            nodes.get(DATA_CENTER).put("192.168.0." + i, node("192.168.0." + i));
+            history.record(nodes, 2);
+        }
+        NodeChangeResult<DataNode> last = result(nodes, history.record(nodes, 2));
+        assertFalse(history.select(last, RECEIVER).isDelta());
+
+        history.confirm(RECEIVER, last.getRevision());
+        assertTrue(history.select(last, RECEIVER).isDelta());
+
+        //push failed or receiver not support revision
+        history.confirm(RECEIVER, NodeChangeHistory.getReceivedRevision(null));
+        assertFalse(history.select(last, RECEIVER).isDelta());
+
+        history.confirm(RECEIVER, last.getRevision());
+        history.reset();
+        assertFalse(history.select(last, RECEIVER).isDelta());
+        assertNull(NodeChangeHistory.getReceivedRevision(new GenericResponse<Long>()
+            .fillFailed("not match")));
+    }
+
+    private NodeChangeResult<DataNode> result(Map<String, Map<String, DataNode>> nodes,
+                                              long revision) {
+        NodeChangeResult<DataNode> nodeChangeResult = new NodeChangeResult<>(NodeType.DATA);
+        Map<String, Map<String, DataNode>> copy = new HashMap<>();
+        nodes.forEach((dataCenter, dataNodes) -> copy.put(dataCenter, new HashMap<>(dataNodes)));
+        nodeChangeResult.setNodes(copy);
+        nodeChangeResult.setRevision(revision);
+        nodeChangeResult.setLocalDataCenter(DATA_CENTER);
+        return nodeChangeResult;
+    }
+
+    private Map<String, Map<String, DataNode>> nodes(String... ips) {
+        Map<String, DataNode> dataNodes = new HashMap<>();
+        for (String ip : ips) {
+            dataNodes.put(ip, node(ip));
+        }
+        Map<String, Map<String, DataNode>> nodes = new HashMap<>();
+        nodes.put(DATA_CENTER, dataNodes);
+        return nodes;
+    }
+
+    private DataNode node(String ip) {
+        return new DataNode(new URL(ip, 0), DATA_CENTER);
+    }
+}
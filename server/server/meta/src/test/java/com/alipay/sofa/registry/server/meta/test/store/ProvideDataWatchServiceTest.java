@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.meta.test.store;
+
+import com.alipay.sofa.registry.common.model.console.PersistenceData;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideDataChanges;
+import com.alipay.sofa.registry.common.model.metaserver.WatchProvideDataRequest;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.jraft.service.PersistenceDataDBService;
+import com.alipay.sofa.registry.server.meta.bootstrap.MetaServerConfig;
+import com.alipay.sofa.registry.server.meta.store.ProvideDataWatchService;
+import com.alipay.sofa.registry.store.api.DBChanges;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: ProvideDataWatchServiceTest.java, v 0.1 2026-10-19 19:30 shangyu.wh Exp $
+ */
+public class ProvideDataWatchServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testChangesSinceRevision() throws Exception {
+        PersistenceDataDBService dbService = new PersistenceDataDBService();
+        dbService.setMaxChanges(3);
+        dbService.put("a#@#1", data("a", 1L));
+        dbService.put("b#@#1", data("b", 1L));
+        long revision = dbService.getRevision();
+        dbService.put("a#@#1", data("a", 2L));
+        dbService.remove("b#@#1");
+        assertEquals(revision + 2, dbService.getRevision());
+
+        DBChanges changes = changes(dbService, null, revision);
+        assertFalse(changes.isFull());
+        assertEquals(2, changes.getEntries().size());
+        assertEquals(revision + 1, changes.getEntries().get(0).getRevision());
+        assertTrue(changes.getEntries().get(1).isRemoved());
+        assertEquals(1, changes(dbService, "a", revision).getEntries().size());
+        assertEquals(0, changes(dbService, null, dbService.getRevision()).getEntries().size());
+
+        DBChanges all = (DBChanges) dbService.getWithPrefix("a").getEntity();
+        assertTrue(all.isFull());
+        assertEquals(revision + 1, all.getEntries().get(0).getRevision());
+
+        //first change has been compacted
+        dbService.put("c#@#1", data("c", 1L));
+        DBChanges compacted = changes(dbService, null, 0);
+        assertTrue(compacted.isFull());
+        assertEquals(2, compacted.getEntries().size());
+        assertFalse(changes(dbService, null, revision).isFull());
+    }
+
+    @Test
+    public void testSnapshotKeepRevisions() throws Exception {
+        PersistenceDataDBService dbService = new PersistenceDataDBService();
+        dbService.put("a#@#1", data("a", 1L));
+        dbService.put("b#@#1", data("b", 1L));
+        dbService.remove("a#@#1");
+        String path = new File(folder.getRoot(), "PersistenceDataDBService").getPath();
+        CommandCodec.setCompactEnabled(true);
+        try {
+            assertTrue(((PersistenceDataDBService) dbService.copy()).save(path));
+        } finally {
+            CommandCodec.setCompactEnabled(false);
+        }
+
+        PersistenceDataDBService loaded = new PersistenceDataDBService();
+        assertTrue(loaded.load(path));
+        assertEquals(dbService.getRevision(), loaded.getRevision());
+        DBChanges changes = changes(loaded, null, 1);
+        assertEquals(2, changes.getEntries().size());
+        assertNull(loaded.get("a#@#1").getEntity());
+
+        //snapshot saved before revisions
+        ConcurrentHashMap<String, Object> former = new ConcurrentHashMap<>();
+        former.put("a#@#1", data("a", 1L));
+        File file = new File(folder.getRoot(), "Former");
+        Files.write(file.toPath(), CommandCodec.encodeCommand(former));
+        loaded = new PersistenceDataDBService();
+        assertTrue(loaded.load(file.getPath()));
+        assertEquals(1, loaded.getRevision());
+        assertTrue(changes(loaded, null, 0).isFull());
+        assertEquals(0, changes(loaded, null, 1).getEntries().size());
+
+        //former format is written for followers of old version until compact codec enabled
+        assertTrue(((PersistenceDataDBService) dbService.copy()).save(path));
+        Map<?, ?> saved = CommandCodec.decodeCommand(Files.readAllBytes(new File(path).toPath()),
+            ConcurrentHashMap.class);
+        assertEquals(1, saved.size());
+        loaded = new PersistenceDataDBService();
+        assertTrue(loaded.load(path));
+        assertEquals(1, loaded.getRevision());
+        assertEquals("b", ((PersistenceData) loaded.get("b#@#1").getEntity()).getDataId());
+    }
+
+    @Test
+    public void testWatchHeldUntilChange() throws Exception {
+        PersistenceDataDBService dbService = new PersistenceDataDBService();
+        MetaServerConfig metaServerConfig = mock(MetaServerConfig.class);
+        when(metaServerConfig.getProvideDataWatchMaxTimeoutSecs()).thenReturn(60);
+        ProvideDataWatchService watchService = new ProvideDataWatchService();
+        ReflectionTestUtils.setField(watchService, "persistenceDataDBService", dbService);
+        ReflectionTestUtils.setField(watchService, "metaServerConfig", metaServerConfig);
+        dbService.setChangeListener(watchService::fireChange);
+
+        dbService.put("a#@#1", data("a", 1L));
+        long revision = dbService.getRevision();
+        BlockingQueue<ProvideDataChanges> responses = new ArrayBlockingQueue<>(4);
+        String epoch = dbService.getEpoch();
+        watchService.watch(new WatchProvideDataRequest(null, epoch, revision, 30000),
+            responses::add);
+        watchService.watch(new WatchProvideDataRequest("b", epoch, revision, 100), responses::add);
+        assertEquals(2, watchService.getPendingSize());
+
+        //watcher of b timeout without changes
+        ProvideDataChanges timeout = responses.poll(5, TimeUnit.SECONDS);
+        assertTrue(timeout.isEmpty());
+
+        dbService.put("a#@#1", data("a", 2L));
+        ProvideDataChanges changes = responses.poll(5, TimeUnit.SECONDS);
+        assertEquals(revision + 1, changes.getRevision());
+        assertEquals(2L, changes.getChangedData().get(0).getVersion().longValue());
+        assertEquals("2", changes.getChangedData().get(0).getProvideData().getObject());
+        assertEquals(0, watchService.getPendingSize());
+
+        //watch from revision got last time after reconnect
+        dbService.remove("a#@#1");
+        watchService.watch(new WatchProvideDataRequest(null, changes.getEpoch(), changes
+            .getRevision(), 30000), responses::add);
+        changes = responses.poll(5, TimeUnit.SECONDS);
+        assertFalse(changes.isFull());
+        assertEquals("a#@#1", changes.getRemovedDataInfoIds().get(0));
+    }
+
+    @Test
+    public void testWatchLegacySnapshotAcrossLeaderChange() throws Exception {
+        //replica 1 loads former snapshot taken before b put, replica 2 loads one taken after
+        ConcurrentHashMap<String, Object> former = new ConcurrentHashMap<>();
+        former.put("a#@#1", data("a", 1L));
+        PersistenceDataDBService replica1 = loadFormer("Former1", former);
+        former.put("b#@#1", data("b", 1L));
+        PersistenceDataDBService replica2 = loadFormer("Former2", former);
+        assertFalse(replica1.getEpoch().equals(replica2.getEpoch()));
+
+        //same raft log applied after their snapshots
+        replica1.put("b#@#1", data("b", 1L));
+        for (PersistenceDataDBService replica : Arrays.asList(replica1, replica2)) {
+            replica.put("c#@#1", data("c", 1L));
+        }
+
+        BlockingQueue<ProvideDataChanges> responses = new ArrayBlockingQueue<>(4);
+        watchService(replica1).watch(new WatchProvideDataRequest(null, null, 0, 30000),
+            responses::add);
+        ProvideDataChanges changes = responses.poll(5, TimeUnit.SECONDS);
+        assertTrue(changes.isFull());
+        assertEquals(3, changes.getChangedData().size());
+        assertEquals(replica1.getEpoch(), changes.getEpoch());
+
+        //a removed after leader changed to replica 2, at the revision watcher got from replica 1
+        for (PersistenceDataDBService replica : Arrays.asList(replica1, replica2)) {
+            replica.remove("a#@#1");
+        }
+        assertEquals(changes.getRevision(), replica2.getRevision());
+        watchService(replica2).watch(new WatchProvideDataRequest(null, changes.getEpoch(),
+            changes.getRevision(), 30000), responses::add);
+        changes = responses.poll(5, TimeUnit.SECONDS);
+        assertTrue(changes.isFull());
+        assertEquals(replica2.getEpoch(), changes.getEpoch());
+        Set<String> dataInfoIds = new HashSet<>();
+        changes.getChangedData().forEach(data -> dataInfoIds.add(data.getDataInfoId()));
+        assertEquals(new HashSet<>(Arrays.asList("b#@#1", "c#@#1")), dataInfoIds);
+
+        //watch resumes from revision of new leader
+        replica2.put("d#@#1", data("d", 1L));
+        watchService(replica2).watch(new WatchProvideDataRequest(null, changes.getEpoch(),
+            changes.getRevision(), 30000), responses::add);
+        changes = responses.poll(5, TimeUnit.SECONDS);
+        assertFalse(changes.isFull());
+        assertEquals("d#@#1", changes.getChangedData().get(0).getDataInfoId());
+    }
+
+    private PersistenceDataDBService loadFormer(String fileName, Map<String, Object> former)
+                                                                                            throws Exception {
+        File file = new File(folder.getRoot(), fileName);
+        Files.write(file.toPath(), CommandCodec.encodeCommand(new ConcurrentHashMap<>(former)));
+        PersistenceDataDBService dbService = new PersistenceDataDBService();
+        assertTrue(dbService.load(file.getPath()));
+        return dbService;
+    }
+
+    private ProvideDataWatchService watchService(PersistenceDataDBService dbService) {
+        MetaServerConfig metaServerConfig = mock(MetaServerConfig.class);
+        when(metaServerConfig.getProvideDataWatchMaxTimeoutSecs()).thenReturn(60);
+        ProvideDataWatchService watchService = new ProvideDataWatchService();
+        ReflectionTestUtils.setField(watchService, "persistenceDataDBService", dbService);
+        ReflectionTestUtils.setField(watchService, "metaServerConfig", metaServerConfig);
+        return watchService;
+    }
+
+    private DBChanges changes(PersistenceDataDBService dbService, String prefix, long revision) {
+        return (DBChanges) dbService.getChanges(prefix, dbService.getEpoch(), revision).getEntity();
+    }
+
+    private PersistenceData data(String dataId, Long version) {
+        PersistenceData data = new PersistenceData();
+        data.setDataId(dataId);
+        data.setGroup("1");
+        data.setInstanceId("");
+        data.setData(String.valueOf(version));
+        data.setVersion(version);
+        return data;
+    }
+}
@@ -38,6 +38,8 @@ import com.alipay.sofa.registry.server.session.node.SessionProcessIdGenerator;
 import com.alipay.sofa.registry.server.session.remoting.handler.AbstractClientHandler;
 import com.alipay.sofa.registry.server.session.remoting.handler.AbstractServerHandler;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
+import com.alipay.sofa.registry.server.session.scheduler.PushRecoveryRamp;
+import com.alipay.sofa.registry.server.session.scheduler.PushScheduler;
 import com.alipay.sofa.registry.task.batcher.TaskDispatchers;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -75,6 +77,12 @@ public class SessionServerBootstrap {
     @Autowired
     private ExecutorManager                   executorManager;
 
+    @Autowired
+    private PushScheduler                     pushScheduler;
+
+    @Autowired
+    private PushRecoveryRamp                  pushRecoveryRamp;
+
     @Resource(name = "serverHandlers")
     private Collection<AbstractServerHandler> serverHandlers;
 
@@ -156,6 +164,8 @@ public class SessionServerBootstrap {
         try {
             LOGGER.info("{} Shutting down Session Server..", new Date().toString());
 
+            pushScheduler.stop();
+            pushRecoveryRamp.destroy();
             executorManager.stopScheduler();
             TaskDispatchers.stopDefaultSingleTaskDispatcher();
             closeClients();
@@ -179,6 +189,7 @@ public class SessionServerBootstrap {
         try {
             if (schedulerStart.compareAndSet(false, true)) {
                 executorManager.startScheduler();
+                pushRecoveryRamp.startReleaser();
                 LOGGER.info("Session Scheduler started!");
             }
         } catch (Exception e) {
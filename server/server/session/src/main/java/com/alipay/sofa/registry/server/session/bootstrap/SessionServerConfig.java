@@ -127,6 +127,36 @@ public interface SessionServerConfig {
 
     long getPushDataTaskRetryIncrementDelay();
 
+    long getDatumCacheMaxWeight();
+
+    long getDatumCacheUnversionedExpireMillis();
+
+    long getPushBatchLingerMillis();
+
+    int getPushBatchMaxSize();
+
+    int getPushRateLimitPerSecond();
+
+    int getPushBytesLimitPerSecond();
+
+    int getPushDrrQuantumBytes();
+
+    int getFetchDataVersionConcurrency();
+
+    long getPublishBatchLingerMillis();
+
+    int getPublishBatchMaxSize();
+
+    int getClientDisconnectGraceSeconds();
+
+    int getPushRecoveryInitialRate();
+
+    int getPushRecoveryMaxRate();
+
+    int getPushRecoveryRampSeconds();
+
+    int getProvideDataWatchTimeoutSecs();
+
     int getNumberOfReplicas();
 
     boolean isStopPushSwitch();
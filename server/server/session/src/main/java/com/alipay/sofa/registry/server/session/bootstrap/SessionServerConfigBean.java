@@ -56,7 +56,7 @@ public class SessionServerConfigBean implements SessionServerConfig {
 
     private int                schedulerGetSessionNodeExpBackOffBound  = 10;
 
-    private int                schedulerFetchDataTimeout               = 1;               //MINUTES
+    private int                schedulerFetchDataTimeout               = 1;                //MINUTES
 
     private int                schedulerFetchDataFirstDelay            = 30;
 
@@ -90,7 +90,7 @@ public class SessionServerConfigBean implements SessionServerConfig {
 
     private int                defaultSessionExecutorMinPoolSize       = cpus();
 
-    private int                defaultSessionExecutorMaxPoolSize       = cpus() * 5;      //5*CPUs by default
+    private int                defaultSessionExecutorMaxPoolSize       = cpus() * 5;       //5*CPUs by default
 
     private long               defaultSessionExecutorKeepAliveTime     = 60;
 
@@ -128,7 +128,7 @@ public class SessionServerConfigBean implements SessionServerConfig {
 
     private int                dataChangeFetchTaskWorkerSize           = 100;
 
-    private int                clientNodeExchangeTimeOut               = 1000;            //time out cause netty HashedWheelTimer occupy a lot of mem
+    private int                clientNodeExchangeTimeOut               = 1000;             //time out cause netty HashedWheelTimer occupy a lot of mem
 
     private int                dataNodeExchangeTimeOut                 = 3000;
 
@@ -144,6 +144,50 @@ public class SessionServerConfigBean implements SessionServerConfig {
 
     private long               pushDataTaskRetryIncrementDelay         = 500;
 
+    /** max estimated bytes of datum cache */
+    private long               datumCacheMaxWeight                     = 256 * 1024 * 1024;
+
+    /** cached value without datum version is reloaded after expired, in case its change is missed */
+    private long               datumCacheUnversionedExpireMillis       = 31000;
+
+    /** wait time to pack pushes of one client connection, 0 means push one by one */
+    private long               pushBatchLingerMillis                   = 5;
+
+    private int                pushBatchMaxSize                        = 64;
+
+    /** global push budget, 0 means unlimited */
+    private int                pushRateLimitPerSecond                  = 20000;
+
+    private int                pushBytesLimitPerSecond                 = 200 * 1024 * 1024;
+
+    /** bytes every client connection may push in one round */
+    private int                pushDrrQuantumBytes                     = 64 * 1024;
+
+    /** data nodes fetched version from at the same time */
+    private int                fetchDataVersionConcurrency             = 16;
+
+    /**
+     * 0 means publisher is registered to data node one by one,
+     * data node of old version can not handle batch publish, enable it after all data nodes upgraded
+     */
+    private long               publishBatchLingerMillis                = 0;
+
+    private int                publishBatchMaxSize                     = 100;
+
+    /** registrations of disconnected client are kept for reconnect, 0 means cancel at once */
+    private int                clientDisconnectGraceSeconds            = 5;
+
+    /** dataInfoIds released per second when push switch is opened, 0 means release all at once */
+    private int                pushRecoveryInitialRate                 = 100;
+
+    private int                pushRecoveryMaxRate                     = 2000;
+
+    /** release rate grows from initial rate to max rate in ramp seconds */
+    private int                pushRecoveryRampSeconds                 = 60;
+
+    /** seconds a ProvideData watch request is held by meta server if nothing changed */
+    private int                provideDataWatchTimeoutSecs             = 30;
+
     private String             sessionServerRegion;
 
     private String             sessionServerDataCenter;
@@ -1317,6 +1361,291 @@ public class SessionServerConfigBean implements SessionServerConfig {
         this.pushDataTaskRetryIncrementDelay = pushDataTaskRetryIncrementDelay;
     }
 
+    /**
+     * Getter method for property <tt>datumCacheMaxWeight</tt>.
+     *
+     * @return property value of datumCacheMaxWeight
+     */
+    @Override
+    public long getDatumCacheMaxWeight() {
+        return datumCacheMaxWeight;
+    }
+
+    /**
+     * Setter method for property <tt>datumCacheMaxWeight</tt>.
+     *
+     * @param datumCacheMaxWeight  value to be assigned to property datumCacheMaxWeight
+     */
+    public void setDatumCacheMaxWeight(long datumCacheMaxWeight) {
+        this.datumCacheMaxWeight = datumCacheMaxWeight;
+    }
+
+    /**
+     * Getter method for property <tt>datumCacheUnversionedExpireMillis</tt>.
+     *
+     * @return property value of datumCacheUnversionedExpireMillis
+     */
+    @Override
+    public long getDatumCacheUnversionedExpireMillis() {
+        return datumCacheUnversionedExpireMillis;
+    }
+
+    /**
+     * Setter method for property <tt>datumCacheUnversionedExpireMillis</tt>.
+     *
+     * @param datumCacheUnversionedExpireMillis  value to be assigned to property datumCacheUnversionedExpireMillis
+     */
+    public void setDatumCacheUnversionedExpireMillis(long datumCacheUnversionedExpireMillis) {
+        this.datumCacheUnversionedExpireMillis = datumCacheUnversionedExpireMillis;
+    }
+
+    /**
+     * Getter method for property <tt>pushBatchLingerMillis</tt>.
+     *
+     * @return property value of pushBatchLingerMillis
+     */
+    @Override
+    public long getPushBatchLingerMillis() {
+        return pushBatchLingerMillis;
+    }
+
+    /**
+     * Setter method for property <tt>pushBatchLingerMillis</tt>.
+     *
+     * @param pushBatchLingerMillis  value to be assigned to property pushBatchLingerMillis
+     */
+    public void setPushBatchLingerMillis(long pushBatchLingerMillis) {
+        this.pushBatchLingerMillis = pushBatchLingerMillis;
+    }
+
+    /**
+     * Getter method for property <tt>pushBatchMaxSize</tt>.
+     *
+     * @return property value of pushBatchMaxSize
+     */
+    @Override
+    public int getPushBatchMaxSize() {
+        return pushBatchMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>pushBatchMaxSize</tt>.
+     *
+     * @param pushBatchMaxSize  value to be assigned to property pushBatchMaxSize
+     */
+    public void setPushBatchMaxSize(int pushBatchMaxSize) {
+        this.pushBatchMaxSize = pushBatchMaxSize;
+    }
+
+    /**
+     * Getter method for property <tt>pushRateLimitPerSecond</tt>.
+     *
+     * @return property value of pushRateLimitPerSecond
+     */
+    @Override
+    public int getPushRateLimitPerSecond() {
+        return pushRateLimitPerSecond;
+    }
+
+    /**
+     * Setter method for property <tt>pushRateLimitPerSecond</tt>.
+     *
+     * @param pushRateLimitPerSecond  value to be assigned to property pushRateLimitPerSecond
+     */
+    public void setPushRateLimitPerSecond(int pushRateLimitPerSecond) {
+        this.pushRateLimitPerSecond = pushRateLimitPerSecond;
+    }
+
+    /**
+     * Getter method for property <tt>pushBytesLimitPerSecond</tt>.
+     *
+     * @return property value of pushBytesLimitPerSecond
+     */
+    @Override
+    public int getPushBytesLimitPerSecond() {
+        return pushBytesLimitPerSecond;
+    }
+
+    /**
+     * Setter method for property <tt>pushBytesLimitPerSecond</tt>.
+     *
+     * @param pushBytesLimitPerSecond  value to be assigned to property pushBytesLimitPerSecond
+     */
+    public void setPushBytesLimitPerSecond(int pushBytesLimitPerSecond) {
+        this.pushBytesLimitPerSecond = pushBytesLimitPerSecond;
+    }
+
+    /**
+     * Getter method for property <tt>pushDrrQuantumBytes</tt>.
+     *
+     * @return property value of pushDrrQuantumBytes
+     */
+    @Override
+    public int getPushDrrQuantumBytes() {
+        return pushDrrQuantumBytes;
+    }
+
+    /**
+     * Setter method for property <tt>pushDrrQuantumBytes</tt>.
+     *
+     * @param pushDrrQuantumBytes  value to be assigned to property pushDrrQuantumBytes
+     */
+    public void setPushDrrQuantumBytes(int pushDrrQuantumBytes) {
+        this.pushDrrQuantumBytes = pushDrrQuantumBytes;
+    }
+
+    /**
+     * Getter method for property <tt>fetchDataVersionConcurrency</tt>.
+     *
+     * @return property value of fetchDataVersionConcurrency
+     */
+    @Override
+    public int getFetchDataVersionConcurrency() {
+        return fetchDataVersionConcurrency;
+    }
+
+    /**
+     * Setter method for property <tt>fetchDataVersionConcurrency</tt>.
+     *
+     * @param fetchDataVersionConcurrency  value to be assigned to property fetchDataVersionConcurrency
+     */
+    public void setFetchDataVersionConcurrency(int fetchDataVersionConcurrency) {
+        this.fetchDataVersionConcurrency = fetchDataVersionConcurrency;
+    }
+
+    /**
+     * Getter method for property <tt>publishBatchLingerMillis</tt>.
+     *
+     * @return property value of publishBatchLingerMillis
+     */
+    @Override
+    public long getPublishBatchLingerMillis() {
+        return publishBatchLingerMillis;
+    }
+
+    /**
+     * Setter method for property <tt>publishBatchLingerMillis</tt>.
+     *
+     * @param publishBatchLingerMillis  value to be assigned to property publishBatchLingerMillis
+     */
+    public void setPublishBatchLingerMillis(long publishBatchLingerMillis) {
+        this.publishBatchLingerMillis = publishBatchLingerMillis;
+    }
+
+    /**
+     * Getter method for property <tt>publishBatchMaxSize</tt>.
+     *
+     * @return property value of publishBatchMaxSize
+     */
+    @Override
+    public int getPublishBatchMaxSize() {
+        return publishBatchMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>publishBatchMaxSize</tt>.
+     *
+     * @param publishBatchMaxSize  value to be assigned to property publishBatchMaxSize
+     */
+    public void setPublishBatchMaxSize(int publishBatchMaxSize) {
+        this.publishBatchMaxSize = publishBatchMaxSize;
+    }
+
+    /**
+     * Getter method for property <tt>clientDisconnectGraceSeconds</tt>.
+     *
+     * @return property value of clientDisconnectGraceSeconds
+     */
+    @Override
+    public int getClientDisconnectGraceSeconds() {
+        return clientDisconnectGraceSeconds;
+    }
+
+    /**
+     * Setter method for property <tt>clientDisconnectGraceSeconds</tt>.
+     *
+     * @param clientDisconnectGraceSeconds  value to be assigned to property clientDisconnectGraceSeconds
+     */
+    public void setClientDisconnectGraceSeconds(int clientDisconnectGraceSeconds) {
+        this.clientDisconnectGraceSeconds = clientDisconnectGraceSeconds;
+    }
+
+    /**
+     * Getter method for property <tt>pushRecoveryInitialRate</tt>.
+     *
+     * @return property value of pushRecoveryInitialRate
+     */
+    @Override
+    public int getPushRecoveryInitialRate() {
+        return pushRecoveryInitialRate;
+    }
+
+    /**
+     * Setter method for property <tt>pushRecoveryInitialRate</tt>.
+     *
+     * @param pushRecoveryInitialRate  value to be assigned to property pushRecoveryInitialRate
+     */
+    public void setPushRecoveryInitialRate(int pushRecoveryInitialRate) {
+        this.pushRecoveryInitialRate = pushRecoveryInitialRate;
+    }
+
+    /**
+     * Getter method for property <tt>pushRecoveryMaxRate</tt>.
+     *
+     * @return property value of pushRecoveryMaxRate
+     */
+    @Override
+    public int getPushRecoveryMaxRate() {
+        return pushRecoveryMaxRate;
+    }
+
+    /**
+     * Setter method for property <tt>pushRecoveryMaxRate</tt>.
+     *
+     * @param pushRecoveryMaxRate  value to be assigned to property pushRecoveryMaxRate
+     */
+    public void setPushRecoveryMaxRate(int pushRecoveryMaxRate) {
+        this.pushRecoveryMaxRate = pushRecoveryMaxRate;
+    }
+
+    /**
+     * Getter method for property <tt>pushRecoveryRampSeconds</tt>.
+     *
+     * @return property value of pushRecoveryRampSeconds
+     */
+    @Override
+    public int getPushRecoveryRampSeconds() {
+        return pushRecoveryRampSeconds;
+    }
+
+    /**
+     * Setter method for property <tt>pushRecoveryRampSeconds</tt>.
+     *
+     * @param pushRecoveryRampSeconds  value to be assigned to property pushRecoveryRampSeconds
+     */
+    public void setPushRecoveryRampSeconds(int pushRecoveryRampSeconds) {
+        this.pushRecoveryRampSeconds = pushRecoveryRampSeconds;
+    }
+
+    /**
+     * Getter method for property <tt>provideDataWatchTimeoutSecs</tt>.
+     *
+     * @return property value of provideDataWatchTimeoutSecs
+     */
+    @Override
+    public int getProvideDataWatchTimeoutSecs() {
+        return provideDataWatchTimeoutSecs;
+    }
+
+    /**
+     * Setter method for property <tt>provideDataWatchTimeoutSecs</tt>.
+     *
+     * @param provideDataWatchTimeoutSecs  value to be assigned to property provideDataWatchTimeoutSecs
+     */
+    public void setProvideDataWatchTimeoutSecs(int provideDataWatchTimeoutSecs) {
+        this.provideDataWatchTimeoutSecs = provideDataWatchTimeoutSecs;
+    }
+
     @Override
     public boolean isInvalidForeverZone(String zoneId) {
 
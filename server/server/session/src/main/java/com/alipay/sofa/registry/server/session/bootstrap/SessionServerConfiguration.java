@@ -47,10 +47,13 @@ import com.alipay.sofa.registry.server.session.node.processor.DataNodeSingleTask
 import com.alipay.sofa.registry.server.session.node.processor.MetaNodeSingleTaskProcessor;
 import com.alipay.sofa.registry.server.session.node.service.ClientNodeService;
 import com.alipay.sofa.registry.server.session.node.service.ClientNodeServiceImpl;
+import com.alipay.sofa.registry.server.session.node.service.ClientPushBatcher;
+import com.alipay.sofa.registry.server.session.node.service.DataNodePublishBatcher;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeServiceImpl;
 import com.alipay.sofa.registry.server.session.node.service.MetaNodeService;
 import com.alipay.sofa.registry.server.session.node.service.MetaNodeServiceImpl;
+import com.alipay.sofa.registry.server.session.registry.DisconnectGraceWindow;
 import com.alipay.sofa.registry.server.session.registry.Registry;
 import com.alipay.sofa.registry.server.session.registry.SessionRegistry;
 import com.alipay.sofa.registry.server.session.remoting.ClientNodeExchanger;
@@ -72,9 +75,13 @@ import com.alipay.sofa.registry.server.session.remoting.handler.SyncConfigHandle
 import com.alipay.sofa.registry.server.session.remoting.handler.WatcherHandler;
 import com.alipay.sofa.registry.server.session.resource.ClientsOpenResource;
 import com.alipay.sofa.registry.server.session.resource.HealthResource;
+import com.alipay.sofa.registry.server.session.resource.MetricsResource;
 import com.alipay.sofa.registry.server.session.resource.SessionDigestResource;
 import com.alipay.sofa.registry.server.session.resource.SessionOpenResource;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
+import com.alipay.sofa.registry.server.session.scheduler.ProvideDataWatcher;
+import com.alipay.sofa.registry.server.session.scheduler.PushRecoveryRamp;
+import com.alipay.sofa.registry.server.session.scheduler.PushScheduler;
 import com.alipay.sofa.registry.server.session.scheduler.timertask.SyncClientsHeartbeatTask;
 import com.alipay.sofa.registry.server.session.store.DataStore;
 import com.alipay.sofa.registry.server.session.store.Interests;
@@ -307,6 +314,11 @@ public class SessionServerConfiguration {
         public ClientsOpenResource clientsOpenResource() {
             return new ClientsOpenResource();
         }
+
+        @Bean
+        public MetricsResource metricsResource() {
+            return new MetricsResource();
+        }
     }
 
     @Configuration
@@ -317,6 +329,11 @@ public class SessionServerConfiguration {
             return new SessionRegistry();
         }
 
+        @Bean
+        public DisconnectGraceWindow disconnectGraceWindow() {
+            return new DisconnectGraceWindow();
+        }
+
         @Bean
         @ConditionalOnMissingBean
         public Interests sessionInterests() {
@@ -356,6 +373,16 @@ public class SessionServerConfiguration {
             return new ClientNodeServiceImpl();
         }
 
+        @Bean
+        public ClientPushBatcher clientPushBatcher() {
+            return new ClientPushBatcher();
+        }
+
+        @Bean
+        public DataNodePublishBatcher dataNodePublishBatcher() {
+            return new DataNodePublishBatcher();
+        }
+
         @Bean
         public NodeManager dataNodeManager() {
             return new DataNodeManager();
@@ -386,8 +413,8 @@ public class SessionServerConfiguration {
     public static class SessionCacheConfiguration {
 
         @Bean
-        public CacheService sessionCacheService() {
-            return new SessionCacheService();
+        public CacheService sessionCacheService(SessionServerConfig sessionServerConfig) {
+            return new SessionCacheService(sessionServerConfig);
         }
 
         @Bean(name = "com.alipay.sofa.registry.server.session.cache.DatumKey")
@@ -519,6 +546,22 @@ public class SessionServerConfiguration {
             return new ExecutorManager(sessionServerConfig);
         }
 
+        @Bean
+        public PushScheduler pushScheduler(SessionServerConfig sessionServerConfig,
+                                           ExecutorManager executorManager) {
+            return new PushScheduler(sessionServerConfig, executorManager);
+        }
+
+        @Bean
+        public PushRecoveryRamp pushRecoveryRamp() {
+            return new PushRecoveryRamp();
+        }
+
+        @Bean
+        public ProvideDataWatcher provideDataWatcher() {
+            return new ProvideDataWatcher();
+        }
+
     }
 
     @Configuration
@@ -31,4 +31,14 @@ public interface CacheGenerator {
      */
     Value generatePayload(Key key);
 
+    /**
+     * generator cache which payload version should not be lower than version
+     *
+     * @param key
+     * @param version
+     * @return
+     */
+    default Value generatePayload(Key key, long version) {
+        return generatePayload(key);
+    }
 }
\ No newline at end of file
@@ -32,6 +32,14 @@ public interface CacheService {
      */
     Value getValue(Key key);
 
+    /**
+     * get cache by key, reload it if cached value is older than version
+     * @param key
+     * @param version
+     * @return
+     */
+    Value getValue(Key key, long version);
+
     Map<Key, Value> getValues(final Iterable<Key> keys);
 
     /**
@@ -39,4 +47,12 @@ public interface CacheService {
      * @param keys
      */
     void invalidate(Key... keys);
-}
\ No newline at end of file
+
+    /**
+     * invalidate cache by key only if cached value is older than version
+     * @param key
+     * @param version
+     * @return true if cache has been invalidated
+     */
+    boolean invalidate(Key key, long version);
+}
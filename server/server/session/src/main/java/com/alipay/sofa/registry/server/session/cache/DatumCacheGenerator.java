@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.session.cache;
 
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
@@ -38,6 +39,11 @@ public class DatumCacheGenerator implements CacheGenerator {
 
     @Override
     public Value generatePayload(Key key) {
+        return generatePayload(key, Value.NO_VERSION);
+    }
+
+    @Override
+    public Value generatePayload(Key key, long version) {
 
         EntityType entityType = key.getEntityType();
         if (entityType instanceof DatumKey) {
@@ -47,7 +53,8 @@ public class DatumCacheGenerator implements CacheGenerator {
             String dataInfoId = datumKey.getDataInfoId();
 
             if (isNotBlank(dataCenter) && isNotBlank(dataInfoId)) {
-                return new Value(dataNodeService.fetchDataCenter(dataInfoId, dataCenter));
+                Datum datum = dataNodeService.fetchDataCenter(dataInfoId, dataCenter, version);
+                return datum == null ? new Value(null, Value.NO_VERSION) : new DatumValue(datum);
             } else {
                 LOGGER.warn("Input key " + key + " invalid!");
             }
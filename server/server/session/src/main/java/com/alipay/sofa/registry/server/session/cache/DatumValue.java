@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.cache;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.server.session.converter.ReceivedDataConverter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * cached datum with its publisher data partitioned by zone,
+ * the partition is built once when this version of datum is loaded and shared by all pushes of it
+ *
+ * @author shangyu.wh
+ * @version $Id: DatumValue.java, v 0.1 2026-10-19 16:20 shangyu.wh Exp $
+ */
+public class DatumValue extends Value<Datum> {
+
+    private final Map<String/*zone*/, List<DataBox>> zonePartition;
+
+    /**
+     * constructor
+     * @param datum
+     */
+    public DatumValue(Datum datum) {
+        super(datum, datum.getVersion());
+        this.zonePartition = ReceivedDataConverter.getZonePartition(datum);
+    }
+
+    /**
+     * Getter method for property <tt>zonePartition</tt>.
+     *
+     * @return property value of zonePartition
+     */
+    public Map<String, List<DataBox>> getZonePartition() {
+        return zonePartition;
+    }
+}
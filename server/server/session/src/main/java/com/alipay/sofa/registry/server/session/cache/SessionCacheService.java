@@ -16,17 +16,22 @@
  */
 package com.alipay.sofa.registry.server.session.cache;
 
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.utils.DatumUtils;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -35,10 +40,18 @@ import java.util.concurrent.TimeUnit;
  */
 public class SessionCacheService implements CacheService {
 
-    private static final Logger            LOGGER = LoggerFactory
-                                                      .getLogger(SessionCacheService.class);
+    private static final Logger            LOGGER         = LoggerFactory
+                                                              .getLogger(SessionCacheService.class);
 
+    private static final int               DEFAULT_WEIGHT = 1024;
+
+    /**
+     * values are kept until a newer version arrives or evicted by weight,
+     * only unversioned values are expired by time
+     */
     private final LoadingCache<Key, Value> readWriteCacheMap;
+
+    private final long                     unversionedExpireMillis;
     /**
      * injectQ
      */
@@ -46,18 +59,35 @@ public class SessionCacheService implements CacheService {
 
     /**
      * constructor
+     * @param sessionServerConfig
      */
-    public SessionCacheService() {
-        this.readWriteCacheMap = CacheBuilder.newBuilder().maximumSize(1000L)
-            .expireAfterWrite(31000, TimeUnit.MILLISECONDS).build(new CacheLoader<Key, Value>() {
+    public SessionCacheService(SessionServerConfig sessionServerConfig) {
+        this.unversionedExpireMillis = sessionServerConfig.getDatumCacheUnversionedExpireMillis();
+        this.readWriteCacheMap = CacheBuilder.newBuilder()
+            .maximumWeight(sessionServerConfig.getDatumCacheMaxWeight())
+            .weigher((Weigher<Key, Value>) (key, value) -> weigh(value)).recordStats()
+            .build(new CacheLoader<Key, Value>() {
                 @Override
                 public Value load(Key key) {
-                    return generatePayload(key);
+                    return generatePayload(key, Value.NO_VERSION);
                 }
             });
     }
 
-    private Value generatePayload(Key key) {
+    private static int weigh(Value value) {
+        Object payload = value.getPayload();
+        if (payload instanceof Datum) {
+            int weight = DatumUtils.estimateSize((Datum) payload);
+            if (value instanceof DatumValue) {
+                //zone partition shares data string with datum, only boxes are counted
+                weight += DatumUtils.estimateSize(((DatumValue) value).getZonePartition());
+            }
+            return weight;
+        }
+        return DEFAULT_WEIGHT;
+    }
+
+    private Value generatePayload(Key key, long version) {
         if (key == null || key.getEntityType() == null) {
             throw new IllegalArgumentException("Generator key input error!");
         }
@@ -68,7 +98,7 @@ public class SessionCacheService implements CacheService {
                 EntityType entityType = key.getEntityType();
                 CacheGenerator cacheGenerator = cacheGenerators
                     .get(entityType.getClass().getName());
-                value = cacheGenerator.generatePayload(key);
+                value = cacheGenerator.generatePayload(key, version);
                 break;
             case JSON:
                 break;
@@ -88,6 +118,44 @@ public class SessionCacheService implements CacheService {
         Value payload = null;
         try {
             payload = readWriteCacheMap.get(key);
+            if (isExpired(payload)) {
+                readWriteCacheMap.invalidate(key);
+                payload = readWriteCacheMap.get(key);
+            }
+        } catch (Throwable t) {
+            LOGGER.error("Cannot get value for key :" + key, t);
+        }
+        return payload;
+    }
+
+    @Override
+    public Value getValue(final Key key, long version) {
+        Value payload = getValue(key, () -> generatePayload(key, version));
+        if (payload != null && (payload.getVersion() < version || isExpired(payload))) {
+            //cached value is loaded before the newer version arrived or expired, reload it
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Reload the response cache key : {}, cached version {} < {}",
+                    key.getEntityType(), payload.getVersion(), version);
+            }
+            readWriteCacheMap.invalidate(key);
+            payload = getValue(key, () -> generatePayload(key, version));
+        }
+        return payload;
+    }
+
+    /**
+     * unversioned value may never be invalidated by version, reload it after expired
+     */
+    private boolean isExpired(Value value) {
+        return value != null
+               && value.isUnversioned()
+               && System.currentTimeMillis() - value.getCreateTimestamp() >= unversionedExpireMillis;
+    }
+
+    private Value getValue(final Key key, Callable<Value> loader) {
+        Value payload = null;
+        try {
+            payload = readWriteCacheMap.get(key, loader);
         } catch (Throwable t) {
             LOGGER.error("Cannot get value for key :" + key, t);
         }
@@ -117,6 +185,39 @@ public class SessionCacheService implements CacheService {
         }
     }
 
+    @Override
+    public boolean invalidate(Key key, long version) {
+        Value payload = readWriteCacheMap.getIfPresent(key);
+        if (payload != null && payload.getVersion() >= version) {
+            //cached value is not older, keep it
+            return false;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Invalidating the response cache key : {} with version {}",
+                key.getEntityType(), version);
+        }
+        readWriteCacheMap.invalidate(key);
+        return true;
+    }
+
+    /**
+     * snapshot of hit, miss, load latency and eviction statistics
+     *
+     * @return cache stats
+     */
+    public CacheStats getCacheStats() {
+        return readWriteCacheMap.stats();
+    }
+
+    /**
+     * approximate number of cached values
+     *
+     * @return size
+     */
+    public long size() {
+        return readWriteCacheMap.size();
+    }
+
     /**
      * Setter method for property <tt>cacheGenerators</tt>.
      *
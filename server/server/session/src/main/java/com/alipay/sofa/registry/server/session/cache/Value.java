@@ -24,14 +24,33 @@ package com.alipay.sofa.registry.server.session.cache;
  */
 public class Value<T> {
 
-    private final T payload;
+    /**
+     * version of payload unknown, any versioned invalidate will remove it
+     */
+    public static final long NO_VERSION      = Long.MIN_VALUE;
+
+    private final T          payload;
+
+    private final long       version;
+
+    private final long       createTimestamp = System.currentTimeMillis();
 
     /**
      * constructor
      * @param payload
      */
     public Value(T payload) {
+        this(payload, NO_VERSION);
+    }
+
+    /**
+     * constructor
+     * @param payload
+     * @param version
+     */
+    public Value(T payload, long version) {
         this.payload = payload;
+        this.version = version;
     }
 
     /**
@@ -42,4 +61,30 @@ public class Value<T> {
     public T getPayload() {
         return payload;
     }
-}
\ No newline at end of file
+
+    /**
+     * Getter method for property <tt>version</tt>.
+     *
+     * @return property value of version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * value has no payload or its version is unknown
+     * @return
+     */
+    public boolean isUnversioned() {
+        return payload == null || version == NO_VERSION;
+    }
+
+    /**
+     * Getter method for property <tt>createTimestamp</tt>.
+     *
+     * @return property value of createTimestamp
+     */
+    public long getCreateTimestamp() {
+        return createTimestamp;
+    }
+}
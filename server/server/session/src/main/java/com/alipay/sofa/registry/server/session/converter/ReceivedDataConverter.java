@@ -94,6 +94,29 @@ public class ReceivedDataConverter {
             return null;
         }
 
+        return getReceivedDataMulti(datum, scope, subscriberRegisterIdList, regionLocal,
+            getReceivedDataZoneMap(datum, zonePredicate));
+    }
+
+    /**
+     * Standard RunEnv, use zone data already built by getReceivedDataZoneMap,
+     * so all subscribers of same datum version and scope share one payload
+     * @param datum the datum
+     * @param scope the scope
+     * @param subscriberRegisterIdList the subscriber register id list
+     * @param regionLocal the region local
+     * @param zoneDatas the shared zone data, must not be modified
+     * @return received data multi
+     */
+    public static ReceivedData getReceivedDataMulti(Datum datum, ScopeEnum scope,
+                                                    List subscriberRegisterIdList,
+                                                    String regionLocal,
+                                                    Map<String/*zone*/, List<DataBox>> zoneDatas) {
+
+        if (null == datum) {
+            return null;
+        }
+
         // todo judge server mode to decide local region
         ReceivedData receivedData = new ReceivedData();
         receivedData.setDataId(datum.getDataId());
@@ -107,12 +130,24 @@ public class ReceivedDataConverter {
 
         receivedData.setLocalZone(regionLocal);
 
+        receivedData.setData(zoneDatas);
+
+        return receivedData;
+    }
+
+    /**
+     * convert datum publishers to client data group by zone
+     * @param datum the datum
+     * @param zonePredicate zone need be filtered
+     * @return zone data map
+     */
+    public static Map<String/*zone*/, List<DataBox>> getReceivedDataZoneMap(Datum datum,
+                                                                             Predicate<String> zonePredicate) {
         Map<String/*zone*/, List<DataBox>> swizzMap = new HashMap<>();
 
         Map<String, Publisher> publisherMap = datum.getPubMap();
         if (publisherMap == null || publisherMap.isEmpty()) {
-            receivedData.setData(swizzMap);
-            return receivedData;
+            return swizzMap;
         }
         for (Entry<String, Publisher> entry : publisherMap.entrySet()) {
             Publisher publisher = entry.getValue();
@@ -132,17 +167,45 @@ public class ReceivedDataConverter {
             fillRegionDatas(regionDatas, datas);
 
         }
+        return swizzMap;
+    }
 
-        receivedData.setData(swizzMap);
+    /**
+     * partition all publisher data of datum by zone,
+     * plain HashMap and ArrayList are kept for client deserialization, the result must not be modified
+     * @param datum the datum
+     * @return zone partition
+     */
+    public static Map<String/*zone*/, List<DataBox>> getZonePartition(Datum datum) {
+        return getReceivedDataZoneMap(datum, zone -> false);
+    }
 
-        return receivedData;
+    /**
+     * select client data from zone partition, zone data lists are shared with partition
+     * @param zonePartition the zone partition of datum
+     * @param zonePredicate zone need be filtered
+     * @return zone data map, the partition itself if no zone is filtered
+     */
+    public static Map<String/*zone*/, List<DataBox>> getReceivedDataZoneMap(Map<String/*zone*/, List<DataBox>> zonePartition,
+                                                                             Predicate<String> zonePredicate) {
+        Map<String/*zone*/, List<DataBox>> swizzMap = null;
+        for (Entry<String, List<DataBox>> entry : zonePartition.entrySet()) {
+            if (zonePredicate.test(entry.getKey())) {
+                if (swizzMap == null) {
+                    swizzMap = new HashMap<>(zonePartition);
+                }
+                swizzMap.remove(entry.getKey());
+            }
+        }
+        return swizzMap == null ? zonePartition : swizzMap;
     }
 
     private static void fillRegionDatas(List<DataBox> regionDatas, List<ServerDataBox> datas) {
         for (ServerDataBox data : datas) {
             DataBox box = new DataBox();
             try {
-                String dataString = (String) data.extract();
+                //datum from data node has been decoded on arrival, see DatumUtils.decodeDatum
+                String dataString = (String) (data.isInBytes() ? data.extract() : data.getObject());
                 box.setData(dataString);
                 regionDatas.add(box);
             } catch (Exception e) {
@@ -151,6 +214,69 @@ public class ReceivedDataConverter {
         }
     }
 
+    /**
+     * copy received data for other subscribers, zone data is shared and must not be modified
+     * @param receivedData the received data to copy
+     * @param subscriberRegisterIdList the subscriber register id list
+     * @return received data
+     */
+    public static ReceivedData copyReceivedData(ReceivedData receivedData,
+                                                List subscriberRegisterIdList) {
+        ReceivedData copy = new ReceivedData();
+        copy.setDataId(receivedData.getDataId());
+        copy.setGroup(receivedData.getGroup());
+        copy.setInstanceId(receivedData.getInstanceId());
+        copy.setSubscriberRegistIds(subscriberRegisterIdList);
+        copy.setSegment(receivedData.getSegment());
+        copy.setScope(receivedData.getScope());
+        copy.setVersion(receivedData.getVersion());
+        copy.setLocalZone(receivedData.getLocalZone());
+        copy.setData(receivedData.getData());
+        return copy;
+    }
+
+    /**
+     * estimate bytes of received data push
+     * @param receivedData the received data
+     * @return estimated bytes
+     */
+    public static int estimateSize(ReceivedData receivedData) {
+        return estimateSize(estimateDataSize(receivedData.getData()), receivedData);
+    }
+
+    /**
+     * estimate bytes of zone data, which is shared by pushes of all connections,
+     * so estimate it once per push
+     * @param data zone data
+     * @return estimated bytes
+     */
+    public static long estimateDataSize(Map<String/*zone*/, List<DataBox>> data) {
+        long size = 0;
+        if (data != null) {
+            for (List<DataBox> boxes : data.values()) {
+                for (DataBox box : boxes) {
+                    size += 16 + (box.getData() == null ? 0 : box.getData().length());
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * estimate bytes of received data push with zone data estimated before
+     * @param dataSize estimated bytes of zone data
+     * @param receivedData the received data
+     * @return estimated bytes
+     */
+    public static int estimateSize(long dataSize, ReceivedData receivedData) {
+        long size = 256 + dataSize;
+        List registerIds = receivedData.getSubscriberRegistIds();
+        if (registerIds != null) {
+            size += 64L * registerIds.size();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
     /**
      * Cloud RunEnv
      * @param datums the datums 
@@ -22,9 +22,12 @@ import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.common.model.store.Watcher;
 import com.alipay.sofa.registry.converter.ScopeEnumConverter;
+import com.alipay.sofa.registry.core.constants.AttributeConstants;
 import com.alipay.sofa.registry.core.model.ConfiguratorRegister;
 import com.alipay.sofa.registry.core.model.SubscriberRegister;
 
+import java.util.Map;
+
 /**
  * The type Subscriber converter.
  * @author shangyu.wh
@@ -59,6 +62,12 @@ public class SubscriberConverter {
 
             subscriber.setClientVersion(ClientVersion.StoreData);
 
+            Map<String, String> attributes = source.getAttributes();
+            if (attributes != null && attributes.containsKey(AttributeConstants.SUPPORT_MULTI_PUSH)) {
+                subscriber.getAttributes().put(AttributeConstants.SUPPORT_MULTI_PUSH,
+                        attributes.get(AttributeConstants.SUPPORT_MULTI_PUSH));
+            }
+
             DataInfo dataInfo = new DataInfo(source.getInstanceId(), source.getDataId(),
                     source.getGroup());
 
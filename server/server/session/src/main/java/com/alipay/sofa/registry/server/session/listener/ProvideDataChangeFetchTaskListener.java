@@ -20,6 +20,7 @@ import com.alipay.sofa.registry.remoting.exchange.Exchange;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.node.service.MetaNodeService;
 import com.alipay.sofa.registry.server.session.registry.Registry;
+import com.alipay.sofa.registry.server.session.scheduler.PushRecoveryRamp;
 import com.alipay.sofa.registry.server.session.scheduler.task.ProvideDataChangeFetchTask;
 import com.alipay.sofa.registry.server.session.scheduler.task.SessionTask;
 import com.alipay.sofa.registry.server.session.store.Interests;
@@ -67,6 +68,9 @@ public class ProvideDataChangeFetchTaskListener implements TaskListener {
     @Autowired
     private Registry                            sessionRegistry;
 
+    @Autowired
+    private PushRecoveryRamp                    pushRecoveryRamp;
+
     private TaskDispatcher<String, SessionTask> singleTaskDispatcher;
 
     private TaskProcessor                       dataNodeSingleTaskProcessor;
@@ -93,7 +97,7 @@ public class ProvideDataChangeFetchTaskListener implements TaskListener {
 
         SessionTask provideDataChangeFetchTask = new ProvideDataChangeFetchTask(
             sessionServerConfig, taskListenerManager, metaNodeService, sessionWatchers,
-            boltExchange, sessionInterests, sessionRegistry);
+            boltExchange, sessionInterests, sessionRegistry, pushRecoveryRamp);
 
         provideDataChangeFetchTask.setTaskEvent(event);
 
@@ -16,8 +16,11 @@
  */
 package com.alipay.sofa.registry.server.session.listener;
 
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.model.ReceivedConfigData;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.node.service.ClientNodeService;
+import com.alipay.sofa.registry.server.session.registry.DisconnectGraceWindow;
 import com.alipay.sofa.registry.server.session.scheduler.task.ReceivedConfigDataPushTask;
 import com.alipay.sofa.registry.server.session.scheduler.task.SessionTask;
 import com.alipay.sofa.registry.server.session.strategy.ReceivedConfigDataPushTaskStrategy;
@@ -29,6 +32,8 @@ import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
 import com.alipay.sofa.registry.task.listener.TaskListener;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Map;
+
 /**
  *
  * @author shangyu.wh
@@ -45,6 +50,9 @@ public class ReceivedConfigDataPushTaskListener implements TaskListener {
     @Autowired
     private ReceivedConfigDataPushTaskStrategy  receivedConfigDataPushTaskStrategy;
 
+    @Autowired
+    private DisconnectGraceWindow               disconnectGraceWindow;
+
     private TaskDispatcher<String, SessionTask> singleTaskDispatcher;
 
     private TaskProcessor                       clientNodeSingleTaskProcessor;
@@ -69,6 +77,12 @@ public class ReceivedConfigDataPushTaskListener implements TaskListener {
 
     @Override
     public void handleEvent(TaskEvent event) {
+        Map<ReceivedConfigData, URL> parameter = (Map<ReceivedConfigData, URL>) event.getEventObj();
+        URL url = parameter.values().iterator().next();
+        //watchers on parked connection are pushed again when client registers again
+        if (disconnectGraceWindow.isParked(url.getAddressString())) {
+            return;
+        }
 
         SessionTask receivedConfigDataPushTask = new ReceivedConfigDataPushTask(
             sessionServerConfig, clientNodeService, receivedConfigDataPushTaskStrategy);
@@ -16,14 +16,20 @@
  */
 package com.alipay.sofa.registry.server.session.listener;
 
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.exchange.Exchange;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.converter.ReceivedDataConverter;
 import com.alipay.sofa.registry.server.session.node.service.ClientNodeService;
+import com.alipay.sofa.registry.server.session.node.service.ClientPushBatcher;
+import com.alipay.sofa.registry.server.session.registry.DisconnectGraceWindow;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
+import com.alipay.sofa.registry.server.session.scheduler.PushScheduler;
+import com.alipay.sofa.registry.server.session.scheduler.task.Constant;
 import com.alipay.sofa.registry.server.session.scheduler.task.ReceivedDataMultiPushTask;
-import com.alipay.sofa.registry.server.session.scheduler.task.SessionTask;
 import com.alipay.sofa.registry.server.session.strategy.ReceivedDataMultiPushTaskStrategy;
 import com.alipay.sofa.registry.server.session.strategy.TaskMergeProcessorStrategy;
 import com.alipay.sofa.registry.task.batcher.TaskProcessor;
@@ -35,6 +41,8 @@ import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer.TaskFailedCallback;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,12 +61,21 @@ public class ReceivedDataMultiPushTaskListener implements TaskListener, PushTask
     @Autowired
     private ClientNodeService                 clientNodeService;
 
+    @Autowired
+    private ClientPushBatcher                 clientPushBatcher;
+
     @Autowired
     private ExecutorManager                   executorManager;
 
+    @Autowired
+    private PushScheduler                     pushScheduler;
+
     @Autowired
     private Exchange                          boltExchange;
 
+    @Autowired
+    private DisconnectGraceWindow             disconnectGraceWindow;
+
     @Autowired
     private ReceivedDataMultiPushTaskStrategy receivedDataMultiPushTaskStrategy;
 
@@ -109,12 +126,33 @@ public class ReceivedDataMultiPushTaskListener implements TaskListener, PushTask
     @Override
     public void executePushAsync(TaskEvent event) {
 
-        SessionTask receivedDataMultiPushTask = new ReceivedDataMultiPushTask(sessionServerConfig, clientNodeService,
-                executorManager, boltExchange, receivedDataMultiPushTaskStrategy,asyncHashedWheelTimer);
+        ReceivedDataMultiPushTask receivedDataMultiPushTask = new ReceivedDataMultiPushTask(sessionServerConfig, clientNodeService,
+                clientPushBatcher, executorManager, boltExchange, receivedDataMultiPushTaskStrategy,asyncHashedWheelTimer);
         receivedDataMultiPushTask.setTaskEvent(event);
 
-        executorManager.getPushTaskExecutor()
-                .execute(() -> clientNodeSingleTaskProcessor.process(receivedDataMultiPushTask));
+        Map<ReceivedData, URL> parameter = (Map<ReceivedData, URL>) event.getEventObj();
+        Entry<ReceivedData, URL> entry = parameter.entrySet().iterator().next();
+        URL url = entry.getValue();
+        if (disconnectGraceWindow.isParked(url.getAddressString())) {
+            receivedDataMultiPushTask.skip();
+            return;
+        }
+        boolean firstSubscribe = Boolean.TRUE.equals(event
+            .getAttribute(Constant.PUSH_FIRST_SUBSCRIBE));
+
+        //zone data is estimated once by task firing pushes of all connections
+        Long dataSize = (Long) event.getAttribute(Constant.PUSH_DATA_SIZE);
+        int size = dataSize == null ? ReceivedDataConverter.estimateSize(entry.getKey())
+            : ReceivedDataConverter.estimateSize(dataSize, entry.getKey());
+
+        pushScheduler.schedule(url, firstSubscribe, size, () -> {
+            //connection may be parked while push is pending in scheduler
+            if (disconnectGraceWindow.isParked(url.getAddressString())) {
+                receivedDataMultiPushTask.skip();
+            } else {
+                clientNodeSingleTaskProcessor.process(receivedDataMultiPushTask);
+            }
+        }, receivedDataMultiPushTask::reject);
     }
 
     @Override
@@ -16,6 +16,8 @@
  */
 package com.alipay.sofa.registry.server.session.listener;
 
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.cache.CacheService;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
@@ -29,8 +31,13 @@ import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
 import com.alipay.sofa.registry.task.listener.TaskListener;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  *
  * @author shangyu.wh
@@ -38,30 +45,46 @@ import org.springframework.beans.factory.annotation.Autowired;
  */
 public class SubscriberRegisterFetchTaskListener implements TaskListener {
 
+    public static final String                             METRIC_PREFIX = "SubscriberRegisterFetch";
+
     @Autowired
-    private SessionServerConfig                 sessionServerConfig;
+    private SessionServerConfig                            sessionServerConfig;
 
     /**
      * trigger task com.alipay.sofa.registry.server.meta.listener process
      */
     @Autowired
-    private TaskListenerManager                 taskListenerManager;
+    private TaskListenerManager                            taskListenerManager;
 
     /**
      * DataNode service
      */
     @Autowired
-    private DataNodeService                     dataNodeService;
+    private DataNodeService                                dataNodeService;
 
     @Autowired
-    private CacheService                        sessionCacheService;
+    private CacheService                                   sessionCacheService;
 
     @Autowired
-    private SubscriberRegisterFetchTaskStrategy subscriberRegisterFetchTaskStrategy;
+    private SubscriberRegisterFetchTaskStrategy            subscriberRegisterFetchTaskStrategy;
+
+    private TaskDispatcher<String, SessionTask>            singleTaskDispatcher;
 
-    private TaskDispatcher<String, SessionTask> singleTaskDispatcher;
+    private TaskProcessor                                  dataNodeSingleTaskProcessor;
+
+    /**
+     * tasks not begun yet, key is dataInfoId
+     */
+    private final Map<String, SubscriberRegisterFetchTask> pendingTasks  = new ConcurrentHashMap<>();
 
-    private TaskProcessor                       dataNodeSingleTaskProcessor;
+    private final Counter                                  mergeCounter  = TaskMetrics
+                                                                             .getInstance()
+                                                                             .getMetricRegistry()
+                                                                             .counter(
+                                                                                 MetricRegistry
+                                                                                     .name(
+                                                                                         METRIC_PREFIX,
+                                                                                         "merge"));
 
     public SubscriberRegisterFetchTaskListener(TaskProcessor dataNodeSingleTaskProcessor) {
         this.dataNodeSingleTaskProcessor = dataNodeSingleTaskProcessor;
@@ -83,15 +106,37 @@ public class SubscriberRegisterFetchTaskListener implements TaskListener {
 
     @Override
     public void handleEvent(TaskEvent event) {
-
-        SessionTask subscriberRegisterFetchTask = new SubscriberRegisterFetchTask(
-            sessionServerConfig, taskListenerManager, dataNodeService, sessionCacheService,
-            subscriberRegisterFetchTaskStrategy);
-
-        subscriberRegisterFetchTask.setTaskEvent(event);
-
-        getSingleTaskDispatcher().dispatch(subscriberRegisterFetchTask.getTaskId(),
-            subscriberRegisterFetchTask, subscriberRegisterFetchTask.getExpiryTime());
+        Object obj = event.getEventObj();
+        if (!(obj instanceof Subscriber)) {
+            throw new IllegalArgumentException("Input task event object error!");
+        }
+        Subscriber subscriber = (Subscriber) obj;
+
+        while (true) {
+            //subscribers of same dataInfoId registered in a burst are fetched by one task
+            SubscriberRegisterFetchTask pending = pendingTasks.get(subscriber.getDataInfoId());
+            if (pending != null) {
+                if (pending.addSubscriber(subscriber)) {
+                    mergeCounter.inc();
+                    return;
+                }
+                pendingTasks.remove(subscriber.getDataInfoId(), pending);
+                continue;
+            }
+
+            SubscriberRegisterFetchTask subscriberRegisterFetchTask = new SubscriberRegisterFetchTask(
+                sessionServerConfig, taskListenerManager, dataNodeService, sessionCacheService,
+                subscriberRegisterFetchTaskStrategy);
+            subscriberRegisterFetchTask.setTaskEvent(event);
+            subscriberRegisterFetchTask.setPendingTasks(pendingTasks);
+            if (pendingTasks.putIfAbsent(subscriber.getDataInfoId(), subscriberRegisterFetchTask) != null) {
+                continue;
+            }
+
+            getSingleTaskDispatcher().dispatch(subscriberRegisterFetchTask.getTaskId(),
+                subscriberRegisterFetchTask, subscriberRegisterFetchTask.getExpiryTime());
+            return;
+        }
     }
 
 }
\ No newline at end of file
@@ -68,6 +68,11 @@ public abstract class AbstractNodeManager<T extends Node> implements NodeManager
      */
     private ConcurrentHashMap<String/*dataCenter*/, Long /*version*/>    dataCenterNodesVersions = new ConcurrentHashMap<>();
 
+    /**
+     * revision of node list pushed by meta leader
+     */
+    private Long                                                           revision;
+
     @Override
     public Collection<T> getDataCenterNodes() {
         read.lock();
@@ -106,6 +111,28 @@ public abstract class AbstractNodeManager<T extends Node> implements NodeManager
         }
     }
 
+    @Override
+    public boolean applyNodeChange(NodeChangeResult nodeChangeResult) {
+        write.lock();
+        try {
+            if (nodeChangeResult.isDelta()) {
+                if (!nodeChangeResult.getBaseRevision().equals(revision)) {
+                    LOGGER.warn("Node type {} change base revision {} not match current {}!",
+                        getNodeType(), nodeChangeResult.getBaseRevision(), revision);
+                    return false;
+                }
+                nodeChangeResult.setNodes(nodeChangeResult.applyTo(nodes));
+                nodeChangeResult.setBaseRevision(null);
+                nodeChangeResult.setRemovedNodes(null);
+            }
+            updateNodes(nodeChangeResult);
+            revision = nodeChangeResult.getRevision();
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
     public boolean checkAndUpdateListVersions(String dataCenterId, Long version) {
         return VersionsMapUtils.checkAndUpdateVersions(dataCenterNodesVersions, dataCenterId,
             version);
@@ -38,6 +38,13 @@ public interface NodeManager<T extends Node> {
 
     void updateNodes(NodeChangeResult nodeChangeResult);
 
+    /**
+     * apply node change pushed by meta, delta is applied to node list of its base revision
+     * @param nodeChangeResult
+     * @return false if delta base revision not match revision applied before
+     */
+    boolean applyNodeChange(NodeChangeResult nodeChangeResult);
+
     Collection<String> getDataCenters();
 
     void reNewNode();
@@ -57,4 +57,10 @@ public class DataNodeSingleTaskProcessor implements TaskProcessor<SessionTask> {
     public ProcessingResult process(List<SessionTask> tasks) {
         return null;
     }
+
+    @Override
+    public void onDropped(SessionTask task) {
+        LOGGER.warn("drop " + task);
+        task.onDropped();
+    }
 }
\ No newline at end of file
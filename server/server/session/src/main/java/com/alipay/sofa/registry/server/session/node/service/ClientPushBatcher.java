@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.node.service;
+
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.core.model.ReceivedDataList;
+import com.alipay.sofa.registry.core.model.ReceivedDataListResult;
+import com.alipay.sofa.registry.core.model.Result;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbound push queue per client connection, received data pushed to same connection
+ * within linger window are sent in one ReceivedDataList frame,
+ * and older version of same dataInfoId and subscribers is collapsed to the latest.
+ *
+ * @author shangyu.wh
+ * @version $Id: ClientPushBatcher.java, v 0.1 2026-10-19 11:40 shangyu.wh Exp $
+ */
+public class ClientPushBatcher {
+
+    private static final Logger            LOGGER        = LoggerFactory.getLogger("SESSION-PUSH",
+                                                             "[Batch]");
+
+    public static final String             METRIC_PREFIX = "ClientPush";
+
+    @Autowired
+    private ClientNodeService              clientNodeService;
+
+    @Autowired
+    private SessionServerConfig            sessionServerConfig;
+
+    /**
+     * key is client address, URL has no equals
+     */
+    private final Map<String, Batch>       batches       = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService lingerScheduler;
+
+    private final Counter                  frameCounter;
+
+    private final Counter                  itemCounter;
+
+    private final Counter                  collapseCounter;
+
+    public ClientPushBatcher() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+            new NamedThreadFactory("ClientPushBatcher-linger", true));
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.lingerScheduler = scheduler;
+
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.frameCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "frame"));
+        this.itemCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "item"));
+        this.collapseCounter = metricRegistry.counter(MetricRegistry
+            .name(METRIC_PREFIX, "collapse"));
+    }
+
+    /**
+     * push received data to client connection, the callback is invoked with the ack of this item
+     *
+     * @param receivedData
+     * @param url
+     * @param callbackHandler
+     */
+    public void push(ReceivedData receivedData, URL url, CallbackHandler callbackHandler) {
+        long lingerMillis = sessionServerConfig.getPushBatchLingerMillis();
+        if (lingerMillis <= 0) {
+            itemCounter.inc();
+            frameCounter.inc();
+            clientNodeService.pushWithCallback(receivedData, url, callbackHandler);
+            return;
+        }
+
+        Batch full = null;
+        while (true) {
+            Batch batch = batches.computeIfAbsent(url.getAddressString(), k -> new Batch(url));
+            synchronized (batch) {
+                if (batch.closed) {
+                    //flushed just now, use a new one
+                    continue;
+                }
+                itemCounter.inc();
+                if (batch.add(receivedData, callbackHandler)) {
+                    collapseCounter.inc();
+                }
+                if (batch.items.size() >= sessionServerConfig.getPushBatchMaxSize()) {
+                    batch.closed = true;
+                    batches.remove(url.getAddressString(), batch);
+                    full = batch;
+                } else if (!batch.scheduled) {
+                    batch.scheduled = true;
+                    final Batch lingerBatch = batch;
+                    lingerScheduler.schedule(() -> flush(lingerBatch), lingerMillis,
+                        TimeUnit.MILLISECONDS);
+                }
+            }
+            break;
+        }
+        if (full != null) {
+            send(full);
+        }
+    }
+
+    private void flush(Batch batch) {
+        synchronized (batch) {
+            if (batch.closed) {
+                return;
+            }
+            batch.closed = true;
+            batches.remove(batch.url.getAddressString(), batch);
+        }
+        try {
+            send(batch);
+        } catch (Throwable e) {
+            LOGGER.error("Flush push batch error! url:{}", batch.url, e);
+        }
+    }
+
+    private void send(Batch batch) {
+        List<Item> items = new ArrayList<>(batch.items.values());
+        frameCounter.inc();
+        if (items.size() == 1) {
+            Item item = items.get(0);
+            sendWithCallback(item.receivedData, batch.url, new CallbackHandler() {
+                @Override
+                public void onCallback(Channel channel, Object message) {
+                    item.onCallback(channel, message);
+                }
+
+                @Override
+                public void onException(Channel channel, Throwable exception) {
+                    item.onException(channel, exception);
+                }
+            }, items);
+            return;
+        }
+
+        List<ReceivedData> receivedDatas = new ArrayList<>(items.size());
+        items.forEach(item -> receivedDatas.add(item.receivedData));
+        sendWithCallback(new ReceivedDataList(receivedDatas), batch.url, new CallbackHandler() {
+            @Override
+            public void onCallback(Channel channel, Object message) {
+                List<Result> results = message instanceof ReceivedDataListResult ? ((ReceivedDataListResult) message)
+                    .getResults() : null;
+                if (results == null || results.size() != items.size()) {
+                    LOGGER.error("Push batch get illegal result! url:{}, size:{}, result:{}",
+                        batch.url, items.size(), message);
+                    Throwable exception = new RuntimeException("Push batch get illegal result!");
+                    items.forEach(item -> item.onException(channel, exception));
+                    return;
+                }
+                for (int i = 0; i < items.size(); i++) {
+                    Result result = results.get(i);
+                    if (result != null && result.isSuccess()) {
+                        items.get(i).onCallback(channel, result);
+                    } else {
+                        items.get(i).onException(channel, new RuntimeException(
+                            "Push batch item got fail result! " + result));
+                    }
+                }
+            }
+
+            @Override
+            public void onException(Channel channel, Throwable exception) {
+                items.forEach(item -> item.onException(channel, exception));
+            }
+        }, items);
+    }
+
+    private void sendWithCallback(Object pushData, URL url, CallbackHandler callbackHandler,
+                                  List<Item> items) {
+        try {
+            clientNodeService.pushWithCallback(pushData, url, callbackHandler);
+        } catch (Throwable e) {
+            LOGGER.error("Push batch error! url:{}, size:{}", url, items.size(), e);
+            items.forEach(item -> item.onException(null, e));
+        }
+    }
+
+    private static final class Batch {
+        private final URL               url;
+        private final Map<String, Item> items = new LinkedHashMap<>();
+        private boolean                 scheduled;
+        private boolean                 closed;
+
+        Batch(URL url) {
+            this.url = url;
+        }
+
+        /**
+         * @return true if collapsed with a pending item
+         */
+        boolean add(ReceivedData receivedData, CallbackHandler callbackHandler) {
+            String key = getKey(receivedData);
+            Item item = items.get(key);
+            if (item == null) {
+                items.put(key, new Item(receivedData, callbackHandler));
+                return false;
+            }
+            //the latest version wins, all callbacks share its ack
+            if (compareVersion(receivedData, item.receivedData) >= 0) {
+                item.receivedData = receivedData;
+            }
+            item.callbackHandlers.add(callbackHandler);
+            return true;
+        }
+
+        private static int compareVersion(ReceivedData one, ReceivedData other) {
+            long version = one.getVersion() == null ? 0 : one.getVersion();
+            long otherVersion = other.getVersion() == null ? 0 : other.getVersion();
+            return Long.compare(version, otherVersion);
+        }
+
+        private static String getKey(ReceivedData receivedData) {
+            return receivedData.getSegment() + "#" + receivedData.getDataId() + "#"
+                   + receivedData.getGroup() + "#" + receivedData.getInstanceId() + "#"
+                   + receivedData.getScope() + "#" + receivedData.getSubscriberRegistIds();
+        }
+    }
+
+    private static final class Item {
+        private ReceivedData                receivedData;
+        private final List<CallbackHandler> callbackHandlers = new ArrayList<>(1);
+
+        Item(ReceivedData receivedData, CallbackHandler callbackHandler) {
+            this.receivedData = receivedData;
+            this.callbackHandlers.add(callbackHandler);
+        }
+
+        void onCallback(Channel channel, Object message) {
+            for (CallbackHandler callbackHandler : callbackHandlers) {
+                try {
+                    callbackHandler.onCallback(channel, message);
+                } catch (Throwable e) {
+                    LOGGER.error("Push batch item callback error! dataId:{}",
+                        receivedData.getDataId(), e);
+                }
+            }
+        }
+
+        void onException(Channel channel, Throwable exception) {
+            for (CallbackHandler callbackHandler : callbackHandlers) {
+                try {
+                    callbackHandler.onException(channel, exception);
+                } catch (Throwable e) {
+                    LOGGER.error("Push batch item exception callback error! dataId:{}",
+                        receivedData.getDataId(), e);
+                }
+            }
+        }
+    }
+}
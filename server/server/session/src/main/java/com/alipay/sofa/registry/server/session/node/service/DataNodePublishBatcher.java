@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.node.service;
+
+import com.alipay.sofa.registry.common.model.BatchCommonResponse;
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.dataserver.BatchPublishDataRequest;
+import com.alipay.sofa.registry.common.model.dataserver.PublishDataRequest;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
+import com.alipay.sofa.registry.remoting.exchange.message.Request;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.node.SessionProcessIdGenerator;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * publishers registered to same data node within linger window are sent in one BatchPublishDataRequest,
+ * every publisher completes with its own result.
+ *
+ * @author shangyu.wh
+ * @version $Id: DataNodePublishBatcher.java, v 0.1 2026-10-19 14:40 shangyu.wh Exp $
+ */
+public class DataNodePublishBatcher {
+
+    private static final Logger            LOGGER        = LoggerFactory
+                                                             .getLogger(DataNodePublishBatcher.class);
+
+    public static final String             METRIC_PREFIX = "DataPublish";
+
+    @Autowired
+    private NodeExchanger                  dataNodeExchanger;
+
+    @Autowired
+    private SessionServerConfig            sessionServerConfig;
+
+    /**
+     * key is data node address, URL has no equals
+     */
+    private final Map<String, Batch>       batches       = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService lingerScheduler;
+
+    private final Counter                  requestCounter;
+
+    private final Counter                  itemCounter;
+
+    private final Timer                    publishTimer;
+
+    public DataNodePublishBatcher() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+            new NamedThreadFactory("DataNodePublishBatcher-linger", true));
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.lingerScheduler = scheduler;
+
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.requestCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "request"));
+        this.itemCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "item"));
+        this.publishTimer = metricRegistry.timer(MetricRegistry.name(METRIC_PREFIX, "latency"));
+    }
+
+    /**
+     * register publisher to data node, the future completes with the result of this publisher
+     *
+     * @param url data node url
+     * @param publisher
+     * @return future of result
+     */
+    public CompletableFuture<CommonResponse> publish(URL url, Publisher publisher) {
+        CompletableFuture<CommonResponse> future = new CompletableFuture<>();
+        itemCounter.inc();
+
+        Batch full = null;
+        while (true) {
+            Batch batch = batches.computeIfAbsent(url.getAddressString(), k -> new Batch(url));
+            synchronized (batch) {
+                if (batch.closed) {
+                    //flushed just now, use a new one
+                    continue;
+                }
+                batch.publishers.add(publisher);
+                batch.futures.add(future);
+                if (batch.publishers.size() >= sessionServerConfig.getPublishBatchMaxSize()) {
+                    batch.closed = true;
+                    batches.remove(url.getAddressString(), batch);
+                    full = batch;
+                } else if (!batch.scheduled) {
+                    batch.scheduled = true;
+                    final Batch lingerBatch = batch;
+                    lingerScheduler.schedule(() -> flush(lingerBatch),
+                        sessionServerConfig.getPublishBatchLingerMillis(), TimeUnit.MILLISECONDS);
+                }
+            }
+            break;
+        }
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (batch) {
+            if (batch.closed) {
+                return;
+            }
+            batch.closed = true;
+            batches.remove(batch.url.getAddressString(), batch);
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        requestCounter.inc();
+        //latency of failed requests is recorded too, stop it once whichever path completes
+        Timer.Context context = publishTimer.time();
+        AtomicBoolean timerStopped = new AtomicBoolean(false);
+        Runnable stopTimer = () -> {
+            if (timerStopped.compareAndSet(false, true)) {
+                context.stop();
+            }
+        };
+        try {
+            dataNodeExchanger.request(new Request<Object>() {
+                @Override
+                public Object getRequestBody() {
+                    if (batch.publishers.size() == 1) {
+                        //data node of old version only knows single publish request
+                        PublishDataRequest publishDataRequest = new PublishDataRequest();
+                        publishDataRequest.setPublisher(batch.publishers.get(0));
+                        publishDataRequest.setSessionServerProcessId(SessionProcessIdGenerator
+                            .getSessionProcessId());
+                        return publishDataRequest;
+                    }
+                    BatchPublishDataRequest batchPublishDataRequest = new BatchPublishDataRequest();
+                    batchPublishDataRequest.setPublishers(batch.publishers);
+                    batchPublishDataRequest.setSessionServerProcessId(SessionProcessIdGenerator
+                        .getSessionProcessId());
+                    return batchPublishDataRequest;
+                }
+
+                @Override
+                public URL getRequestUrl() {
+                    return batch.url;
+                }
+
+                @Override
+                public CallbackHandler getCallBackHandler() {
+                    return new CallbackHandler() {
+                        @Override
+                        public void onCallback(Channel channel, Object message) {
+                            stopTimer.run();
+                            batch.complete(message);
+                        }
+
+                        @Override
+                        public void onException(Channel channel, Throwable exception) {
+                            stopTimer.run();
+                            batch.completeExceptionally(exception);
+                        }
+                    };
+                }
+            });
+        } catch (Throwable e) {
+            stopTimer.run();
+            LOGGER.error("Publish batch to data node error! url:{}, size:{}", batch.url,
+                batch.publishers.size(), e);
+            batch.completeExceptionally(e);
+        }
+    }
+
+    private static final class Batch {
+        private final URL                                     url;
+        private final List<Publisher>                         publishers = new ArrayList<>();
+        private final List<CompletableFuture<CommonResponse>> futures    = new ArrayList<>();
+        private boolean                                       scheduled;
+        private boolean                                       closed;
+
+        Batch(URL url) {
+            this.url = url;
+        }
+
+        void complete(Object message) {
+            if (message instanceof BatchCommonResponse) {
+                List<CommonResponse> results = ((BatchCommonResponse) message).getResults();
+                if (results != null && results.size() == futures.size()) {
+                    for (int i = 0; i < futures.size(); i++) {
+                        futures.get(i).complete(results.get(i));
+                    }
+                    return;
+                }
+            } else if (message instanceof CommonResponse) {
+                //single publish request, or the whole batch failed
+                CommonResponse response = (CommonResponse) message;
+                if (futures.size() == 1 || !response.isSuccess()) {
+                    futures.forEach(future -> future.complete(response));
+                    return;
+                }
+            }
+            LOGGER.error("Publish batch get illegal result! url:{}, size:{}, result:{}", url,
+                futures.size(), message);
+            completeExceptionally(new RuntimeException("Publish batch get illegal result!"));
+        }
+
+        void completeExceptionally(Throwable exception) {
+            futures.forEach(future -> future.completeExceptionally(exception));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.alipay.sofa.registry.common.model.store.URL;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  *
@@ -64,6 +65,17 @@ public interface DataNodeService {
     Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>> fetchDataVersion(URL dataNodeUrl,
                                                                                   Collection<String> dataInfoIdList);
 
+    /**
+     * Get some dataInfoId version from one data server asynchronously,
+     * future is completed by data node response or exchange timeout
+     *
+     * @param dataNodeUrl
+     * @param dataInfoIdList
+     * @return
+     */
+    CompletableFuture<Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>>> fetchDataVersionAsync(URL dataNodeUrl,
+                                                                                                          Collection<String> dataInfoIdList);
+
     /**
      * fetch one dataCenter publisher data from data server
      *
@@ -73,6 +85,17 @@ public interface DataNodeService {
      */
     Datum fetchDataCenter(String dataInfoId, String dataCenterId);
 
+    /**
+     * fetch one dataCenter publisher data from data server,
+     * concurrent fetch of same dataInfoId share one request unless a newer version is required
+     *
+     * @param dataInfoId
+     * @param dataCenterId
+     * @param minVersion lowest datum version expected
+     * @return
+     */
+    Datum fetchDataCenter(String dataInfoId, String dataCenterId, long minVersion);
+
     /**
      * fetch all dataCenter datum
      * @param dataInfoId
@@ -30,6 +30,9 @@ import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.remoting.CallbackHandler;
+import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
@@ -37,8 +40,11 @@ import com.alipay.sofa.registry.remoting.exchange.message.Response;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.node.NodeManager;
 import com.alipay.sofa.registry.server.session.node.SessionProcessIdGenerator;
+import com.alipay.sofa.registry.server.session.utils.DatumUtils;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer.TaskFailedCallback;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -46,6 +52,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -56,18 +64,36 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class DataNodeServiceImpl implements DataNodeService {
 
-    private static final Logger   LOGGER = LoggerFactory.getLogger(DataNodeServiceImpl.class);
+    private static final Logger            LOGGER                   = LoggerFactory
+                                                                        .getLogger(DataNodeServiceImpl.class);
 
     @Autowired
-    private NodeExchanger         dataNodeExchanger;
+    private NodeExchanger                  dataNodeExchanger;
 
     @Autowired
-    private NodeManager           dataNodeManager;
+    private NodeManager                    dataNodeManager;
 
     @Autowired
-    private SessionServerConfig   sessionServerConfig;
+    private SessionServerConfig            sessionServerConfig;
 
-    private AsyncHashedWheelTimer asyncHashedWheelTimer;
+    @Autowired
+    private DataNodePublishBatcher         dataNodePublishBatcher;
+
+    private AsyncHashedWheelTimer          asyncHashedWheelTimer;
+
+    private final SingleFlightDatumFetcher singleFlightDatumFetcher = new SingleFlightDatumFetcher();
+
+    /**
+     * same timer as publish batch, one publisher one request
+     */
+    private final Timer                    publishTimer             = TaskMetrics
+                                                                        .getInstance()
+                                                                        .getMetricRegistry()
+                                                                        .timer(
+                                                                            MetricRegistry
+                                                                                .name(
+                                                                                    DataNodePublishBatcher.METRIC_PREFIX,
+                                                                                    "latency"));
 
     public DataNodeServiceImpl() {
         ThreadFactoryBuilder threadFactoryBuilder = new ThreadFactoryBuilder();
@@ -91,6 +117,14 @@ public class DataNodeServiceImpl implements DataNodeService {
     @Override
     public void register(final Publisher publisher) {
 
+        if (sessionServerConfig.getPublishBatchLingerMillis() > 0) {
+            URL url = getUrl(publisher.getDataInfoId());
+            if (url != null) {
+                registerInBatch(url, publisher);
+                return;
+            }
+        }
+
         try {
 
             Request<PublishDataRequest> publisherRequest = new Request<PublishDataRequest>() {
@@ -115,7 +149,9 @@ public class DataNodeServiceImpl implements DataNodeService {
                 }
             };
 
+            Timer.Context context = publishTimer.time();
             Response response = dataNodeExchanger.request(publisherRequest);
+            context.stop();
 
             Object result = response.getResult();
             if (result instanceof CommonResponse) {
@@ -137,6 +173,31 @@ public class DataNodeServiceImpl implements DataNodeService {
         }
     }
 
+    private void registerInBatch(URL url, Publisher publisher) {
+        CommonResponse commonResponse;
+        try {
+            commonResponse = dataNodePublishBatcher.publish(url, publisher).get(
+                sessionServerConfig.getDataNodeExchangeTimeOut()
+                        + sessionServerConfig.getPublishBatchLingerMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("DataNodeService register new publisher interrupted!", e);
+        } catch (Throwable e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            LOGGER.error(
+                "DataNodeService register new publisher error! target url:{}, dataInfoId:{}", url,
+                publisher.getDataInfoId(), cause);
+            throw new RuntimeException("DataNodeService register new publisher error! "
+                                       + cause.getMessage(), cause);
+        }
+        if (commonResponse != null && !commonResponse.isSuccess()) {
+            LOGGER.error("PublishDataRequest get server response failed!target url:{},message:{}",
+                url, commonResponse.getMessage());
+            throw new RuntimeException("PublishDataRequest get server response failed! msg:"
+                                       + commonResponse.getMessage());
+        }
+    }
+
     @Override
     public void unregister(final Publisher publisher) {
         try {
@@ -331,42 +392,13 @@ public class DataNodeServiceImpl implements DataNodeService {
         Map<String, Map<String, Long>> map = new HashMap<>();
         try {
 
-            Request<GetDataVersionRequest> getDataVersionRequestRequest = new Request<GetDataVersionRequest>() {
-                @Override
-                public GetDataVersionRequest getRequestBody() {
-                    GetDataVersionRequest getDataVersionRequest = new GetDataVersionRequest();
-                    getDataVersionRequest.setDataInfoIds((List<String>) dataInfoIdList);
-                    return getDataVersionRequest;
-                }
+            Response response = dataNodeExchanger.request(getDataVersionRequest(dataNodeUrl,
+                dataInfoIdList, null));
 
-                @Override
-                public URL getRequestUrl() {
-                    return dataNodeUrl;
-                }
-            };
-
-            Response response = dataNodeExchanger.request(getDataVersionRequestRequest);
-
-            Object result = response.getResult();
-            if (result instanceof GenericResponse) {
-                GenericResponse genericResponse = (GenericResponse) result;
-                if (genericResponse.isSuccess()) {
-                    map = (Map<String, Map<String, Long>>) genericResponse.getData();
-                    if (map.isEmpty()) {
-                        LOGGER
-                            .warn(
-                                "GetDataVersionRequestRequest get response contains no data!target data Node url:{} about dataInfoIds size:{}",
-                                dataNodeUrl.getAddressString(), dataInfoIdList.size());
-                    }
-                } else {
-                    LOGGER.error("fetchDataVersion has not get fail response!msg:{}",
-                        genericResponse.getMessage());
-                    throw new RuntimeException("fetchDataVersion has not get fail response! msg:"
-                                               + genericResponse.getMessage());
-                }
-            } else {
-                LOGGER
-                    .error("GetDataVersionRequestRequest has not get response or response type illegal!");
+            Map<String, Map<String, Long>> result = parseDataVersionResponse(response.getResult(),
+                dataNodeUrl, dataInfoIdList);
+            if (result != null) {
+                map = result;
             }
 
         } catch (RequestException e) {
@@ -378,10 +410,100 @@ public class DataNodeServiceImpl implements DataNodeService {
         return map;
     }
 
+    @Override
+    public CompletableFuture<Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>>> fetchDataVersionAsync(URL dataNodeUrl,
+                                                                                                                 Collection<String> dataInfoIdList) {
+
+        CompletableFuture<Map<String, Map<String, Long>>> future = new CompletableFuture<>();
+        CallbackHandler callbackHandler = new CallbackHandler() {
+            @Override
+            public void onCallback(Channel channel, Object message) {
+                try {
+                    future.complete(parseDataVersionResponse(message, dataNodeUrl, dataInfoIdList));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onException(Channel channel, Throwable exception) {
+                LOGGER.error("Fetch data Version request callback error! url:{}",
+                    dataNodeUrl.getAddressString(), exception);
+                future.completeExceptionally(exception);
+            }
+        };
+
+        try {
+            dataNodeExchanger.request(getDataVersionRequest(dataNodeUrl, dataInfoIdList,
+                callbackHandler));
+        } catch (Throwable e) {
+            LOGGER.error("Fetch data Version request error! url:{}",
+                dataNodeUrl.getAddressString(), e);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Request<GetDataVersionRequest> getDataVersionRequest(URL dataNodeUrl,
+                                                                 Collection<String> dataInfoIdList,
+                                                                 CallbackHandler callbackHandler) {
+        return new Request<GetDataVersionRequest>() {
+            @Override
+            public GetDataVersionRequest getRequestBody() {
+                GetDataVersionRequest getDataVersionRequest = new GetDataVersionRequest();
+                getDataVersionRequest.setDataInfoIds((List<String>) dataInfoIdList);
+                return getDataVersionRequest;
+            }
+
+            @Override
+            public URL getRequestUrl() {
+                return dataNodeUrl;
+            }
+
+            @Override
+            public CallbackHandler getCallBackHandler() {
+                return callbackHandler;
+            }
+        };
+    }
+
+    private Map<String, Map<String, Long>> parseDataVersionResponse(Object result,
+                                                                    URL dataNodeUrl,
+                                                                    Collection<String> dataInfoIdList) {
+        Map<String, Map<String, Long>> map = null;
+        if (result instanceof GenericResponse) {
+            GenericResponse genericResponse = (GenericResponse) result;
+            if (genericResponse.isSuccess()) {
+                map = (Map<String, Map<String, Long>>) genericResponse.getData();
+                if (map.isEmpty()) {
+                    LOGGER
+                        .warn(
+                            "GetDataVersionRequestRequest get response contains no data!target data Node url:{} about dataInfoIds size:{}",
+                            dataNodeUrl.getAddressString(), dataInfoIdList.size());
+                }
+            } else {
+                LOGGER.error("fetchDataVersion has not get fail response!msg:{}",
+                    genericResponse.getMessage());
+                throw new RuntimeException("fetchDataVersion has not get fail response! msg:"
+                                           + genericResponse.getMessage());
+            }
+        } else {
+            LOGGER
+                .error("GetDataVersionRequestRequest has not get response or response type illegal!");
+        }
+        return map;
+    }
+
     @Override
     public Datum fetchDataCenter(String dataInfoId, String dataCenterId) {
+        return fetchDataCenter(dataInfoId, dataCenterId, SingleFlightDatumFetcher.ANY_VERSION);
+    }
 
-        Map<String/*datacenter*/, Datum> map = getDatumMap(dataInfoId, dataCenterId);
+    @Override
+    public Datum fetchDataCenter(String dataInfoId, String dataCenterId, long minVersion) {
+
+        Map<String/*datacenter*/, Datum> map = singleFlightDatumFetcher.fetch(dataInfoId,
+            dataCenterId, minVersion, () -> getDatumMap(dataInfoId, dataCenterId));
         if (map != null && map.size() > 0) {
             return map.get(dataCenterId);
         }
@@ -391,11 +513,8 @@ public class DataNodeServiceImpl implements DataNodeService {
     @Override
     public Map<String/*datacenter*/, Datum> fetchGlobal(String dataInfoId) {
         //get all dataCenter data
-        return getDatumMap(dataInfoId);
-    }
-
-    private Map<String, Datum> getDatumMap(String dataInfoId) {
-        return getDatumMap(dataInfoId, null);
+        return singleFlightDatumFetcher.fetch(dataInfoId, null,
+            SingleFlightDatumFetcher.ANY_VERSION, () -> getDatumMap(dataInfoId, null));
     }
 
     @Override public Map<String, Datum> getDatumMap(String dataInfoId, String dataCenterId) {
@@ -435,7 +554,7 @@ public class DataNodeServiceImpl implements DataNodeService {
                     if (map == null || map.isEmpty()) {
                         LOGGER.warn("GetDataRequest get response contains no datum!");
                     } else {
-                        map.forEach((dataCenter, datum) -> Datum.processDatum(datum));
+                        map.forEach((dataCenter, datum) -> DatumUtils.decodeDatum(Datum.processDatum(datum)));
                     }
                 } else {
                     LOGGER.error("GetDataRequest has not get fail response!msg:{}", genericResponse.getMessage());
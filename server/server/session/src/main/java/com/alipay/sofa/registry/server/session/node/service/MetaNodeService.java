@@ -17,6 +17,7 @@
 package com.alipay.sofa.registry.server.session.node.service;
 
 import com.alipay.sofa.registry.common.model.metaserver.ProvideData;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideDataChanges;
 
 /**
  *
@@ -31,4 +32,13 @@ public interface MetaNodeService {
      * @return
      */
     ProvideData fetchData(String dataInfoId);
-}
\ No newline at end of file
+
+    /**
+     * watch persistence data changed after revision from meta server,
+     * block until any data changed or watch timeout
+     * @param epoch epoch got last time, null if nothing got
+     * @param revision
+     * @return
+     */
+    ProvideDataChanges watchData(String epoch, long revision);
+}
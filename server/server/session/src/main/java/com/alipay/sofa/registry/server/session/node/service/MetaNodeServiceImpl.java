@@ -18,9 +18,14 @@ package com.alipay.sofa.registry.server.session.node.service;
 
 import com.alipay.sofa.registry.common.model.metaserver.FetchProvideDataRequest;
 import com.alipay.sofa.registry.common.model.metaserver.ProvideData;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideDataChanges;
+import com.alipay.sofa.registry.common.model.metaserver.WatchProvideDataRequest;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.remoting.Client;
+import com.alipay.sofa.registry.remoting.exchange.Exchange;
 import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
@@ -30,6 +35,8 @@ import com.alipay.sofa.registry.server.session.node.RaftClientManager;
 import com.alipay.sofa.registry.server.session.node.SessionNodeManager;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  *
  * @author shangyu.wh
@@ -46,6 +53,9 @@ public class MetaNodeServiceImpl implements MetaNodeService {
     @Autowired
     protected NodeExchanger       metaNodeExchanger;
 
+    @Autowired
+    protected Exchange            boltExchange;
+
     @Autowired
     RaftClientManager             raftClientManager;
 
@@ -82,4 +92,37 @@ public class MetaNodeServiceImpl implements MetaNodeService {
             throw new RuntimeException("fetch provider data error! " + e.getRequestMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ProvideDataChanges watchData(String epoch, long revision) {
+        long timeoutMillis = TimeUnit.SECONDS.toMillis(sessionServerConfig
+            .getProvideDataWatchTimeoutSecs());
+        WatchProvideDataRequest watchProvideDataRequest = new WatchProvideDataRequest(null, epoch,
+            revision, timeoutMillis);
+        URL url = new URL(raftClientManager.getLeader().getIp(),
+            sessionServerConfig.getMetaServerPort());
+        try {
+            Client sessionClient = boltExchange.getClient(Exchange.META_SERVER_TYPE);
+            if (sessionClient == null) {
+                throw new RuntimeException("MetaNodeService meta server not connected!");
+            }
+            Channel channel = sessionClient.getChannel(url);
+            if (channel == null) {
+                channel = sessionClient.connect(url);
+            }
+            //meta server holds watch request until timeout
+            Object result = sessionClient.sendSync(channel, watchProvideDataRequest,
+                (int) timeoutMillis + sessionServerConfig.getMetaNodeExchangeTimeOut());
+            if (result instanceof ProvideDataChanges) {
+                return (ProvideDataChanges) result;
+            } else {
+                LOGGER.error("watch null provider data changes!");
+                throw new RuntimeException("MetaNodeService watch null provider data changes!");
+            }
+        } catch (RuntimeException e) {
+            //meta leader may be changed, watch again from new leader with same revision
+            raftClientManager.refreshLeader();
+            throw new RuntimeException("watch provider data error! url:" + url, e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.node.service;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * in flight table of datum fetch, concurrent fetches of same dataCenter and dataInfoId
+ * share one request to data node and one result, unless a newer version is required.
+ *
+ * @author shangyu.wh
+ * @version $Id: SingleFlightDatumFetcher.java, v 0.1 2026-10-19 10:20 shangyu.wh Exp $
+ */
+public class SingleFlightDatumFetcher {
+
+    private static final Logger         LOGGER           = LoggerFactory
+                                                             .getLogger(SingleFlightDatumFetcher.class);
+
+    public static final String          METRIC_PREFIX    = "DatumFetch";
+
+    /**
+     * version unknown, join any in flight fetch
+     */
+    public static final long            ANY_VERSION      = Long.MIN_VALUE;
+
+    private static final String         ALL_DATA_CENTERS = "*";
+
+    private final Map<String, InFlight> inFlights        = new ConcurrentHashMap<>();
+
+    private final Counter               fetchCounter;
+
+    private final Counter               duplicateCounter;
+
+    private final Counter               supersedeCounter;
+
+    private final Timer                 fetchTimer;
+
+    public SingleFlightDatumFetcher() {
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.fetchCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "fetch"));
+        this.duplicateCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "duplicate"));
+        this.supersedeCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "supersede"));
+        this.fetchTimer = metricRegistry.timer(MetricRegistry.name(METRIC_PREFIX, "latency"));
+    }
+
+    /**
+     * fetch datum map, join in flight fetch of same key when it requires version not lower
+     *
+     * @param dataInfoId
+     * @param dataCenter null means all dataCenters
+     * @param minVersion lowest datum version caller expects, ANY_VERSION if unknown
+     * @param fetcher do the real request to data node
+     * @return
+     */
+    public Map<String/*datacenter*/, Datum> fetch(String dataInfoId, String dataCenter,
+                                                 long minVersion,
+                                                 Supplier<Map<String, Datum>> fetcher) {
+        String key = getKey(dataInfoId, dataCenter);
+
+        InFlight joined = null;
+        InFlight owned = null;
+        InFlight superseded = null;
+        while (joined == null && owned == null) {
+            InFlight current = inFlights.get(key);
+            if (current == null) {
+                InFlight flight = new InFlight(minVersion);
+                if (inFlights.putIfAbsent(key, flight) == null) {
+                    owned = flight;
+                }
+            } else if (current.minVersion >= minVersion) {
+                joined = current;
+            } else {
+                //newer version required, fetch started before may miss it
+                InFlight flight = new InFlight(minVersion);
+                if (inFlights.replace(key, current, flight)) {
+                    owned = flight;
+                    superseded = current;
+                }
+            }
+        }
+
+        if (joined != null) {
+            duplicateCounter.inc();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Join in flight fetch dataInfoId={},dataCenter={},version={}",
+                    dataInfoId, dataCenter, minVersion);
+            }
+            return await(joined);
+        }
+
+        fetchCounter.inc();
+        if (superseded != null) {
+            supersedeCounter.inc();
+            //newer result satisfies callers waiting on the older fetch too
+            owned.future.thenAccept(superseded.future::complete);
+        }
+        Timer.Context context = fetchTimer.time();
+        try {
+            owned.future.complete(fetcher.get());
+        } catch (Throwable e) {
+            owned.future.completeExceptionally(e);
+        } finally {
+            context.stop();
+            inFlights.remove(key, owned);
+        }
+        return await(owned);
+    }
+
+    private Map<String, Datum> await(InFlight flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Fetch datum error!", cause);
+        }
+    }
+
+    private String getKey(String dataInfoId, String dataCenter) {
+        return (dataCenter == null ? ALL_DATA_CENTERS : dataCenter) + "#" + dataInfoId;
+    }
+
+    /**
+     * get in flight fetch size
+     *
+     * @return
+     */
+    public int getInFlightSize() {
+        return inFlights.size();
+    }
+
+    private static final class InFlight {
+        private final long                                  minVersion;
+        private final CompletableFuture<Map<String, Datum>> future = new CompletableFuture<>();
+
+        InFlight(long minVersion) {
+            this.minVersion = minVersion;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.registry;
+
+import com.alipay.sofa.registry.common.model.store.BaseInfo;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.store.DataStore;
+import com.alipay.sofa.registry.server.session.store.Interests;
+import com.alipay.sofa.registry.server.session.store.Watchers;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * registrations of disconnected client are parked for a grace window instead of canceled at once,
+ * if the client reconnects within the window (same processId), it registers again on the new connection
+ * and overwrites the parked ones, so only the registrations left on the old connection are canceled.
+ * expired connections are canceled together in one CANCEL_DATA_TASK.
+ *
+ * @author shangyu.wh
+ * @version $Id: DisconnectGraceWindow.java, v 0.1 2026-10-19 15:30 shangyu.wh Exp $
+ */
+public class DisconnectGraceWindow {
+
+    private static final Logger                                         LOGGER            = LoggerFactory
+                                                                                              .getLogger("SESSION-CONNECT");
+
+    public static final String                                          METRIC_PREFIX     = "ClientDisconnect";
+
+    private static final long                                           SWEEP_INTERVAL_MS = 1000;
+
+    @Autowired
+    private Registry                                                    sessionRegistry;
+
+    @Autowired
+    private DataStore                                                   sessionDataStore;
+
+    @Autowired
+    private Interests                                                   sessionInterests;
+
+    @Autowired
+    private Watchers                                                    sessionWatchers;
+
+    @Autowired
+    private SessionServerConfig                                         sessionServerConfig;
+
+    private final Map<String/*connectId*/, Parked>                     parkedConnections = new ConcurrentHashMap<>();
+
+    private final Map<String/*processId*/, Set<String>/*connectIds*/> processIndex      = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService                              sweeper;
+
+    private final Counter                                               parkCounter;
+
+    private final Counter                                               reconnectCounter;
+
+    private final Counter                                               expireCounter;
+
+    public DisconnectGraceWindow() {
+        this.sweeper = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory(
+            "DisconnectGraceWindow-sweeper", true));
+        this.sweeper.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL_MS, SWEEP_INTERVAL_MS,
+            TimeUnit.MILLISECONDS);
+
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.parkCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "park"));
+        this.reconnectCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "reconnect"));
+        this.expireCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "expire"));
+        //gauge of former instance is replaced when context restarted
+        metricRegistry.remove(MetricRegistry.name(METRIC_PREFIX, "parked"));
+        metricRegistry.register(MetricRegistry.name(METRIC_PREFIX, "parked"),
+            (Gauge<Integer>) parkedConnections::size);
+    }
+
+    /**
+     * park registrations of disconnected connection
+     *
+     * @param connectId
+     * @return false if grace window is disabled, connection must be canceled at once
+     */
+    public boolean park(String connectId) {
+        int graceSeconds = sessionServerConfig.getClientDisconnectGraceSeconds();
+        if (graceSeconds <= 0) {
+            return false;
+        }
+
+        Set<String> processIds = new HashSet<>();
+        collectProcessIds(sessionDataStore.queryByConnectId(connectId), processIds);
+        collectProcessIds(sessionInterests.queryByConnectId(connectId), processIds);
+        collectProcessIds(sessionWatchers.queryByConnectId(connectId), processIds);
+
+        Parked parked = new Parked(connectId, processIds, System.currentTimeMillis()
+                                                          + TimeUnit.SECONDS.toMillis(graceSeconds));
+        synchronized (this) {
+            parkedConnections.put(connectId, parked);
+            for (String processId : processIds) {
+                processIndex.computeIfAbsent(processId, k -> new HashSet<>()).add(connectId);
+            }
+        }
+        parkCounter.inc();
+        LOGGER.info("Client off parked connectId:{}, processIds:{}, grace:{}s", connectId,
+            processIds, graceSeconds);
+        return true;
+    }
+
+    /**
+     * called before a registration is stored, a parked connection of the same client is reclaimed
+     *
+     * @param baseInfo
+     */
+    public void onRegister(BaseInfo baseInfo) {
+        if (parkedConnections.isEmpty()) {
+            return;
+        }
+        String connectId = baseInfo.getSourceAddress().getAddressString();
+        synchronized (this) {
+            Parked parked = parkedConnections.get(connectId);
+            if (parked != null) {
+                //same connectId is alive again, keep all of its registrations
+                unpark(parked);
+                LOGGER.info("Client off canceled, connectId:{} is connected again", connectId);
+            }
+
+            Set<String> connectIds = baseInfo.getProcessId() == null ? null : processIndex
+                .get(baseInfo.getProcessId());
+            if (connectIds == null) {
+                return;
+            }
+            for (String parkedConnectId : connectIds) {
+                Parked reclaimed = parkedConnections.get(parkedConnectId);
+                if (reclaimed != null && !reclaimed.reclaimed) {
+                    reclaimed.reclaimed = true;
+                    reconnectCounter.inc();
+                    LOGGER.info(
+                        "Client reconnected, processId:{}, old connectId:{}, new connectId:{}",
+                        baseInfo.getProcessId(), parkedConnectId, connectId);
+                }
+            }
+        }
+    }
+
+    void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            List<String> expired = new ArrayList<>();
+            int reclaimed = 0;
+            synchronized (this) {
+                for (Parked parked : new ArrayList<>(parkedConnections.values())) {
+                    if (parked.deadline <= now) {
+                        unpark(parked);
+                        expired.add(parked.connectId);
+                        if (parked.reclaimed) {
+                            reclaimed++;
+                        }
+                    }
+                }
+            }
+            if (expired.isEmpty()) {
+                return;
+            }
+            expireCounter.inc(expired.size());
+            LOGGER.info("Client off grace expired, size:{}, reconnected:{}, connectIds:{}",
+                expired.size(), reclaimed, expired);
+            sessionRegistry.cancel(expired);
+        } catch (Throwable e) {
+            LOGGER.error("Sweep parked client connections error!", e);
+        }
+    }
+
+    private void unpark(Parked parked) {
+        parkedConnections.remove(parked.connectId, parked);
+        for (String processId : parked.processIds) {
+            Set<String> connectIds = processIndex.get(processId);
+            if (connectIds != null) {
+                connectIds.remove(parked.connectId);
+                if (connectIds.isEmpty()) {
+                    processIndex.remove(processId);
+                }
+            }
+        }
+    }
+
+    private static void collectProcessIds(Map<String, ? extends BaseInfo> registrations,
+                                          Set<String> processIds) {
+        if (registrations == null) {
+            return;
+        }
+        for (BaseInfo baseInfo : registrations.values()) {
+            if (baseInfo.getProcessId() != null) {
+                processIds.add(baseInfo.getProcessId());
+            }
+        }
+    }
+
+    /**
+     * is the connection parked
+     *
+     * @param connectId
+     * @return
+     */
+    public boolean isParked(String connectId) {
+        return parkedConnections.containsKey(connectId);
+    }
+
+    private static final class Parked {
+        private final String      connectId;
+        private final Set<String> processIds;
+        private final long        deadline;
+        private boolean           reclaimed;
+
+        Parked(String connectId, Set<String> processIds, long deadline) {
+            this.connectId = connectId;
+            this.processIds = processIds;
+            this.deadline = deadline;
+        }
+    }
+}
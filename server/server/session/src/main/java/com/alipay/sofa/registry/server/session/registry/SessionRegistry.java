@@ -43,8 +43,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -104,12 +109,18 @@ public class SessionRegistry implements Registry {
     @Autowired
     private SessionRegistryStrategy sessionRegistryStrategy;
 
+    @Autowired
+    private DisconnectGraceWindow   disconnectGraceWindow;
+
     @Override
     public void register(StoreData storeData) {
 
         //check connect already existed
         checkConnect(storeData);
 
+        //client reconnected within grace window, registrations of old connection are not canceled
+        disconnectGraceWindow.onRegister((BaseInfo) storeData);
+
         switch (storeData.getDataType()) {
             case PUBLISHER:
                 Publisher publisher = (Publisher) storeData;
@@ -208,19 +219,89 @@ public class SessionRegistry implements Registry {
         });
         Map<String/*address*/, Collection<String>/*dataInfoIds*/> map = calculateDataNode(checkDataInfoIds);
 
-        map.forEach((address, dataInfoIds) -> {
+        if (map.isEmpty()) {
+            return;
+        }
 
-            //TODO asynchronous fetch version
-            Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>> dataVersions = dataNodeService
-                    .fetchDataVersion(URL.valueOf(address), dataInfoIds);
+        //fetch versions from data nodes in parallel, merge every response as it arrives,
+        //every request has its own deadline, timeout only fails that node
+        BlockingQueue<FetchVersionResult> results = new LinkedBlockingQueue<>();
+        Iterator<Entry<String, Collection<String>>> iterator = map.entrySet().iterator();
+        //ordered by send time, so first one has the earliest deadline
+        Map<String/*address*/, Long/*deadline*/> inFlight = new LinkedHashMap<>();
+        int concurrency = Math.max(1, sessionServerConfig.getFetchDataVersionConcurrency());
+        long timeout = sessionServerConfig.getDataNodeExchangeTimeOut() * 2L;
+        int failed = 0;
+
+        while (iterator.hasNext() || !inFlight.isEmpty()) {
+            while (iterator.hasNext() && inFlight.size() < concurrency) {
+                Entry<String, Collection<String>> entry = iterator.next();
+                String address = entry.getKey();
+                inFlight.put(address, System.currentTimeMillis() + timeout);
+                dataNodeService.fetchDataVersionAsync(URL.valueOf(address), entry.getValue())
+                        .whenComplete((dataVersions, e) -> results.add(new FetchVersionResult(address,
+                                dataVersions, e)));
+            }
 
-            if (dataVersions != null) {
-                sessionRegistryStrategy.doFetchChangDataProcess(dataVersions);
+            FetchVersionResult result;
+            try {
+                long earliestDeadline = inFlight.values().iterator().next();
+                result = results.poll(earliestDeadline - System.currentTimeMillis(),
+                        TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Fetch change data versions interrupted, no response from {}",
+                        inFlight.keySet());
+                return;
+            }
+            if (result == null) {
+                long now = System.currentTimeMillis();
+                Iterator<Entry<String, Long>> expired = inFlight.entrySet().iterator();
+                while (expired.hasNext()) {
+                    Entry<String, Long> entry = expired.next();
+                    if (entry.getValue() > now) {
+                        break;
+                    }
+                    expired.remove();
+                    failed++;
+                    LOGGER.error("Fetch change data versions from {} timeout {}ms, skip it this round",
+                            entry.getKey(), timeout);
+                }
+                continue;
+            }
+            if (inFlight.remove(result.address) == null) {
+                //response after timeout, node already counted as failed
+                continue;
+            }
+
+            if (result.exception != null) {
+                failed++;
+                LOGGER.error("Fetch change data versions from {} error, skip it this round",
+                        result.address, result.exception);
+            } else if (result.dataVersions != null) {
+                sessionRegistryStrategy.doFetchChangDataProcess(result.dataVersions);
             } else {
-                LOGGER.warn("Fetch no change data versions info from {}", address);
+                LOGGER.warn("Fetch no change data versions info from {}", result.address);
             }
-        });
+        }
 
+        if (failed > 0) {
+            LOGGER.warn("Fetch change data versions finished with partial results, {}/{} nodes failed",
+                    failed, map.size());
+        }
+    }
+
+    private static final class FetchVersionResult {
+        private final String                                                       address;
+        private final Map<String/*datacenter*/, Map<String/*datainfoid*/, Long>> dataVersions;
+        private final Throwable                                                    exception;
+
+        FetchVersionResult(String address, Map<String, Map<String, Long>> dataVersions,
+                           Throwable exception) {
+            this.address = address;
+            this.dataVersions = dataVersions;
+            this.exception = exception;
+        }
     }
 
     private Map<String, Collection<String>> calculateDataNode(Collection<String> dataInfoIds) {
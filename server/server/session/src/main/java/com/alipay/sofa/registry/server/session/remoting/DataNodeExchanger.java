@@ -28,6 +28,7 @@ import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
 import com.alipay.sofa.registry.remoting.exchange.RequestException;
 import com.alipay.sofa.registry.remoting.exchange.message.Request;
 import com.alipay.sofa.registry.remoting.exchange.message.Response;
+import com.alipay.sofa.registry.remoting.exchange.message.Response.ResultStatus;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.node.NodeManager;
 import com.alipay.sofa.registry.server.session.remoting.handler.AbstractClientHandler;
@@ -86,6 +87,13 @@ public class DataNodeExchanger implements NodeExchanger {
             }
             EXCHANGE_LOGGER.info("DataNode Exchanger request={},url={}", request.getRequestBody(), url);
 
+            if (null != request.getCallBackHandler()) {
+                sessionClient.sendCallback(channel, request.getRequestBody(),
+                        request.getCallBackHandler(),
+                        sessionServerConfig.getDataNodeExchangeTimeOut());
+                return () -> ResultStatus.SUCCESSFUL;
+            }
+
             final Object result = sessionClient.sendSync(channel, request.getRequestBody(),
                     sessionServerConfig.getDataNodeExchangeTimeOut());
             if (result == null) {
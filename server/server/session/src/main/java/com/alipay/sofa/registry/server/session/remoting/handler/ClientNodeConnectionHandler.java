@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.net.NetUtil;
 import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.RemotingException;
+import com.alipay.sofa.registry.server.session.registry.DisconnectGraceWindow;
 import com.alipay.sofa.registry.server.session.registry.Registry;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
 import com.alipay.sofa.registry.server.session.store.DataStore;
@@ -39,22 +40,25 @@ import java.util.Map;
  */
 public class ClientNodeConnectionHandler extends AbstractServerHandler {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger("SESSION-CONNECT");
+    private static final Logger   LOGGER = LoggerFactory.getLogger("SESSION-CONNECT");
 
     @Autowired
-    private Registry            sessionRegistry;
+    private Registry              sessionRegistry;
 
     @Autowired
-    private DataStore           sessionDataStore;
+    private DataStore             sessionDataStore;
 
     @Autowired
-    private Interests           sessionInterests;
+    private Interests             sessionInterests;
 
     @Autowired
-    private Watchers            sessionWatchers;
+    private Watchers              sessionWatchers;
 
     @Autowired
-    private ExecutorManager     executorManager;
+    private ExecutorManager       executorManager;
+
+    @Autowired
+    private DisconnectGraceWindow disconnectGraceWindow;
 
     @Override
     public HandlerType getType() {
@@ -72,7 +76,7 @@ public class ClientNodeConnectionHandler extends AbstractServerHandler {
         executorManager.getDisconnectClientExecutor().execute(()->{
 
             String connectId = NetUtil.toAddressString(channel.getRemoteAddress());
-            if(checkCache(connectId)) {
+            if(checkCache(connectId) && !disconnectGraceWindow.park(connectId)) {
                 List<String> connectIds = new ArrayList<>();
                 connectIds.add(connectId);
                 sessionRegistry.cancel(connectIds);
@@ -87,9 +87,10 @@ public class DataChangeRequestHandler extends AbstractClientHandler {
         dataChangeRequest.setDataCenter(dataChangeRequest.getDataCenter());
         dataChangeRequest.setDataInfoId(dataChangeRequest.getDataInfoId());
 
-        //update cache when change
+        //update cache when change, cached datum not older than request is kept
         sessionCacheService.invalidate(new Key(KeyType.OBJ, DatumKey.class.getName(), new DatumKey(
-            dataChangeRequest.getDataInfoId(), dataChangeRequest.getDataCenter())));
+            dataChangeRequest.getDataInfoId(), dataChangeRequest.getDataCenter())),
+            dataChangeRequest.getVersion());
 
         if (sessionServerConfig.isStopPushSwitch()) {
             LOGGER.info("Stop Push data with switch on,dataChangeRequest: {}", dataChangeRequest);
@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.common.model.sessionserver.DataPushRequest;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.Channel;
+import com.alipay.sofa.registry.server.session.utils.DatumUtils;
 import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
@@ -69,6 +70,7 @@ public class DataPushRequestHandler extends AbstractClientHandler {
         EXCHANGE_LOGGER.info("request={}", dataPushRequest);
 
         try {
+            DatumUtils.decodeDatum(dataPushRequest.getDatum());
             fireDataPushTask(dataPushRequest);
         } catch (Exception e) {
             LOGGER.error("DataPush Request error!", e);
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.session.remoting.handler;
 
+import com.alipay.sofa.registry.common.model.GenericResponse;
 import com.alipay.sofa.registry.common.model.Node.NodeType;
 import com.alipay.sofa.registry.common.model.metaserver.NodeChangeResult;
 import com.alipay.sofa.registry.log.Logger;
@@ -44,10 +45,17 @@ public class NodeChangeResultHandler extends AbstractClientHandler {
         NodeChangeResult nodeChangeResult = (NodeChangeResult) message;
 
         NodeManager nodeManager = NodeManagerFactory.getNodeManager(nodeChangeResult.getNodeType());
-        nodeManager.updateNodes(nodeChangeResult);
+        if (!nodeManager.applyNodeChange(nodeChangeResult)) {
+            return new GenericResponse<Long>().fillFailed("Node change base revision "
+                                                          + nodeChangeResult.getBaseRevision()
+                                                          + " not match!");
+        }
         LOGGER.info("Update {} node list success!info:{}", nodeChangeResult.getNodeType(),
             nodeChangeResult);
-        return null;
+        if (nodeChangeResult.getRevision() == null) {
+            return null;
+        }
+        return new GenericResponse<Long>().fillSucceed(nodeChangeResult.getRevision());
     }
 
     @Override
@@ -21,9 +21,11 @@ import com.alipay.sofa.registry.common.model.store.StoreData;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.Watcher;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.scheduler.PushRecoveryRamp;
 import com.alipay.sofa.registry.server.session.store.DataStore;
 import com.alipay.sofa.registry.server.session.store.Interests;
 import com.alipay.sofa.registry.server.session.store.Watchers;
+import com.alipay.sofa.registry.util.RollingChecksum;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.CollectionUtils;
 
@@ -70,6 +72,9 @@ public class SessionDigestResource {
     @Autowired
     private SessionServerConfig sessionServerConfig;
 
+    @Autowired
+    private PushRecoveryRamp    pushRecoveryRamp;
+
     private final static String SUB = "SUB";
 
     private final static String PUB = "PUB";
@@ -143,6 +148,16 @@ public class SessionDigestResource {
         return resultMap;
     }
 
+    /**
+     * progress of releasing subscribers held back by stop push switch
+     */
+    @GET
+    @Path("pushSwitch/recovery")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Object> getPushRecoveryProgress() {
+        return pushRecoveryRamp.getProgress();
+    }
+
     @GET
     @Path("getDataInfoIdList")
     @Produces(MediaType.APPLICATION_JSON)
@@ -157,7 +172,51 @@ public class SessionDigestResource {
     @Path("checkSumDataInfoIdList")
     @Produces(MediaType.APPLICATION_JSON)
     public int checkSumDataInfoIdList() {
-        return getDataInfoIdList().hashCode();
+        return Long.hashCode(sessionInterests.getChecksum().getDataInfoIdChecksum() * 31
+                             + sessionDataStore.getChecksum().getDataInfoIdChecksum());
+    }
+
+    /**
+     * checksums of registrations maintained on add and remove, compared between sessions cheaply
+     */
+    @GET
+    @Path("checksum")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Long> getChecksum() {
+        Map<String, Long> resultMap = new HashMap<>(3);
+        resultMap.put(SUB, sessionInterests.getChecksum().getChecksum());
+        resultMap.put(PUB, sessionDataStore.getChecksum().getChecksum());
+        resultMap.put(WAT, sessionWatchers.getChecksum().getChecksum());
+        return resultMap;
+    }
+
+    /**
+     * checksum breakdown by dataInfoId, all dataInfoIds if dataInfoId is not specified,
+     * checksums of publishers can be summed over sessions and compared with data node
+     */
+    @GET
+    @Path("{type}/checksum/query")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Map<String, Long> getChecksumByDataInfoId(@QueryParam("dataInfoId") String dataInfoId,
+                                                     @PathParam("type") String type) {
+        RollingChecksum checksum;
+        switch (type == null ? PUB : type.toUpperCase()) {
+            case SUB:
+                checksum = sessionInterests.getChecksum();
+                break;
+            case WAT:
+                checksum = sessionWatchers.getChecksum();
+                break;
+            default:
+                checksum = sessionDataStore.getChecksum();
+                break;
+        }
+        if (dataInfoId == null) {
+            return checksum.getChecksums();
+        }
+        Map<String, Long> resultMap = new HashMap<>(1);
+        resultMap.put(dataInfoId, checksum.getChecksum(dataInfoId));
+        return resultMap;
     }
 
     private void fillServerList(String type,
@@ -79,6 +79,9 @@ public class ExecutorManager {
     @Autowired
     private NodeExchanger                   dataNodeExchanger;
 
+    @Autowired
+    private ProvideDataWatcher              provideDataWatcher;
+
     private Map<String, ThreadPoolExecutor> reportExecutors                            = new HashMap<>();
 
     private static final String             PUSH_TASK_EXECUTOR                         = "PushTaskExecutor";
@@ -211,9 +214,13 @@ public class ExecutorManager {
                         sessionServerConfig.getSchedulerConnectDataExpBackOffBound(),
                         () -> dataNodeExchanger.connectServer()),
                 sessionServerConfig.getSchedulerConnectDataFirstDelay(), TimeUnit.SECONDS);
+
+        provideDataWatcher.start();
     }
 
     public void stopScheduler() {
+        provideDataWatcher.stop();
+
         if (scheduler != null && !scheduler.isShutdown()) {
             scheduler.shutdown();
         }
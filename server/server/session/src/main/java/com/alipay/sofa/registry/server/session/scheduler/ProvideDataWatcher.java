@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler;
+
+import com.alipay.sofa.registry.common.model.constants.ValueConstants;
+import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
+import com.alipay.sofa.registry.common.model.metaserver.NotifyProvideDataChange;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideData;
+import com.alipay.sofa.registry.common.model.metaserver.ProvideDataChanges;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.server.session.node.service.MetaNodeService;
+import com.alipay.sofa.registry.server.session.scheduler.task.Constant;
+import com.alipay.sofa.registry.server.session.store.Watchers;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
+import com.alipay.sofa.registry.task.listener.TaskListenerManager;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * keep long poll watch of ProvideData on meta leader from revision got last time,
+ * so changes made while disconnected or meta leader changing are got after watch again, without fetch all data.
+ * changed data is handled by provide data change fetch task just like data changes notified by meta server,
+ * data of same version is not handled twice.
+ *
+ * @author shangyu.wh
+ * @version $Id: ProvideDataWatcher.java, v 0.1 2026-10-19 19:10 shangyu.wh Exp $
+ */
+public class ProvideDataWatcher {
+
+    private static final Logger     LOGGER                = LoggerFactory.getLogger(
+                                                              ProvideDataWatcher.class, "[Watch]");
+
+    private static final long       RETRY_INTERVAL_MS     = 1000;
+
+    private static final long       MAX_RETRY_INTERVAL_MS = 30000;
+
+    @Autowired
+    private MetaNodeService         metaNodeService;
+
+    @Autowired
+    private Watchers                sessionWatchers;
+
+    @Autowired
+    private TaskListenerManager     taskListenerManager;
+
+    /**
+     * version of ProvideData handled, by dataInfoId
+     */
+    private final Map<String, Long> versions              = new ConcurrentHashMap<>();
+
+    private volatile String         epoch;
+
+    private volatile long           revision;
+
+    private volatile boolean        running;
+
+    private ExecutorService         executor;
+
+    /**
+     * start watch ProvideData
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        executor = Executors.newSingleThreadExecutor(new NamedThreadFactory(
+            "ProvideDataWatcher", true));
+        executor.execute(this::watch);
+    }
+
+    /**
+     * stop watch ProvideData
+     */
+    public synchronized void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void watch() {
+        long retryInterval = RETRY_INTERVAL_MS;
+        while (running) {
+            try {
+                apply(metaNodeService.watchData(epoch, revision));
+                retryInterval = RETRY_INTERVAL_MS;
+            } catch (Throwable e) {
+                LOGGER.error("Watch ProvideData from epoch {} revision {} error!", epoch, revision,
+                    e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(retryInterval);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                retryInterval = Math.min(retryInterval * 2, MAX_RETRY_INTERVAL_MS);
+            }
+        }
+    }
+
+    /**
+     * handle ProvideData changes got by watch
+     * @param changes
+     */
+    public void apply(ProvideDataChanges changes) {
+        if (!changes.isEmpty()) {
+            LOGGER.info("Watch ProvideData from epoch {} revision {} got {}", epoch, revision,
+                changes);
+        }
+        if (changes.isFull()) {
+            Set<String> existing = new HashSet<>();
+            changes.getChangedData().forEach(data -> existing.add(data.getDataInfoId()));
+            for (String dataInfoId : new ArrayList<>(versions.keySet())) {
+                if (!existing.contains(dataInfoId)) {
+                    fireRemove(dataInfoId);
+                }
+            }
+        }
+        changes.getChangedData().forEach(this::fireChange);
+        changes.getRemovedDataInfoIds().forEach(this::fireRemove);
+        epoch = changes.getEpoch();
+        revision = changes.getRevision();
+    }
+
+    private void fireChange(ProvideData provideData) {
+        String dataInfoId = provideData.getDataInfoId();
+        Long version = provideData.getVersion();
+        if (Objects.equals(versions.put(dataInfoId, version), version)) {
+            return;
+        }
+        NotifyProvideDataChange notifyProvideDataChange = new NotifyProvideDataChange(dataInfoId,
+            version, DataOperator.UPDATE);
+        if (isInterested(notifyProvideDataChange)) {
+            fireDataChangeFetchTask(notifyProvideDataChange, provideData);
+        }
+    }
+
+    private void fireRemove(String dataInfoId) {
+        Long version = versions.remove(dataInfoId);
+        NotifyProvideDataChange notifyProvideDataChange = new NotifyProvideDataChange(dataInfoId,
+            version == null ? null : version + 1, DataOperator.REMOVE);
+        if (isInterested(notifyProvideDataChange)) {
+            fireDataChangeFetchTask(notifyProvideDataChange, null);
+        }
+    }
+
+    private boolean isInterested(NotifyProvideDataChange notifyProvideDataChange) {
+        String dataInfoId = notifyProvideDataChange.getDataInfoId();
+        if (ValueConstants.STOP_PUSH_DATA_SWITCH_DATA_ID.equals(dataInfoId)) {
+            return true;
+        }
+        //version is updated here too, data notified by meta server is not pushed twice
+        return notifyProvideDataChange.getVersion() != null
+               && sessionWatchers.checkWatcherVersions(dataInfoId,
+                   notifyProvideDataChange.getVersion());
+    }
+
+    private void fireDataChangeFetchTask(NotifyProvideDataChange notifyProvideDataChange,
+                                         ProvideData provideData) {
+        TaskEvent taskEvent = new TaskEvent(notifyProvideDataChange,
+            TaskType.PROVIDE_DATA_CHANGE_FETCH_TASK);
+        if (provideData != null) {
+            taskEvent.setAttribute(Constant.WATCHED_PROVIDE_DATA, provideData);
+        }
+        LOGGER.info("send " + taskEvent.getTaskType() + " taskEvent:{}", taskEvent);
+        taskListenerManager.sendTaskEvent(taskEvent);
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler;
+
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.scheduler.task.Constant;
+import com.alipay.sofa.registry.server.session.store.Interests;
+import com.alipay.sofa.registry.server.session.store.ReSubscribers;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
+import com.alipay.sofa.registry.task.listener.TaskListenerManager;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * subscribers held back by stop push switch are released by dataInfoId when the switch is opened,
+ * the release rate grows linearly from initial rate to max rate in the ramp window instead of all at once.
+ * dataInfoIds with subscribers never pushed are released first, then dataInfoIds with more subscribers.
+ * subscribers are taken from reSubscribers at release time, so subscribers already pushed
+ * by data change fetch in the meantime are not pushed again.
+ *
+ * @author shangyu.wh
+ * @version $Id: PushRecoveryRamp.java, v 0.1 2026-10-19 16:40 shangyu.wh Exp $
+ */
+public class PushRecoveryRamp {
+
+    private static final Logger LOGGER           = LoggerFactory.getLogger("SESSION-PUSH",
+                                                     "[Recovery]");
+
+    public static final String  METRIC_PREFIX    = "PushRecovery";
+
+    private static final long   TICK_INTERVAL_MS = 100;
+
+    /**
+     * state of recovery ramp
+     */
+    public enum State {
+        IDLE, RAMPING, PAUSED
+    }
+
+    @Autowired
+    private SessionServerConfig      sessionServerConfig;
+
+    @Autowired
+    private Interests                sessionInterests;
+
+    @Autowired
+    private TaskListenerManager      taskListenerManager;
+
+    private final ArrayDeque<String> pending = new ArrayDeque<>();
+
+    private ScheduledExecutorService releaser;
+
+    private State                    state   = State.IDLE;
+
+    private long                     rampStartMillis;
+
+    private long                     lastTickMillis;
+
+    private double                   budget;
+
+    private int                      total;
+
+    private int                      released;
+
+    private int                      releasedSubscribers;
+
+    private final Counter            releaseCounter;
+
+    private final Counter            skipCounter;
+
+    public PushRecoveryRamp() {
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.releaseCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "release"));
+        this.skipCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "skip"));
+        String pendingName = MetricRegistry.name(METRIC_PREFIX, "pending");
+        metricRegistry.remove(pendingName);
+        metricRegistry.register(pendingName, (Gauge<Integer>) this::getPendingSize);
+    }
+
+    /**
+     * start releaser thread
+     */
+    public synchronized void startReleaser() {
+        if (releaser != null) {
+            return;
+        }
+        releaser = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory(
+            "PushRecoveryRamp-releaser", true));
+        releaser.scheduleWithFixedDelay(this::tick, TICK_INTERVAL_MS, TICK_INTERVAL_MS,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * stop releaser thread, dataInfoIds still pending are not released
+     */
+    public synchronized void destroy() {
+        if (releaser != null) {
+            releaser.shutdownNow();
+            releaser = null;
+        }
+    }
+
+    /**
+     * start release all reSubscribers, dataInfoIds still pending from last ramp are ordered again
+     */
+    public void start() {
+        start(System.currentTimeMillis());
+    }
+
+    void start(long now) {
+        if (!(sessionInterests instanceof ReSubscribers)) {
+            return;
+        }
+        Map<String/*dataInfoId*/, Map<String/*registerId*/, Subscriber>> reSubscribers = ((ReSubscribers) sessionInterests)
+            .getReSubscribers();
+
+        Map<String, Long> priorities = new HashMap<>();
+        for (Entry<String, Map<String, Subscriber>> entry : reSubscribers.entrySet()) {
+            Collection<Subscriber> subscribers = entry.getValue().values();
+            if (subscribers.isEmpty()) {
+                continue;
+            }
+            long priority = subscribers.size();
+            if (subscribers.stream().anyMatch(PushRecoveryRamp::neverPushed)) {
+                //subscribers registered when push stopped have no data at all
+                priority += Integer.MAX_VALUE;
+            }
+            priorities.put(entry.getKey(), priority);
+        }
+        List<String> ordered = new ArrayList<>(priorities.keySet());
+        ordered.sort(Comparator.comparing(priorities::get, Comparator.reverseOrder()));
+
+        if (sessionServerConfig.getPushRecoveryInitialRate() <= 0) {
+            ordered.forEach(this::release);
+            LOGGER.info("Push recovery release all at once, dataInfoIds:{}", ordered.size());
+            return;
+        }
+
+        synchronized (this) {
+            if (state == State.IDLE) {
+                released = 0;
+                releasedSubscribers = 0;
+            }
+            pending.clear();
+            pending.addAll(ordered);
+            total = released + pending.size();
+            rampStartMillis = now;
+            lastTickMillis = now;
+            budget = 0;
+            state = pending.isEmpty() ? State.IDLE : State.RAMPING;
+        }
+        LOGGER.info("Push recovery ramp start, dataInfoIds:{}, initialRate:{}, maxRate:{}, ramp:{}s",
+            ordered.size(), sessionServerConfig.getPushRecoveryInitialRate(),
+            sessionServerConfig.getPushRecoveryMaxRate(),
+            sessionServerConfig.getPushRecoveryRampSeconds());
+    }
+
+    void tick() {
+        tick(System.currentTimeMillis());
+    }
+
+    void tick(long now) {
+        try {
+            List<String> batch = new ArrayList<>();
+            synchronized (this) {
+                if (state != State.RAMPING) {
+                    return;
+                }
+                if (sessionServerConfig.isStopPushSwitch()) {
+                    //push switch closed again, hold the rest until next start
+                    state = State.PAUSED;
+                    return;
+                }
+                budget += currentRate(now) * (now - lastTickMillis) / 1000d;
+                lastTickMillis = now;
+                while (budget >= 1 && !pending.isEmpty()) {
+                    batch.add(pending.poll());
+                    budget--;
+                }
+                released += batch.size();
+                if (pending.isEmpty()) {
+                    state = State.IDLE;
+                    budget = 0;
+                    LOGGER.info("Push recovery ramp finish, dataInfoIds:{}, subscribers:{}, cost:{}ms",
+                        total, releasedSubscribers, now - rampStartMillis);
+                }
+            }
+            batch.forEach(this::release);
+        } catch (Throwable e) {
+            LOGGER.error("Push recovery ramp release error!", e);
+        }
+    }
+
+    private void release(String dataInfoId) {
+        Map<String, Subscriber> subscribers = ((ReSubscribers) sessionInterests).getReSubscribers()
+            .remove(dataInfoId);
+        if (subscribers == null || subscribers.isEmpty()) {
+            //all pushed by data change fetch or unregistered
+            skipCounter.inc();
+            return;
+        }
+        releaseCounter.inc();
+        synchronized (this) {
+            releasedSubscribers += subscribers.size();
+        }
+        TaskEvent taskEvent = new TaskEvent(dataInfoId, TaskType.SUBSCRIBER_MULTI_FETCH_TASK);
+        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS, subscribers.values());
+        LOGGER.info("send " + taskEvent.getTaskType() + " subscribersSize:{},dataInfoId:{}",
+            subscribers.size(), dataInfoId);
+        taskListenerManager.sendTaskEvent(taskEvent);
+    }
+
+    private double currentRate(long now) {
+        int initialRate = sessionServerConfig.getPushRecoveryInitialRate();
+        int maxRate = Math.max(initialRate, sessionServerConfig.getPushRecoveryMaxRate());
+        long rampMillis = TimeUnit.SECONDS.toMillis(sessionServerConfig
+            .getPushRecoveryRampSeconds());
+        if (rampMillis <= 0 || now - rampStartMillis >= rampMillis) {
+            return maxRate;
+        }
+        return initialRate + (maxRate - initialRate) * (double) (now - rampStartMillis)
+               / rampMillis;
+    }
+
+    /**
+     * seconds to release the pending dataInfoIds, rate grows linearly until ramp end
+     */
+    private double etaSeconds(long now) {
+        int remaining = pending.size();
+        if (remaining == 0) {
+            return 0;
+        }
+        double rate = currentRate(now);
+        if (rate <= 0) {
+            return -1;
+        }
+        double maxRate = Math.max(rate, sessionServerConfig.getPushRecoveryMaxRate());
+        double rampLeft = Math.max(0,
+            TimeUnit.SECONDS.toMillis(sessionServerConfig.getPushRecoveryRampSeconds())
+                    - (now - rampStartMillis)) / 1000d;
+        if (rampLeft <= 0 || maxRate <= rate) {
+            return remaining / rate;
+        }
+        double slope = (maxRate - rate) / rampLeft;
+        double inRamp = (rate + maxRate) / 2 * rampLeft;
+        if (remaining > inRamp) {
+            return rampLeft + (remaining - inRamp) / maxRate;
+        }
+        //solve remaining = rate * t + slope * t * t / 2
+        return (Math.sqrt(rate * rate + 2 * slope * remaining) - rate) / slope;
+    }
+
+    private static boolean neverPushed(Subscriber subscriber) {
+        Map<String, Long> versions = subscriber.getLastPushVersions();
+        return versions == null || versions.isEmpty();
+    }
+
+    /**
+     * progress of current recovery ramp
+     *
+     * @return
+     */
+    public synchronized Map<String, Object> getProgress() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("state", state.name());
+        progress.put("total", total);
+        progress.put("released", released);
+        progress.put("pending", pending.size());
+        progress.put("releasedSubscribers", releasedSubscribers);
+        if (state != State.IDLE) {
+            progress.put("elapsedSeconds", (now - rampStartMillis) / 1000);
+            progress.put("rate", state == State.RAMPING ? (long) currentRate(now) : 0);
+            progress.put("etaSeconds", state == State.RAMPING ? (long) Math.ceil(etaSeconds(now))
+                : -1);
+        }
+        return progress;
+    }
+
+    /**
+     * get pending dataInfoId size
+     *
+     * @return
+     */
+    public synchronized int getPendingSize() {
+        return pending.size();
+    }
+}
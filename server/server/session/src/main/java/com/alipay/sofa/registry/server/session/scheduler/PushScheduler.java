@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler;
+
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.util.NamedThreadFactory;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.RateLimiter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * push scheduler between push task listener and push executor,
+ * pushes are paced by global pushes and bytes per second budget,
+ * connections share the budget by deficit round robin,
+ * and first subscribe pushes are always dispatched before incremental pushes.
+ * Push rejected by push task executor or left pending on stop is completed by its reject callback.
+ *
+ * @author shangyu.wh
+ * @version $Id: PushScheduler.java, v 0.1 2026-10-19 13:10 shangyu.wh Exp $
+ */
+public class PushScheduler {
+
+    private static final Logger       LOGGER        = LoggerFactory.getLogger("SESSION-PUSH",
+                                                        "[Scheduler]");
+
+    public static final String        METRIC_PREFIX = "PushScheduler";
+
+    private final SessionServerConfig sessionServerConfig;
+
+    private final ExecutorManager     executorManager;
+
+    private final RateLimiter         pushRateLimiter;
+
+    private final RateLimiter         bytesRateLimiter;
+
+    private final int                 drrQuantumBytes;
+
+    private final Thread              dispatcher;
+
+    private volatile boolean          stopped;
+
+    private final ReentrantLock       lock          = new ReentrantLock();
+
+    private final Condition           notEmpty      = lock.newCondition();
+
+    /**
+     * index 0 first subscribe push, index 1 incremental push
+     */
+    private final Level[]             levels        = new Level[] { new Level(), new Level() };
+
+    private int                       pendingSize;
+
+    private final Counter             dispatchCounter;
+
+    private final Counter             dispatchBytesCounter;
+
+    private final Counter             throttleMillisCounter;
+
+    private final Counter             rejectCounter;
+
+    public PushScheduler(SessionServerConfig sessionServerConfig, ExecutorManager executorManager) {
+        this.sessionServerConfig = sessionServerConfig;
+        this.executorManager = executorManager;
+        this.pushRateLimiter = sessionServerConfig.getPushRateLimitPerSecond() > 0 ? RateLimiter
+            .create(sessionServerConfig.getPushRateLimitPerSecond()) : null;
+        this.bytesRateLimiter = sessionServerConfig.getPushBytesLimitPerSecond() > 0 ? RateLimiter
+            .create(sessionServerConfig.getPushBytesLimitPerSecond()) : null;
+        //quantum less than one byte never lets a connection catch up with its deficit
+        this.drrQuantumBytes = Math.max(sessionServerConfig.getPushDrrQuantumBytes(), 1);
+        if (drrQuantumBytes != sessionServerConfig.getPushDrrQuantumBytes()) {
+            LOGGER.warn("Illegal push drr quantum bytes {}, use {}",
+                sessionServerConfig.getPushDrrQuantumBytes(), drrQuantumBytes);
+        }
+
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        this.dispatchCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "dispatch"));
+        this.dispatchBytesCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "dispatchBytes"));
+        this.throttleMillisCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX,
+            "throttleMillis"));
+        this.rejectCounter = metricRegistry.counter(MetricRegistry.name(METRIC_PREFIX, "reject"));
+        //gauges of former instance are replaced when context restarted
+        metricRegistry.removeMatching((name, metric) -> name.startsWith(METRIC_PREFIX + ".")
+                                                        && metric instanceof Gauge);
+        metricRegistry.register(MetricRegistry.name(METRIC_PREFIX, "pending"),
+            (Gauge<Integer>) this::getPendingSize);
+        metricRegistry.register(MetricRegistry.name(METRIC_PREFIX, "pendingFirstSubscribe"),
+            (Gauge<Integer>) () -> getPendingSize(0));
+        metricRegistry.register(MetricRegistry.name(METRIC_PREFIX, "connections"),
+            (Gauge<Integer>) this::getConnectionSize);
+
+        this.dispatcher = new NamedThreadFactory("PushScheduler-dispatcher", true)
+            .newThread(this::dispatch);
+        dispatcher.start();
+    }
+
+    /**
+     * stop dispatcher, pushes still pending are rejected
+     */
+    public void stop() {
+        List<PushItem> pending = new ArrayList<>();
+        lock.lock();
+        try {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            for (Level level : levels) {
+                PushItem item;
+                while ((item = level.poll(drrQuantumBytes)) != null) {
+                    pending.add(item);
+                }
+            }
+            pendingSize = 0;
+        } finally {
+            lock.unlock();
+        }
+        dispatcher.interrupt();
+        LOGGER.info("Push scheduler stopped, reject pending pushes:{}", pending.size());
+        pending.forEach(item -> reject(item, new RejectedExecutionException(
+            "Push scheduler is stopped!")));
+    }
+
+    /**
+     * schedule one push to client connection
+     *
+     * @param url client connection
+     * @param firstSubscribe push for subscriber just registered
+     * @param size estimated bytes of push
+     * @param push push action, run in push task executor
+     * @param onRejected called when push is rejected after scheduled
+     */
+    public void schedule(URL url, boolean firstSubscribe, int size, Runnable push,
+                         Consumer<Throwable> onRejected) {
+        lock.lock();
+        try {
+            if (stopped) {
+                throw new RejectedExecutionException("Push scheduler is stopped!");
+            }
+            if (pendingSize >= sessionServerConfig.getPushTaskExecutorQueueSize()) {
+                rejectCounter.inc();
+                throw new RejectedExecutionException("Push scheduler queue is full! size:"
+                                                     + pendingSize);
+            }
+            levels[firstSubscribe ? 0 : 1].offer(url.getAddressString(),
+                new PushItem(Math.max(size, 1), push, onRejected));
+            pendingSize++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatch() {
+        while (!stopped && !Thread.currentThread().isInterrupted()) {
+            try {
+                PushItem item = take();
+                if (item == null) {
+                    continue;
+                }
+                acquire(item.size);
+                dispatchCounter.inc();
+                dispatchBytesCounter.inc(item.size);
+                try {
+                    executorManager.getPushTaskExecutor().execute(item.push);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.error("Push task executor reject push!", e);
+                    reject(item, e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                LOGGER.error("Dispatch push error!", e);
+            }
+        }
+    }
+
+    private PushItem take() throws InterruptedException {
+        lock.lock();
+        try {
+            while (pendingSize == 0) {
+                if (stopped) {
+                    return null;
+                }
+                notEmpty.await(1, TimeUnit.SECONDS);
+            }
+            for (Level level : levels) {
+                PushItem item = level.poll(drrQuantumBytes);
+                if (item != null) {
+                    pendingSize--;
+                    return item;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reject(PushItem item, Throwable cause) {
+        rejectCounter.inc();
+        try {
+            item.onRejected.accept(cause);
+        } catch (Throwable e) {
+            LOGGER.error("Reject push error!", e);
+        }
+    }
+
+    private void acquire(int size) {
+        double waitSeconds = 0;
+        if (pushRateLimiter != null) {
+            waitSeconds += pushRateLimiter.acquire();
+        }
+        if (bytesRateLimiter != null) {
+            waitSeconds += bytesRateLimiter.acquire(size);
+        }
+        if (waitSeconds > 0) {
+            throttleMillisCounter.inc((long) (waitSeconds * 1000));
+        }
+    }
+
+    /**
+     * get pending push size
+     *
+     * @return
+     */
+    public int getPendingSize() {
+        lock.lock();
+        try {
+            return pendingSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getPendingSize(int level) {
+        lock.lock();
+        try {
+            return levels[level].pendingSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getConnectionSize() {
+        lock.lock();
+        try {
+            return levels[0].queues.size() + levels[1].queues.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * connections of one priority served by deficit round robin
+     */
+    private static final class Level {
+        private final Map<String, ConnectionQueue> queues = new HashMap<>();
+        private final ArrayDeque<ConnectionQueue>  active = new ArrayDeque<>();
+        private int                                pendingSize;
+
+        void offer(String address, PushItem item) {
+            ConnectionQueue queue = queues.get(address);
+            if (queue == null) {
+                queue = new ConnectionQueue(address);
+                queues.put(address, queue);
+                active.addLast(queue);
+            }
+            queue.items.addLast(item);
+            pendingSize++;
+        }
+
+        PushItem poll(int quantum) {
+            while (!active.isEmpty()) {
+                ConnectionQueue queue = active.peekFirst();
+                PushItem item = queue.items.peekFirst();
+                if (item.size <= queue.deficit) {
+                    queue.items.pollFirst();
+                    queue.deficit -= item.size;
+                    if (queue.items.isEmpty()) {
+                        active.pollFirst();
+                        queues.remove(queue.address);
+                    }
+                    pendingSize--;
+                    return item;
+                }
+                //turn of this connection is over, give it quantum for next round
+                active.pollFirst();
+                queue.deficit += quantum;
+                active.addLast(queue);
+            }
+            return null;
+        }
+    }
+
+    private static final class ConnectionQueue {
+        private final String               address;
+        private final ArrayDeque<PushItem> items = new ArrayDeque<>();
+        private long                       deficit;
+
+        ConnectionQueue(String address) {
+            this.address = address;
+        }
+    }
+
+    private static final class PushItem {
+        private final int                 size;
+        private final Runnable            push;
+        private final Consumer<Throwable> onRejected;
+
+        PushItem(int size, Runnable push, Consumer<Throwable> onRejected) {
+            this.size = size;
+            this.push = push;
+            this.onRejected = onRejected;
+        }
+    }
+}
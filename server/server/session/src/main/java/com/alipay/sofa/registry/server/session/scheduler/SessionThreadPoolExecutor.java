@@ -19,6 +19,8 @@ package com.alipay.sofa.registry.server.session.scheduler;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
@@ -37,6 +39,8 @@ public class SessionThreadPoolExecutor extends ThreadPoolExecutor {
 
     private String              executorName;
 
+    private Counter             rejectedCounter;
+
     public SessionThreadPoolExecutor(String executorName, int corePoolSize, int maximumPoolSize,
                                      long keepAliveTime, TimeUnit unit,
                                      BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
@@ -48,6 +52,8 @@ public class SessionThreadPoolExecutor extends ThreadPoolExecutor {
     private void registerTaskMetrics() {
 
         TaskMetrics.getInstance().registerThreadExecutor(executorName, this);
+        rejectedCounter = TaskMetrics.getInstance().getMetricRegistry()
+            .counter(MetricRegistry.name(executorName, "rejected"));
     }
 
     @Override
@@ -63,6 +69,7 @@ public class SessionThreadPoolExecutor extends ThreadPoolExecutor {
             super.execute(command);
         } catch (Exception e) {
             if (e instanceof RejectedExecutionException) {
+                rejectedCounter.inc();
                 LOGGER.error("Processor session executor {} Rejected Execution!command {}", this,
                     command.getClass(), e);
             }
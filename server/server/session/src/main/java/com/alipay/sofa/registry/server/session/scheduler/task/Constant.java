@@ -28,4 +28,10 @@ public class Constant {
     public final static String PUSH_CLIENT_DATUM       = "PUSH_CLIENT_DATUM";
 
     public final static String PUSH_CLIENT_URL         = "PUSH_CLIENT_URL";
+
+    public final static String PUSH_FIRST_SUBSCRIBE    = "PUSH_FIRST_SUBSCRIBE";
+
+    public final static String PUSH_DATA_SIZE          = "PUSH_DATA_SIZE";
+
+    public final static String WATCHED_PROVIDE_DATA    = "WATCHED_PROVIDE_DATA";
 }
\ No newline at end of file
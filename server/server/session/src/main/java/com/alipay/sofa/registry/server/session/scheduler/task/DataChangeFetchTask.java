@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.common.model.sessionserver.DataChangeRequest;
 import com.alipay.sofa.registry.common.model.store.BaseInfo.ClientVersion;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.model.DataBox;
 import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 import com.alipay.sofa.registry.log.Logger;
@@ -28,6 +29,7 @@ import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.cache.CacheService;
 import com.alipay.sofa.registry.server.session.cache.DatumKey;
+import com.alipay.sofa.registry.server.session.cache.DatumValue;
 import com.alipay.sofa.registry.server.session.cache.Key;
 import com.alipay.sofa.registry.server.session.cache.Key.KeyType;
 import com.alipay.sofa.registry.server.session.cache.Value;
@@ -43,6 +45,7 @@ import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -95,11 +98,21 @@ public class DataChangeFetchTask extends AbstractSessionTask {
 
         boolean ifLocalDataCenter = localDataCenterID.equals(dataChangeRequest.getDataCenter());
 
-        Datum datum = getDatumCache();
+        Value<Datum> value = getDatumCache();
+        Datum datum = value == null ? null : value.getPayload();
 
         if (datum != null) {
+            //zone partition of cached datum, selecting zones of scope is just map access
+            Map<String/*zone*/, List<DataBox>> zonePartition = value instanceof DatumValue ? ((DatumValue) value)
+                .getZonePartition() : ReceivedDataConverter.getZonePartition(datum);
+
             PushTaskClosure pushTaskClosure = getTaskClosure();
 
+            //client data of same scope is converted once and shared by all address push
+            Map<ScopeEnum, Map<String/*zone*/, List<DataBox>>> zoneDatasCache = new EnumMap<>(
+                ScopeEnum.class);
+            Map<ScopeEnum, Long> dataSizeCache = new EnumMap<>(ScopeEnum.class);
+
             for (ScopeEnum scopeEnum : ScopeEnum.values()) {
                 Map<InetSocketAddress, Map<String, Subscriber>> map = getCache(scopeEnum);
                 if (map != null && !map.isEmpty()) {
@@ -133,7 +146,8 @@ public class DataChangeFetchTask extends AbstractSessionTask {
                                         } else {
                                             fireReceivedDataMultiPushTask(datum,
                                                 subscriberRegisterIdList, subscribersSend,
-                                                ScopeEnum.zone, subscriber, pushTaskClosure);
+                                                ScopeEnum.zone, subscriber, pushTaskClosure,
+                                                zonePartition, zoneDatasCache, dataSizeCache);
                                         }
                                     }
                                     break;
@@ -145,13 +159,15 @@ public class DataChangeFetchTask extends AbstractSessionTask {
                                         } else {
                                             fireReceivedDataMultiPushTask(datum,
                                                 subscriberRegisterIdList, subscribersSend,
-                                                scopeEnum, subscriber, pushTaskClosure);
+                                                scopeEnum, subscriber, pushTaskClosure,
+                                                zonePartition, zoneDatasCache, dataSizeCache);
                                         }
                                     }
                                     break;
                                 case global:
                                     fireReceivedDataMultiPushTask(datum, subscriberRegisterIdList,
-                                        subscribersSend, scopeEnum, subscriber, pushTaskClosure);
+                                        subscribersSend, scopeEnum, subscriber, pushTaskClosure,
+                                        zonePartition, zoneDatasCache, dataSizeCache);
                                     break;
                                 default:
                                     LOGGER.warn("unknown scope, {}", subscriber);
@@ -223,8 +239,30 @@ public class DataChangeFetchTask extends AbstractSessionTask {
     private void fireReceivedDataMultiPushTask(Datum datum, List<String> subscriberRegisterIdList,
                                                Collection<Subscriber> subscribers,
                                                ScopeEnum scopeEnum, Subscriber subscriber,
-                                               PushTaskClosure pushTaskClosure) {
-        String dataId = datum.getDataId();
+                                               PushTaskClosure pushTaskClosure,
+                                               Map<String, List<DataBox>> zonePartition,
+                                               Map<ScopeEnum, Map<String, List<DataBox>>> zoneDatasCache,
+                                               Map<ScopeEnum, Long> dataSizeCache) {
+        Map<String/*zone*/, List<DataBox>> zoneDatas = zoneDatasCache.computeIfAbsent(scopeEnum,
+                k -> ReceivedDataConverter.getReceivedDataZoneMap(zonePartition,
+                        getZonePredicate(datum.getDataId(), k)));
+        ReceivedData receivedData = ReceivedDataConverter.getReceivedDataMulti(datum, scopeEnum,
+                subscriberRegisterIdList, sessionServerConfig.getSessionServerRegion(), zoneDatas);
+
+        //trigger push to client node
+        Map<ReceivedData, URL> parameter = new HashMap<>();
+        parameter.put(receivedData, subscriber.getSourceAddress());
+        TaskEvent taskEvent = new TaskEvent(parameter, TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        taskEvent.setAttribute(Constant.PUSH_DATA_SIZE,
+                dataSizeCache.computeIfAbsent(scopeEnum, k -> ReceivedDataConverter.estimateDataSize(zoneDatas)));
+        taskEvent.setTaskClosure(pushTaskClosure);
+        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS, subscribers);
+        taskLogger.info("send {} taskURL:{},taskScope:{}", taskEvent.getTaskType(), subscriber.getSourceAddress(),
+                scopeEnum);
+        taskListenerManager.sendTaskEvent(taskEvent);
+    }
+
+    private Predicate<String> getZonePredicate(String dataId, ScopeEnum scopeEnum) {
         Predicate<String> zonePredicate = (zone) -> {
             if (!sessionServerConfig.getSessionServerRegion().equals(zone)) {
                 if (ScopeEnum.zone == scopeEnum) {
@@ -239,30 +277,18 @@ public class DataChangeFetchTask extends AbstractSessionTask {
             }
             return false;
         };
-        ReceivedData receivedData = ReceivedDataConverter.getReceivedDataMulti(datum, scopeEnum,
-                subscriberRegisterIdList, sessionServerConfig.getSessionServerRegion(), zonePredicate);
-
-        //trigger push to client node
-        Map<ReceivedData, URL> parameter = new HashMap<>();
-        parameter.put(receivedData, subscriber.getSourceAddress());
-        TaskEvent taskEvent = new TaskEvent(parameter, TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
-        taskEvent.setTaskClosure(pushTaskClosure);
-        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS, subscribers);
-        taskLogger.info("send {} taskURL:{},taskScope:{}", taskEvent.getTaskType(), subscriber.getSourceAddress(),
-                scopeEnum);
-        taskListenerManager.sendTaskEvent(taskEvent);
+        return zonePredicate;
     }
 
     private Map<InetSocketAddress, Map<String, Subscriber>> getCache(ScopeEnum scopeEnum) {
         return sessionInterests.querySubscriberIndex(dataChangeRequest.getDataInfoId(), scopeEnum);
     }
 
-    private Datum getDatumCache() {
+    private Value<Datum> getDatumCache() {
         DatumKey datumKey = new DatumKey(dataChangeRequest.getDataInfoId(),
             dataChangeRequest.getDataCenter());
         Key key = new Key(KeyType.OBJ, datumKey.getClass().getName(), datumKey);
-        Value<Datum> value = sessionCacheService.getValue(key);
-        return value == null ? null : value.getPayload();
+        return sessionCacheService.getValue(key, dataChangeRequest.getVersion());
     }
 
     private void fireUserDataElementPushTask(InetSocketAddress address, Datum datum,
@@ -21,6 +21,7 @@ import com.alipay.sofa.registry.common.model.sessionserver.DataPushRequest;
 import com.alipay.sofa.registry.common.model.store.BaseInfo.ClientVersion;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.model.DataBox;
 import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.core.model.ScopeEnum;
 import com.alipay.sofa.registry.log.Logger;
@@ -37,6 +38,7 @@ import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +91,11 @@ public class DataPushTask extends AbstractSessionTask {
 
             String dataInfoId = datum.getDataInfoId();
 
+            //client data of same scope is converted once and shared by all address push
+            Map<ScopeEnum, Map<String/*zone*/, List<DataBox>>> zoneDatasCache = new EnumMap<>(
+                ScopeEnum.class);
+            Map<ScopeEnum, Long> dataSizeCache = new EnumMap<>(ScopeEnum.class);
+
             for (ScopeEnum scopeEnum : ScopeEnum.values()) {
                 Map<InetSocketAddress, Map<String, Subscriber>> map = getCache(scopeEnum,
                     dataInfoId);
@@ -115,7 +122,8 @@ public class DataPushTask extends AbstractSessionTask {
                                         } else {
                                             fireReceivedDataMultiPushTask(datum,
                                                 subscriberRegisterIdList, ScopeEnum.zone,
-                                                subscriber, subscriberMap);
+                                                subscriber, subscriberMap, zoneDatasCache,
+                                                dataSizeCache);
                                         }
                                     }
                                     break;
@@ -127,13 +135,14 @@ public class DataPushTask extends AbstractSessionTask {
                                         } else {
                                             fireReceivedDataMultiPushTask(datum,
                                                 subscriberRegisterIdList, scopeEnum, subscriber,
-                                                subscriberMap);
+                                                subscriberMap, zoneDatasCache, dataSizeCache);
                                         }
                                     }
                                     break;
                                 case global:
                                     fireReceivedDataMultiPushTask(datum, subscriberRegisterIdList,
-                                        scopeEnum, subscriber, subscriberMap);
+                                        scopeEnum, subscriber, subscriberMap, zoneDatasCache,
+                                        dataSizeCache);
                                     break;
                                 default:
                                     LOGGER.warn("unknown scope, {}", subscriber);
@@ -146,9 +155,29 @@ public class DataPushTask extends AbstractSessionTask {
     }
 
     private void fireReceivedDataMultiPushTask(Datum datum, List<String> subscriberRegisterIdList,
-                                               ScopeEnum scopeEnum, Subscriber subscriber, Map<String, Subscriber> subscriberMap) {
+                                               ScopeEnum scopeEnum, Subscriber subscriber, Map<String, Subscriber> subscriberMap,
+                                               Map<ScopeEnum, Map<String, List<DataBox>>> zoneDatasCache,
+                                               Map<ScopeEnum, Long> dataSizeCache) {
         Collection<Subscriber> subscribers = new ArrayList<>(subscriberMap.values());
-        String dataId = datum.getDataId();
+        LOGGER.info("Datum push={}",datum);
+        Map<String/*zone*/, List<DataBox>> zoneDatas = zoneDatasCache.computeIfAbsent(scopeEnum,
+                k -> ReceivedDataConverter.getReceivedDataZoneMap(datum, getZonePredicate(datum.getDataId(), k)));
+        ReceivedData receivedData = ReceivedDataConverter.getReceivedDataMulti(datum, scopeEnum,
+                subscriberRegisterIdList, sessionServerConfig.getSessionServerRegion(), zoneDatas);
+
+        //trigger push to client node
+        Map<ReceivedData, URL> parameter = new HashMap<>();
+        parameter.put(receivedData, subscriber.getSourceAddress());
+        TaskEvent taskEvent = new TaskEvent(parameter, TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        taskEvent.setAttribute(Constant.PUSH_DATA_SIZE,
+                dataSizeCache.computeIfAbsent(scopeEnum, k -> ReceivedDataConverter.estimateDataSize(zoneDatas)));
+        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS, subscribers);
+        taskLogger.info("send {} taskURL:{},taskScope:{},version:{}", taskEvent.getTaskType(), subscriber.getSourceAddress(),
+                scopeEnum,receivedData.getVersion());
+        taskListenerManager.sendTaskEvent(taskEvent);
+    }
+
+    private Predicate<String> getZonePredicate(String dataId, ScopeEnum scopeEnum) {
         Predicate<String> zonePredicate = (zone) -> {
             if (!sessionServerConfig.getSessionServerRegion().equals(zone)) {
                 if (ScopeEnum.zone == scopeEnum) {
@@ -165,18 +194,7 @@ public class DataPushTask extends AbstractSessionTask {
             }
             return false;
         };
-        LOGGER.info("Datum push={}",datum);
-        ReceivedData receivedData = ReceivedDataConverter.getReceivedDataMulti(datum, scopeEnum,
-                subscriberRegisterIdList, sessionServerConfig.getSessionServerRegion(), zonePredicate);
-
-        //trigger push to client node
-        Map<ReceivedData, URL> parameter = new HashMap<>();
-        parameter.put(receivedData, subscriber.getSourceAddress());
-        TaskEvent taskEvent = new TaskEvent(parameter, TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
-        taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS, subscribers);
-        taskLogger.info("send {} taskURL:{},taskScope:{},version:{}", taskEvent.getTaskType(), subscriber.getSourceAddress(),
-                scopeEnum,receivedData.getVersion());
-        taskListenerManager.sendTaskEvent(taskEvent);
+        return zonePredicate;
     }
 
     private Map<InetSocketAddress, Map<String, Subscriber>> getCache(ScopeEnum scopeEnum,
@@ -21,7 +21,6 @@ import com.alipay.sofa.registry.common.model.metaserver.DataOperator;
 import com.alipay.sofa.registry.common.model.metaserver.NotifyProvideDataChange;
 import com.alipay.sofa.registry.common.model.metaserver.ProvideData;
 import com.alipay.sofa.registry.common.model.store.DataInfo;
-import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
 import com.alipay.sofa.registry.common.model.store.Watcher;
 import com.alipay.sofa.registry.core.model.ReceivedConfigData;
@@ -35,16 +34,14 @@ import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.converter.ReceivedDataConverter;
 import com.alipay.sofa.registry.server.session.node.service.MetaNodeService;
 import com.alipay.sofa.registry.server.session.registry.Registry;
+import com.alipay.sofa.registry.server.session.scheduler.PushRecoveryRamp;
 import com.alipay.sofa.registry.server.session.store.Interests;
-import com.alipay.sofa.registry.server.session.store.ReSubscribers;
 import com.alipay.sofa.registry.server.session.store.Watchers;
 import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
-import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,13 +79,20 @@ public class ProvideDataChangeFetchTask extends AbstractSessionTask {
 
     private final Registry            sessionRegistry;
 
+    private final PushRecoveryRamp    pushRecoveryRamp;
+
     private NotifyProvideDataChange   notifyProvideDataChange;
 
+    /**
+     * data got by watch, no need to fetch again
+     */
+    private ProvideData               watchedProvideData;
+
     public ProvideDataChangeFetchTask(SessionServerConfig sessionServerConfig,
                                       TaskListenerManager taskListenerManager,
                                       MetaNodeService metaNodeService, Watchers sessionWatchers,
                                       Exchange boltExchange, Interests sessionInterests,
-                                      Registry sessionRegistry) {
+                                      Registry sessionRegistry, PushRecoveryRamp pushRecoveryRamp) {
         this.sessionServerConfig = sessionServerConfig;
         this.taskListenerManager = taskListenerManager;
         this.metaNodeService = metaNodeService;
@@ -96,6 +100,7 @@ public class ProvideDataChangeFetchTask extends AbstractSessionTask {
         this.boltExchange = boltExchange;
         this.sessionInterests = sessionInterests;
         this.sessionRegistry = sessionRegistry;
+        this.pushRecoveryRamp = pushRecoveryRamp;
     }
 
     @Override
@@ -107,6 +112,8 @@ public class ProvideDataChangeFetchTask extends AbstractSessionTask {
         }
 
         this.notifyProvideDataChange = (NotifyProvideDataChange) obj;
+        this.watchedProvideData = (ProvideData) taskEvent
+            .getAttribute(Constant.WATCHED_PROVIDE_DATA);
     }
 
     @Override
@@ -115,7 +122,8 @@ public class ProvideDataChangeFetchTask extends AbstractSessionTask {
         ProvideData provideData = null;
         String dataInfoId = notifyProvideDataChange.getDataInfoId();
         if (notifyProvideDataChange.getDataOperator() != DataOperator.REMOVE) {
-            provideData = metaNodeService.fetchData(dataInfoId);
+            provideData = watchedProvideData != null ? watchedProvideData : metaNodeService
+                .fetchData(dataInfoId);
 
             if (ValueConstants.STOP_PUSH_DATA_SWITCH_DATA_ID.equals(dataInfoId)) {
                 if (provideData != null) {
@@ -195,7 +203,7 @@ public class ProvideDataChangeFetchTask extends AbstractSessionTask {
             //begin push fire data fetch task first,avoid reSubscriber push duplicate
             sessionRegistry.fetchChangDataProcess();
         } catch (Throwable e) {
-            LOGGER.error("Open push switch first fetch task execute error",e);
+            LOGGER.error("Open push switch first fetch task execute error", e);
         }
 
         try {
@@ -208,29 +216,8 @@ public class ProvideDataChangeFetchTask extends AbstractSessionTask {
         //fetch task process 1 minutes,can schedule execute fetch task
         sessionServerConfig.setBeginDataFetchTask(true);
 
-        if (this.sessionInterests instanceof ReSubscribers) {
-            ReSubscribers reSubscriber = (ReSubscribers) sessionInterests;
-
-            Map<String/*dataInfoId*/, Map<String/*registerId*/, Subscriber>> reSubscribers = reSubscriber
-                    .getReSubscribers();
-
-            if (reSubscribers != null && !reSubscribers.isEmpty()) {
-                reSubscribers.forEach(
-                        (dataInfoId, subscribers) -> fireSubscriberMultiFetchTask(dataInfoId, subscribers.values()));
-                reSubscriber.clearReSubscribers();
-            }
-        }
-    }
-
-    private void fireSubscriberMultiFetchTask(String dataInfoId, Collection<Subscriber> subscribers) {
-        //trigger fetch data for subscriber,and push to client node
-        if (!CollectionUtils.isEmpty(subscribers)) {
-            TaskEvent taskEvent = new TaskEvent(dataInfoId, TaskType.SUBSCRIBER_MULTI_FETCH_TASK);
-            taskEvent.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS, subscribers);
-            TASK_LOGGER.info("send " + taskEvent.getTaskType()
-                             + " subscribersSize:{},dataInfoId:{}", subscribers.size(), dataInfoId);
-            taskListenerManager.sendTaskEvent(taskEvent);
-        }
+        //release reSubscribers by recovery ramp, avoid all clients pushed at once
+        pushRecoveryRamp.start();
     }
 
     private void firePushTask(ReceivedConfigData receivedConfigData, URL clientUrl) {
@@ -19,15 +19,18 @@ package com.alipay.sofa.registry.server.session.scheduler.task;
 import com.alipay.sofa.registry.common.model.PushDataRetryRequest;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.constants.AttributeConstants;
 import com.alipay.sofa.registry.core.model.ReceivedData;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
 import com.alipay.sofa.registry.remoting.CallbackHandler;
 import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.Server;
 import com.alipay.sofa.registry.remoting.exchange.Exchange;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.node.service.ClientNodeService;
+import com.alipay.sofa.registry.server.session.node.service.ClientPushBatcher;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
 import com.alipay.sofa.registry.server.session.strategy.ReceivedDataMultiPushTaskStrategy;
 import com.alipay.sofa.registry.task.Task;
@@ -35,6 +38,9 @@ import com.alipay.sofa.registry.task.TaskClosure;
 import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
 import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.timer.AsyncHashedWheelTimer;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
 import java.util.Collection;
 import java.util.Map;
@@ -48,11 +54,35 @@ import java.util.concurrent.TimeUnit;
  */
 public class ReceivedDataMultiPushTask extends AbstractSessionTask implements TaskClosure {
 
-    private static final Logger               LOGGER = LoggerFactory.getLogger("SESSION-PUSH",
-                                                         "[Receive]");
+    private static final Logger               LOGGER        = LoggerFactory.getLogger(
+                                                                "SESSION-PUSH", "[Receive]");
+
+    public static final String                METRIC_PREFIX = "Push";
+
+    private static final Timer                PUSH_TIMER    = TaskMetrics
+                                                                .getInstance()
+                                                                .getMetricRegistry()
+                                                                .timer(
+                                                                    MetricRegistry.name(
+                                                                        METRIC_PREFIX, "latency"));
+
+    private static final Counter              RETRY_COUNTER = TaskMetrics
+                                                                .getInstance()
+                                                                .getMetricRegistry()
+                                                                .counter(
+                                                                    MetricRegistry.name(
+                                                                        METRIC_PREFIX, "retry"));
+
+    private static final Counter              FAIL_COUNTER  = TaskMetrics
+                                                                .getInstance()
+                                                                .getMetricRegistry()
+                                                                .counter(
+                                                                    MetricRegistry.name(
+                                                                        METRIC_PREFIX, "fail"));
 
     private final SessionServerConfig         sessionServerConfig;
     private final ClientNodeService           clientNodeService;
+    private final ClientPushBatcher           clientPushBatcher;
     private final ExecutorManager             executorManager;
     private final Exchange                    boltExchange;
     private ReceivedData                      receivedData;
@@ -64,12 +94,14 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask implements Ta
 
     public ReceivedDataMultiPushTask(SessionServerConfig sessionServerConfig,
                                      ClientNodeService clientNodeService,
+                                     ClientPushBatcher clientPushBatcher,
                                      ExecutorManager executorManager,
                                      Exchange boltExchange,
                                      ReceivedDataMultiPushTaskStrategy receivedDataMultiPushTaskStrategy,
                                      AsyncHashedWheelTimer asyncHashedWheelTimer) {
         this.sessionServerConfig = sessionServerConfig;
         this.clientNodeService = clientNodeService;
+        this.clientPushBatcher = clientPushBatcher;
         this.executorManager = executorManager;
         this.boltExchange = boltExchange;
         this.receivedDataMultiPushTaskStrategy = receivedDataMultiPushTaskStrategy;
@@ -91,9 +123,11 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask implements Ta
         Object receivedDataPush = receivedDataMultiPushTaskStrategy.convert2PushData(receivedData,
             url);
 
+        final long startNanos = System.nanoTime();
         CallbackHandler callbackHandler = new CallbackHandler() {
             @Override
             public void onCallback(Channel channel, Object message) {
+                PUSH_TIMER.update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
                 LOGGER.info(
                     "Push ReceivedData success! dataId:{},group:{},Instance:{},version:{},url: {}",
                     receivedData.getDataId(), receivedData.getGroup(),
@@ -106,6 +140,7 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask implements Ta
 
             @Override
             public void onException(Channel channel, Throwable exception) {
+                FAIL_COUNTER.inc();
                 LOGGER.error(
                     "Push ReceivedData error! dataId:{},group:{},Instance:{},version:{},url: {}",
                     receivedData.getDataId(), receivedData.getGroup(),
@@ -121,7 +156,12 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask implements Ta
         };
 
         try {
-            clientNodeService.pushWithCallback(receivedDataPush, url, callbackHandler);
+            if (receivedDataPush instanceof ReceivedData && isSupportMultiPush()) {
+                //retry push is always sent alone
+                clientPushBatcher.push((ReceivedData) receivedDataPush, url, callbackHandler);
+            } else {
+                clientNodeService.pushWithCallback(receivedDataPush, url, callbackHandler);
+            }
         } catch (Exception e) {
             if (taskClosure != null) {
                 confirmCallBack(false);
@@ -132,6 +172,50 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask implements Ta
         }
     }
 
+    /**
+     * push is rejected before execute, complete it as failed
+     *
+     * @param cause
+     */
+    public void reject(Throwable cause) {
+        FAIL_COUNTER.inc();
+        LOGGER.error(
+            "Push ReceivedData rejected! dataId:{},group:{},Instance:{},version:{},url: {}",
+            receivedData.getDataId(), receivedData.getGroup(), receivedData.getInstanceId(),
+            receivedData.getVersion(), url, cause);
+
+        if (taskClosure != null) {
+            confirmCallBack(false);
+        } else {
+            retrySendReceiveData(new PushDataRetryRequest(
+                receivedDataMultiPushTaskStrategy.convert2PushData(receivedData, url), url));
+        }
+    }
+
+    /**
+     * connection of push is parked after client disconnected, nothing is sent to it.
+     * registrations on it are canceled when grace window expires, or pushed again when client registers again,
+     * so push is completed as success, versions of other subscribers are not blocked by it
+     */
+    public void skip() {
+        LOGGER.info(
+            "Skip push ReceivedData to parked connection! dataId:{},group:{},Instance:{},version:{},url: {}",
+            receivedData.getDataId(), receivedData.getGroup(), receivedData.getInstanceId(),
+            receivedData.getVersion(), url);
+
+        if (taskClosure != null) {
+            executorManager.getCheckPushExecutor().execute(
+                () -> taskClosure.run(ProcessingResult.Success, ReceivedDataMultiPushTask.this));
+        }
+    }
+
+    private boolean isSupportMultiPush() {
+        //old client can not handle ReceivedDataList
+        return subscribers != null
+               && subscribers.stream().anyMatch(subscriber -> Boolean.parseBoolean(subscriber
+                   .getAttributes().get(AttributeConstants.SUPPORT_MULTI_PUSH)));
+    }
+
     private void retrySendReceiveData(PushDataRetryRequest pushDataRetryRequest) {
         ///taskClosure null means send task need not confirm
         if (taskClosure == null) {
@@ -143,6 +227,7 @@ public class ReceivedDataMultiPushTask extends AbstractSessionTask implements Ta
             URL targetUrl = pushDataRetryRequest.getUrl();
 
             if (checkRetryTimes(retryTimes)) {
+                RETRY_COUNTER.inc();
                 Server sessionServer = boltExchange.getServer(sessionServerConfig.getServerPort());
 
                 Channel channel = sessionServer.getChannel(targetUrl);
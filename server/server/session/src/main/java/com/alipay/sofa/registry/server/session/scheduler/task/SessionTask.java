@@ -25,4 +25,9 @@ import com.alipay.sofa.registry.task.Task;
  */
 public interface SessionTask extends Task {
 
+    /**
+     * called when the dispatcher discards this task without executing it
+     */
+    default void onDropped() {
+    }
 }
\ No newline at end of file
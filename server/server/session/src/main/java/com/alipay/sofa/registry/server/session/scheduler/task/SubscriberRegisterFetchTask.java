@@ -24,6 +24,10 @@ import com.alipay.sofa.registry.server.session.strategy.SubscriberRegisterFetchT
 import com.alipay.sofa.registry.task.listener.TaskEvent;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  *
  * @author shangyu.wh
@@ -44,7 +48,14 @@ public class SubscriberRegisterFetchTask extends AbstractSessionTask {
     private final CacheService                        sessionCacheService;
 
     private final SubscriberRegisterFetchTaskStrategy subscriberRegisterFetchTaskStrategy;
-    private Subscriber                                subscriber;
+    /**
+     * subscribers of same dataInfoId registered before this task begins are fetched together
+     */
+    private final List<Subscriber>                    subscribers = new ArrayList<>();
+
+    private boolean                                   sealed;
+
+    private Map<String, SubscriberRegisterFetchTask>  pendingTasks;
 
     public SubscriberRegisterFetchTask(SessionServerConfig sessionServerConfig,
                                        TaskListenerManager taskListenerManager,
@@ -72,13 +83,57 @@ public class SubscriberRegisterFetchTask extends AbstractSessionTask {
             throw new IllegalArgumentException("Input task event object error!");
         }
 
-        this.subscriber = (Subscriber) obj;
+        synchronized (this) {
+            this.subscribers.add((Subscriber) obj);
+        }
+    }
+
+    /**
+     * merge subscriber of same dataInfoId into this task
+     *
+     * @param subscriber
+     * @return false if this task has begun, subscriber must be fetched by a new task
+     */
+    public synchronized boolean addSubscriber(Subscriber subscriber) {
+        if (sealed) {
+            return false;
+        }
+        subscribers.add(subscriber);
+        return true;
+    }
+
+    /**
+     * Setter method for property <tt>pendingTasks</tt>, this task is removed from pendingTasks when it begins
+     * or when the dispatcher drops it.
+     *
+     * @param pendingTasks  value to be assigned to property pendingTasks
+     */
+    public void setPendingTasks(Map<String, SubscriberRegisterFetchTask> pendingTasks) {
+        this.pendingTasks = pendingTasks;
+    }
+
+    private synchronized List<Subscriber> seal() {
+        if (!sealed) {
+            sealed = true;
+            if (pendingTasks != null && !subscribers.isEmpty()) {
+                pendingTasks.remove(subscribers.get(0).getDataInfoId(), this);
+            }
+        }
+        return new ArrayList<>(subscribers);
     }
 
     @Override
     public void execute() {
         subscriberRegisterFetchTaskStrategy.doSubscriberRegisterFetchTask(sessionServerConfig,
-            taskListenerManager, dataNodeService, sessionCacheService, subscriber);
+            taskListenerManager, dataNodeService, sessionCacheService, seal());
+    }
+
+    /**
+     * later subscribers of this dataInfoId must not be merged into a task that will never run
+     */
+    @Override
+    public void onDropped() {
+        seal();
     }
 
     @Override
@@ -86,9 +141,17 @@ public class SubscriberRegisterFetchTask extends AbstractSessionTask {
         return checkRetryTimes(sessionServerConfig.getSubscriberRegisterFetchRetryTimes());
     }
 
+    private synchronized String getSubscribersString() {
+        if (subscribers.size() <= 1) {
+            return String.valueOf(subscribers);
+        }
+        return "size " + subscribers.size() + " of " + subscribers.get(0).getDataInfoId();
+    }
+
     @Override
     public String toString() {
         return "SUBSCRIBER_REGISTER_FETCH_TASK{" + "taskId='" + getTaskId() + '\''
-               + ", subscriber=" + subscriber + ", expiryTime='" + getExpiryTime() + '\'' + '}';
+               + ", subscribers=" + getSubscribersString() + ", expiryTime='" + getExpiryTime()
+               + '\'' + '}';
     }
 }
\ No newline at end of file
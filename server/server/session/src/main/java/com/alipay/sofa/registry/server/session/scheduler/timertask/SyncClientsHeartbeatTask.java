@@ -19,8 +19,18 @@ package com.alipay.sofa.registry.server.session.scheduler.timertask;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.server.session.cache.CacheService;
+import com.alipay.sofa.registry.server.session.cache.SessionCacheService;
 import com.alipay.sofa.registry.server.session.listener.ReceivedDataMultiPushTaskListener;
+import com.alipay.sofa.registry.server.session.listener.SubscriberRegisterFetchTaskListener;
+import com.alipay.sofa.registry.server.session.node.service.ClientPushBatcher;
+import com.alipay.sofa.registry.server.session.node.service.DataNodePublishBatcher;
+import com.alipay.sofa.registry.server.session.node.service.SingleFlightDatumFetcher;
+import com.alipay.sofa.registry.server.session.registry.DisconnectGraceWindow;
 import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
+import com.alipay.sofa.registry.server.session.scheduler.PushRecoveryRamp;
+import com.alipay.sofa.registry.server.session.scheduler.PushScheduler;
+import com.alipay.sofa.registry.server.session.scheduler.task.ReceivedDataMultiPushTask;
 import com.alipay.sofa.registry.server.session.store.DataStore;
 import com.alipay.sofa.registry.server.session.store.Interests;
 import com.alipay.sofa.registry.server.session.store.Watchers;
@@ -28,8 +38,12 @@ import com.alipay.sofa.registry.task.batcher.AcceptorExecutor;
 import com.alipay.sofa.registry.task.batcher.TaskDispatcher;
 import com.alipay.sofa.registry.task.batcher.TaskDispatchers;
 import com.alipay.sofa.registry.task.listener.TaskListener;
+import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.google.common.cache.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 
@@ -37,6 +51,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Sync clients heartbeat task.
@@ -81,6 +96,9 @@ public class SyncClientsHeartbeatTask {
     @Autowired
     private TaskListener        receivedDataMultiPushTaskListener;
 
+    @Autowired
+    private CacheService        sessionCacheService;
+
     @Scheduled(initialDelayString = "${session.server.syncHeartbeat.fixedDelay}", fixedDelayString = "${session.server.syncHeartbeat.fixedDelay}")
     public void syncCounte() {
         long countSub = sessionInterests.count();
@@ -183,4 +201,68 @@ public class SyncClientsHeartbeatTask {
             PRO_LOGGER.info(sb.toString());
         }
     }
+
+    @Scheduled(initialDelayString = "${session.server.printTask.fixedDelay}", fixedDelayString = "${session.server.printTask.fixedDelay}")
+    public void printCacheStats() {
+        if (sessionCacheService instanceof SessionCacheService) {
+            SessionCacheService cacheService = (SessionCacheService) sessionCacheService;
+            CacheStats stats = cacheService.getCacheStats();
+            StringBuilder sb = new StringBuilder();
+            sb.append("DatumCache").append(" >>>>>>>");
+            sb.append(", Size:").append(cacheService.size());
+            sb.append(", HitCount:").append(stats.hitCount());
+            sb.append(", MissCount:").append(stats.missCount());
+            sb.append(", HitRate:").append(String.format("%.4f", stats.hitRate()));
+            sb.append(", LoadCount:").append(stats.loadCount());
+            sb.append(", LoadExceptionCount:").append(stats.loadExceptionCount());
+            sb.append(", AverageLoadPenaltyMs:").append(
+                TimeUnit.NANOSECONDS.toMillis((long) stats.averageLoadPenalty()));
+            sb.append(", EvictionCount:").append(stats.evictionCount());
+            sb.append("\n");
+            PRO_LOGGER.info(sb.toString());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${session.server.printTask.fixedDelay}", fixedDelayString = "${session.server.printTask.fixedDelay}")
+    public void printCounters() {
+        StringBuilder sb = new StringBuilder();
+        logInfoCounters(sb, SingleFlightDatumFetcher.METRIC_PREFIX);
+        logInfoCounters(sb, ReceivedDataMultiPushTask.METRIC_PREFIX);
+        logInfoCounters(sb, ClientPushBatcher.METRIC_PREFIX);
+        logInfoCounters(sb, PushScheduler.METRIC_PREFIX);
+        logInfoCounters(sb, PushRecoveryRamp.METRIC_PREFIX);
+        logInfoCounters(sb, DataNodePublishBatcher.METRIC_PREFIX);
+        logInfoCounters(sb, DisconnectGraceWindow.METRIC_PREFIX);
+        logInfoCounters(sb, SubscriberRegisterFetchTaskListener.METRIC_PREFIX);
+        PRO_LOGGER.info(sb.toString());
+    }
+
+    protected void logInfoCounters(StringBuilder sb, String prefix) {
+        MetricRegistry metricRegistry = TaskMetrics.getInstance().getMetricRegistry();
+        Map<String, Counter> map = metricRegistry.getCounters((name, value) -> name
+            .startsWith(prefix));
+        sb.append(prefix).append(" >>>>>>>");
+        map.forEach((key, counter) -> {
+            String name = key.substring(prefix.length() + 1);
+            sb.append(", ").append(name).append(":").append(counter.getCount());
+        });
+        Map<String, Gauge> gauges = metricRegistry.getGauges((name, value) -> name
+            .startsWith(prefix));
+        gauges.forEach((key, gauge) -> {
+            String name = key.substring(prefix.length() + 1);
+            sb.append(", ").append(name).append(":").append(gauge.getValue());
+        });
+        Map<String, Timer> timers = metricRegistry.getTimers((name, value) -> name
+            .startsWith(prefix));
+        timers.forEach((key, timer) -> {
+            String name = key.substring(prefix.length() + 1);
+            Snapshot snapshot = timer.getSnapshot();
+            sb.append(", ").append(name).append(":").append(timer.getCount())
+                .append("(p50=").append(TimeUnit.NANOSECONDS.toMillis((long) snapshot.getMedian()))
+                .append("ms,p99=")
+                .append(TimeUnit.NANOSECONDS.toMillis((long) snapshot.get99thPercentile()))
+                .append("ms)");
+        });
+        sb.append("\n");
+    }
 }
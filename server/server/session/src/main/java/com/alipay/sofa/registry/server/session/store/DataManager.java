@@ -16,6 +16,8 @@
  */
 package com.alipay.sofa.registry.server.session.store;
 
+import com.alipay.sofa.registry.util.RollingChecksum;
+
 import java.util.Map;
 
 /**
@@ -61,6 +63,7 @@ public interface DataManager<DATA, ID, DATAINFOID> {
      * remove data by client node connectId
      *
      * @param connectId
+     * @return true if any data is removed
      */
     boolean deleteByConnectId(String connectId);
 
@@ -69,4 +72,10 @@ public interface DataManager<DATA, ID, DATAINFOID> {
      * @return
      */
     long count();
+
+    /**
+     * order independent checksum of all data by dataInfoId, maintained on add and remove
+     * @return
+     */
+    RollingChecksum getChecksum();
 }
\ No newline at end of file
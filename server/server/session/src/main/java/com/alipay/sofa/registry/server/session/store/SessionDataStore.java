@@ -19,12 +19,12 @@ package com.alipay.sofa.registry.server.session.store;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.util.RollingChecksum;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -48,6 +48,8 @@ public class SessionDataStore implements DataStore {
 
     private Map<String/*connectId*/, Map<String/*registerId*/, Publisher>>  connectIndex  = new ConcurrentHashMap<>();
 
+    private final RollingChecksum                                             checksum      = new RollingChecksum();
+
     @Override
     public void add(Publisher publisher) {
 
@@ -102,6 +104,10 @@ public class SessionDataStore implements DataStore {
                         existingPublisher.getVersion(), publisher.getVersion(), existingPublisher);
             }
             publishers.put(publisher.getRegisterId(), publisher);
+            if (existingPublisher != null) {
+                checksum.remove(existingPublisher.getDataInfoId(), hash(existingPublisher));
+            }
+            checksum.add(publisher.getDataInfoId(), hash(publisher));
 
             addIndex(publisher);
 
@@ -132,6 +138,7 @@ public class SessionDataStore implements DataStore {
                     return false;
 
                 } else {
+                    checksum.remove(dataInfoId, hash(publisherTodelete));
                     removeIndex(publisherTodelete);
                     return true;
                 }
@@ -151,17 +158,22 @@ public class SessionDataStore implements DataStore {
 
         write.lock();
         try {
+            boolean deleted = false;
             for (Map<String, Publisher> map : registry.values()) {
                 for (Iterator it = map.values().iterator(); it.hasNext();) {
                     Publisher publisher = (Publisher) it.next();
                     if (publisher != null
                         && connectId.equals(publisher.getSourceAddress().getAddressString())) {
                         it.remove();
-                        invalidateIndex(publisher);
+                        checksum.remove(publisher.getDataInfoId(), hash(publisher));
+                        deleted = true;
                     }
                 }
             }
-            return true;
+            //publishers registered again by reconnected client are not in registry with this connectId,
+            //but may be still in index
+            invalidateConnectIndex(connectId);
+            return deleted;
         } catch (Exception e) {
             LOGGER.error("Delete publisher by connectId {} error!", connectId, e);
             return false;
@@ -202,11 +214,16 @@ public class SessionDataStore implements DataStore {
 
     @Override
     public long count() {
-        AtomicLong count = new AtomicLong(0);
-        for (Map<String, Publisher> map : registry.values()) {
-            count.addAndGet(map.size());
-        }
-        return count.get();
+        return checksum.size();
+    }
+
+    @Override
+    public RollingChecksum getChecksum() {
+        return checksum;
+    }
+
+    private static long hash(Publisher publisher) {
+        return RollingChecksum.hash(publisher.getRegisterId(), publisher.getVersion());
     }
 
     private void addIndex(Publisher publisher) {
@@ -243,11 +260,6 @@ public class SessionDataStore implements DataStore {
         }
     }
 
-    private void invalidateIndex(Publisher publisher) {
-        String connectId = publisher.getSourceAddress().getAddressString();
-        invalidateConnectIndex(connectId);
-    }
-
     private void invalidateConnectIndex(String connectId) {
         connectIndex.remove(connectId);
     }
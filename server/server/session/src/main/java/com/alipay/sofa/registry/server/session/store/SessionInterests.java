@@ -22,6 +22,7 @@ import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
 import com.alipay.sofa.registry.server.session.cache.SubscriberResult;
+import com.alipay.sofa.registry.util.RollingChecksum;
 import com.alipay.sofa.registry.util.VersionsMapUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -30,7 +31,6 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -71,6 +71,8 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     private Map<String/*dataInfoId*/, Map<String/*registerId*/, Subscriber>>                              stopPushInterests = new ConcurrentHashMap<>();
 
+    private final RollingChecksum                                                                           checksum          = new RollingChecksum();
+
     @Override
     public void add(Subscriber subscriber) {
 
@@ -94,6 +96,10 @@ public class SessionInterests implements Interests, ReSubscribers {
             }
 
             subscribers.put(subscriber.getRegisterId(), subscriber);
+            if (existingSubscriber != null) {
+                checksum.remove(existingSubscriber.getDataInfoId(), hash(existingSubscriber));
+            }
+            checksum.add(subscriber.getDataInfoId(), hash(subscriber));
 
             addReSubscriber(subscriber);
 
@@ -127,9 +133,9 @@ public class SessionInterests implements Interests, ReSubscribers {
                         registerId);
                     return false;
                 } else {
-                    if (sessionServerConfig.isStopPushSwitch()) {
-                        deleteReSubscriber(subscriberTodelete);
-                    }
+                    //reSubscribers may be still released by recovery ramp after push switch opened
+                    deleteReSubscriber(subscriberTodelete);
+                    checksum.remove(dataInfoId, hash(subscriberTodelete));
                     removeIndex(subscriberTodelete);
 
                     return true;
@@ -145,21 +151,24 @@ public class SessionInterests implements Interests, ReSubscribers {
     public boolean deleteByConnectId(String connectId) {
         write.lock();
         try {
+            boolean deleted = false;
             for (Map<String, Subscriber> map : interests.values()) {
                 for (Iterator it = map.values().iterator(); it.hasNext();) {
                     Subscriber subscriber = (Subscriber) it.next();
                     if (connectId.equals(subscriber.getSourceAddress().getAddressString())) {
 
                         it.remove();
-                        if (sessionServerConfig.isStopPushSwitch()) {
-                            deleteReSubscriber(subscriber);
-                        }
+                        checksum.remove(subscriber.getDataInfoId(), hash(subscriber));
+                        //reSubscribers may be still released by recovery ramp after push switch opened
+                        deleteReSubscriber(subscriber);
 
                         invalidateIndex(subscriber);
+                        deleted = true;
                     }
                 }
             }
-            return true;
+            invalidateConnectIndex(connectId);
+            return deleted;
         } catch (Exception e) {
             LOGGER.error("Delete subscriber by connectId {} error!", connectId, e);
             return false;
@@ -170,11 +179,16 @@ public class SessionInterests implements Interests, ReSubscribers {
 
     @Override
     public long count() {
-        AtomicLong count = new AtomicLong(0);
-        for (Map<String, Subscriber> map : interests.values()) {
-            count.addAndGet(map.size());
-        }
-        return count.get();
+        return checksum.size();
+    }
+
+    @Override
+    public RollingChecksum getChecksum() {
+        return checksum;
+    }
+
+    private static long hash(Subscriber subscriber) {
+        return RollingChecksum.hash(subscriber.getRegisterId(), subscriber.getVersion());
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.alipay.sofa.registry.server.session.store;
 import com.alipay.sofa.registry.common.model.store.Watcher;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.util.RollingChecksum;
 import com.alipay.sofa.registry.util.VersionsMapUtils;
 
 import java.util.Collection;
@@ -26,7 +27,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -58,6 +58,8 @@ public class SessionWatchers implements Watchers {
      */
     private ConcurrentHashMap<String/*dataInfoId*/, Long /*dataInfoVersion*/>           watcherVersions = new ConcurrentHashMap<>();
 
+    private final RollingChecksum                                                         checksum        = new RollingChecksum();
+
     @Override
     public void add(Watcher watcher) {
         write.lock();
@@ -80,6 +82,10 @@ public class SessionWatchers implements Watchers {
             }
 
             watcherMap.put(watcher.getRegisterId(), watcher);
+            if (existingWatcher != null) {
+                checksum.remove(existingWatcher.getDataInfoId(), hash(existingWatcher));
+            }
+            checksum.add(watcher.getDataInfoId(), hash(watcher));
 
             addConnectIndex(watcher);
 
@@ -92,17 +98,20 @@ public class SessionWatchers implements Watchers {
     public boolean deleteByConnectId(String connectId) {
         write.lock();
         try {
+            boolean deleted = false;
             for (Map<String, Watcher> map : watchers.values()) {
                 for (Iterator it = map.values().iterator(); it.hasNext();) {
                     Watcher watcher = (Watcher) it.next();
                     if (watcher != null
                         && connectId.equals(watcher.getSourceAddress().getAddressString())) {
                         it.remove();
-                        invalidateConnectIndex(watcher.getSourceAddress().getAddressString());
+                        checksum.remove(watcher.getDataInfoId(), hash(watcher));
+                        deleted = true;
                     }
                 }
             }
-            return true;
+            invalidateConnectIndex(connectId);
+            return deleted;
         } catch (Exception e) {
             LOGGER.error("Delete watcher by connectId {} error!", connectId, e);
             return false;
@@ -169,6 +178,7 @@ public class SessionWatchers implements Watchers {
                         registerId);
                     return false;
                 } else {
+                    checksum.remove(dataInfoId, hash(watcher));
                     removeConnectIndex(watcher);
                     return true;
                 }
@@ -190,11 +200,16 @@ public class SessionWatchers implements Watchers {
 
     @Override
     public long count() {
-        AtomicLong count = new AtomicLong(0);
-        for (Map<String, Watcher> map : watchers.values()) {
-            count.addAndGet(map.size());
-        }
-        return count.get();
+        return checksum.size();
+    }
+
+    @Override
+    public RollingChecksum getChecksum() {
+        return checksum;
+    }
+
+    private static long hash(Watcher watcher) {
+        return RollingChecksum.hash(watcher.getRegisterId(), watcher.getVersion());
     }
 
     private void addConnectIndex(Watcher watcher) {
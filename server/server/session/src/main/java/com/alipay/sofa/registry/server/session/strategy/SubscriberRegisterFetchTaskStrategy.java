@@ -22,6 +22,8 @@ import com.alipay.sofa.registry.server.session.cache.CacheService;
 import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
 import com.alipay.sofa.registry.task.listener.TaskListenerManager;
 
+import java.util.List;
+
 /**
  * @author xuanbei
  * @since 2019/2/15
@@ -31,4 +33,18 @@ public interface SubscriberRegisterFetchTaskStrategy {
                                        TaskListenerManager taskListenerManager,
                                        DataNodeService dataNodeService,
                                        CacheService sessionCacheService, Subscriber subscriber);
+
+    /**
+     * fetch once for subscribers of same dataInfoId registered in a burst
+     */
+    default void doSubscriberRegisterFetchTask(SessionServerConfig sessionServerConfig,
+                                               TaskListenerManager taskListenerManager,
+                                               DataNodeService dataNodeService,
+                                               CacheService sessionCacheService,
+                                               List<Subscriber> subscribers) {
+        for (Subscriber subscriber : subscribers) {
+            doSubscriberRegisterFetchTask(sessionServerConfig, taskListenerManager,
+                dataNodeService, sessionCacheService, subscriber);
+        }
+    }
 }
@@ -79,7 +79,7 @@ public class DefaultSessionRegistryStrategy implements SessionRegistryStrategy {
 
                         //update cache
                         sessionCacheService.invalidate(new Key(
-                                Key.KeyType.OBJ, DatumKey.class.getName(), new DatumKey(dataInfoID, dataCenter)));
+                                Key.KeyType.OBJ, DatumKey.class.getName(), new DatumKey(dataInfoID, dataCenter)), version);
 
                         changeDataInfoIds.add(dataInfoID);
                     }
@@ -237,6 +237,7 @@ public class DefaultSubscriberMultiFetchTaskStrategy implements SubscriberMultiF
         parameter.put(receivedData, subscriber.getSourceAddress());
         TaskEvent taskEvent = new TaskEvent(parameter,
             TaskEvent.TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        taskEvent.setAttribute(Constant.PUSH_FIRST_SUBSCRIBE, true);
         taskLogger.info("send {} taskURL:{},taskScope:{}", taskEvent.getTaskType(),
             subscriber.getSourceAddress(), subscriber.getScope());
         taskListenerManager.sendTaskEvent(taskEvent);
@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -62,26 +63,63 @@ public class DefaultSubscriberRegisterFetchTaskStrategy implements
             throw new IllegalArgumentException("Subscriber can not be null!");
         }
 
-        List<String> subscriberRegisterIdList = Collections.singletonList(subscriber
-            .getRegisterId());
+        doSubscriberRegisterFetchTask(sessionServerConfig, taskListenerManager, dataNodeService,
+            sessionCacheService, Collections.singletonList(subscriber));
+    }
 
-        boolean isOldVersion = !BaseInfo.ClientVersion.StoreData.equals(subscriber
-            .getClientVersion());
+    @Override
+    public void doSubscriberRegisterFetchTask(SessionServerConfig sessionServerConfig,
+                                              TaskListenerManager taskListenerManager,
+                                              DataNodeService dataNodeService,
+                                              CacheService sessionCacheService,
+                                              List<Subscriber> subscribers) {
+        if (subscribers == null || subscribers.isEmpty()) {
+            throw new IllegalArgumentException("Subscribers can not be empty!");
+        }
 
-        Map<String/*datacenter*/, Datum> datumMap = dataNodeService.fetchGlobal(subscriber
+        //subscribers are all of same dataInfoId, fetch datum once
+        Map<String/*datacenter*/, Datum> datumMap = dataNodeService.fetchGlobal(subscribers.get(0)
             .getDataInfoId());
-        if (!isOldVersion) {
-            fireReceivedDataPushTaskCloud(datumMap, subscriberRegisterIdList, subscriber,
-                taskListenerManager);
-        } else {
-            fireUserDataPushTaskCloud(datumMap, subscriber, taskListenerManager);
+
+        //subscribers on same connection with same scope and zone share one push
+        Map<String, List<Subscriber>> pushGroups = new LinkedHashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            boolean isOldVersion = !BaseInfo.ClientVersion.StoreData.equals(subscriber
+                .getClientVersion());
+            if (!isOldVersion) {
+                String key = subscriber.getSourceAddress().getAddressString() + "#"
+                             + subscriber.getScope() + "#" + subscriber.getCell();
+                pushGroups.computeIfAbsent(key, k -> new ArrayList<>()).add(subscriber);
+            } else {
+                fireUserDataPushTaskCloud(datumMap, subscriber, taskListenerManager);
+            }
+        }
+
+        //connections of same scope and zone share the converted data
+        Map<String, ReceivedData> converted = new HashMap<>();
+        Map<String, Long> dataSizes = new HashMap<>();
+        for (List<Subscriber> group : pushGroups.values()) {
+            List<String> subscriberRegisterIdList = new ArrayList<>(group.size());
+            group.forEach(subscriber -> subscriberRegisterIdList.add(subscriber.getRegisterId()));
+            Subscriber subscriber = group.get(0);
+            String convertKey = subscriber.getScope() + "#" + subscriber.getCell();
+            ReceivedData template = converted.get(convertKey);
+            if (template == null) {
+                template = getReceivedData(datumMap, subscriberRegisterIdList, subscriber);
+                converted.put(convertKey, template);
+                dataSizes.put(convertKey, ReceivedDataConverter.estimateDataSize(template.getData()));
+                firePush(template, dataSizes.get(convertKey), subscriber, taskListenerManager);
+            } else {
+                firePush(ReceivedDataConverter.copyReceivedData(template,
+                    subscriberRegisterIdList), dataSizes.get(convertKey), subscriber,
+                    taskListenerManager);
+            }
         }
     }
 
-    private void fireReceivedDataPushTaskCloud(Map<String/*datacenter*/, Datum> datumMap,
-                                               List<String> subscriberRegisterIdList,
-                                               Subscriber subscriber,
-                                               TaskListenerManager taskListenerManager) {
+    private ReceivedData getReceivedData(Map<String/*datacenter*/, Datum> datumMap,
+                                         List<String> subscriberRegisterIdList,
+                                         Subscriber subscriber) {
         ReceivedData receivedData;
         if (datumMap != null && !datumMap.isEmpty()) {
 
@@ -97,17 +135,18 @@ public class DefaultSubscriberRegisterFetchTaskStrategy implements
                 subscriberRegisterIdList, subscriber.getCell());
 
         }
-
-        firePush(receivedData, subscriber, taskListenerManager);
+        return receivedData;
     }
 
-    private void firePush(ReceivedData receivedData, Subscriber subscriber,
+    private void firePush(ReceivedData receivedData, Long dataSize, Subscriber subscriber,
                           TaskListenerManager taskListenerManager) {
         //trigger push to client node
         Map<ReceivedData, URL> parameter = new HashMap<>();
         parameter.put(receivedData, subscriber.getSourceAddress());
         TaskEvent taskEvent = new TaskEvent(parameter,
             TaskEvent.TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        taskEvent.setAttribute(Constant.PUSH_FIRST_SUBSCRIBE, true);
+        taskEvent.setAttribute(Constant.PUSH_DATA_SIZE, dataSize);
         taskLogger.info("send {} taskURL:{},taskScope:{}", taskEvent.getTaskType(),
             subscriber.getSourceAddress(), receivedData.getScope());
         taskListenerManager.sendTaskEvent(taskEvent);
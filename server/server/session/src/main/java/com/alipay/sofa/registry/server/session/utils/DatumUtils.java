@@ -16,17 +16,32 @@
  */
 package com.alipay.sofa.registry.server.session.utils;
 
+import com.alipay.sofa.registry.common.model.ServerDataBox;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.core.model.DataBox;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @author xuanbei
  * @since 2019/2/12
  */
 public class DatumUtils {
+    private static final Logger LOGGER             = LoggerFactory.getLogger(DatumUtils.class);
+
+    private static final int    DATUM_OVERHEAD     = 256;
+
+    private static final int    PUBLISHER_OVERHEAD = 512;
+
+    private static final int    DATA_BOX_OVERHEAD  = 64;
+
     /**
      * create new datum when parameter is null.
      *
@@ -46,4 +61,85 @@ public class DatumUtils {
         }
         return datum;
     }
+
+    /**
+     * deserialize all publisher data of datum once when it arrives from data node,
+     * so push convert just use the object and never deserialize again.
+     *
+     * @param datum
+     * @return
+     */
+    public static Datum decodeDatum(Datum datum) {
+        if (datum == null) {
+            return null;
+        }
+        Map<String, Publisher> pubMap = datum.getPubMap();
+        if (pubMap == null || pubMap.isEmpty()) {
+            return datum;
+        }
+        for (Publisher publisher : pubMap.values()) {
+            List<ServerDataBox> dataList = publisher.getDataList();
+            if (dataList == null) {
+                continue;
+            }
+            for (ServerDataBox dataBox : dataList) {
+                try {
+                    dataBox.bytes2object();
+                } catch (Exception e) {
+                    LOGGER.error("Decode publisher data error! dataInfoId={}, registerId={}",
+                        datum.getDataInfoId(), publisher.getRegisterId(), e);
+                }
+            }
+        }
+        return datum;
+    }
+
+    /**
+     * estimate heap bytes of datum, used as weight of datum cache.
+     *
+     * @param datum
+     * @return
+     */
+    public static int estimateSize(Datum datum) {
+        if (datum == null) {
+            return DATUM_OVERHEAD;
+        }
+        long size = DATUM_OVERHEAD;
+        Map<String, Publisher> pubMap = datum.getPubMap();
+        if (pubMap != null) {
+            for (Publisher publisher : pubMap.values()) {
+                size += PUBLISHER_OVERHEAD;
+                List<ServerDataBox> dataList = publisher.getDataList();
+                if (dataList == null) {
+                    continue;
+                }
+                for (ServerDataBox dataBox : dataList) {
+                    size += DATA_BOX_OVERHEAD;
+                    byte[] bytes = dataBox.getBytes();
+                    if (bytes != null) {
+                        size += bytes.length;
+                    } else if (dataBox.getObject() instanceof String) {
+                        size += ((String) dataBox.getObject()).length() * 2;
+                    }
+                }
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * estimate heap bytes of zone partition except data strings.
+     *
+     * @param zonePartition
+     * @return
+     */
+    public static int estimateSize(Map<String, List<DataBox>> zonePartition) {
+        long size = 0;
+        if (zonePartition != null) {
+            for (List<DataBox> dataBoxes : zonePartition.values()) {
+                size += DATA_BOX_OVERHEAD + (long) DATA_BOX_OVERHEAD * dataBoxes.size();
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
 }
@@ -16,13 +16,17 @@
  */
 package com.alipay.sofa.registry.server.session;
 
+import com.alipay.sofa.registry.common.model.ServerDataBox;
 import com.alipay.sofa.registry.common.model.constants.ValueConstants;
 import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
 import com.alipay.sofa.registry.server.session.utils.DatumUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+
 /**
  @author xuanbei
  @since 2019/2/12
@@ -51,4 +55,22 @@ public class DatumUtilsTest {
         Assert.assertEquals(ValueConstants.DEFAULT_DATA_CENTER, datum.getDataCenter());
         Assert.assertEquals("DEFAULT_GROUP", datum.getGroup());
     }
+
+    @Test
+    public void testDecodeDatum() {
+        Publisher publisher = new Publisher();
+        publisher.setDataInfoId("test-dataInfoId");
+        publisher.setRegisterId("test-registerId");
+        ServerDataBox dataBox = new ServerDataBox(ServerDataBox.getBytes("test-data"));
+        publisher.setDataList(Collections.singletonList(dataBox));
+
+        Datum datum = new Datum(publisher, "test-dataCenter");
+        Assert.assertTrue(dataBox.isInBytes());
+
+        DatumUtils.decodeDatum(datum);
+        Assert.assertFalse(dataBox.isInBytes());
+        Assert.assertEquals("test-data", dataBox.getObject());
+
+        Assert.assertNull(DatumUtils.decodeDatum(null));
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.listener;
+
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.cache.CacheService;
+import com.alipay.sofa.registry.server.session.node.processor.DataNodeSingleTaskProcessor;
+import com.alipay.sofa.registry.server.session.node.service.DataNodeService;
+import com.alipay.sofa.registry.server.session.scheduler.task.SessionTask;
+import com.alipay.sofa.registry.server.session.strategy.SubscriberRegisterFetchTaskStrategy;
+import com.alipay.sofa.registry.task.batcher.TaskDispatcher;
+import com.alipay.sofa.registry.task.batcher.TaskDispatchers;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
+import com.alipay.sofa.registry.task.listener.TaskListenerManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * subscribers of a task dropped by dispatcher overflow must not be merged into it,
+ * later subscriber of same dataInfoId is fetched by a new task
+ *
+ * @author shangyu.wh
+ * @version $Id: SubscriberRegisterFetchTaskListenerTest.java, v 0.1 2026-10-19 18:20 shangyu.wh Exp $
+ */
+public class SubscriberRegisterFetchTaskListenerTest {
+
+    private static final String                 BLOCKER   = "blocker#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    private static final String                 DATA_INFO = "data#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    private static final String                 OTHER     = "other#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    private final CountDownLatch                blocked   = new CountDownLatch(1);
+
+    private final CountDownLatch                gate      = new CountDownLatch(1);
+
+    private final BlockingQueue<String>         fetched   = new LinkedBlockingQueue<>();
+
+    private TaskDispatcher<String, SessionTask> dispatcher;
+
+    private SubscriberRegisterFetchTaskListener listener;
+
+    @Before
+    public void before() {
+        SubscriberRegisterFetchTaskStrategy strategy = new SubscriberRegisterFetchTaskStrategy() {
+            @Override
+            public void doSubscriberRegisterFetchTask(SessionServerConfig sessionServerConfig,
+                                                      TaskListenerManager taskListenerManager,
+                                                      DataNodeService dataNodeService,
+                                                      CacheService sessionCacheService,
+                                                      Subscriber subscriber) {
+                if (BLOCKER.equals(subscriber.getDataInfoId())) {
+                    blocked.countDown();
+                    try {
+                        gate.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                fetched.add(subscriber.getRegisterId());
+            }
+        };
+
+        DataNodeSingleTaskProcessor processor = new DataNodeSingleTaskProcessor();
+        //one worker and buffer of one pending task, the second pending task evicts the first
+        dispatcher = TaskDispatchers.createSingleTaskDispatcher(
+            "SubscriberRegisterFetchTaskListenerTest", 1, 1, 1000, 100, processor);
+
+        listener = new SubscriberRegisterFetchTaskListener(processor);
+        ReflectionTestUtils.setField(listener, "sessionServerConfig",
+            mock(SessionServerConfig.class));
+        ReflectionTestUtils.setField(listener, "subscriberRegisterFetchTaskStrategy", strategy);
+        ReflectionTestUtils.setField(listener, "singleTaskDispatcher", dispatcher);
+    }
+
+    @After
+    public void after() {
+        gate.countDown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void testSubscriberAfterOverflowDropIsFetched() throws Exception {
+        listener.handleEvent(event("blocker-1", BLOCKER));
+        //worker is busy with blocker, next task stays pending in dispatcher
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        listener.handleEvent(event("data-1", DATA_INFO));
+        Assert.assertTrue(waitFor(() -> dispatcher.getAcceptorExecutor().getPendingTaskSize() == 1));
+
+        //buffer full, pending task of data-1 is dropped
+        listener.handleEvent(event("other-1", OTHER));
+        Assert.assertTrue(waitFor(() -> dispatcher.getAcceptorExecutor().getQueueOverflows()
+            .get() == 1));
+        Assert.assertFalse(pendingTasks().containsKey(DATA_INFO));
+
+        //not merged into the dropped task
+        listener.handleEvent(event("data-2", DATA_INFO));
+        gate.countDown();
+
+        Assert.assertEquals("blocker-1", fetched.poll(5, TimeUnit.SECONDS));
+        Assert.assertEquals("data-2", fetched.poll(5, TimeUnit.SECONDS));
+        Assert.assertNull(fetched.poll(200, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(waitFor(() -> pendingTasks().isEmpty()));
+    }
+
+    private TaskEvent event(String registerId, String dataInfoId) {
+        Subscriber subscriber = new Subscriber();
+        subscriber.setRegisterId(registerId);
+        subscriber.setDataInfoId(dataInfoId);
+        return new TaskEvent(subscriber, TaskType.SUBSCRIBER_REGISTER_FETCH_TASK);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> pendingTasks() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(listener, "pendingTasks");
+    }
+
+    private boolean waitFor(Condition condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.check()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return condition.check();
+    }
+
+    private interface Condition {
+        boolean check();
+    }
+}
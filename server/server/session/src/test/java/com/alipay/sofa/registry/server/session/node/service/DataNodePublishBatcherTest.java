@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.node.service;
+
+import com.alipay.sofa.registry.common.model.BatchCommonResponse;
+import com.alipay.sofa.registry.common.model.CommonResponse;
+import com.alipay.sofa.registry.common.model.dataserver.BatchPublishDataRequest;
+import com.alipay.sofa.registry.common.model.dataserver.PublishDataRequest;
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.remoting.exchange.NodeExchanger;
+import com.alipay.sofa.registry.remoting.exchange.message.Request;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: DataNodePublishBatcherTest.java, v 0.1 2026-10-19 16:40 shangyu.wh Exp $
+ */
+public class DataNodePublishBatcherTest {
+
+    private static final URL             DATA_NODE = new URL("192.168.1.10", 9620);
+
+    private final BlockingQueue<Request> requests  = new LinkedBlockingQueue<>();
+
+    private final SessionServerConfig    config    = mock(SessionServerConfig.class);
+
+    private DataNodePublishBatcher       batcher;
+
+    @Before
+    public void before() throws Exception {
+        NodeExchanger exchanger = mock(NodeExchanger.class);
+        doAnswer(invocation -> {
+            requests.add((Request) invocation.getArguments()[0]);
+            return null;
+        }).when(exchanger).request(any(Request.class));
+        batcher = new DataNodePublishBatcher();
+        ReflectionTestUtils.setField(batcher, "dataNodeExchanger", exchanger);
+        ReflectionTestUtils.setField(batcher, "sessionServerConfig", config);
+    }
+
+    @Test
+    public void testFlushOnSize() throws Exception {
+        when(config.getPublishBatchMaxSize()).thenReturn(3);
+        when(config.getPublishBatchLingerMillis()).thenReturn(60000L);
+
+        List<CompletableFuture<CommonResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(batcher.publish(DATA_NODE, publisher("p" + i)));
+        }
+        //full batch is sent without waiting linger
+        Request request = requests.poll(1, TimeUnit.SECONDS);
+        Assert.assertNotNull(request);
+        BatchPublishDataRequest body = (BatchPublishDataRequest) request.getRequestBody();
+        Assert.assertEquals(3, body.getPublishers().size());
+        Assert.assertEquals("p2", body.getPublishers().get(2).getRegisterId());
+
+        CommonResponse failed = CommonResponse.buildFailedResponse("refused");
+        request.getCallBackHandler().onCallback(
+            null,
+            new BatchCommonResponse(Arrays.asList(CommonResponse.buildSuccessResponse(), failed,
+                CommonResponse.buildSuccessResponse())));
+        Assert.assertTrue(futures.get(0).get().isSuccess());
+        Assert.assertSame(failed, futures.get(1).get());
+        Assert.assertTrue(futures.get(2).get().isSuccess());
+    }
+
+    @Test
+    public void testFlushOnLinger() throws Exception {
+        when(config.getPublishBatchMaxSize()).thenReturn(100);
+        when(config.getPublishBatchLingerMillis()).thenReturn(200L);
+
+        long start = System.currentTimeMillis();
+        CompletableFuture<CommonResponse> first = batcher.publish(DATA_NODE, publisher("p0"));
+        CompletableFuture<CommonResponse> second = batcher.publish(DATA_NODE, publisher("p1"));
+        Request request = requests.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(request);
+        Assert.assertTrue(System.currentTimeMillis() - start >= 150);
+        Assert.assertEquals(2, ((BatchPublishDataRequest) request.getRequestBody()).getPublishers()
+            .size());
+
+        //whole batch failed
+        request.getCallBackHandler().onCallback(null,
+            CommonResponse.buildFailedResponse("data node is not working"));
+        Assert.assertFalse(first.get().isSuccess());
+        Assert.assertFalse(second.get().isSuccess());
+
+        //single publisher is sent as former request
+        batcher.publish(DATA_NODE, publisher("p2"));
+        request = requests.poll(5, TimeUnit.SECONDS);
+        Assert.assertTrue(request.getRequestBody() instanceof PublishDataRequest);
+    }
+
+    @Test
+    public void testLatencyRecordedOnFailure() throws Exception {
+        when(config.getPublishBatchMaxSize()).thenReturn(1);
+        Timer timer = TaskMetrics.getInstance().getMetricRegistry()
+            .timer(MetricRegistry.name(DataNodePublishBatcher.METRIC_PREFIX, "latency"));
+        long count = timer.getCount();
+
+        CompletableFuture<CommonResponse> future = batcher.publish(DATA_NODE, publisher("p0"));
+        Request request = requests.poll(1, TimeUnit.SECONDS);
+        RuntimeException exception = new RuntimeException("connection closed");
+        request.getCallBackHandler().onException(null, exception);
+        request.getCallBackHandler().onException(null, exception);
+        try {
+            future.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertSame(exception, e.getCause());
+        }
+        Assert.assertEquals(count + 1, timer.getCount());
+    }
+
+    private Publisher publisher(String registerId) {
+        Publisher publisher = new Publisher();
+        publisher.setRegisterId(registerId);
+        publisher.setDataInfoId("test-dataId#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP");
+        return publisher;
+    }
+}
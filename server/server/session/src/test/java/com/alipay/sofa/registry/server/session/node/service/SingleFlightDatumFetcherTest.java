@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.node.service;
+
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: SingleFlightDatumFetcherTest.java, v 0.1 2026-10-19 10:50 shangyu.wh Exp $
+ */
+public class SingleFlightDatumFetcherTest {
+
+    private static final String DATA_INFO_ID = "dataId#@#DEFAULT_INSTANCE_ID#@#DEFAULT_GROUP";
+
+    private static final String DATA_CENTER  = "DefaultDataCenter";
+
+    @Test
+    public void testShareInFlightFetch() throws Exception {
+        SingleFlightDatumFetcher fetcher = new SingleFlightDatumFetcher();
+        Counter duplicates = TaskMetrics.getInstance().getMetricRegistry()
+            .counter(MetricRegistry.name(SingleFlightDatumFetcher.METRIC_PREFIX, "duplicate"));
+        long duplicateBefore = duplicates.getCount();
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Map<String, Datum>> first = executor.submit(() -> fetcher.fetch(DATA_INFO_ID,
+                DATA_CENTER, 1, () -> {
+                    requests.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return datumMap(1);
+                }));
+            Assert.assertTrue(started.await(3, TimeUnit.SECONDS));
+
+            Future<Map<String, Datum>> same = executor.submit(() -> fetcher.fetch(DATA_INFO_ID,
+                DATA_CENTER, SingleFlightDatumFetcher.ANY_VERSION, () -> {
+                    requests.incrementAndGet();
+                    return datumMap(0);
+                }));
+            long deadline = System.currentTimeMillis() + 3000;
+            while (duplicates.getCount() == duplicateBefore
+                   && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            Assert.assertEquals(1, first.get(3, TimeUnit.SECONDS).get(DATA_CENTER).getVersion());
+            Assert.assertEquals(1, same.get(3, TimeUnit.SECONDS).get(DATA_CENTER).getVersion());
+            Assert.assertEquals(1, requests.get());
+            Assert.assertEquals(0, fetcher.getInFlightSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNewerVersionSupersede() throws Exception {
+        SingleFlightDatumFetcher fetcher = new SingleFlightDatumFetcher();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, Datum>> older = executor.submit(() -> fetcher.fetch(DATA_INFO_ID,
+                DATA_CENTER, 1, () -> {
+                    started.countDown();
+                    await(release);
+                    return datumMap(1);
+                }));
+            Assert.assertTrue(started.await(3, TimeUnit.SECONDS));
+
+            //newer version never joins older fetch, and older callers get the newer result
+            Map<String, Datum> newer = fetcher.fetch(DATA_INFO_ID, DATA_CENTER, 2,
+                () -> datumMap(2));
+            Assert.assertEquals(2, newer.get(DATA_CENTER).getVersion());
+            release.countDown();
+            Assert.assertEquals(2, older.get(3, TimeUnit.SECONDS).get(DATA_CENTER).getVersion());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, Datum> datumMap(long version) {
+        Datum datum = new Datum(DATA_INFO_ID, DATA_CENTER);
+        datum.setVersion(version);
+        return Collections.singletonMap(DATA_CENTER, datum);
+    }
+}
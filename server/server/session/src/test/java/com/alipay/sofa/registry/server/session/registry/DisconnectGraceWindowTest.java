@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.registry;
+
+import com.alipay.sofa.registry.common.model.store.Publisher;
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.core.model.ReceivedData;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.listener.ReceivedDataMultiPushTaskListener;
+import com.alipay.sofa.registry.server.session.scheduler.ExecutorManager;
+import com.alipay.sofa.registry.server.session.scheduler.PushScheduler;
+import com.alipay.sofa.registry.server.session.scheduler.task.Constant;
+import com.alipay.sofa.registry.server.session.store.DataStore;
+import com.alipay.sofa.registry.server.session.store.Interests;
+import com.alipay.sofa.registry.server.session.store.Watchers;
+import com.alipay.sofa.registry.server.session.strategy.TaskMergeProcessorStrategy;
+import com.alipay.sofa.registry.task.TaskClosure;
+import com.alipay.sofa.registry.task.batcher.TaskProcessor;
+import com.alipay.sofa.registry.task.batcher.TaskProcessor.ProcessingResult;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskEvent.TaskType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * registrations of disconnected client are parked, pushes to parked connection are skipped
+ * until the connection is registered again, parked connection is canceled after grace window
+ *
+ * @author shangyu.wh
+ * @version $Id: DisconnectGraceWindowTest.java, v 0.1 2026-10-19 17:10 shangyu.wh Exp $
+ */
+public class DisconnectGraceWindowTest {
+
+    private static final URL                         OLD_CONNECTION  = new URL("192.168.1.1", 10001);
+
+    private static final URL                         NEW_CONNECTION  = new URL("192.168.1.1", 10002);
+
+    private final SessionServerConfig                config          = mock(SessionServerConfig.class);
+
+    private final Registry                           sessionRegistry = mock(Registry.class);
+
+    private final PushScheduler                      pushScheduler   = mock(PushScheduler.class);
+
+    private DisconnectGraceWindow                    graceWindow;
+
+    /**
+     * listener holds a wheel timer, created once
+     */
+    private static ReceivedDataMultiPushTaskListener pushListener;
+
+    @BeforeClass
+    public static void beforeClass() {
+        SessionServerConfig timerConfig = mock(SessionServerConfig.class);
+        when(timerConfig.getUserDataPushRetryWheelTicksDuration()).thenReturn(100);
+        when(timerConfig.getUserDataPushRetryWheelTicksSize()).thenReturn(16);
+        pushListener = new ReceivedDataMultiPushTaskListener(mock(TaskProcessor.class),
+            mock(TaskMergeProcessorStrategy.class), timerConfig);
+    }
+
+    @Before
+    public void before() {
+        DataStore dataStore = mock(DataStore.class);
+        Publisher publisher = new Publisher();
+        publisher.setProcessId("process-1");
+        publisher.setSourceAddress(OLD_CONNECTION);
+        when(dataStore.queryByConnectId(OLD_CONNECTION.getAddressString())).thenReturn(
+            Collections.singletonMap("r1", publisher));
+
+        graceWindow = new DisconnectGraceWindow();
+        ReflectionTestUtils.setField(graceWindow, "sessionRegistry", sessionRegistry);
+        ReflectionTestUtils.setField(graceWindow, "sessionDataStore", dataStore);
+        ReflectionTestUtils.setField(graceWindow, "sessionInterests", mock(Interests.class));
+        ReflectionTestUtils.setField(graceWindow, "sessionWatchers", mock(Watchers.class));
+        ReflectionTestUtils.setField(graceWindow, "sessionServerConfig", config);
+
+        ExecutorManager executorManager = mock(ExecutorManager.class);
+        when(executorManager.getCheckPushExecutor()).thenReturn(directExecutor());
+        ReflectionTestUtils.setField(pushListener, "sessionServerConfig", config);
+        ReflectionTestUtils.setField(pushListener, "executorManager", executorManager);
+        ReflectionTestUtils.setField(pushListener, "pushScheduler", pushScheduler);
+        ReflectionTestUtils.setField(pushListener, "disconnectGraceWindow", graceWindow);
+    }
+
+    @Test
+    public void testDisabled() {
+        when(config.getClientDisconnectGraceSeconds()).thenReturn(0);
+        Assert.assertFalse(graceWindow.park(OLD_CONNECTION.getAddressString()));
+        Assert.assertFalse(graceWindow.isParked(OLD_CONNECTION.getAddressString()));
+    }
+
+    @Test
+    public void testResumeInsideWindow() {
+        when(config.getClientDisconnectGraceSeconds()).thenReturn(60);
+        Assert.assertTrue(graceWindow.park(OLD_CONNECTION.getAddressString()));
+        Assert.assertTrue(graceWindow.isParked(OLD_CONNECTION.getAddressString()));
+
+        //push to parked connection is skipped and completed without blocking version update
+        TaskClosure closure = mock(TaskClosure.class);
+        pushListener.executePushAsync(pushEvent(OLD_CONNECTION, closure));
+        verify(pushScheduler, never()).schedule(any(URL.class), anyBoolean(), anyInt(),
+            any(Runnable.class), any(Consumer.class));
+        verify(closure).run(eq(ProcessingResult.Success), any());
+
+        //same connection registers again
+        graceWindow.onRegister(subscriber(OLD_CONNECTION));
+        Assert.assertFalse(graceWindow.isParked(OLD_CONNECTION.getAddressString()));
+        pushListener.executePushAsync(pushEvent(OLD_CONNECTION, mock(TaskClosure.class)));
+        verify(pushScheduler, times(1)).schedule(any(URL.class), anyBoolean(), anyInt(),
+            any(Runnable.class), any(Consumer.class));
+
+        graceWindow.sweep();
+        verify(sessionRegistry, never()).cancel(any());
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        when(config.getClientDisconnectGraceSeconds()).thenReturn(1);
+        Assert.assertTrue(graceWindow.park(OLD_CONNECTION.getAddressString()));
+
+        //client reconnected by new connection, old one is still parked until expired
+        graceWindow.onRegister(subscriber(NEW_CONNECTION));
+        Assert.assertTrue(graceWindow.isParked(OLD_CONNECTION.getAddressString()));
+        pushListener.executePushAsync(pushEvent(OLD_CONNECTION, null));
+        verify(pushScheduler, never()).schedule(any(URL.class), anyBoolean(), anyInt(),
+            any(Runnable.class), any(Consumer.class));
+
+        verify(sessionRegistry, timeout(5000)).cancel(
+            Collections.singletonList(OLD_CONNECTION.getAddressString()));
+        Assert.assertFalse(graceWindow.isParked(OLD_CONNECTION.getAddressString()));
+
+        reset(pushScheduler);
+        pushListener.executePushAsync(pushEvent(NEW_CONNECTION, null));
+        verify(pushScheduler).schedule(any(URL.class), anyBoolean(), anyInt(), any(Runnable.class),
+            any(Consumer.class));
+    }
+
+    private TaskEvent pushEvent(URL url, TaskClosure closure) {
+        ReceivedData receivedData = new ReceivedData();
+        receivedData.setDataId("dataId");
+        receivedData.setSegment("DefaultDataCenter");
+        receivedData.setVersion(1L);
+        Map<ReceivedData, URL> parameter = new HashMap<>();
+        parameter.put(receivedData, url);
+        TaskEvent event = new TaskEvent(parameter, TaskType.RECEIVED_DATA_MULTI_PUSH_TASK);
+        event.setTaskClosure(closure);
+        event.setAttribute(Constant.PUSH_CLIENT_SUBSCRIBERS,
+            Collections.singletonList(subscriber(url)));
+        return event;
+    }
+
+    private Subscriber subscriber(URL url) {
+        Subscriber subscriber = new Subscriber();
+        subscriber.setProcessId("process-1");
+        subscriber.setSourceAddress(url);
+        return subscriber;
+    }
+
+    private ExecutorService directExecutor() {
+        return new AbstractExecutorService() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+
+            @Override
+            public void shutdown() {
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return false;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return false;
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) {
+                return true;
+            }
+        };
+    }
+}
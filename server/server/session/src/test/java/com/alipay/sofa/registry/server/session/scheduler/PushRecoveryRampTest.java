@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler;
+
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import com.alipay.sofa.registry.server.session.store.Interests;
+import com.alipay.sofa.registry.server.session.store.ReSubscribers;
+import com.alipay.sofa.registry.task.listener.TaskEvent;
+import com.alipay.sofa.registry.task.listener.TaskListenerManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * release rate of recovery ramp grows linearly from initial rate to max rate,
+ * a new stop push restarts the ramp from initial rate
+ *
+ * @author shangyu.wh
+ * @version $Id: PushRecoveryRampTest.java, v 0.1 2026-10-19 18:40 shangyu.wh Exp $
+ */
+public class PushRecoveryRampTest {
+
+    private static final int                           DATA_INFO_SIZE = 1000;
+
+    private final SessionServerConfig                  config         = mock(SessionServerConfig.class);
+
+    private final Map<String, Map<String, Subscriber>> reSubscribers  = new ConcurrentHashMap<>();
+
+    private final List<String>                         released       = new ArrayList<>();
+
+    private PushRecoveryRamp                           ramp;
+
+    @Before
+    public void before() {
+        when(config.getPushRecoveryInitialRate()).thenReturn(10);
+        when(config.getPushRecoveryMaxRate()).thenReturn(110);
+        when(config.getPushRecoveryRampSeconds()).thenReturn(10);
+        when(config.isStopPushSwitch()).thenReturn(false);
+
+        for (int i = 0; i < DATA_INFO_SIZE; i++) {
+            String dataInfoId = "dataInfoId-" + i;
+            Subscriber subscriber = new Subscriber();
+            subscriber.setRegisterId("registerId-" + i);
+            subscriber.setDataInfoId(dataInfoId);
+            Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+            subscribers.put(subscriber.getRegisterId(), subscriber);
+            reSubscribers.put(dataInfoId, subscribers);
+        }
+        Interests interests = mock(Interests.class,
+            withSettings().extraInterfaces(ReSubscribers.class));
+        when(((ReSubscribers) interests).getReSubscribers()).thenReturn(reSubscribers);
+
+        TaskListenerManager taskListenerManager = mock(TaskListenerManager.class);
+        doAnswer(invocation -> {
+            synchronized (released) {
+                released.add((String) ((TaskEvent) invocation.getArguments()[0]).getEventObj());
+            }
+            return null;
+        }).when(taskListenerManager).sendTaskEvent(any(TaskEvent.class));
+
+        ramp = new PushRecoveryRamp();
+        ReflectionTestUtils.setField(ramp, "sessionServerConfig", config);
+        ReflectionTestUtils.setField(ramp, "sessionInterests", interests);
+        ReflectionTestUtils.setField(ramp, "taskListenerManager", taskListenerManager);
+    }
+
+    @After
+    public void after() {
+        ramp.destroy();
+    }
+
+    @Test
+    public void testRampSteps() {
+        long start = 1000000L;
+        ramp.start(start);
+        Assert.assertEquals(DATA_INFO_SIZE, ramp.getPendingSize());
+        Assert.assertEquals("RAMPING", ramp.getProgress().get("state"));
+
+        //rate at 1s is 10 + 100 * 0.1 = 20
+        ramp.tick(start + 1000);
+        Assert.assertEquals(20, released.size());
+
+        //rate at 2s is 30
+        ramp.tick(start + 2000);
+        Assert.assertEquals(50, released.size());
+
+        //rate at 10s reaches max rate 110, 8s elapsed
+        ramp.tick(start + 10000);
+        Assert.assertEquals(930, released.size());
+
+        //rate stays max rate after ramp
+        ramp.tick(start + 10500);
+        Assert.assertEquals(985, released.size());
+
+        ramp.tick(start + 11000);
+        Assert.assertEquals(DATA_INFO_SIZE, released.size());
+        Assert.assertEquals(0, ramp.getPendingSize());
+        Assert.assertEquals("IDLE", ramp.getProgress().get("state"));
+        Assert.assertTrue(reSubscribers.isEmpty());
+    }
+
+    @Test
+    public void testPausedAndRestartFromInitialRate() {
+        long start = 1000000L;
+        ramp.start(start);
+        ramp.tick(start + 1000);
+        ramp.tick(start + 5000);
+        //20 at 1s, then rate 60 for 4s
+        Assert.assertEquals(260, released.size());
+
+        //push stopped again, nothing released until next start
+        when(config.isStopPushSwitch()).thenReturn(true);
+        ramp.tick(start + 6000);
+        Assert.assertEquals("PAUSED", ramp.getProgress().get("state"));
+        ramp.tick(start + 7000);
+        Assert.assertEquals(260, released.size());
+
+        //push opened again, ramp restarts from initial rate instead of rate reached before
+        when(config.isStopPushSwitch()).thenReturn(false);
+        long restart = start + 60000;
+        ramp.start(restart);
+        Assert.assertEquals(DATA_INFO_SIZE - 260, ramp.getPendingSize());
+        Assert.assertEquals(DATA_INFO_SIZE, ramp.getProgress().get("total"));
+        ramp.tick(restart + 1000);
+        Assert.assertEquals(280, released.size());
+        Assert.assertEquals(280, ramp.getProgress().get("released"));
+        Assert.assertEquals(released.size(), new HashSet<>(released).size());
+    }
+
+    @Test
+    public void testReleaserLifecycle() throws Exception {
+        ramp.startReleaser();
+        ramp.startReleaser();
+        ramp.start();
+        Assert.assertEquals("RAMPING", ramp.getProgress().get("state"));
+        Thread.sleep(1200);
+        Assert.assertTrue(released.size() > 0);
+
+        ScheduledExecutorService releaser = (ScheduledExecutorService) ReflectionTestUtils
+            .getField(ramp, "releaser");
+        ramp.destroy();
+        Assert.assertTrue(releaser.awaitTermination(1, TimeUnit.SECONDS));
+        Assert.assertNull(ReflectionTestUtils.getField(ramp, "releaser"));
+    }
+}
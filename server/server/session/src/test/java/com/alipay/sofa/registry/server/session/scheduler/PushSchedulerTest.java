@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.scheduler;
+
+import com.alipay.sofa.registry.common.model.store.URL;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: PushSchedulerTest.java, v 0.1 2026-10-19 16:20 shangyu.wh Exp $
+ */
+public class PushSchedulerTest {
+
+    private static final URL     CLIENT_A = new URL("192.168.1.1", 9600);
+
+    private static final URL     CLIENT_B = new URL("192.168.1.2", 9600);
+
+    private static final URL     CLIENT_C = new URL("192.168.1.3", 9600);
+
+    private final List<String>   pushed   = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * dispatcher blocks in execute until opened, so pushes are queued in scheduler
+     */
+    private final CountDownLatch gate     = new CountDownLatch(1);
+
+    private final CountDownLatch blocked  = new CountDownLatch(1);
+
+    private PushScheduler        pushScheduler;
+
+    @After
+    public void after() {
+        gate.countDown();
+        if (pushScheduler != null) {
+            pushScheduler.stop();
+        }
+    }
+
+    @Test
+    public void testFirstSubscribeBeforeIncremental() throws Exception {
+        pushScheduler = newScheduler(0, 100);
+        block();
+
+        schedule(CLIENT_A, false, 100, "a1");
+        schedule(CLIENT_A, false, 100, "a2");
+        schedule(CLIENT_B, false, 100, "b1");
+        schedule(CLIENT_C, true, 100, "c1");
+        Assert.assertEquals(4, pushScheduler.getPendingSize());
+
+        gate.countDown();
+        waitPushed(5);
+        //connections of same level take turns
+        Assert.assertEquals(Arrays.asList("blocker", "c1", "a1", "b1", "a2"), pushed);
+    }
+
+    @Test
+    public void testDeficitRoundRobinByBytes() throws Exception {
+        pushScheduler = newScheduler(0, 100);
+        block();
+
+        schedule(CLIENT_A, false, 300, "a1");
+        schedule(CLIENT_A, false, 300, "a2");
+        for (int i = 1; i <= 6; i++) {
+            schedule(CLIENT_B, false, 100, "b" + i);
+        }
+
+        gate.countDown();
+        waitPushed(9);
+        //connection of big pushes waits until its deficit covers push size
+        Assert.assertEquals(
+            Arrays.asList("blocker", "b1", "b2", "a1", "b3", "b4", "b5", "a2", "b6"), pushed);
+    }
+
+    @Test
+    public void testBytesBudget() throws Exception {
+        pushScheduler = newScheduler(1000, 1000);
+        gate.countDown();
+
+        long start = System.currentTimeMillis();
+        for (int i = 1; i <= 3; i++) {
+            schedule(CLIENT_A, false, 1000, "a" + i);
+        }
+        waitPushed(3);
+        //first push takes stored budget, others wait one second each
+        Assert.assertTrue(System.currentTimeMillis() - start >= 1500);
+        Assert.assertTrue(TaskMetrics.getInstance().getMetricRegistry()
+            .counter(PushScheduler.METRIC_PREFIX + ".throttleMillis").getCount() > 0);
+    }
+
+    @Test
+    public void testRejectOnStop() throws Exception {
+        pushScheduler = newScheduler(0, 100);
+        block();
+
+        AtomicReference<Throwable> rejected = new AtomicReference<>();
+        pushScheduler.schedule(CLIENT_A, false, 100, () -> pushed.add("a1"), rejected::set);
+        pushScheduler.stop();
+        Assert.assertTrue(rejected.get() instanceof RejectedExecutionException);
+        Assert.assertEquals(0, pushScheduler.getPendingSize());
+        try {
+            schedule(CLIENT_A, false, 100, "a2");
+            Assert.fail();
+        } catch (RejectedExecutionException e) {
+            //expected
+        }
+    }
+
+    private PushScheduler newScheduler(int bytesPerSecond, int quantum) {
+        SessionServerConfig config = mock(SessionServerConfig.class);
+        when(config.getPushBytesLimitPerSecond()).thenReturn(bytesPerSecond);
+        when(config.getPushDrrQuantumBytes()).thenReturn(quantum);
+        when(config.getPushTaskExecutorQueueSize()).thenReturn(100);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                blocked.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                command.run();
+            }
+        };
+        ExecutorManager executorManager = mock(ExecutorManager.class);
+        when(executorManager.getPushTaskExecutor()).thenReturn(executor);
+        return new PushScheduler(config, executorManager);
+    }
+
+    private void block() throws InterruptedException {
+        schedule(CLIENT_C, false, 1, "blocker");
+        Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+    }
+
+    private void schedule(URL url, boolean firstSubscribe, int size, String name) {
+        pushScheduler.schedule(url, firstSubscribe, size, () -> pushed.add(name), e -> {
+        });
+    }
+
+    private void waitPushed(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (pushed.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, pushed.size());
+    }
+}
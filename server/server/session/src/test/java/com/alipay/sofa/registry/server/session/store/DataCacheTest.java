@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.server.session.store;
 
+import com.alipay.sofa.registry.common.model.dataserver.Datum;
 import com.alipay.sofa.registry.common.model.store.DataInfo;
 import com.alipay.sofa.registry.common.model.store.Publisher;
 import com.alipay.sofa.registry.common.model.store.Subscriber;
@@ -25,7 +26,11 @@ import com.alipay.sofa.registry.net.NetUtil;
 import com.alipay.sofa.registry.server.session.bootstrap.SessionServerConfigBean;
 import com.alipay.sofa.registry.server.session.cache.CacheGenerator;
 import com.alipay.sofa.registry.server.session.cache.CacheService;
+import com.alipay.sofa.registry.server.session.cache.DatumKey;
+import com.alipay.sofa.registry.server.session.cache.Key;
+import com.alipay.sofa.registry.server.session.cache.Key.KeyType;
 import com.alipay.sofa.registry.server.session.cache.SessionCacheService;
+import com.alipay.sofa.registry.server.session.cache.Value;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -128,7 +133,7 @@ public class DataCacheTest extends BaseTest {
     @Test
     public void testGetPub() {
         SessionDataStore sessionDataStore = new SessionDataStore();
-        CacheService cacheService = new SessionCacheService();
+        CacheService cacheService = new SessionCacheService(new SessionServerConfigBean(null));
 
         Map<String, CacheGenerator> cacheGenerators = new HashMap<>();
         ((SessionCacheService) cacheService).setCacheGenerators(cacheGenerators);
@@ -148,7 +153,7 @@ public class DataCacheTest extends BaseTest {
     @Test
     public void testGetPubRefresh() {
         SessionDataStore sessionDataStore = new SessionDataStore();
-        CacheService cacheService = new SessionCacheService();
+        CacheService cacheService = new SessionCacheService(new SessionServerConfigBean(null));
 
         Map<String, CacheGenerator> cacheGenerators = new HashMap<>();
         ((SessionCacheService) cacheService).setCacheGenerators(cacheGenerators);
@@ -172,7 +177,7 @@ public class DataCacheTest extends BaseTest {
     @Test
     public void testDelPubById() {
         SessionDataStore sessionDataStore = new SessionDataStore();
-        CacheService cacheService = new SessionCacheService();
+        CacheService cacheService = new SessionCacheService(new SessionServerConfigBean(null));
 
         Map<String, CacheGenerator> cacheGenerators = new HashMap<>();
         ((SessionCacheService) cacheService).setCacheGenerators(cacheGenerators);
@@ -193,6 +198,34 @@ public class DataCacheTest extends BaseTest {
         Assert.assertFalse(getCachePub(sessionDataStore, "192.168.1.9:8000"));
     }
 
+    @Test
+    public void testPubChecksum() {
+        SessionDataStore sessionDataStore = new SessionDataStore();
+        String dataId = "dataid";
+        String dataInfoId = DataInfo.toDataInfoId(dataId, "instance2", "rpc");
+
+        sessionDataStore.add(getPub(dataId, "AAAA", null));
+        long checksum = sessionDataStore.getChecksum().getChecksum();
+        sessionDataStore.add(getPub(dataId, "BBBB", new URL("192.168.1.9", 8000)));
+        sessionDataStore.add(getPub(dataId, "CCCC", new URL("192.168.1.9", 8000)));
+        Assert.assertEquals(3, sessionDataStore.count());
+        Assert.assertEquals(sessionDataStore.getChecksum().getChecksum(), sessionDataStore
+            .getChecksum().getChecksum(dataInfoId));
+
+        //overwrite with same version does not change checksum
+        sessionDataStore.add(getPub(dataId, "AAAA", null));
+        Assert.assertEquals(3, sessionDataStore.count());
+
+        sessionDataStore.deleteById("BBBB", dataInfoId);
+        sessionDataStore.deleteByConnectId("192.168.1.9:8000");
+        Assert.assertEquals(1, sessionDataStore.count());
+        Assert.assertEquals(checksum, sessionDataStore.getChecksum().getChecksum());
+
+        sessionDataStore.deleteById("AAAA", dataInfoId);
+        Assert.assertEquals(0, sessionDataStore.getChecksum().getChecksum());
+        Assert.assertTrue(sessionDataStore.getChecksum().getChecksums().isEmpty());
+    }
+
     private boolean getCachePub(SessionDataStore sessionDataStore, String connectId) {
         Map map = sessionDataStore.queryByConnectId(connectId);
         return map != null && !map.isEmpty();
@@ -234,6 +267,83 @@ public class DataCacheTest extends BaseTest {
         return subscriberRegister;
     }
 
+    @Test
+    public void testDatumCacheVersion() {
+        SessionCacheService cacheService = new SessionCacheService(new SessionServerConfigBean(null));
+
+        AtomicLong dataVersion = new AtomicLong(10);
+        AtomicLong loadCount = new AtomicLong();
+        Map<String, CacheGenerator> cacheGenerators = new HashMap<>();
+        cacheGenerators.put(DatumKey.class.getName(), key -> {
+            loadCount.incrementAndGet();
+            DatumKey datumKey = (DatumKey) key.getEntityType();
+            Datum datum = new Datum(datumKey.getDataInfoId(), datumKey.getDataCenter());
+            datum.setVersion(dataVersion.get());
+            return new Value(datum, datum.getVersion());
+        });
+        cacheService.setCacheGenerators(cacheGenerators);
+
+        DatumKey datumKey = new DatumKey(DataInfo.toDataInfoId("dataid", "instance2", "rpc"),
+            "DefaultDataCenter");
+        Key key = new Key(KeyType.OBJ, DatumKey.class.getName(), datumKey);
+
+        Assert.assertEquals(10, cacheService.getValue(key).getVersion());
+        Assert.assertEquals(1, loadCount.get());
+
+        //older or same version change keeps cache
+        Assert.assertFalse(cacheService.invalidate(key, 9));
+        Assert.assertFalse(cacheService.invalidate(key, 10));
+        Assert.assertEquals(10, cacheService.getValue(key).getVersion());
+        Assert.assertEquals(1, loadCount.get());
+
+        //newer version change invalidates cache
+        dataVersion.set(11);
+        Assert.assertTrue(cacheService.invalidate(key, 11));
+        Assert.assertEquals(11, cacheService.getValue(key).getVersion());
+        Assert.assertEquals(2, loadCount.get());
+
+        //cached value older than required version is reloaded
+        dataVersion.set(12);
+        Assert.assertEquals(12, cacheService.getValue(key, 12).getVersion());
+        Assert.assertEquals(3, loadCount.get());
+        Assert.assertEquals(12, cacheService.getValue(key, 12).getVersion());
+        Assert.assertEquals(3, loadCount.get());
+
+        Assert.assertTrue(cacheService.getCacheStats().hitCount() > 0);
+    }
+
+    @Test
+    public void testUnversionedValueExpired() throws Exception {
+        SessionServerConfigBean sessionServerConfig = new SessionServerConfigBean(null);
+        sessionServerConfig.setDatumCacheUnversionedExpireMillis(100);
+        SessionCacheService cacheService = new SessionCacheService(sessionServerConfig);
+
+        AtomicLong loadCount = new AtomicLong();
+        Map<String, CacheGenerator> cacheGenerators = new HashMap<>();
+        cacheGenerators.put(DatumKey.class.getName(), key -> {
+            //data node returned no datum
+            loadCount.incrementAndGet();
+            return new Value(null);
+        });
+        cacheService.setCacheGenerators(cacheGenerators);
+
+        DatumKey datumKey = new DatumKey(DataInfo.toDataInfoId("dataid", "instance2", "rpc"),
+            "DefaultDataCenter");
+        Key key = new Key(KeyType.OBJ, DatumKey.class.getName(), datumKey);
+
+        Assert.assertNull(cacheService.getValue(key).getPayload());
+        Assert.assertNull(cacheService.getValue(key).getPayload());
+        Assert.assertEquals(1, loadCount.get());
+
+        //change notification of it missed, reloaded after expired
+        Thread.sleep(150);
+        Assert.assertNull(cacheService.getValue(key, Value.NO_VERSION).getPayload());
+        Assert.assertEquals(2, loadCount.get());
+        Thread.sleep(150);
+        cacheService.getValue(key);
+        Assert.assertEquals(3, loadCount.get());
+    }
+
     private Publisher getPub(String dataId, String registerId, URL url) {
 
         String processid = "4466";
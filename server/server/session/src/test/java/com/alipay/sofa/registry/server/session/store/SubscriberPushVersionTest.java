@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.server.session.store;
+
+import com.alipay.sofa.registry.common.model.store.DataCenterIndex;
+import com.alipay.sofa.registry.common.model.store.Subscriber;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *
+ * @author shangyu.wh
+ * @version $Id: SubscriberPushVersionTest.java, v 0.1 2026-10-19 11:05 shangyu.wh Exp $
+ */
+public class SubscriberPushVersionTest {
+
+    private static final int      COUNT        = 2000;
+
+    private static final String[] DATA_CENTERS = { "DefaultDataCenter", "OtherDataCenter" };
+
+    @Test
+    public void testCheckAndUpdateVersion() {
+        Subscriber subscriber = new Subscriber();
+
+        Assert.assertTrue(subscriber.checkVersion("dc1", 1L));
+        Assert.assertFalse(subscriber.checkVersion("dc1", null));
+
+        subscriber.checkAndUpdateVersion("dc1", 10L);
+        Assert.assertFalse(subscriber.checkVersion("dc1", 10L));
+        Assert.assertFalse(subscriber.checkVersion("dc1", 9L));
+        Assert.assertTrue(subscriber.checkVersion("dc1", 11L));
+
+        //other dataCenter not affected
+        Assert.assertTrue(subscriber.checkVersion("dc2", 1L));
+
+        //smaller version not update
+        subscriber.checkAndUpdateVersion("dc1", 5L);
+        subscriber.checkAndUpdateVersion("dc2", 7L);
+
+        Map<String, Long> versions = subscriber.getLastPushVersions();
+        Assert.assertEquals(2, versions.size());
+        Assert.assertEquals(Long.valueOf(10L), versions.get("dc1"));
+        Assert.assertEquals(Long.valueOf(7L), versions.get("dc2"));
+
+        Subscriber copy = new Subscriber();
+        copy.setLastPushVersions(versions);
+        Assert.assertFalse(copy.checkVersion("dc1", 10L));
+        Assert.assertTrue(copy.checkVersion("dc2", 8L));
+    }
+
+    @Test
+    public void testCompactVersions() throws Exception {
+        Subscriber subscriber = new Subscriber();
+        Subscriber other = new Subscriber();
+        //no versions allocated before first push
+        Assert.assertSame(pushVersions(subscriber), pushVersions(other));
+        Assert.assertEquals(0, pushVersions(subscriber).length);
+
+        for (String dataCenter : DATA_CENTERS) {
+            subscriber.checkAndUpdateVersion(dataCenter, 10L);
+        }
+        long[] versions = pushVersions(subscriber);
+        //one slot per dataCenter index instead of a map per subscriber
+        Assert.assertEquals(Math.max(DataCenterIndex.getInstance().getIndex(DATA_CENTERS[0]),
+            DataCenterIndex.getInstance().getIndex(DATA_CENTERS[1])) + 1, versions.length);
+
+        //stale version keeps current array, no copy
+        subscriber.checkAndUpdateVersion(DATA_CENTERS[0], 9L);
+        subscriber.checkAndUpdateVersion(DATA_CENTERS[1], 10L);
+        Assert.assertSame(versions, pushVersions(subscriber));
+
+        //returned map is a snapshot
+        Map<String, Long> snapshot = subscriber.getLastPushVersions();
+        snapshot.put(DATA_CENTERS[0], 100L);
+        Assert.assertTrue(subscriber.checkVersion(DATA_CENTERS[0], 11L));
+        Assert.assertEquals(Long.valueOf(10L), subscriber.getLastPushVersions()
+            .get(DATA_CENTERS[0]));
+    }
+
+    @Test
+    public void testConcurrentUpdateKeepsMaxVersion() throws Exception {
+        Subscriber subscriber = new Subscriber();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < COUNT; i++) {
+                    for (String dataCenter : DATA_CENTERS) {
+                        subscriber.checkAndUpdateVersion(dataCenter, (long) (i * threads + offset));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        long max = (long) (COUNT - 1) * threads + threads - 1;
+        for (String dataCenter : DATA_CENTERS) {
+            Assert.assertEquals(Long.valueOf(max), subscriber.getLastPushVersions().get(dataCenter));
+            Assert.assertFalse(subscriber.checkVersion(dataCenter, max));
+        }
+    }
+
+    private long[] pushVersions(Subscriber subscriber) throws Exception {
+        Field field = Subscriber.class.getDeclaredField("lastPushVersions");
+        field.setAccessible(true);
+        return (long[]) field.get(subscriber);
+    }
+}
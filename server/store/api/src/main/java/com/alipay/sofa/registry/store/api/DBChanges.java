@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.store.api;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * entries of versioned db changed after a revision.
+ * if full is true, entries are all existing entries and receiver should replace its view with them,
+ * otherwise entries are latest changes of each key, include removed keys.
+ * revisions are comparable only within same epoch,
+ * receiver should watch with epoch and revision got last time.
+ *
+ * @author shangyu.wh
+ * @version $Id: DBChanges.java, v 0.1 2026-10-19 18:10 shangyu.wh Exp $
+ */
+public class DBChanges implements Serializable {
+
+    private static final long   serialVersionUID = 5104862293510784529L;
+
+    private final String        epoch;
+
+    private final long          revision;
+
+    private final boolean       full;
+
+    private final List<DBEntry> entries;
+
+    /**
+     * constructor
+     * @param epoch incarnation of db revisions
+     * @param revision global revision of db when entries got
+     * @param full
+     * @param entries
+     */
+    public DBChanges(String epoch, long revision, boolean full, List<DBEntry> entries) {
+        this.epoch = epoch;
+        this.revision = revision;
+        this.full = full;
+        this.entries = entries;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>full</tt>.
+     *
+     * @return property value of full
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * Getter method for property <tt>entries</tt>.
+     *
+     * @return property value of entries
+     */
+    public List<DBEntry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return "DBChanges{" + "epoch=" + epoch + ", revision=" + revision + ", full=" + full
+               + ", entries=" + entries.size() + '}';
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.store.api;
+
+import java.io.Serializable;
+
+/**
+ * entry of versioned db, value is null if the key has been removed at revision
+ *
+ * @author shangyu.wh
+ * @version $Id: DBEntry.java, v 0.1 2026-10-19 18:10 shangyu.wh Exp $
+ */
+public class DBEntry implements Serializable {
+
+    private static final long serialVersionUID = -3016437592087542451L;
+
+    private final String      key;
+
+    private final Object      value;
+
+    private final long        revision;
+
+    /**
+     * constructor
+     * @param key
+     * @param value
+     * @param revision
+     */
+    public DBEntry(String key, Object value, long revision) {
+        this.key = key;
+        this.value = value;
+        this.revision = revision;
+    }
+
+    /**
+     * Getter method for property <tt>key</tt>.
+     *
+     * @return property value of key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Getter method for property <tt>value</tt>.
+     *
+     * @return property value of value
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * is key removed at revision
+     * @return
+     */
+    public boolean isRemoved() {
+        return value == null;
+    }
+
+    @Override
+    public String toString() {
+        return "DBEntry{" + "key='" + key + '\'' + ", revision=" + revision + ", removed="
+               + isRemoved() + '}';
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.alipay.sofa.registry.store.api;
 
+import com.alipay.sofa.registry.store.api.annotation.FollowerRead;
 import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
 
 /**
@@ -48,6 +49,7 @@ public interface DBService {
      * @throws Exception
      */
     @ReadOnLeader
+    @FollowerRead
     DBResponse get(String key) throws Exception;
 
     /**
@@ -66,4 +68,28 @@ public interface DBService {
      * @throws Exception
      */
     boolean remove(String key) throws Exception;
+
+    /**
+     * get all entries which key starts with prefix, entity of response is DBChanges
+     * @param prefix null or empty for all entries
+     * @return
+     * @throws Exception
+     */
+    @ReadOnLeader
+    @FollowerRead
+    DBResponse getWithPrefix(String prefix) throws Exception;
+
+    /**
+     * get changes of entries which key starts with prefix after revision, entity of response is DBChanges.
+     * all entries are returned as full if changes after revision have been compacted,
+     * or revision got from another epoch of db
+     * @param prefix null or empty for all entries
+     * @param epoch epoch got last time, null if nothing got
+     * @param revision revision got last time
+     * @return
+     * @throws Exception
+     */
+    @ReadOnLeader
+    @FollowerRead
+    DBResponse getChanges(String prefix, String epoch, long revision) throws Exception;
 }
\ No newline at end of file
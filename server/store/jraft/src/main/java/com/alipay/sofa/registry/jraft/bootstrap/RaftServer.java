@@ -33,6 +33,7 @@ import com.alipay.sofa.registry.jraft.handler.RaftServerConnectionHandler;
 import com.alipay.sofa.registry.jraft.handler.RaftServerHandler;
 import com.alipay.sofa.registry.jraft.processor.FollowerProcessListener;
 import com.alipay.sofa.registry.jraft.processor.LeaderProcessListener;
+import com.alipay.sofa.registry.jraft.processor.RaftTaskBatcher;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.metrics.ReporterUtils;
@@ -73,6 +74,8 @@ public class RaftServer {
 
     private BoltServer              boltServer;
 
+    private RaftTaskBatcher         taskBatcher;
+
     /**
      *
      * @param dataPath    Example: /tmp/server1
@@ -104,7 +107,9 @@ public class RaftServer {
 
         FileUtils.forceMkdir(new File(dataPath));
 
-        serverHandlers.add(new RaftServerHandler(this));
+        taskBatcher = new RaftTaskBatcher(this, raftServerConfig.getTaskBatchWindowMs(),
+            raftServerConfig.getTaskBatchMaxSize());
+        serverHandlers.add(new RaftServerHandler(this, taskBatcher));
         serverHandlers.add(new RaftServerConnectionHandler());
 
         boltServer = new BoltServer(new URL(NetUtil.getLocalAddress().getHostAddress(),
@@ -116,7 +121,9 @@ public class RaftServer {
 
         RaftRpcServerFactory.addRaftRequestProcessors(rpcServer);
 
-        this.fsm = ServiceStateMachine.getInstance();
+        if (this.fsm == null) {
+            this.fsm = ServiceStateMachine.getInstance();
+        }
         this.fsm.setLeaderProcessListener(leaderProcessListener);
         this.fsm.setFollowerProcessListener(followerProcessListener);
 
@@ -125,6 +132,7 @@ public class RaftServer {
         this.raftGroupService = new RaftGroupService(groupId, serverId, nodeOptions, rpcServer);
         //start
         this.node = this.raftGroupService.start();
+        this.fsm.setNode(node);
 
         if (raftServerConfig.isEnableMetrics()) {
             ReporterUtils.startSlf4jReporter(raftServerConfig.getEnableMetricsReporterPeriod(),
@@ -143,6 +151,9 @@ public class RaftServer {
      * shutdown raftGroupService
      */
     public void shutdown() {
+        if (taskBatcher != null) {
+            taskBatcher.shutdown();
+        }
         if (raftGroupService != null) {
             this.raftGroupService.shutdown();
         }
@@ -228,6 +239,15 @@ public class RaftServer {
         return this.fsm;
     }
 
+    /**
+     * Setter method for property <tt>fsm</tt>, shared instance is used if not set before start.
+     *
+     * @param fsm  value to be assigned to property fsm
+     */
+    public void setFsm(ServiceStateMachine fsm) {
+        this.fsm = fsm;
+    }
+
     /**
      * Getter method for property <tt>node</tt>.
      *
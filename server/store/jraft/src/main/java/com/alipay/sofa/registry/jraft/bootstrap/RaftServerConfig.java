@@ -50,6 +50,22 @@ public class RaftServerConfig {
      */
     private int     snapshotIntervalSecs        = 3600;
 
+    /**
+     * Leader waits at most |task_batch_window_ms| milliseconds for more write requests,
+     * requests arrived in the window are committed in one log entry.
+     * If |task_batch_window_ms| <= 0, every request is one log entry.
+     * Followers of old version can not decode batched log entry,
+     * so enable it only after all nodes of the group upgraded.
+     * Default: 0 (disabled)
+     */
+    private int     taskBatchWindowMs           = 0;
+
+    /**
+     * Max requests in one batched log entry
+     * Default: 64
+     */
+    private int     taskBatchMaxSize            = 64;
+
     private Logger  metricsLogger;
 
     /**
@@ -141,4 +157,40 @@ public class RaftServerConfig {
     public void setMetricsLogger(Logger metricsLogger) {
         this.metricsLogger = metricsLogger;
     }
+
+    /**
+     * Getter method for property <tt>taskBatchWindowMs</tt>.
+     *
+     * @return property value of taskBatchWindowMs
+     */
+    public int getTaskBatchWindowMs() {
+        return taskBatchWindowMs;
+    }
+
+    /**
+     * Setter method for property <tt>taskBatchWindowMs</tt>.
+     *
+     * @param taskBatchWindowMs  value to be assigned to property taskBatchWindowMs
+     */
+    public void setTaskBatchWindowMs(int taskBatchWindowMs) {
+        this.taskBatchWindowMs = taskBatchWindowMs;
+    }
+
+    /**
+     * Getter method for property <tt>taskBatchMaxSize</tt>.
+     *
+     * @return property value of taskBatchMaxSize
+     */
+    public int getTaskBatchMaxSize() {
+        return taskBatchMaxSize;
+    }
+
+    /**
+     * Setter method for property <tt>taskBatchMaxSize</tt>.
+     *
+     * @param taskBatchMaxSize  value to be assigned to property taskBatchMaxSize
+     */
+    public void setTaskBatchMaxSize(int taskBatchMaxSize) {
+        this.taskBatchMaxSize = taskBatchMaxSize;
+    }
 }
\ No newline at end of file
@@ -18,34 +18,42 @@ package com.alipay.sofa.registry.jraft.bootstrap;
 
 import com.alipay.sofa.jraft.Closure;
 import com.alipay.sofa.jraft.Iterator;
+import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
 import com.alipay.sofa.jraft.core.StateMachineAdapter;
 import com.alipay.sofa.jraft.entity.LeaderChangeContext;
 import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
 import com.alipay.sofa.jraft.util.Utils;
+import com.alipay.sofa.registry.jraft.command.BatchProcessRequest;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.jraft.command.ProcessResponse;
 import com.alipay.sofa.registry.jraft.processor.FollowerProcessListener;
+import com.alipay.sofa.registry.jraft.processor.LeaderBatchTaskClosure;
 import com.alipay.sofa.registry.jraft.processor.LeaderProcessListener;
 import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
 import com.alipay.sofa.registry.jraft.processor.Processor;
 import com.alipay.sofa.registry.jraft.processor.SnapshotProcess;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
-import com.caucho.hessian.io.Hessian2Input;
-import com.caucho.hessian.io.SerializerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -55,8 +63,8 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class ServiceStateMachine extends StateMachineAdapter {
 
-    private static final Logger                 LOG = LoggerFactory
-                                                        .getLogger(ServiceStateMachine.class);
+    private static final Logger                 LOG           = LoggerFactory
+                                                                  .getLogger(ServiceStateMachine.class);
 
     private LeaderProcessListener               leaderProcessListener;
 
@@ -64,6 +72,26 @@ public class ServiceStateMachine extends StateMachineAdapter {
 
     private static volatile ServiceStateMachine instance;
 
+    private volatile Node                       node;
+
+    private final Processor                     processor;
+
+    public static final String                  METRIC_PREFIX = "RaftApply";
+
+    private final Timer                         applyTimer    = TaskMetrics
+                                                                  .getInstance()
+                                                                  .getMetricRegistry()
+                                                                  .timer(
+                                                                      MetricRegistry.name(
+                                                                          METRIC_PREFIX, "latency"));
+
+    private final Histogram                     batchSize     = TaskMetrics
+                                                                  .getInstance()
+                                                                  .getMetricRegistry()
+                                                                  .histogram(
+                                                                      MetricRegistry.name(
+                                                                          METRIC_PREFIX, "batch"));
+
     /**
      * get instance of ServiceStateMachine
      * @return
@@ -72,13 +100,21 @@ public class ServiceStateMachine extends StateMachineAdapter {
         if (instance == null) {
             synchronized (ServiceStateMachine.class) {
                 if (instance == null) {
-                    instance = new ServiceStateMachine();
+                    instance = new ServiceStateMachine(Processor.getInstance());
                 }
             }
         }
         return instance;
     }
 
+    /**
+     * constructor, state machine applies requests by services registered in processor
+     * @param processor
+     */
+    public ServiceStateMachine(Processor processor) {
+        this.processor = processor;
+    }
+
     /**
      * leader term
      */
@@ -105,45 +141,90 @@ public class ServiceStateMachine extends StateMachineAdapter {
         return this.followerTerm.get() > 0;
     }
 
+    /**
+     * wait until read index confirmed by leader has been applied by local state machine,
+     * local read after that is linearizable
+     * @param timeoutMs
+     * @return false if read index failed or timeout
+     */
+    public boolean readIndex(long timeoutMs) {
+        Node raftNode = this.node;
+        if (raftNode == null) {
+            return false;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicBoolean success = new AtomicBoolean(false);
+        raftNode.readIndex(new byte[0], new ReadIndexClosure() {
+            @Override
+            public void run(Status status, long index, byte[] reqCtx) {
+                if (!status.isOk()) {
+                    LOG.warn("Read index fail! status={}", status);
+                }
+                success.set(status.isOk());
+                latch.countDown();
+            }
+        });
+        try {
+            return latch.await(timeoutMs, TimeUnit.MILLISECONDS) && success.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     @Override
     public void onApply(Iterator iter) {
+        int applied = 0;
         while (iter.hasNext()) {
             Closure done = iter.done();
             ByteBuffer data = iter.getData();
-            ProcessRequest request;
-            LeaderTaskClosure closure = null;
-
-            if (done != null) {
-                closure = (LeaderTaskClosure) done;
-                request = closure.getRequest();
-            } else {
 
-                Hessian2Input input = new Hessian2Input(new ByteArrayInputStream(data.array()));
-                SerializerFactory serializerFactory = new SerializerFactory();
-                input.setSerializerFactory(serializerFactory);
-                try {
-                    request = (ProcessRequest) input.readObject();
-                    input.close();
-                } catch (IOException e) {
-                    throw new RuntimeException(
-                        "IOException occurred when Hessian serializer decode!", e);
+            if (done instanceof LeaderBatchTaskClosure) {
+                //batched request from local leader, every request has its own response
+                for (LeaderTaskClosure closure : ((LeaderBatchTaskClosure) done).getClosures()) {
+                    closure.setResponse(apply(closure.getRequest()));
+                    applied++;
                 }
-            }
-
-            ProcessResponse response = Processor.getInstance().process(request);
-
-            if (closure != null) {
-                closure.setResponse(response);
+                done.run(Status.OK());
+            } else if (done != null) {
+                LeaderTaskClosure closure = (LeaderTaskClosure) done;
+                closure.setResponse(apply(closure.getRequest()));
+                applied++;
                 closure.run(Status.OK());
+            } else {
+                Object command = decode(data);
+                if (command instanceof BatchProcessRequest) {
+                    for (ProcessRequest request : ((BatchProcessRequest) command).getRequests()) {
+                        apply(request);
+                        applied++;
+                    }
+                } else {
+                    apply((ProcessRequest) command);
+                    applied++;
+                }
             }
             iter.next();
         }
+        batchSize.update(applied);
+    }
+
+    private ProcessResponse apply(ProcessRequest request) {
+        Timer.Context context = applyTimer.time();
+        try {
+            return processor.process(request);
+        } finally {
+            context.stop();
+        }
+    }
+
+    private Object decode(ByteBuffer data) {
+        return CommandCodec.decodeLog(data.array());
     }
 
     @Override
     public void onSnapshotSave(final SnapshotWriter writer, final Closure done) {
 
-        Map<String, Object> workers = Processor.getInstance().getWorkers();
+        Map<String, Object> workers = processor.getWorkers();
         Map<String, SnapshotProcess> snapshotProcessors = new HashMap<>();
         if (workers != null) {
             workers.forEach((serviceId, worker) -> {
@@ -191,7 +272,7 @@ public class ServiceStateMachine extends StateMachineAdapter {
             return false;
         }
         List<String> failServices = new ArrayList<>();
-        Map<String, Object> workers = Processor.getInstance().getWorkers();
+        Map<String, Object> workers = processor.getWorkers();
         if (workers != null) {
             outer: for (Map.Entry<String, Object> entry : workers.entrySet()) {
                 String serviceId = entry.getKey();
@@ -202,6 +283,11 @@ public class ServiceStateMachine extends StateMachineAdapter {
 
                     for (String fileName : fileNames) {
                         if (reader.getFileMeta(fileName) == null) {
+                            if (snapshotProcess.isSnapshotOptional()) {
+                                LOG.warn("Skip optional data file {} not found in {}", fileName,
+                                    reader.getPath());
+                                continue;
+                            }
                             LOG.error("Fail to find data file {} in {}", fileName, reader.getPath());
                             failServices.add(serviceId);
                             break outer;
@@ -282,4 +368,22 @@ public class ServiceStateMachine extends StateMachineAdapter {
     public void setFollowerProcessListener(FollowerProcessListener followerProcessListener) {
         this.followerProcessListener = followerProcessListener;
     }
+
+    /**
+     * Getter method for property <tt>processor</tt>.
+     *
+     * @return property value of processor
+     */
+    public Processor getProcessor() {
+        return processor;
+    }
+
+    /**
+     * Setter method for property <tt>node</tt>.
+     *
+     * @param node  value to be assigned to property node
+     */
+    public void setNode(Node node) {
+        this.node = node;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * requests submitted to leader in a short window, committed in one raft log entry
+ *
+ * @author shangyu.wh
+ * @version $Id: BatchProcessRequest.java, v 0.1 2026-10-19 14:05 shangyu.wh Exp $
+ */
+public class BatchProcessRequest implements Serializable {
+
+    /** requests in submit order */
+    private List<ProcessRequest> requests;
+
+    public BatchProcessRequest() {
+    }
+
+    /**
+     * constructor
+     * @param requests
+     */
+    public BatchProcessRequest(List<ProcessRequest> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * Getter method for property <tt>requests</tt>.
+     *
+     * @return property value of requests
+     */
+    public List<ProcessRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Setter method for property <tt>requests</tt>.
+     *
+     * @param requests  value to be assigned to property requests
+     */
+    public void setRequests(List<ProcessRequest> requests) {
+        this.requests = requests;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BatchProcessRequest{");
+        sb.append("size=").append(requests == null ? 0 : requests.size());
+        sb.append(", requests=").append(requests);
+        sb.append('}');
+        return sb.toString();
+    }
+}
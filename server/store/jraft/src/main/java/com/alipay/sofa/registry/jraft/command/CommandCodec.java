@@ -18,14 +18,57 @@ package com.alipay.sofa.registry.jraft.command;
 
 import com.alipay.remoting.exception.CodecException;
 import com.alipay.remoting.serialization.SerializerManager;
+import com.caucho.hessian.io.Hessian2Input;
+import com.caucho.hessian.io.Hessian2Output;
+import com.caucho.hessian.io.SerializerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
 /**
  * Command codec
+ *
+ * raft log entry in compact format is written as: magic(2) version(1) kind(1) body.
+ * request body is methodId(4) args, methodId is crc32 of service and method signature
+ * computed at registration, 0 means service, method and signatures are written by name.
+ * entries without magic are decoded as hessian, so both formats can be replayed.
+ *
  * @author boyan (boyan@alibaba-inc.com)
  *
  * 2018-Apr-25 1:30:30 PM
  */
 public class CommandCodec {
+
+    private static final int                              MAGIC_0        = 0xB5;
+
+    private static final int                              MAGIC_1        = 0x5B;
+
+    private static final int                              VERSION        = 1;
+
+    private static final int                              KIND_REQUEST   = 1;
+
+    private static final int                              KIND_BATCH     = 2;
+
+    private static final int                              NO_METHOD_ID   = 0;
+
+    private static volatile boolean                       compactEnabled = false;
+
+    private static final Map<Integer, MethodRegistration> methodsById    = new ConcurrentHashMap<>();
+
+    private static final Map<String, Integer>             methodIds      = new ConcurrentHashMap<>();
+
+    private static final Map<Integer, ValueRegistration>  valuesByTag    = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, ValueRegistration> valuesByClass  = new ConcurrentHashMap<>();
+
     /**
      * encode the command,returns the byte array.
      * @param obj
@@ -53,4 +96,268 @@ public class CommandCodec {
             throw new IllegalStateException(e);
         }
     }
+
+    /**
+     * write raft log and snapshot in compact format or not, both formats are always readable.
+     * keep it disabled until all nodes of group are able to decode compact format.
+     * @param enabled
+     */
+    public static void setCompactEnabled(boolean enabled) {
+        compactEnabled = enabled;
+    }
+
+    /**
+     * Getter method for property <tt>compactEnabled</tt>.
+     *
+     * @return property value of compactEnabled
+     */
+    public static boolean isCompactEnabled() {
+        return compactEnabled;
+    }
+
+    /**
+     * assign id to service method, id is derived from names so every node gets the same one
+     * @param serviceName
+     * @param methodName
+     * @param sigs
+     * @return method id
+     */
+    public static int registerMethod(String serviceName, String methodName, String[] sigs) {
+        String key = methodKey(serviceName, methodName, sigs);
+        Integer exist = methodIds.get(key);
+        if (exist != null) {
+            return exist;
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(key.getBytes(StandardCharsets.UTF_8));
+        int id = (int) crc32.getValue();
+        MethodRegistration registration = new MethodRegistration(serviceName, methodName, sigs);
+        MethodRegistration conflict = methodsById.putIfAbsent(id, registration);
+        if (id == NO_METHOD_ID || conflict != null) {
+            throw new IllegalStateException(String.format("Method id %s of %s conflicts with %s!",
+                id, key, conflict));
+        }
+        methodIds.put(key, id);
+        return id;
+    }
+
+    /**
+     * register codec of value type with tag, tag and class must be same on every node
+     * @param tag not less than CompactOutput.MIN_REGISTERED_TAG
+     * @param clazz exact class of value
+     * @param codec
+     */
+    public static <T> void registerValueCodec(int tag, Class<T> clazz, ValueCodec<T> codec) {
+        if (tag < CompactOutput.MIN_REGISTERED_TAG) {
+            throw new IllegalArgumentException("Value tag " + tag + " is reserved!");
+        }
+        ValueRegistration exist = valuesByTag.get(tag);
+        if (exist != null && exist.getClazz() != clazz) {
+            throw new IllegalStateException(String.format(
+                "Value tag %s of %s has been registered by %s!", tag, clazz.getName(), exist
+                    .getClazz().getName()));
+        }
+        ValueRegistration registration = new ValueRegistration(tag, clazz, codec);
+        valuesByTag.put(tag, registration);
+        valuesByClass.put(clazz, registration);
+    }
+
+    static ValueRegistration getValueRegistration(int tag) {
+        return valuesByTag.get(tag);
+    }
+
+    static ValueRegistration getValueRegistration(Class<?> clazz) {
+        return valuesByClass.get(clazz);
+    }
+
+    /**
+     * encode command to raft log entry
+     * @param command ProcessRequest or BatchProcessRequest
+     * @return
+     */
+    public static byte[] encodeLog(Object command) {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        try {
+            if (compactEnabled
+                && (command instanceof ProcessRequest || command instanceof BatchProcessRequest)) {
+                CompactOutput out = new CompactOutput(byteStream);
+                out.writeByte(MAGIC_0);
+                out.writeByte(MAGIC_1);
+                out.writeByte(VERSION);
+                if (command instanceof ProcessRequest) {
+                    out.writeByte(KIND_REQUEST);
+                    writeRequest(out, (ProcessRequest) command);
+                } else {
+                    List<ProcessRequest> requests = ((BatchProcessRequest) command).getRequests();
+                    out.writeByte(KIND_BATCH);
+                    out.writeVarInt(requests.size());
+                    for (ProcessRequest request : requests) {
+                        writeRequest(out, request);
+                    }
+                }
+            } else {
+                Hessian2Output hessianOutput = new Hessian2Output(byteStream);
+                hessianOutput.setSerializerFactory(new SerializerFactory());
+                hessianOutput.writeObject(command);
+                hessianOutput.close();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Encode raft log error!", e);
+        }
+        return byteStream.toByteArray();
+    }
+
+    /**
+     * decode raft log entry written by encodeLog, in either format
+     * @param content
+     * @return
+     */
+    public static Object decodeLog(byte[] content) {
+        ByteArrayInputStream byteStream = new ByteArrayInputStream(content);
+        try {
+            if (isCompact(content)) {
+                CompactInput in = new CompactInput(byteStream);
+                in.readBytes(2);
+                int version = in.readByte();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported raft log version " + version);
+                }
+                int kind = in.readByte();
+                if (kind == KIND_REQUEST) {
+                    return readRequest(in);
+                } else if (kind == KIND_BATCH) {
+                    int size = in.readVarInt();
+                    List<ProcessRequest> requests = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        requests.add(readRequest(in));
+                    }
+                    return new BatchProcessRequest(requests);
+                }
+                throw new IOException("Unsupported raft log kind " + kind);
+            }
+            Hessian2Input hessianInput = new Hessian2Input(byteStream);
+            hessianInput.setSerializerFactory(new SerializerFactory());
+            Object command = hessianInput.readObject();
+            hessianInput.close();
+            return command;
+        } catch (IOException e) {
+            throw new IllegalStateException("Decode raft log error!", e);
+        }
+    }
+
+    private static boolean isCompact(byte[] content) {
+        //hessian content of an object never starts with magic
+        return content.length > 2 && (content[0] & 0xFF) == MAGIC_0
+               && (content[1] & 0xFF) == MAGIC_1;
+    }
+
+    private static void writeRequest(CompactOutput out, ProcessRequest request) throws IOException {
+        Integer id = methodIds.get(methodKey(request.getServiceName(), request.getMethodName(),
+            request.getMethodArgSigs()));
+        if (id != null) {
+            out.writeFixedInt(id);
+        } else {
+            out.writeFixedInt(NO_METHOD_ID);
+            out.writeString(request.getServiceName());
+            out.writeString(request.getMethodName());
+            writeArray(out, request.getMethodArgSigs());
+        }
+        writeArray(out, request.getMethodArgs());
+    }
+
+    private static ProcessRequest readRequest(CompactInput in) throws IOException {
+        ProcessRequest request = new ProcessRequest();
+        int id = in.readFixedInt();
+        if (id == NO_METHOD_ID) {
+            request.setServiceName(in.readString());
+            request.setMethodName(in.readString());
+            Object[] sigs = readArray(in);
+            request.setMethodArgSigs(sigs == null ? null : Arrays.copyOf(sigs, sigs.length,
+                String[].class));
+        } else {
+            MethodRegistration registration = methodsById.get(id);
+            if (registration == null) {
+                throw new IOException("Unknown method id " + id);
+            }
+            request.setServiceName(registration.serviceName);
+            request.setMethodName(registration.methodName);
+            request.setMethodArgSigs(registration.sigs.clone());
+        }
+        request.setMethodArgs(readArray(in));
+        return request;
+    }
+
+    private static void writeArray(CompactOutput out, Object[] values) throws IOException {
+        if (values == null) {
+            out.writeVarInt(0);
+            return;
+        }
+        out.writeVarInt(values.length + 1);
+        for (Object value : values) {
+            out.writeValue(value);
+        }
+    }
+
+    private static Object[] readArray(CompactInput in) throws IOException {
+        int length = in.readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        Object[] values = new Object[length - 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readValue();
+        }
+        return values;
+    }
+
+    private static String methodKey(String serviceName, String methodName, String[] sigs) {
+        StringBuilder sb = new StringBuilder(serviceName).append('#').append(methodName);
+        if (sigs != null) {
+            for (String sig : sigs) {
+                sb.append(',').append(sig);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static class MethodRegistration {
+        private final String   serviceName;
+        private final String   methodName;
+        private final String[] sigs;
+
+        MethodRegistration(String serviceName, String methodName, String[] sigs) {
+            this.serviceName = serviceName;
+            this.methodName = methodName;
+            this.sigs = sigs == null ? new String[0] : sigs.clone();
+        }
+
+        @Override
+        public String toString() {
+            return methodKey(serviceName, methodName, sigs);
+        }
+    }
+
+    static class ValueRegistration {
+        private final int           tag;
+        private final Class<?>      clazz;
+        private final ValueCodec<?> codec;
+
+        ValueRegistration(int tag, Class<?> clazz, ValueCodec<?> codec) {
+            this.tag = tag;
+            this.clazz = clazz;
+            this.codec = codec;
+        }
+
+        int getTag() {
+            return tag;
+        }
+
+        Class<?> getClazz() {
+            return clazz;
+        }
+
+        ValueCodec<?> getCodec() {
+            return codec;
+        }
+    }
 }
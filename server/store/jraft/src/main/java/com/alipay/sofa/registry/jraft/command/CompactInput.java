@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * reader of content written by CompactOutput
+ *
+ * @author shangyu.wh
+ * @version $Id: CompactInput.java, v 0.1 2026-10-19 15:40 shangyu.wh Exp $
+ */
+public class CompactInput {
+
+    private final InputStream  in;
+
+    private final List<String> strings = new ArrayList<>();
+
+    /**
+     * constructor
+     * @param in
+     */
+    public CompactInput(InputStream in) {
+        this.in = in;
+    }
+
+    public int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    public byte[] readBytes(int length) throws IOException {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            int n = in.read(bytes, offset, length - offset);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            offset += n;
+        }
+        return bytes;
+    }
+
+    public int readFixedInt() throws IOException {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    public int readVarInt() throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public long readVarLong() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+
+    public long readZigZagLong() throws IOException {
+        long v = readVarLong();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public String readString() throws IOException {
+        int v = readVarInt();
+        if (v == 0) {
+            return null;
+        }
+        if ((v & 1) == 1) {
+            int index = v >>> 1;
+            if (index >= strings.size()) {
+                throw new IOException("Unknown string index " + index);
+            }
+            return strings.get(index);
+        }
+        String s = new String(readBytes((v >>> 1) - 1), StandardCharsets.UTF_8);
+        strings.add(s);
+        return s;
+    }
+
+    /**
+     * read enum written by ordinal
+     * @param values values of enum type
+     * @param <E>
+     * @return
+     * @throws IOException
+     */
+    public <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int ordinal = readVarInt();
+        if (ordinal == 0) {
+            return null;
+        }
+        if (ordinal > values.length) {
+            throw new IOException("Unknown ordinal " + (ordinal - 1) + " of "
+                                  + values.getClass().getComponentType().getName());
+        }
+        return values[ordinal - 1];
+    }
+
+    /**
+     * read value written by CompactOutput.writeValue
+     * @return
+     * @throws IOException
+     */
+    public Object readValue() throws IOException {
+        int tag = readVarInt();
+        switch (tag) {
+            case CompactOutput.TAG_NULL:
+                return null;
+            case CompactOutput.TAG_HESSIAN:
+                return CommandCodec.decodeCommand(readBytes(readVarInt()), Object.class);
+            case CompactOutput.TAG_STRING:
+                return readString();
+            case CompactOutput.TAG_LONG:
+                return readZigZagLong();
+            case CompactOutput.TAG_INTEGER:
+                return (int) readZigZagLong();
+            case CompactOutput.TAG_TRUE:
+                return Boolean.TRUE;
+            case CompactOutput.TAG_FALSE:
+                return Boolean.FALSE;
+            case CompactOutput.TAG_HASH_MAP: {
+                int size = readVarInt();
+                return readMap(new HashMap<>(capacity(size)), size);
+            }
+            case CompactOutput.TAG_CONCURRENT_HASH_MAP: {
+                int size = readVarInt();
+                return readMap(new ConcurrentHashMap<>(capacity(size)), size);
+            }
+            case CompactOutput.TAG_LINKED_HASH_MAP: {
+                int size = readVarInt();
+                return readMap(new LinkedHashMap<>(capacity(size)), size);
+            }
+            case CompactOutput.TAG_ARRAY_LIST: {
+                int size = readVarInt();
+                return readCollection(new ArrayList<>(size), size);
+            }
+            case CompactOutput.TAG_HASH_SET: {
+                int size = readVarInt();
+                return readCollection(new HashSet<>(capacity(size)), size);
+            }
+            case CompactOutput.TAG_LINKED_BLOCKING_QUEUE:
+                return readCollection(new LinkedBlockingQueue<>(), readVarInt());
+            default:
+                CommandCodec.ValueRegistration registration = CommandCodec
+                    .getValueRegistration(tag);
+                if (registration == null) {
+                    throw new IOException("Unknown value tag " + tag);
+                }
+                return registration.getCodec().decode(this);
+        }
+    }
+
+    private Map<Object, Object> readMap(Map<Object, Object> map, int size) throws IOException {
+        for (int i = 0; i < size; i++) {
+            Object key = readValue();
+            map.put(key, readValue());
+        }
+        return map;
+    }
+
+    private Collection<Object> readCollection(Collection<Object> collection, int size)
+                                                                                      throws IOException {
+        for (int i = 0; i < size; i++) {
+            collection.add(readValue());
+        }
+        return collection;
+    }
+
+    private static int capacity(int size) {
+        return Math.max((int) (size / .75f) + 1, 16);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * writer of compact format: unsigned varint for sizes and counts, zigzag varint for signed numbers,
+ * tagged values for objects. values without built-in or registered codec fall back to hessian.
+ * a string written again in the same stream is written as index of its first occurrence.
+ *
+ * @author shangyu.wh
+ * @version $Id: CompactOutput.java, v 0.1 2026-10-19 15:40 shangyu.wh Exp $
+ */
+public class CompactOutput {
+
+    static final int                   TAG_NULL                  = 0;
+    static final int                   TAG_HESSIAN               = 1;
+    static final int                   TAG_STRING                = 2;
+    static final int                   TAG_LONG                  = 3;
+    static final int                   TAG_INTEGER               = 4;
+    static final int                   TAG_TRUE                  = 5;
+    static final int                   TAG_FALSE                 = 6;
+    static final int                   TAG_HASH_MAP              = 7;
+    static final int                   TAG_CONCURRENT_HASH_MAP   = 8;
+    static final int                   TAG_LINKED_HASH_MAP       = 9;
+    static final int                   TAG_ARRAY_LIST            = 10;
+    static final int                   TAG_HASH_SET              = 11;
+    static final int                   TAG_LINKED_BLOCKING_QUEUE = 12;
+
+    /**
+     * tags below are reserved for built-in values
+     */
+    public static final int            MIN_REGISTERED_TAG        = 32;
+
+    private final OutputStream         out;
+
+    private final Map<String, Integer> strings                   = new HashMap<>();
+
+    /**
+     * constructor
+     * @param out
+     */
+    public CompactOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    public void writeByte(int b) throws IOException {
+        out.write(b);
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+        out.write(bytes);
+    }
+
+    /**
+     * write int in 4 bytes, big endian
+     * @param v
+     * @throws IOException
+     */
+    public void writeFixedInt(int v) throws IOException {
+        out.write(v >>> 24);
+        out.write(v >>> 16);
+        out.write(v >>> 8);
+        out.write(v);
+    }
+
+    /**
+     * write non negative int in 1 to 5 bytes
+     * @param v
+     * @throws IOException
+     */
+    public void writeVarInt(int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    /**
+     * write non negative long in 1 to 10 bytes
+     * @param v
+     * @throws IOException
+     */
+    public void writeVarLong(long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    /**
+     * write signed long, small absolute values take few bytes
+     * @param v
+     * @throws IOException
+     */
+    public void writeZigZagLong(long v) throws IOException {
+        writeVarLong((v << 1) ^ (v >> 63));
+    }
+
+    /**
+     * write nullable string, 0 for null, odd for index of string written before,
+     * otherwise utf-8 bytes with length
+     * @param s
+     * @throws IOException
+     */
+    public void writeString(String s) throws IOException {
+        if (s == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer index = strings.get(s);
+        if (index != null) {
+            writeVarInt((index << 1) | 1);
+            return;
+        }
+        strings.put(s, strings.size());
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarInt((bytes.length + 1) << 1);
+        out.write(bytes);
+    }
+
+    /**
+     * write nullable enum by ordinal
+     * @param e
+     * @throws IOException
+     */
+    public void writeEnum(Enum<?> e) throws IOException {
+        writeVarInt(e == null ? 0 : e.ordinal() + 1);
+    }
+
+    /**
+     * write nullable value with its type tag
+     * @param value
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    public void writeValue(Object value) throws IOException {
+        if (value == null) {
+            writeVarInt(TAG_NULL);
+            return;
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz == String.class) {
+            writeVarInt(TAG_STRING);
+            writeString((String) value);
+        } else if (clazz == Long.class) {
+            writeVarInt(TAG_LONG);
+            writeZigZagLong((Long) value);
+        } else if (clazz == Integer.class) {
+            writeVarInt(TAG_INTEGER);
+            writeZigZagLong((Integer) value);
+        } else if (clazz == Boolean.class) {
+            writeVarInt((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (clazz == HashMap.class) {
+            writeMap(TAG_HASH_MAP, (Map<?, ?>) value);
+        } else if (clazz == ConcurrentHashMap.class) {
+            writeMap(TAG_CONCURRENT_HASH_MAP, (Map<?, ?>) value);
+        } else if (clazz == LinkedHashMap.class) {
+            writeMap(TAG_LINKED_HASH_MAP, (Map<?, ?>) value);
+        } else if (clazz == ArrayList.class) {
+            writeCollection(TAG_ARRAY_LIST, (Collection<?>) value);
+        } else if (clazz == HashSet.class) {
+            writeCollection(TAG_HASH_SET, (Collection<?>) value);
+        } else if (clazz == LinkedBlockingQueue.class
+                   && ((LinkedBlockingQueue<?>) value).remainingCapacity() == Integer.MAX_VALUE) {
+            writeCollection(TAG_LINKED_BLOCKING_QUEUE, (Collection<?>) value);
+        } else {
+            CommandCodec.ValueRegistration registration = CommandCodec.getValueRegistration(clazz);
+            if (registration != null) {
+                writeVarInt(registration.getTag());
+                ((ValueCodec<Object>) registration.getCodec()).encode(this, value);
+            } else {
+                byte[] bytes = CommandCodec.encodeCommand(value);
+                writeVarInt(TAG_HESSIAN);
+                writeVarInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    private void writeMap(int tag, Map<?, ?> map) throws IOException {
+        //copy entries first, size of concurrent map may change while writing
+        Object[] entries = map.entrySet().toArray();
+        writeVarInt(tag);
+        writeVarInt(entries.length);
+        for (Object e : entries) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) e;
+            writeValue(entry.getKey());
+            writeValue(entry.getValue());
+        }
+    }
+
+    private void writeCollection(int tag, Collection<?> collection) throws IOException {
+        Object[] values = collection.toArray();
+        writeVarInt(tag);
+        writeVarInt(values.length);
+        for (Object value : values) {
+            writeValue(value);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.command;
+
+import java.io.IOException;
+
+/**
+ * field by field codec of a value type written in compact raft commands and snapshots,
+ * registered to CommandCodec with a tag unique in cluster.
+ *
+ * @author shangyu.wh
+ * @version $Id: ValueCodec.java, v 0.1 2026-10-19 15:40 shangyu.wh Exp $
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * write fields of value
+     * @param out
+     * @param value not null
+     * @throws IOException
+     */
+    void encode(CompactOutput out, T value) throws IOException;
+
+    /**
+     * read fields written by encode
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    T decode(CompactInput in) throws IOException;
+}
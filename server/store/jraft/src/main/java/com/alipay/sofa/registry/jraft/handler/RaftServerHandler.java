@@ -17,25 +17,20 @@
 package com.alipay.sofa.registry.jraft.handler;
 
 import com.alipay.remoting.AsyncContext;
-import com.alipay.sofa.jraft.entity.Task;
 import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.jraft.command.ProcessResponse;
 import com.alipay.sofa.registry.jraft.processor.LeaderTaskClosure;
+import com.alipay.sofa.registry.jraft.processor.MethodDispatcher;
 import com.alipay.sofa.registry.jraft.processor.Processor;
+import com.alipay.sofa.registry.jraft.processor.RaftTaskBatcher;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.remoting.Channel;
 import com.alipay.sofa.registry.remoting.ChannelHandler;
 import com.alipay.sofa.registry.remoting.RemotingException;
 import com.alipay.sofa.registry.remoting.bolt.BoltChannel;
-import com.caucho.hessian.io.Hessian2Output;
-import com.caucho.hessian.io.SerializerFactory;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.lang.reflect.Method;
-import java.nio.ByteBuffer;
 
 /**
  *
@@ -48,12 +43,24 @@ public class RaftServerHandler implements ChannelHandler {
 
     protected RaftServer        raftServer;
 
+    protected RaftTaskBatcher   taskBatcher;
+
     /**
      * constructor
      * @param raftServer
      */
     public RaftServerHandler(RaftServer raftServer) {
+        this(raftServer, new RaftTaskBatcher(raftServer, 0, 1));
+    }
+
+    /**
+     * constructor
+     * @param raftServer
+     * @param taskBatcher
+     */
+    public RaftServerHandler(RaftServer raftServer, RaftTaskBatcher taskBatcher) {
         this.raftServer = raftServer;
+        this.taskBatcher = taskBatcher;
     }
 
     @Override
@@ -94,7 +101,8 @@ public class RaftServerHandler implements ChannelHandler {
         BoltChannel boltChannel = (BoltChannel) channel;
         AsyncContext asyncContext = boltChannel.getAsyncContext();
 
-        if (!raftServer.getFsm().isLeader()) {
+        ServiceStateMachine fsm = raftServer.getFsm();
+        if (!fsm.isLeader()) {
             asyncContext.sendResponse(ProcessResponse.redirect(raftServer.redirect()).build());
             return;
         }
@@ -102,10 +110,11 @@ public class RaftServerHandler implements ChannelHandler {
 
         long start = System.currentTimeMillis();
 
-        Method method = Processor.getInstance().getWorkMethod(processRequest);
+        Processor processor = fsm.getProcessor();
+        MethodDispatcher dispatcher = processor.getDispatcher(processRequest);
 
-        if (Processor.getInstance().isLeaderReadMethod(method)) {
-            Object obj = Processor.getInstance().process(method, processRequest);
+        if (processor.isLeaderReadMethod(fsm, dispatcher)) {
+            Object obj = processor.process(dispatcher, processRequest);
             long cost = System.currentTimeMillis() - start;
             LOGGER.info("Raft server process request self cost:{},request={}", cost, processRequest);
             asyncContext.sendResponse(obj);
@@ -123,33 +132,10 @@ public class RaftServerHandler implements ChannelHandler {
                 }
             });
 
-            Task task = createTask(closure, processRequest);
-
-            raftServer.getNode().apply(task);
+            taskBatcher.submit(closure);
         }
     }
 
-    protected Task createTask(LeaderTaskClosure closure, ProcessRequest request) {
-
-        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-        Hessian2Output hessianOutput = new Hessian2Output(byteStream);
-        SerializerFactory serializerFactory = new SerializerFactory();
-        hessianOutput.setSerializerFactory(serializerFactory);
-        try {
-            hessianOutput.writeObject(request);
-            hessianOutput.close();
-        } catch (IOException e) {
-            LOGGER.error("Raft receive message serialize error!", e);
-        }
-
-        byte[] cmdBytes = byteStream.toByteArray();
-
-        ByteBuffer data = ByteBuffer.allocate(cmdBytes.length);
-        data.put(cmdBytes);
-        data.flip();
-        return new Task(data, closure);
-    }
-
     @Override
     public Object reply(Channel channel, Object message) {
         return null;
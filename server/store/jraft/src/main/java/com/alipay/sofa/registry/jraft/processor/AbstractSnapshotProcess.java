@@ -17,22 +17,53 @@
 package com.alipay.sofa.registry.jraft.processor;
 
 import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.jraft.command.CompactInput;
+import com.alipay.sofa.registry.jraft.command.CompactOutput;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 import com.alipay.sofa.registry.util.FileUtils;
+import com.caucho.hessian.io.Hessian2Input;
+import com.caucho.hessian.io.Hessian2Output;
+import com.caucho.hessian.io.SerializerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 /**
+ * snapshot file is written as: magic(4) version(1) payloadLength(8) crc32(8) payload.
+ * payload is hessian in version 1, and values written by CompactOutput in version 2.
+ * payload is streamed to and from file, so whole snapshot never be kept in a byte array.
+ * files without magic are loaded as the former raw hessian format.
+ * followers of old version only load raw hessian format by InstallSnapshot, so it is still written
+ * until compact codec enabled, see {@link CommandCodec#setCompactEnabled(boolean)}.
  *
  * @author shangyu.wh
  * @version $Id: AbstractSnapshotProcess.java, v 0.1 2018-05-29 12:12 shangyu.wh Exp $
  */
 public abstract class AbstractSnapshotProcess implements SnapshotProcess {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSnapshotProcess.class);
+    private static final Logger LOGGER          = LoggerFactory
+                                                    .getLogger(AbstractSnapshotProcess.class);
+
+    private static final int    MAGIC           = 0x52534E50;
+
+    private static final byte   VERSION         = 1;
+
+    private static final byte   VERSION_COMPACT = 2;
+
+    private static final int    HEADER_LENGTH   = 4 + 1 + 8 + 8;
+
+    private static final int    BUFFER_SIZE     = 64 * 1024;
 
     /**
      * save snapshot to file
@@ -41,9 +72,48 @@ public abstract class AbstractSnapshotProcess implements SnapshotProcess {
      * @return
      */
     public boolean save(String path, Object values) {
+        File file = new File(path);
+        if (!CommandCodec.isCompactEnabled()) {
+            return saveHessian(file, values);
+        }
         try {
-            FileUtils.writeByteArrayToFile(new File(path), CommandCodec.encodeCommand(values),
-                false);
+            CRC32 crc32 = new CRC32();
+            long payloadLength;
+            try (FileOutputStream fileOut = new FileOutputStream(file, false)) {
+                fileOut.write(new byte[HEADER_LENGTH]);
+                CountingCheckedOutputStream checkedOut = new CountingCheckedOutputStream(
+                    new BufferedOutputStream(fileOut, BUFFER_SIZE), crc32);
+                new CompactOutput(checkedOut).writeValue(values);
+                checkedOut.flush();
+                payloadLength = checkedOut.getCount();
+                fileOut.getFD().sync();
+            }
+            try (RandomAccessFile header = new RandomAccessFile(file, "rw")) {
+                header.writeInt(MAGIC);
+                header.writeByte(VERSION_COMPACT);
+                header.writeLong(payloadLength);
+                header.writeLong(crc32.getValue());
+                header.getFD().sync();
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Fail to save snapshot", e);
+            return false;
+        }
+    }
+
+    /**
+     * raw hessian without header, hessian output is streamed to file
+     */
+    private boolean saveHessian(File file, Object values) {
+        try (FileOutputStream fileOut = new FileOutputStream(file, false)) {
+            BufferedOutputStream out = new BufferedOutputStream(fileOut, BUFFER_SIZE);
+            Hessian2Output hessianOutput = new Hessian2Output(out);
+            hessianOutput.setSerializerFactory(new SerializerFactory());
+            hessianOutput.writeObject(values);
+            hessianOutput.flush();
+            out.flush();
+            fileOut.getFD().sync();
             return true;
         } catch (IOException e) {
             LOGGER.error("Fail to save snapshot", e);
@@ -60,6 +130,50 @@ public abstract class AbstractSnapshotProcess implements SnapshotProcess {
      * @throws IOException
      */
     public <T> T load(String path, Class<T> clazz) throws IOException {
+        File file = new File(path);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(
+            file), BUFFER_SIZE))) {
+            if (file.length() >= HEADER_LENGTH && in.readInt() == MAGIC) {
+                byte version = in.readByte();
+                if (version != VERSION && version != VERSION_COMPACT) {
+                    throw new IOException("Unsupported snapshot version " + version + " of " + path);
+                }
+                long payloadLength = in.readLong();
+                long checksum = in.readLong();
+                //verify whole payload before decode, corrupted content never reach hessian
+                verifyChecksum(path, payloadLength, checksum);
+
+                if (version == VERSION_COMPACT) {
+                    return clazz.cast(new CompactInput(in).readValue());
+                }
+                Hessian2Input hessianInput = new Hessian2Input(in);
+                hessianInput.setSerializerFactory(new SerializerFactory());
+                return clazz.cast(hessianInput.readObject());
+            }
+        }
+        return loadBytes(path, clazz);
+    }
+
+    private void verifyChecksum(String path, long payloadLength, long checksum) throws IOException {
+        CRC32 crc32 = new CRC32();
+        long length = 0;
+        try (FileInputStream fileIn = new FileInputStream(path)) {
+            fileIn.getChannel().position(HEADER_LENGTH);
+            CheckedInputStream in = new CheckedInputStream(fileIn, crc32);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) >= 0) {
+                length += n;
+            }
+        }
+        if (length != payloadLength || crc32.getValue() != checksum) {
+            throw new IOException("Fail to load snapshot from " + path
+                                  + ", checksum mismatch! payloadLength=" + payloadLength
+                                  + ", actual=" + length);
+        }
+    }
+
+    private <T> T loadBytes(String path, Class<T> clazz) throws IOException {
         byte[] bs = FileUtils.readFileToByteArray(new File(path));
         if (bs != null && bs.length > 0) {
             return CommandCodec.decodeCommand(bs, clazz);
@@ -68,4 +182,28 @@ public abstract class AbstractSnapshotProcess implements SnapshotProcess {
                               + Arrays.toString(bs));
     }
 
+    private static class CountingCheckedOutputStream extends CheckedOutputStream {
+
+        private long count;
+
+        CountingCheckedOutputStream(BufferedOutputStream out, CRC32 crc32) {
+            super(out, crc32);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            super.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.processor;
+
+import com.alipay.sofa.jraft.Closure;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.registry.jraft.command.BatchProcessRequest;
+import com.alipay.sofa.registry.jraft.command.ProcessRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * closure of one batched log entry, status is fan out to closure of every request
+ *
+ * @author shangyu.wh
+ * @version $Id: LeaderBatchTaskClosure.java, v 0.1 2026-10-19 14:08 shangyu.wh Exp $
+ */
+public class LeaderBatchTaskClosure implements Closure {
+
+    private final List<LeaderTaskClosure> closures;
+
+    /**
+     * constructor
+     * @param closures
+     */
+    public LeaderBatchTaskClosure(List<LeaderTaskClosure> closures) {
+        this.closures = closures;
+    }
+
+    @Override
+    public void run(Status status) {
+        for (LeaderTaskClosure closure : closures) {
+            closure.run(status);
+        }
+    }
+
+    /**
+     * build batch request from closures
+     * @return
+     */
+    public BatchProcessRequest getRequest() {
+        List<ProcessRequest> requests = new ArrayList<>(closures.size());
+        for (LeaderTaskClosure closure : closures) {
+            requests.add(closure.getRequest());
+        }
+        return new BatchProcessRequest(requests);
+    }
+
+    /**
+     * Getter method for property <tt>closures</tt>.
+     *
+     * @return property value of closures
+     */
+    public List<LeaderTaskClosure> getClosures() {
+        return closures;
+    }
+}
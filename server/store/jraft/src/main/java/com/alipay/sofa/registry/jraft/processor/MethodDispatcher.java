@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.processor;
+
+import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * invoker of one service method, method handle is bound to service bean and spread
+ * on arguments array once when service registered, so apply path has no reflective lookup.
+ *
+ * @author shangyu.wh
+ * @version $Id: MethodDispatcher.java, v 0.1 2026-10-19 14:40 shangyu.wh Exp $
+ */
+public class MethodDispatcher {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class,
+                                                     Object[].class);
+
+    private final Method            method;
+
+    private final MethodHandle      invoker;
+
+    private final boolean           readOnLeader;
+
+    /**
+     * constructor
+     * @param method
+     * @param target
+     * @throws IllegalAccessException
+     */
+    public MethodDispatcher(Method method, Object target) throws IllegalAccessException {
+        this.method = method;
+        this.invoker = MethodHandles.lookup().unreflect(method).bindTo(target)
+            .asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        this.readOnLeader = method.isAnnotationPresent(ReadOnLeader.class);
+    }
+
+    /**
+     * invoke service method
+     * @param args
+     * @return
+     * @throws Throwable
+     */
+    public Object invoke(Object[] args) throws Throwable {
+        return invoker.invokeExact(args);
+    }
+
+    /**
+     * build unique key of method by name and parameter types
+     * @param methodName
+     * @param argSigs
+     * @return
+     */
+    public static String methodKey(String methodName, String[] argSigs) {
+        StringBuilder methodKeyBuffer = new StringBuilder(methodName);
+        if (argSigs != null) {
+            for (String argSig : argSigs) {
+                methodKeyBuffer.append(argSig);
+            }
+        }
+        return methodKeyBuffer.toString();
+    }
+
+    /**
+     * Getter method for property <tt>method</tt>.
+     *
+     * @return property value of method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Getter method for property <tt>readOnLeader</tt>.
+     *
+     * @return property value of readOnLeader
+     */
+    public boolean isReadOnLeader() {
+        return readOnLeader;
+    }
+}
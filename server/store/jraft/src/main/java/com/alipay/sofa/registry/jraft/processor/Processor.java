@@ -17,14 +17,14 @@
 package com.alipay.sofa.registry.jraft.processor;
 
 import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.jraft.command.ProcessResponse;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.store.api.annotation.FollowerRead;
 import com.alipay.sofa.registry.store.api.annotation.ReadOnLeader;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,14 +36,14 @@ import java.util.Map;
  */
 public class Processor {
 
-    private static final Logger              LOG           = LoggerFactory
-                                                               .getLogger(Processor.class);
+    private static final Logger                        LOG               = LoggerFactory
+                                                                             .getLogger(Processor.class);
 
-    private Map<String, Map<String, Method>> workerMethods = new HashMap<>();
+    private Map<String, Map<String, MethodDispatcher>> workerDispatchers = new HashMap<>();
 
-    private Map<String, Object>              workers       = new HashMap<>();
+    private Map<String, Object>                        workers           = new HashMap<>();
 
-    private static volatile Processor        instance;
+    private static volatile Processor                  instance;
 
     /**
      * get processor instance
@@ -66,17 +66,25 @@ public class Processor {
             return;
         }
 
-        Map<String, Method> publicMethods = new HashMap();
+        Map<String, MethodDispatcher> methodDispatchers = new HashMap<>();
         for (Method m : interfaceClazz.getMethods()) {
-            StringBuilder mSigs = new StringBuilder();
-            mSigs.append(m.getName());
-            for (Class<?> paramType : m.getParameterTypes()) {
-                mSigs.append(paramType.getName());
+            String[] sigs = new String[m.getParameterCount()];
+            Class<?>[] paramTypes = m.getParameterTypes();
+            for (int i = 0; i < paramTypes.length; i++) {
+                sigs[i] = paramTypes[i].getName();
+            }
+            try {
+                methodDispatchers.put(MethodDispatcher.methodKey(m.getName(), sigs),
+                    new MethodDispatcher(m, target));
+                CommandCodec.registerMethod(serviceId, m.getName(), sigs);
+            } catch (IllegalAccessException e) {
+                LOG.error("Service {} method {} can not be accessed!", serviceId, m.getName(), e);
+                throw new RuntimeException(String.format(
+                    "Service %s method %s can not be accessed!", serviceId, m.getName()), e);
             }
-            publicMethods.put(mSigs.toString(), m);
         }
 
-        workerMethods.put(serviceId, publicMethods);
+        workerDispatchers.put(serviceId, methodDispatchers);
         workers.put(serviceId, target);
     }
 
@@ -90,51 +98,20 @@ public class Processor {
                 String.format("Can not find service %s from process!", serviceId)).build();
         }
 
+        MethodDispatcher dispatcher;
         try {
-            StringBuilder methodKeyBuffer = new StringBuilder();
-            methodKeyBuffer.append(methodName);
-            String[] sig = request.getMethodArgSigs();
-            for (int i = 0; i < sig.length; i++) {
-                methodKeyBuffer.append(sig[i]);
-            }
-            Method appServiceMethod = workerMethods.get(serviceId).get(methodKeyBuffer.toString());
-            if (appServiceMethod == null) {
-                LOG.error("Can not find method {} from processor by serviceId {}", methodName,
-                    serviceId);
-                throw new NoSuchMethodException("Can not find method from processor！");
-            }
-
-            Object[] methodArg = request.getMethodArgs();
-            MethodHandle methodHandle = MethodHandles.lookup().unreflect(appServiceMethod);
-            Object ret = methodHandle.bindTo(target).invokeWithArguments(methodArg);
-            if (ret != null) {
-                return ProcessResponse.ok(ret).build();
-            } else {
-                return ProcessResponse.ok().build();
-            }
-
+            dispatcher = getDispatcher(request);
         } catch (Throwable e) {
-            LOG.error("Process service request {} error!", request, e);
             return ProcessResponse.fail(
                 String.format("Process service %s method %s error!", serviceId, methodName))
                 .build();
         }
+        return process(dispatcher, request);
     }
 
-    public ProcessResponse process(Method method, ProcessRequest request) {
-        String methodName = request.getMethodName();
-        String serviceId = request.getServiceName();
-        Object target = workers.get(serviceId);
-        if (target == null) {
-            LOG.warn("Can not find service {} from process!", serviceId);
-            return ProcessResponse.fail(
-                String.format("Can not find service %s from process!", serviceId)).build();
-        }
-
+    public ProcessResponse process(MethodDispatcher dispatcher, ProcessRequest request) {
         try {
-            Object[] methodArg = request.getMethodArgs();
-            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
-            Object ret = methodHandle.bindTo(target).invokeWithArguments(methodArg);
+            Object ret = dispatcher.invoke(request.getMethodArgs());
             if (ret != null) {
                 return ProcessResponse.ok(ret).build();
             } else {
@@ -144,29 +121,32 @@ public class Processor {
         } catch (Throwable e) {
             LOG.error("Process service request {} error!", request, e);
             return ProcessResponse.fail(
-                String.format("Process service %s method %s error!", serviceId, methodName))
-                .build();
+                String.format("Process service %s method %s error!", request.getServiceName(),
+                    request.getMethodName())).build();
         }
     }
 
-    public Method getWorkMethod(ProcessRequest request) {
+    /**
+     * get dispatcher built when service registered
+     * @param request
+     * @return
+     */
+    public MethodDispatcher getDispatcher(ProcessRequest request) {
         String methodName = request.getMethodName();
         String serviceId = request.getServiceName();
         try {
-
-            StringBuilder methodKeyBuffer = new StringBuilder();
-            methodKeyBuffer.append(methodName);
-            String[] sig = request.getMethodArgSigs();
-            for (int i = 0; i < sig.length; i++) {
-                methodKeyBuffer.append(sig[i]);
+            Map<String, MethodDispatcher> methodDispatchers = workerDispatchers.get(serviceId);
+            if (methodDispatchers == null) {
+                throw new NoSuchMethodException("Can not find service from processor！");
             }
-            Method appServiceMethod = workerMethods.get(serviceId).get(methodKeyBuffer.toString());
-            if (appServiceMethod == null) {
+            MethodDispatcher dispatcher = methodDispatchers.get(MethodDispatcher.methodKey(
+                methodName, request.getMethodArgSigs()));
+            if (dispatcher == null) {
                 LOG.error("Can not find method {} from processor by serviceId {}", methodName,
                     serviceId);
                 throw new NoSuchMethodException("Can not find method from processor！");
             }
-            return appServiceMethod;
+            return dispatcher;
         } catch (Exception e) {
             LOG.error("Process request {} get WorkMethod error!", request, e);
             throw new RuntimeException(String.format("Process request %s get WorkMethod error!",
@@ -174,15 +154,45 @@ public class Processor {
         }
     }
 
+    public Method getWorkMethod(ProcessRequest request) {
+        return getDispatcher(request).getMethod();
+    }
+
     public Map<String, Object> getWorkers() {
         return workers;
     }
 
     public boolean isLeaderReadMethod(Method method) {
-        if (ServiceStateMachine.getInstance().isLeader()) {
+        return isLeaderReadMethod(ServiceStateMachine.getInstance(), method);
+    }
+
+    public boolean isLeaderReadMethod(ServiceStateMachine fsm, Method method) {
+        if (fsm.isLeader()) {
             return method != null && method.isAnnotationPresent(ReadOnLeader.class);
         }
         return false;
     }
 
-}
+    public boolean isLeaderReadMethod(MethodDispatcher dispatcher) {
+        return isLeaderReadMethod(ServiceStateMachine.getInstance(), dispatcher);
+    }
+
+    public boolean isLeaderReadMethod(ServiceStateMachine fsm, MethodDispatcher dispatcher) {
+        if (fsm.isLeader()) {
+            return dispatcher != null && dispatcher.isReadOnLeader();
+        }
+        return false;
+    }
+
+    public boolean isFollowerReadMethod(Method method) {
+        return isFollowerReadMethod(ServiceStateMachine.getInstance(), method);
+    }
+
+    public boolean isFollowerReadMethod(ServiceStateMachine fsm, Method method) {
+        if (fsm.isLeader() || fsm.isfollower()) {
+            return method != null && method.isAnnotationPresent(FollowerRead.class);
+        }
+        return false;
+    }
+
+}
\ No newline at end of file
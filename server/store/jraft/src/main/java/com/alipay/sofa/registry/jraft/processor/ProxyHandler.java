@@ -17,14 +17,15 @@
 package com.alipay.sofa.registry.jraft.processor;
 
 import com.alipay.sofa.registry.jraft.bootstrap.RaftClient;
+import com.alipay.sofa.registry.jraft.bootstrap.ServiceStateMachine;
 import com.alipay.sofa.registry.jraft.command.ProcessRequest;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
 
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -33,13 +34,26 @@ import java.lang.reflect.Method;
  */
 public class ProxyHandler implements InvocationHandler {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ProxyHandler.class);
+    private static final Logger         LOGGER                   = LoggerFactory
+                                                                     .getLogger(ProxyHandler.class);
 
-    private final Class<?>      interfaceType;
+    /**
+     * wait read index at most, then request is sent to leader
+     */
+    private static final long           FOLLOWER_READ_TIMEOUT_MS = 1000L;
+
+    private final Class<?>              interfaceType;
 
-    private final String        serviceId;
+    private final String                serviceId;
 
-    private final RaftClient    client;
+    private final RaftClient            client;
+
+    private final ServiceStateMachine   fsm;
+
+    /**
+     * parameter signatures of interface methods, built once per method
+     */
+    private final Map<Method, String[]> methodArgSigs            = new ConcurrentHashMap<>();
 
     /**
      * constructor
@@ -48,9 +62,22 @@ public class ProxyHandler implements InvocationHandler {
      * @param client
      */
     public ProxyHandler(Class<?> interfaceType, String serviceId, RaftClient client) {
+        this(interfaceType, serviceId, client, ServiceStateMachine.getInstance());
+    }
+
+    /**
+     * constructor
+     * @param interfaceType
+     * @param serviceId
+     * @param client
+     * @param fsm state machine of local raft server, reads are served by its processor
+     */
+    public ProxyHandler(Class<?> interfaceType, String serviceId, RaftClient client,
+                        ServiceStateMachine fsm) {
         this.interfaceType = interfaceType;
         this.serviceId = serviceId;
         this.client = client;
+        this.fsm = fsm;
     }
 
     @Override
@@ -58,13 +85,19 @@ public class ProxyHandler implements InvocationHandler {
         try {
 
             ProcessRequest request = new ProcessRequest();
-            request.setMethodArgSigs(createParamSignature(method.getParameterTypes()));
+            request.setMethodArgSigs(methodArgSigs.computeIfAbsent(method,
+                m -> createParamSignature(m.getParameterTypes())));
             request.setMethodName(method.getName());
             request.setMethodArgs(args);
 
             request.setServiceName(serviceId);
 
-            if (Processor.getInstance().isLeaderReadMethod(method)) {
+            Processor processor = fsm.getProcessor();
+            if (processor.isLeaderReadMethod(fsm, method)) {
+                return doInvokeMethod(request);
+            }
+            if (processor.isFollowerReadMethod(fsm, method)
+                && fsm.readIndex(FOLLOWER_READ_TIMEOUT_MS)) {
                 return doInvokeMethod(request);
             }
             return client.sendRequest(request);
@@ -80,17 +113,16 @@ public class ProxyHandler implements InvocationHandler {
     private Object doInvokeMethod(ProcessRequest request) {
         try {
 
-            Object target = Processor.getInstance().getWorkers().get(serviceId);
+            Processor processor = fsm.getProcessor();
+            Object target = processor.getWorkers().get(serviceId);
             if (target == null) {
                 LOGGER.error("Can not find service {} from process!", serviceId);
                 throw new RuntimeException(String.format("Can not find service %s from process!",
                     serviceId));
             }
 
-            Method method = Processor.getInstance().getWorkMethod(request);
-
-            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
-            return methodHandle.bindTo(target).invokeWithArguments(request.getMethodArgs());
+            MethodDispatcher dispatcher = processor.getDispatcher(request);
+            return dispatcher.invoke(request.getMethodArgs());
         } catch (Throwable e) {
             LOGGER.error("Directly invoke read only service {} method {} error!",
                 request.getServiceName(), request.getMethodName(), e);
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.alipay.sofa.registry.jraft.processor;
+
+import com.alipay.sofa.jraft.Closure;
+import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.entity.Task;
+import com.alipay.sofa.jraft.error.RaftError;
+import com.alipay.sofa.registry.jraft.bootstrap.RaftServer;
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
+import com.alipay.sofa.registry.log.Logger;
+import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.metrics.TaskMetrics;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * group commit of leader tasks, requests arrived in a short window are packed into one raft log entry.
+ * every request still gets its own response by its own closure.
+ *
+ * @author shangyu.wh
+ * @version $Id: RaftTaskBatcher.java, v 0.1 2026-10-19 14:12 shangyu.wh Exp $
+ */
+public class RaftTaskBatcher {
+
+    private static final Logger                    LOGGER        = LoggerFactory
+                                                                     .getLogger(RaftTaskBatcher.class);
+
+    public static final String                     METRIC_PREFIX = "RaftSubmit";
+
+    private final RaftServer                       raftServer;
+
+    private final long                             windowNanos;
+
+    private final int                              maxBatchSize;
+
+    private final BlockingQueue<LeaderTaskClosure> queue         = new LinkedBlockingQueue<>();
+
+    private final AtomicBoolean                    isShutdown    = new AtomicBoolean(false);
+
+    private final Histogram                        batchSize     = TaskMetrics
+                                                                     .getInstance()
+                                                                     .getMetricRegistry()
+                                                                     .histogram(
+                                                                         MetricRegistry
+                                                                             .name(METRIC_PREFIX,
+                                                                                 "batch"));
+
+    private Thread                                 submitThread;
+
+    /**
+     * constructor
+     * @param raftServer
+     * @param windowMillis max time to wait for more requests, no batch if <= 0
+     * @param maxBatchSize max requests in one log entry, no batch if <= 1
+     */
+    public RaftTaskBatcher(RaftServer raftServer, long windowMillis, int maxBatchSize) {
+        this.raftServer = raftServer;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(windowMillis, 0));
+        this.maxBatchSize = maxBatchSize;
+        if (isBatchEnabled()) {
+            this.submitThread = new Thread(this::submitLoop, "RaftTaskBatcher");
+            this.submitThread.setDaemon(true);
+            this.submitThread.start();
+        }
+    }
+
+    /**
+     * submit leader task, applied directly when batch disabled
+     * @param closure
+     */
+    public void submit(LeaderTaskClosure closure) {
+        if (!isBatchEnabled()) {
+            apply(closure);
+            return;
+        }
+        if (isShutdown.get()) {
+            closure.run(new Status(RaftError.ESHUTDOWN, "Raft task batcher has been shutdown!"));
+            return;
+        }
+        queue.add(closure);
+        //shutdown may have drained queue before add, whoever removes closure from queue completes it
+        if (isShutdown.get() && queue.remove(closure)) {
+            closure.run(new Status(RaftError.ESHUTDOWN, "Raft task batcher has been shutdown!"));
+        }
+    }
+
+    /**
+     * stop submit thread, queued tasks fail with shutdown status
+     */
+    public void shutdown() {
+        if (isShutdown.compareAndSet(false, true) && submitThread != null) {
+            submitThread.interrupt();
+            List<LeaderTaskClosure> remain = new ArrayList<>();
+            queue.drainTo(remain);
+            for (LeaderTaskClosure closure : remain) {
+                closure
+                    .run(new Status(RaftError.ESHUTDOWN, "Raft task batcher has been shutdown!"));
+            }
+        }
+    }
+
+    private boolean isBatchEnabled() {
+        return windowNanos > 0 && maxBatchSize > 1;
+    }
+
+    private void submitLoop() {
+        while (!isShutdown.get()) {
+            List<LeaderTaskClosure> batch = new ArrayList<>(maxBatchSize);
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remain = deadline - System.nanoTime();
+                    if (remain <= 0) {
+                        break;
+                    }
+                    LeaderTaskClosure closure = queue.poll(remain, TimeUnit.NANOSECONDS);
+                    if (closure == null) {
+                        break;
+                    }
+                    batch.add(closure);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                if (isShutdown.get()) {
+                    batch.forEach(closure -> closure.run(new Status(RaftError.ESHUTDOWN,
+                        "Raft task batcher has been shutdown!")));
+                    return;
+                }
+            }
+            if (!batch.isEmpty()) {
+                applyBatch(batch);
+            }
+        }
+    }
+
+    private void applyBatch(List<LeaderTaskClosure> batch) {
+        batchSize.update(batch.size());
+        if (batch.size() == 1) {
+            apply(batch.get(0));
+            return;
+        }
+        LeaderBatchTaskClosure batchClosure = new LeaderBatchTaskClosure(batch);
+        apply(batchClosure, batchClosure.getRequest());
+    }
+
+    private void apply(LeaderTaskClosure closure) {
+        apply(closure, closure.getRequest());
+    }
+
+    private void apply(Closure closure, Object command) {
+        try {
+            raftServer.getNode().apply(createTask(closure, command));
+        } catch (Throwable e) {
+            LOGGER.error("Raft apply task error!command={}", command, e);
+            closure.run(new Status(RaftError.EINTERNAL, "Raft apply task error!"));
+        }
+    }
+
+    private Task createTask(Closure closure, Object command) {
+
+        byte[] cmdBytes = CommandCodec.encodeLog(command);
+
+        ByteBuffer data = ByteBuffer.allocate(cmdBytes.length);
+        data.put(cmdBytes);
+        data.flip();
+        return new Task(data, closure);
+    }
+}
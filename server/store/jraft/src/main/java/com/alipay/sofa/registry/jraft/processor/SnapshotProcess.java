@@ -32,4 +32,13 @@ public interface SnapshotProcess {
     SnapshotProcess copy();
 
     Set<String> getSnapshotFileNames();
+
+    /**
+     * snapshot files may be absent in snapshots saved by former versions,
+     * missing files are skipped on load and state starts empty
+     * @return
+     */
+    default boolean isSnapshotOptional() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -16,20 +16,38 @@
  */
 package com.alipay.sofa.registry.jraft.service;
 
+import com.alipay.sofa.registry.jraft.command.CommandCodec;
 import com.alipay.sofa.registry.jraft.processor.AbstractSnapshotProcess;
 import com.alipay.sofa.registry.jraft.processor.SnapshotProcess;
 import com.alipay.sofa.registry.log.Logger;
 import com.alipay.sofa.registry.log.LoggerFactory;
+import com.alipay.sofa.registry.store.api.DBChanges;
+import com.alipay.sofa.registry.store.api.DBEntry;
 import com.alipay.sofa.registry.store.api.DBResponse;
 import com.alipay.sofa.registry.store.api.DBService;
 import com.alipay.sofa.registry.store.api.annotation.RaftService;
 
 import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * every change of entry gets a new global revision, which is also kept as revision of the key.
+ * latest changes are kept in a bounded history, older changes are compacted,
+ * so watchers can resume from revision they got last time unless it has been compacted.
+ * revisions are applied by raft on all replicas, so they survive meta leader change.
+ * revisions are kept in snapshot with their epoch only after compact codec enabled.
+ * snapshot of former format resets them on load, every replica counts from its own load then,
+ * so a new epoch is taken and watchers of any other epoch get full data.
  *
  * @author shangyu.wh
  * @version $Id: PersistenceDataDBService.java, v 0.1 2018-06-22 17:23 shangyu.wh Exp $
@@ -37,12 +55,39 @@ import java.util.concurrent.ConcurrentHashMap;
 @RaftService
 public class PersistenceDataDBService extends AbstractSnapshotProcess implements DBService {
 
-    private static final Logger               LOGGER            = LoggerFactory
-                                                                    .getLogger(PersistenceDataDBService.class);
+    private static final Logger               LOGGER              = LoggerFactory
+                                                                      .getLogger(PersistenceDataDBService.class);
 
-    private ConcurrentHashMap<String, Object> serviceMap        = new ConcurrentHashMap<>();
+    /**
+     * default max changes kept in history
+     */
+    public static final int                   DEFAULT_MAX_CHANGES = 1024;
+
+    /**
+     * epoch of revisions counted from empty db, same on every replica applying whole raft log
+     */
+    public static final String                INITIAL_EPOCH       = "0";
+
+    private ConcurrentHashMap<String, Object> serviceMap          = new ConcurrentHashMap<>();
+
+    private Map<String, Long>                 keyRevisions        = new ConcurrentHashMap<>();
 
-    private Set<String>                       snapShotFileNames = new HashSet<>();
+    private LinkedList<DBEntry>               changes             = new LinkedList<>();
+
+    private String                            epoch               = INITIAL_EPOCH;
+
+    private long                              revision;
+
+    /**
+     * changes not after compacted revision have been dropped from history
+     */
+    private long                              compactedRevision;
+
+    private int                               maxChanges          = DEFAULT_MAX_CHANGES;
+
+    private volatile Runnable                 changeListener;
+
+    private Set<String>                       snapShotFileNames   = new HashSet<>();
 
     /**
      * constructor
@@ -59,8 +104,16 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
     }
 
     @Override
-    public SnapshotProcess copy() {
-        return new PersistenceDataDBService(new ConcurrentHashMap<>(serviceMap));
+    public synchronized SnapshotProcess copy() {
+        PersistenceDataDBService copy = new PersistenceDataDBService(new ConcurrentHashMap<>(
+            serviceMap));
+        copy.keyRevisions = new ConcurrentHashMap<>(keyRevisions);
+        copy.changes = new LinkedList<>(changes);
+        copy.epoch = epoch;
+        copy.revision = revision;
+        copy.compactedRevision = compactedRevision;
+        copy.maxChanges = maxChanges;
+        return copy;
     }
 
     @Override
@@ -68,7 +121,7 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
     }
 
     @Override
-    public boolean put(String key, Object value) {
+    public synchronized boolean put(String key, Object value) {
         if (key == null || value == null) {
             LOGGER.error("key {} or value {} can't be null", key, value);
             return false;
@@ -78,6 +131,7 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
         if (ret != null) {
             LOGGER.warn("value {} with key {} will be override", ret, key);
         }
+        addChange(key, value);
         return true;
     }
 
@@ -92,7 +146,7 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
     }
 
     @Override
-    public boolean update(String key, Object value) {
+    public synchronized boolean update(String key, Object value) {
         if (key == null || value == null) {
             LOGGER.error("key {} or value {} can't be null", key, value);
             return false;
@@ -101,11 +155,12 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
         if (ret != null) {
             LOGGER.warn("value {} with key {} will be override", ret, key);
         }
+        addChange(key, value);
         return true;
     }
 
     @Override
-    public boolean remove(String key) {
+    public synchronized boolean remove(String key) {
         if (key == null) {
             LOGGER.error("key can't be null");
             return false;
@@ -115,22 +170,108 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
             LOGGER.warn("remove key {} can't be found!", key);
             return false;
         }
+        addChange(key, null);
         return true;
     }
 
+    @Override
+    public synchronized DBResponse getWithPrefix(String prefix) {
+        List<DBEntry> entries = new ArrayList<>();
+        serviceMap.forEach((key, value) -> {
+            if (matches(key, prefix)) {
+                entries.add(new DBEntry(key, value, keyRevisions.getOrDefault(key, 0L)));
+            }
+        });
+        return DBResponse.ok(new DBChanges(epoch, revision, true, entries)).build();
+    }
+
+    @Override
+    public synchronized DBResponse getChanges(String prefix, String sinceEpoch,
+                                              long sinceRevision) {
+        if (!epoch.equals(sinceEpoch) || sinceRevision < compactedRevision
+            || sinceRevision > revision) {
+            //revision of other epoch, changes compacted, or revision not got from this db
+            return getWithPrefix(prefix);
+        }
+        Map<String, DBEntry> latest = new LinkedHashMap<>();
+        Iterator<DBEntry> iterator = changes.descendingIterator();
+        while (iterator.hasNext()) {
+            DBEntry change = iterator.next();
+            if (change.getRevision() <= sinceRevision) {
+                break;
+            }
+            if (matches(change.getKey(), prefix)) {
+                latest.putIfAbsent(change.getKey(), change);
+            }
+        }
+        List<DBEntry> entries = new ArrayList<>(latest.values());
+        entries.sort((a, b) -> Long.compare(a.getRevision(), b.getRevision()));
+        return DBResponse.ok(new DBChanges(epoch, revision, false, entries)).build();
+    }
+
+    private void addChange(String key, Object value) {
+        revision++;
+        if (value == null) {
+            keyRevisions.remove(key);
+        } else {
+            keyRevisions.put(key, revision);
+        }
+        changes.addLast(new DBEntry(key, value, revision));
+        while (changes.size() > maxChanges) {
+            compactedRevision = changes.removeFirst().getRevision();
+        }
+        Runnable listener = changeListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    private boolean matches(String key, String prefix) {
+        return prefix == null || prefix.isEmpty() || key.startsWith(prefix);
+    }
+
     @Override
     public boolean save(String path) {
-        return save(path, serviceMap);
+        if (!CommandCodec.isCompactEnabled()) {
+            //followers of old version cast snapshot to ConcurrentHashMap, revisions reset on load
+            return save(path, serviceMap);
+        }
+        Snapshot snapshot = new Snapshot();
+        snapshot.serviceMap = serviceMap;
+        snapshot.keyRevisions = new ConcurrentHashMap<>(keyRevisions);
+        snapshot.changes = new ArrayList<>(changes);
+        snapshot.epoch = epoch;
+        snapshot.revision = revision;
+        snapshot.compactedRevision = compactedRevision;
+        return save(path, snapshot);
     }
 
     @Override
-    public boolean load(String path) {
+    public synchronized boolean load(String path) {
         try {
-            ConcurrentHashMap<String, Object> map = load(path, serviceMap.getClass());
+            Object loaded = load(path, Object.class);
             serviceMap.clear();
-            serviceMap.putAll(map);
+            keyRevisions.clear();
+            changes.clear();
+            if (loaded instanceof Snapshot) {
+                Snapshot snapshot = (Snapshot) loaded;
+                serviceMap.putAll(snapshot.serviceMap);
+                keyRevisions.putAll(snapshot.keyRevisions);
+                changes.addAll(snapshot.changes);
+                //snapshot without epoch may have counted from former format on its own
+                epoch = snapshot.epoch != null ? snapshot.epoch : UUID.randomUUID().toString();
+                revision = snapshot.revision;
+                compactedRevision = snapshot.compactedRevision;
+            } else {
+                //snapshot saved before revisions, all entries start at one compacted revision
+                serviceMap.putAll((Map<String, Object>) loaded);
+                epoch = UUID.randomUUID().toString();
+                revision = serviceMap.isEmpty() ? 0 : 1;
+                compactedRevision = revision;
+                serviceMap.keySet().forEach(key -> keyRevisions.put(key, revision));
+            }
             return true;
-        } catch (IOException e) {
+        } catch (IOException | ClassCastException e) {
             LOGGER.error("Load serviceMap data error!", e);
             return false;
         }
@@ -144,4 +285,51 @@ public class PersistenceDataDBService extends AbstractSnapshotProcess implements
         snapShotFileNames.add(this.getClass().getSimpleName());
         return snapShotFileNames;
     }
+
+    /**
+     * Getter method for property <tt>revision</tt>.
+     *
+     * @return property value of revision
+     */
+    public synchronized long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Getter method for property <tt>epoch</tt>.
+     *
+     * @return property value of epoch
+     */
+    public synchronized String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Setter method for property <tt>maxChanges</tt>.
+     *
+     * @param maxChanges  value to be assigned to property maxChanges
+     */
+    public synchronized void setMaxChanges(int maxChanges) {
+        this.maxChanges = maxChanges;
+    }
+
+    /**
+     * Setter method for property <tt>changeListener</tt>.
+     * listener runs on raft apply thread after every change, it should not block
+     *
+     * @param changeListener  value to be assigned to property changeListener
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    private static class Snapshot implements Serializable {
+        private static final long                 serialVersionUID = 1969361541937285340L;
+        private ConcurrentHashMap<String, Object> serviceMap;
+        private ConcurrentHashMap<String, Long>   keyRevisions;
+        private ArrayList<DBEntry>                changes;
+        private String                            epoch;
+        private long                              revision;
+        private long                              compactedRevision;
+    }
 }
\ No newline at end of file